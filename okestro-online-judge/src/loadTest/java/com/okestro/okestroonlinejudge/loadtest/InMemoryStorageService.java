@@ -0,0 +1,61 @@
+package com.okestro.okestroonlinejudge.loadtest;
+
+import com.okestro.okestroonlinejudge.service.StorageService;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트용 메모리 저장소. MinIO 없이 테스트케이스 입출력 파일을 제공한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public class InMemoryStorageService implements StorageService {
+
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+    @Override
+    public String upload(MultipartFile file, String bucketName) {
+        try {
+            files.put(key(file.getOriginalFilename(), bucketName), file.getBytes());
+            return file.getOriginalFilename();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String uploadString(String content, String fileName, String bucketName) {
+        files.put(key(fileName, bucketName), content.getBytes(StandardCharsets.UTF_8));
+        return fileName;
+    }
+
+    @Override
+    public InputStream download(String fileName, String bucketName) {
+        byte[] content = files.get(key(fileName, bucketName));
+        if (content == null) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + bucketName + "/" + fileName);
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public String readString(String fileName, String bucketName) {
+        try (InputStream stream = download(fileName, bucketName)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String key(String fileName, String bucketName) {
+        return bucketName + "/" + fileName;
+    }
+}
@@ -0,0 +1,273 @@
+package com.okestro.okestroonlinejudge.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okestro.okestroonlinejudge.OkestroOnlineJudgeApplication;
+import com.okestro.okestroonlinejudge.client.Judge0Simulator;
+import com.okestro.okestroonlinejudge.client.Judge0Simulator.VerdictScript;
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.Role;
+import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.repository.ProblemRepository;
+import com.okestro.okestroonlinejudge.repository.TestCaseRepository;
+import com.okestro.okestroonlinejudge.repository.TierRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.service.JudgeJobService;
+import com.okestro.okestroonlinejudge.service.StorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 제출 API 부하 테스트.
+ * Judge0 시뮬레이터와 메모리 저장소, H2를 붙여 애플리케이션을 띄우고 {@code POST /api/submissions}에
+ * 목표 RPS로 요청을 보낸다(open loop: 응답을 기다리지 않고 일정 간격으로 보낸다).
+ * 제출 응답 지연 분위수와 처리량, 그리고 모든 제출의 채점이 끝날 때까지의 채점 처리량을 출력한다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Prps=100 -Pduration=60 -Pjudge0Workers=8 -PexecutionMs=200 -PlatencyMs=5
+ * </pre>
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public class SubmitLoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(10);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int rps = Integer.parseInt(options.getOrDefault("rps", "50"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int userCount = Integer.parseInt(options.getOrDefault("users", "20"));
+        int testCaseCount = Integer.parseInt(options.getOrDefault("testCases", "5"));
+        int judge0Workers = Integer.parseInt(options.getOrDefault("judge0Workers", "8"));
+        long executionMs = Long.parseLong(options.getOrDefault("executionMs", "100"));
+        long latencyMs = Long.parseLong(options.getOrDefault("latencyMs", "5"));
+        double failureRatio = Double.parseDouble(options.getOrDefault("failureRatio", "0.2"));
+
+        try (Judge0Simulator judge0 = Judge0Simulator.builder()
+                .workers(judge0Workers)
+                .executionTime(Duration.ofMillis(executionMs), Duration.ofMillis(executionMs / 4))
+                .responseLatency(Duration.ofMillis(latencyMs), Duration.ofMillis(latencyMs / 2))
+                .verdictScript(VerdictScript.markers())
+                .start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                     OkestroOnlineJudgeApplication.class, LoadTestConfig.class)
+                     .profiles("loadtest")
+                     .run("--server.port=0", "--judge0.api-url=" + judge0.getUrl())) {
+
+            Fixture fixture = seed(context, userCount, testCaseCount);
+            String url = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/submissions";
+
+            System.out.printf("%n부하 시작: %d rps, %d초, 사용자 %d명, 테스트케이스 %d개, Judge0 워커 %d개 (실행 %dms, 응답 지연 %dms)%n",
+                    rps, durationSeconds, userCount, testCaseCount, judge0Workers, executionMs, latencyMs);
+
+            LoadResult load = drive(url, fixture, rps, Duration.ofSeconds(durationSeconds), failureRatio);
+            load.print();
+
+            long drainStartedAt = System.nanoTime();
+            JudgeJobService judgeJobService = context.getBean(JudgeJobService.class);
+            while (judgeJobService.countByStatus(JudgeJobStatus.QUEUED)
+                    + judgeJobService.countByStatus(JudgeJobStatus.RUNNING) > 0) {
+                if (System.nanoTime() - drainStartedAt > DRAIN_TIMEOUT.toNanos()) {
+                    System.out.println("채점이 제한 시간 안에 끝나지 않았습니다.");
+                    break;
+                }
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            double judgeSeconds = (System.nanoTime() - load.startedAtNanos) / 1e9;
+            long judged = judgeJobService.countByStatus(JudgeJobStatus.COMPLETED);
+
+            System.out.printf("채점 완료 %d건, 첫 제출부터 %.1f초 (%.1f 제출/s)%n", judged, judgeSeconds, judged / judgeSeconds);
+            Timer queueWait = context.getBean(MeterRegistry.class).find("judge.queue.wait").timer();
+            if (queueWait != null) {
+                System.out.printf("큐 대기 평균 %.1fms, 최대 %.1fms%n",
+                        queueWait.mean(TimeUnit.MILLISECONDS), queueWait.max(TimeUnit.MILLISECONDS));
+            }
+            System.out.printf("Judge0 제출 %d건, 결과 조회 %d건 (제출당 %.1f회)%n",
+                    judge0.getCreateCount(), judge0.getPollCount(),
+                    judge0.getCreateCount() == 0 ? 0.0 : (double) judge0.getPollCount() / judge0.getCreateCount());
+        }
+        System.exit(0);
+    }
+
+    private static LoadResult drive(String url, Fixture fixture, int rps, Duration duration, double failureRatio)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        long startedAt = System.nanoTime();
+        ticker.scheduleAtFixedRate(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Map<String, Object> body = Map.of(
+                    "problemId", fixture.problemId(),
+                    "userId", fixture.userIds().get(random.nextInt(fixture.userIds().size())),
+                    "language", "python",
+                    "sourceCode", "print(input())" + (random.nextDouble() < failureRatio ? "  #WA" : "")
+                            + "  # " + System.nanoTime());
+            HttpRequest request;
+            try {
+                request = HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(30))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                        .build();
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                return;
+            }
+            long sentAt = System.nanoTime();
+            CompletableFuture<?> future = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            failures.incrementAndGet();
+                            return;
+                        }
+                        latencies.add(System.nanoTime() - sentAt);
+                        statuses.computeIfAbsent(response.statusCode(), code -> new AtomicInteger()).incrementAndGet();
+                    });
+            synchronized (inFlight) {
+                inFlight.add(future);
+            }
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rps, TimeUnit.NANOSECONDS);
+
+        TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        ticker.shutdownNow();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+        CompletableFuture<?>[] pending;
+        synchronized (inFlight) {
+            pending = inFlight.toArray(CompletableFuture[]::new);
+        }
+        try {
+            CompletableFuture.allOf(pending).get(60, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 실패한 요청은 failures에 집계된다
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        return new LoadResult(startedAt, elapsed, pending.length, latencies.stream().mapToLong(Long::longValue).sorted().toArray(),
+                statuses, failures.get());
+    }
+
+    private static Fixture seed(ConfigurableApplicationContext context, int userCount, int testCaseCount) {
+        TierRepository tierRepository = context.getBean(TierRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProblemRepository problemRepository = context.getBean(ProblemRepository.class);
+        TestCaseRepository testCaseRepository = context.getBean(TestCaseRepository.class);
+        StorageService storageService = context.getBean(StorageService.class);
+        String bucket = context.getEnvironment().getProperty("minio.testcase-bucket-name", "okestro-testcases");
+
+        TierEntity tier = tierRepository.findAll().stream().findFirst()
+                .orElseGet(() -> tierRepository.save(new TierEntity("BRONZE", 1, 0, 0, 100, 10)));
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            userIds.add(userRepository.save(new UserEntity("load-user-" + i, "부하" + i, "hash",
+                    "load" + i + "@example.com", Role.USER, null, tier)).getId());
+        }
+        ProblemEntity problem = problemRepository.save(ProblemEntity.builder()
+                .title("부하 테스트 문제")
+                .contentPath("problems/load.md")
+                .tierEntity(tier)
+                .creator(userRepository.getReferenceById(userIds.get(0)))
+                .timeLimitMs(1000)
+                .memoryLimitKb(128000)
+                .build());
+        for (int i = 1; i <= testCaseCount; i++) {
+            String inputPath = "load/" + problem.getId() + "/" + i + ".in";
+            String outputPath = "load/" + problem.getId() + "/" + i + ".out";
+            String content = String.valueOf(i);
+            storageService.uploadString(content, inputPath, bucket);
+            storageService.uploadString(content, outputPath, bucket);
+            testCaseRepository.save(TestCaseEntity.builder()
+                    .problemEntity(problem)
+                    .input(content)
+                    .output(content)
+                    .inputPath(inputPath)
+                    .outputPath(outputPath)
+                    .isSample(i == 1)
+                    .build());
+        }
+        return new Fixture(problem.getId(), userIds);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Fixture(Long problemId, List<Long> userIds) {
+    }
+
+    private record LoadResult(long startedAtNanos, long elapsedNanos, int sent, long[] latencies,
+                              Map<Integer, AtomicInteger> statuses, int failures) {
+
+        void print() {
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("%n제출 요청 %d건 (응답 %d건, 연결 실패 %d건), 상태 코드 %s%n",
+                    sent, latencies.length, failures, statuses);
+            System.out.printf("처리량 %.1f req/s%n", latencies.length / seconds);
+            System.out.printf("지연 p50 %.1fms, p90 %.1fms, p99 %.1fms, 최대 %.1fms%n",
+                    percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0));
+        }
+
+        private double percentile(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1e6;
+        }
+    }
+
+    /**
+     * MinIO 대신 메모리 저장소를 쓴다.
+     */
+    @Configuration
+    static class LoadTestConfig {
+
+        @Bean
+        @Primary
+        public StorageService inMemoryStorageService() {
+            return new InMemoryStorageService();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.okestro.okestroonlinejudge;
 import com.okestro.okestroonlinejudge.config.Judge0Config;
 import com.okestro.okestroonlinejudge.client.Judge0Client;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -31,7 +33,7 @@ public class Judge0TestRunner {
         config.setRetryDelayMs(1000);
 
         RestTemplate restTemplate = new RestTemplate();
-        this.judge0Client = new Judge0Client(restTemplate, config);
+        this.judge0Client = new Judge0Client(restTemplate, config, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
     }
 
     public static void main(String[] args) {
@@ -2,34 +2,61 @@ package com.okestro.okestroonlinejudge.client;
 
 import com.okestro.okestroonlinejudge.config.Judge0Config;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.judge0.Judge0BatchRequest;
+import com.okestro.okestroonlinejudge.dto.judge0.Judge0BatchResponse;
 import com.okestro.okestroonlinejudge.dto.judge0.Judge0Language;
 import com.okestro.okestroonlinejudge.dto.judge0.Judge0StatusId;
 import com.okestro.okestroonlinejudge.dto.judge0.Judge0SubmissionRequest;
 import com.okestro.okestroonlinejudge.dto.judge0.Judge0SubmissionResponse;
+import com.okestro.okestroonlinejudge.exception.JudgeInfrastructureException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Judge0 API 클라이언트.
+ * 요청 지연 시간은 {@code judge0.requests} 타이머(operation, outcome 태그)로,
+ * 테스트케이스 하나의 결과를 받기까지의 조회 횟수는 {@code judge0.polls} 분포로 노출한다.
+ * 단건 제출과 결과 조회 요청은 각각 {@code judge0.create}, {@code judge0.poll} span으로 추적한다.
+ * 단건 제출과 결과 조회가 Judge0 장애로 실패하면 {@link JudgeInfrastructureException}을 던져,
+ * 채점 결과와 구분해 다시 시도할 수 있게 한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class Judge0Client {
 
+    /**
+     * Judge0에서 토큰을 찾지 못했을 때의 오류 메시지.
+     */
+    public static final String TOKEN_NOT_FOUND_MESSAGE = "Judge0 토큰을 찾을 수 없습니다.";
+
     private final RestTemplate restTemplate;
     private final Judge0Config judge0Config;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
     /**
      * 코드를 제출하고 채점 결과를 반환합니다.
+     * Judge0 장애도 오류 결과로 돌려주므로, 재시도 없이 결과를 바로 보여주는 곳에서 사용합니다.
      *
      * @param sourceCode 소스 코드
      * @param language   언어 (예: python, java, c, cpp)
@@ -44,12 +71,120 @@ public class Judge0Client {
             return JudgeResult.error("지원하지 않는 언어입니다: " + language);
         }
 
-        String token = submitCode(sourceCode, languageId, stdin, expectedOutput);
-        if (token == null) {
-            return JudgeResult.error("코드 제출에 실패했습니다.");
+        try {
+            return pollResult(submitCode(sourceCode, languageId, stdin, expectedOutput));
+        } catch (JudgeInfrastructureException e) {
+            return JudgeResult.error(e.getMessage());
+        }
+    }
+
+    /**
+     * 코드를 제출하고 결과를 기다리지 않고 Judge0 토큰만 반환합니다.
+     * 토큰을 영속화해 두면 재시작 후에도 {@link #pollResult(String)}로 결과를 이어서 조회할 수 있습니다.
+     *
+     * @param sourceCode 소스 코드
+     * @param language   언어 (예: python, java, c, cpp)
+     * @param stdin      표준 입력
+     * @param expectedOutput 예상 출력
+     * @return Judge0 토큰, 지원하지 않는 언어면 null
+     * @throws JudgeInfrastructureException Judge0에 제출하지 못한 경우
+     */
+    public String createSubmission(String sourceCode, String language, String stdin, String expectedOutput) {
+        Integer languageId = Judge0Language.getLanguageId(language);
+        if (languageId == null) {
+            log.error("지원하지 않는 언어: {}", language);
+            return null;
+        }
+        return submitCode(sourceCode, languageId, stdin, expectedOutput);
+    }
+
+    /**
+     * 같은 코드를 여러 입력으로 한 번에 제출하고 Judge0 토큰 목록을 반환합니다.
+     * 요청 한 번으로 최대 {@code judge0.batch-size}건을 제출하며, 실패한 항목의 토큰은 null입니다.
+     *
+     * @param sourceCode 소스 코드
+     * @param language   언어 (예: python, java, c, cpp)
+     * @param inputs     입력/예상 출력 목록
+     * @return 입력 순서와 같은 순서의 토큰 목록, 지원하지 않는 언어면 모두 null
+     */
+    public List<String> createSubmissionBatch(String sourceCode, String language, List<BatchInput> inputs) {
+        List<String> tokens = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+        Integer languageId = Judge0Language.getLanguageId(language);
+        if (languageId == null) {
+            log.error("지원하지 않는 언어: {}", language);
+            return tokens;
+        }
+
+        String url = judge0Config.getApiUrl() + "/submissions/batch?base64_encoded=true";
+        HttpHeaders headers = createAuthHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        int batchSize = Math.max(1, judge0Config.getBatchSize());
+        for (int from = 0; from < inputs.size(); from += batchSize) {
+            List<BatchInput> chunk = inputs.subList(from, Math.min(from + batchSize, inputs.size()));
+            List<Judge0SubmissionRequest> requests = chunk.stream()
+                    .map(input -> buildRequest(sourceCode, languageId, input.stdin(), input.expectedOutput()))
+                    .toList();
+            long startedAt = System.nanoTime();
+            try {
+                ResponseEntity<Judge0SubmissionResponse[]> response = restTemplate.exchange(
+                        url, HttpMethod.POST, new HttpEntity<>(new Judge0BatchRequest(requests), headers),
+                        Judge0SubmissionResponse[].class);
+                Judge0SubmissionResponse[] body = response.getBody();
+                recordRequest("create_batch", body != null ? "success" : "error", startedAt);
+                if (body == null) {
+                    log.error("일괄 제출 실패: status={}", response.getStatusCode());
+                    continue;
+                }
+                for (int i = 0; i < body.length && i < chunk.size(); i++) {
+                    tokens.set(from + i, body[i].getToken());
+                }
+                log.info("일괄 제출 완료: {}건", chunk.size());
+            } catch (RestClientException e) {
+                recordRequest("create_batch", "error", startedAt);
+                log.error("일괄 제출 요청 실패: {}", e.getMessage());
+            }
         }
+        return tokens;
+    }
 
-        return pollResult(token);
+    /**
+     * 여러 토큰의 채점 결과를 한 번에 조회합니다. 기다리지 않고 현재 상태만 조회합니다.
+     *
+     * @param tokens Judge0 토큰 목록
+     * @return 채점이 끝난 토큰의 결과 (token -> 결과)
+     */
+    public Map<String, JudgeResult> getFinishedResults(List<String> tokens) {
+        Map<String, JudgeResult> finished = new HashMap<>();
+        int batchSize = Math.max(1, judge0Config.getBatchSize());
+        for (int from = 0; from < tokens.size(); from += batchSize) {
+            List<String> chunk = tokens.subList(from, Math.min(from + batchSize, tokens.size()));
+            String url = judge0Config.getApiUrl() + "/submissions/batch?tokens=" + String.join(",", chunk)
+                    + "&base64_encoded=true&fields=*";
+            long startedAt = System.nanoTime();
+            try {
+                ResponseEntity<Judge0BatchResponse> response = restTemplate.exchange(
+                        url, HttpMethod.GET, new HttpEntity<>(createAuthHeaders()), Judge0BatchResponse.class);
+                recordRequest("poll_batch", "success", startedAt);
+                if (response.getBody() == null || response.getBody().getSubmissions() == null) {
+                    continue;
+                }
+                for (Judge0SubmissionResponse result : response.getBody().getSubmissions()) {
+                    // 삭제된 토큰은 null로 내려온다
+                    if (result == null || result.getToken() == null) {
+                        continue;
+                    }
+                    int statusId = result.getStatus() != null ? result.getStatus().getId() : 0;
+                    if (Judge0StatusId.isCompleted(statusId)) {
+                        finished.put(result.getToken(), toJudgeResult(result));
+                    }
+                }
+            } catch (RestClientException e) {
+                recordRequest("poll_batch", "error", startedAt);
+                log.error("일괄 결과 조회 실패: {}", e.getMessage());
+            }
+        }
+        return finished;
     }
 
     /**
@@ -74,56 +209,80 @@ public class Judge0Client {
     }
 
     private String submitCode(String sourceCode, Integer languageId, String stdin, String expectedOutput) {
+        long startedAt = System.nanoTime();
         try {
             String url = judge0Config.getApiUrl() + "/submissions?base64_encoded=true&wait=false";
 
-            Judge0SubmissionRequest request = Judge0SubmissionRequest.builder()
-                    .sourceCode(encodeBase64(sourceCode))
-                    .languageId(languageId)
-                    .stdin(stdin != null ? encodeBase64(stdin) : "")
-                    .expectedOutput(expectedOutput != null ? encodeBase64(expectedOutput) : "")
-                    .cpuTimeLimit(judge0Config.getCpuTimeLimit())
-                    .memoryLimit(judge0Config.getMemoryLimit())
-                    .maxFileSize(judge0Config.getMaxFileSize())
-                    .build();
+            Judge0SubmissionRequest request = buildRequest(sourceCode, languageId, stdin, expectedOutput);
 
             HttpHeaders headers = createAuthHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Judge0SubmissionRequest> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<Judge0SubmissionResponse> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Judge0SubmissionResponse.class);
+            ResponseEntity<Judge0SubmissionResponse> response = Observation
+                    .createNotStarted("judge0.create", observationRegistry)
+                    .observe(() -> restTemplate.exchange(url, HttpMethod.POST, entity, Judge0SubmissionResponse.class));
 
-            if (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null) {
-                String token = response.getBody().getToken();
+            String token = response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null
+                    ? response.getBody().getToken() : null;
+            if (token != null) {
+                recordRequest("create", "success", startedAt);
                 log.info("코드 제출 완료: token={}", token);
                 return token;
             }
 
+            recordRequest("create", "error", startedAt);
             log.error("코드 제출 실패: status={}", response.getStatusCode());
-            return null;
+            throw new JudgeInfrastructureException("코드 제출에 실패했습니다.");
         } catch (RestClientException e) {
+            recordRequest("create", "error", startedAt);
             log.error("코드 제출 요청 실패: {}", e.getMessage());
-            return null;
+            throw new JudgeInfrastructureException("코드 제출에 실패했습니다.", e);
         }
     }
 
-    private JudgeResult pollResult(String token) {
+    private Judge0SubmissionRequest buildRequest(String sourceCode, Integer languageId, String stdin, String expectedOutput) {
+        return Judge0SubmissionRequest.builder()
+                .sourceCode(encodeBase64(sourceCode))
+                .languageId(languageId)
+                .stdin(stdin != null ? encodeBase64(stdin) : "")
+                .expectedOutput(expectedOutput != null ? encodeBase64(expectedOutput) : "")
+                .cpuTimeLimit(judge0Config.getCpuTimeLimit())
+                .memoryLimit(judge0Config.getMemoryLimit())
+                .maxFileSize(judge0Config.getMaxFileSize())
+                .build();
+    }
+
+    /**
+     * 토큰으로 채점이 끝날 때까지 결과를 조회합니다.
+     * Judge0에 토큰이 없으면(만료/삭제) 재시도하지 않고 즉시 오류를 반환합니다.
+     *
+     * @param token Judge0 토큰
+     * @return 채점 결과
+     * @throws JudgeInfrastructureException 최대 조회 횟수 안에 결과를 받지 못했거나 조회가 중단된 경우
+     */
+    public JudgeResult pollResult(String token) {
         String url = judge0Config.getApiUrl() + "/submissions/" + token + "?base64_encoded=true&fields=*";
         int maxRetries = judge0Config.getMaxRetries();
         int retryDelay = judge0Config.getRetryDelayMs();
 
         for (int attempt = 0; attempt < maxRetries; attempt++) {
+            long startedAt = System.nanoTime();
             try {
                 HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders());
-                ResponseEntity<Judge0SubmissionResponse> response = restTemplate.exchange(
-                        url, HttpMethod.GET, entity, Judge0SubmissionResponse.class);
+                ResponseEntity<Judge0SubmissionResponse> response = Observation
+                        .createNotStarted("judge0.poll", observationRegistry)
+                        .highCardinalityKeyValue("judge0.token", token)
+                        .highCardinalityKeyValue("judge0.attempt", String.valueOf(attempt + 1))
+                        .observe(() -> restTemplate.exchange(url, HttpMethod.GET, entity, Judge0SubmissionResponse.class));
+                recordRequest("poll", "success", startedAt);
 
                 if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                     Judge0SubmissionResponse result = response.getBody();
                     int statusId = result.getStatus() != null ? result.getStatus().getId() : 0;
 
                     if (Judge0StatusId.isCompleted(statusId)) {
+                        recordPolls(attempt + 1, "completed");
                         return toJudgeResult(result);
                     }
 
@@ -132,15 +291,40 @@ public class Judge0Client {
                 }
 
                 Thread.sleep(retryDelay);
+            } catch (HttpClientErrorException.NotFound e) {
+                recordRequest("poll", "not_found", startedAt);
+                recordPolls(attempt + 1, "not_found");
+                log.warn("Judge0 토큰을 찾을 수 없습니다: token={}", token);
+                return JudgeResult.error(TOKEN_NOT_FOUND_MESSAGE);
             } catch (RestClientException e) {
+                recordRequest("poll", "error", startedAt);
                 log.error("결과 조회 실패: {}", e.getMessage());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                return JudgeResult.error("채점이 중단되었습니다.");
+                recordPolls(attempt + 1, "interrupted");
+                throw new JudgeInfrastructureException("채점이 중단되었습니다.", e);
             }
         }
 
-        return JudgeResult.error("채점 시간 초과");
+        recordPolls(maxRetries, "timeout");
+        throw new JudgeInfrastructureException("채점 시간 초과");
+    }
+
+    private void recordRequest(String operation, String outcome, long startedAtNanos) {
+        Timer.builder("judge0.requests")
+                .description("Judge0 API 요청 지연 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordPolls(int polls, String outcome) {
+        DistributionSummary.builder("judge0.polls")
+                .description("테스트케이스 하나의 결과를 받기까지 Judge0 결과 조회 횟수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(polls);
     }
 
     private JudgeResult toJudgeResult(Judge0SubmissionResponse response) {
@@ -213,6 +397,15 @@ public class Judge0Client {
         }
     }
 
+    /**
+     * 일괄 제출 입력.
+     *
+     * @param stdin 표준 입력
+     * @param expectedOutput 예상 출력
+     */
+    public record BatchInput(String stdin, String expectedOutput) {
+    }
+
     /**
      * 채점 결과 DTO.
      */
@@ -24,6 +24,7 @@ public class Judge0Config {
     private Integer maxFileSize;
     private Integer maxRetries;
     private Integer retryDelayMs;
+    private Integer batchSize = 20;
 
     @Bean
     public RestTemplate restTemplate() {
@@ -0,0 +1,126 @@
+package com.okestro.okestroonlinejudge.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 채점/검증 실행 및 SSE 전송용 스레드 풀 설정.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Configuration
+public class JudgeExecutorConfig {
+
+    @Value("${judge.worker.threads:4}")
+    private int workerThreads;
+
+    @Value("${judge.worker.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${judge.judge0-pool.threads:16}")
+    private int judge0Threads;
+
+    @Value("${judge.judge0-pool.queue-capacity:200}")
+    private int judge0QueueCapacity;
+
+    @Value("${judge.validation.threads:2}")
+    private int validationThreads;
+
+    @Value("${judge.validation.queue-capacity:10}")
+    private int validationQueueCapacity;
+
+    @Value("${notification.sse.dispatcher-threads:4}")
+    private int sseDispatcherThreads;
+
+    @Value("${notification.sse.max-connections:20000}")
+    private int sseMaxConnections;
+
+    /**
+     * 채점 작업(제출 단위)을 실행하는 스레드 풀.
+     * 워커는 스레드 수만큼만 작업을 점유하므로 큐는 거의 쓰이지 않으며,
+     * 큐가 가득 차면 점유한 작업을 반납해 다음 폴링(또는 다른 노드)이 가져가게 한다.
+     */
+    @Bean(name = "judgeJobExecutor")
+    public ThreadPoolTaskExecutor judgeJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("judge-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 제출 직후의 즉시 폴링을 요청 스레드 대신 실행하는 스레드.
+     * 대기 중인 폴링이 하나 있으면 그 폴링이 새 작업까지 가져가므로 나머지 요청은 버린다.
+     */
+    @Bean(name = "judgePollExecutor")
+    public ThreadPoolTaskExecutor judgePollExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("judge-poll-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Judge0 호출(테스트케이스 단위)을 실행하는 공용 스레드 풀.
+     * 채점과 문제 검증이 함께 사용하며, 노드 전체의 Judge0 동시 호출 수를 제한한다.
+     * 큐가 가득 차면 호출한 스레드가 직접 실행해 자연스럽게 속도를 늦춘다.
+     */
+    @Bean(name = "judge0Executor")
+    public ThreadPoolTaskExecutor judge0Executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(judge0Threads);
+        executor.setMaxPoolSize(judge0Threads);
+        executor.setQueueCapacity(judge0QueueCapacity);
+        executor.setThreadNamePrefix("judge0-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 스트리밍 문제 검증(요청 단위)을 진행하는 스레드 풀.
+     * 큐가 가득 차면 검증 요청을 거절한다.
+     */
+    @Bean(name = "validationExecutor")
+    public ThreadPoolTaskExecutor validationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(validationThreads);
+        executor.setMaxPoolSize(validationThreads);
+        executor.setQueueCapacity(validationQueueCapacity);
+        executor.setThreadNamePrefix("validation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 이벤트를 전송하는 디스패처 스레드 풀.
+     * 연결마다 동시에 하나의 전송 작업만 큐에 들어가므로 큐 크기는 최대 연결 수면 충분하다.
+     */
+    @Bean(name = "sseDispatcher")
+    public ThreadPoolTaskExecutor sseDispatcher() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseDispatcherThreads);
+        executor.setMaxPoolSize(sseDispatcherThreads);
+        executor.setQueueCapacity(sseMaxConnections);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
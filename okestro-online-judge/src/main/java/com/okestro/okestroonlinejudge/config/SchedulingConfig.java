@@ -0,0 +1,15 @@
+package com.okestro.okestroonlinejudge.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정 클래스.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
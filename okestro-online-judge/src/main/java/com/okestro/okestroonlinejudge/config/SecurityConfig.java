@@ -52,6 +52,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/images/**").permitAll()
                         .requestMatchers("/api/rankings/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        // Actuator는 management.server.port로만 노출되며, 그 포트는 외부에 공개하지 않는다
                         .requestMatchers("/actuator/**").permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
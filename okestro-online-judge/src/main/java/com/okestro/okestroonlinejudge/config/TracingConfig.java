@@ -0,0 +1,28 @@
+package com.okestro.okestroonlinejudge.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채점 추적(trace) 내보내기 설정.
+ * OTLP 수집기로 보내는 설정은 {@code management.otlp.tracing.*}를 따르고,
+ * 수집기가 없는 환경에서는 {@code judge.tracing.log-exporter.enabled}로 완료된 span을 로그에 남긴다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * 완료된 span을 로그로 내보내는 exporter.
+     * 스프링 부트가 등록된 모든 {@code SpanExporter}를 span 처리기에 연결한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "judge.tracing.log-exporter.enabled", havingValue = "true")
+    public LoggingSpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
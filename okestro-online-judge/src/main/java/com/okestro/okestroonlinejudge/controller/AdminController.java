@@ -1,8 +1,11 @@
 package com.okestro.okestroonlinejudge.controller;
 
+import com.okestro.okestroonlinejudge.dto.request.RejudgeRequest;
 import com.okestro.okestroonlinejudge.dto.request.UpdateUserRoleRequest;
 import com.okestro.okestroonlinejudge.dto.response.ApiResponse;
+import com.okestro.okestroonlinejudge.dto.response.RejudgeJobResponse;
 import com.okestro.okestroonlinejudge.dto.response.UserResponse;
+import com.okestro.okestroonlinejudge.service.RejudgeService;
 import com.okestro.okestroonlinejudge.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +17,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -30,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final UserService userService;
+    private final RejudgeService rejudgeService;
 
     /**
      * 전체 사용자 목록 조회.
@@ -75,4 +81,54 @@ public class AdminController {
             return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
         }
     }
+
+    /**
+     * 문제 재채점 요청.
+     */
+    @Operation(summary = "문제 재채점", description = "문제의 제출을 다시 채점합니다. 제출 기간과 결과로 대상을 좁힐 수 있으며, "
+            + "일반 제출보다 낮은 우선순위로 조금씩 진행됩니다. (ADMIN 전용)")
+    @PostMapping("/problems/{problemId}/rejudge")
+    public ResponseEntity<ApiResponse<RejudgeJobResponse>> rejudgeProblem(
+            @Parameter(description = "문제 ID") @PathVariable Long problemId,
+            @RequestBody(required = false) RejudgeRequest request,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            RejudgeJobResponse rejudge = rejudgeService.createRejudge(
+                    problemId, request != null ? request : new RejudgeRequest(), userDetails.getUsername());
+            return ResponseEntity.ok(ApiResponse.success(rejudge));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
+    }
+
+    /**
+     * 재채점 진행 상황 조회.
+     */
+    @Operation(summary = "재채점 진행 상황 조회", description = "재채점 작업의 진행 상황을 조회합니다. (ADMIN 전용)")
+    @GetMapping("/rejudges/{rejudgeJobId}")
+    public ResponseEntity<ApiResponse<RejudgeJobResponse>> getRejudge(
+            @Parameter(description = "재채점 작업 ID") @PathVariable Long rejudgeJobId
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(rejudgeService.getRejudge(rejudgeJobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.notFound(e.getMessage()));
+        }
+    }
+
+    /**
+     * 재채점 취소.
+     */
+    @Operation(summary = "재채점 취소", description = "재채점 작업을 취소합니다. 이미 큐에 들어간 제출은 끝까지 채점됩니다. (ADMIN 전용)")
+    @PostMapping("/rejudges/{rejudgeJobId}/cancel")
+    public ResponseEntity<ApiResponse<RejudgeJobResponse>> cancelRejudge(
+            @Parameter(description = "재채점 작업 ID") @PathVariable Long rejudgeJobId
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(rejudgeService.cancelRejudge(rejudgeJobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
+    }
 }
@@ -4,9 +4,13 @@ import com.okestro.okestroonlinejudge.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -28,13 +32,24 @@ public class NotificationController {
     /**
      * 제출 상태 구독 (SSE).
      *
+     * 재접속 시 Last-Event-ID 이후의 이벤트를 다시 받는다. 연결 수 한도를 넘으면 503을 반환한다.
+     *
      * @param submissionId 제출 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID
      * @return SseEmitter
      */
     @Operation(summary = "제출 상태 구독", description = "Server-Sent Events를 통해 실시간 채점 상태를 구독합니다.")
     @GetMapping(value = "/subscribe/submission/{submissionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeSubmission(@PathVariable Long submissionId) {
-        return notificationService.subscribe(submissionId);
+    public ResponseEntity<SseEmitter> subscribeSubmission(
+            @PathVariable Long submissionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return ResponseEntity.ok(notificationService.subscribe(submissionId, lastEventId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
     }
 }
 
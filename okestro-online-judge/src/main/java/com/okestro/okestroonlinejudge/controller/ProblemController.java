@@ -15,10 +15,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 문제 관리 컨트롤러.
@@ -41,9 +43,11 @@ public class ProblemController {
     @Operation(summary = "문제 목록 조회", description = "문제 목록을 검색 조건과 함께 페이징하여 조회합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ProblemDetailResponse>>> getProblems(
-            @Parameter(description = "검색 요청 파라미터") @ModelAttribute SearchProblemRequest request
+            @Parameter(description = "검색 요청 파라미터") @ModelAttribute SearchProblemRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Page<ProblemDetailResponse> problems = problemService.getProblems(request);
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        Page<ProblemDetailResponse> problems = problemService.getProblems(request, userId);
         return ResponseEntity.ok(ApiResponse.success(problems));
     }
 
@@ -128,6 +132,16 @@ public class ProblemController {
         }
     }
 
+    /**
+     * 문제 검증 (테스트케이스 결과를 SSE로 스트리밍)
+     */
+    @Operation(summary = "문제 검증 (스트리밍)", description = "정답 코드로 모든 테스트케이스를 실행하며, "
+            + "테스트케이스 결과가 나올 때마다 result 이벤트로, 전체 결과는 complete 이벤트로 전송합니다.")
+    @PostMapping(value = "/validate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter validateProblemStream(@RequestBody ValidateProblemRequest request) {
+        return validationService.validateProblemStream(request);
+    }
+
     /**
      * 추천 문제 목록 조회 (홈 페이지용)
      */
@@ -1,19 +1,29 @@
 package com.okestro.okestroonlinejudge.controller;
 
+import com.okestro.okestroonlinejudge.domain.RankingWindow;
 import com.okestro.okestroonlinejudge.dto.request.PageRequestDto;
 import com.okestro.okestroonlinejudge.dto.response.ApiResponse;
 import com.okestro.okestroonlinejudge.dto.response.OrganizationRankingResponse;
+import com.okestro.okestroonlinejudge.dto.response.OrganizationRollupResponse;
 import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.service.LeaderboardSnapshotService;
 import com.okestro.okestroonlinejudge.service.RankingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+
+import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 랭킹 관련 컨트롤러.
@@ -28,26 +38,68 @@ import org.springframework.web.bind.annotation.RestController;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
 
     /**
      * 전체 사용자 랭킹 조회.
+     * 주기적으로 갱신되는 랭킹 스냅샷에서 응답하며, If-None-Match가 현재 ETag와 같으면 304를 반환한다.
      */
-    @Operation(summary = "전체 사용자 랭킹 조회", description = "전체 사용자의 랭킹을 조회합니다. 랭킹 포인트 내림차순, 해결 문제 수 내림차순으로 정렬됩니다.")
+    @Operation(summary = "전체 사용자 랭킹 조회", description = "전체 사용자의 랭킹을 조회합니다. 랭킹 포인트 내림차순, 해결 문제 수 내림차순, 사용자 ID 오름차순으로 정렬됩니다. window로 집계 기간(ALL_TIME, DAILY, WEEKLY, MONTHLY, SEASON)을 지정할 수 있으며, 기간 랭킹은 그 기간에 새로 해결한 문제의 수와 점수로 매겨집니다. 랭킹은 짧은 주기로 갱신되며 ETag로 조건부 요청을 지원합니다.")
     @GetMapping("/users")
-    public ResponseEntity<ApiResponse<Page<UserRankingResponse>>> getUserRankings(@ModelAttribute PageRequestDto pageRequest) {
-        Page<UserRankingResponse> rankings = rankingService.getUserRankings(pageRequest.toPageable());
-        return ResponseEntity.ok(ApiResponse.success(rankings));
+    public ResponseEntity<ApiResponse<Page<UserRankingResponse>>> getUserRankings(@ModelAttribute PageRequestDto pageRequest,
+                                                                                  @RequestParam(defaultValue = "ALL_TIME") RankingWindow window,
+                                                                                  WebRequest webRequest) {
+        Pageable pageable = pageRequest.toPageable();
+        LeaderboardSnapshotService.Snapshot snapshot = leaderboardSnapshotService.getSnapshot(window);
+        String etag = snapshot.etag(pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(leaderboardSnapshotService.getCacheMaxAge()).cachePublic())
+                .body(ApiResponse.success(snapshot.page(pageable)));
+    }
+
+    /**
+     * 사용자 주변 랭킹 조회.
+     */
+    @Operation(summary = "사용자 주변 랭킹 조회", description = "사용자의 바로 위아래 radius명씩의 랭킹을 조회합니다. 전체 사용자 랭킹과 같은 순위와 정렬 기준을 사용합니다.")
+    @GetMapping("/users/around/{userId}")
+    public ResponseEntity<ApiResponse<List<UserRankingResponse>>> getUserRankingsAround(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "5") int radius) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(rankingService.getUserRankingsAround(userId, radius)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
     }
 
     /**
      * 전체 조직 랭킹 조회.
      */
-    @Operation(summary = "전체 조직 랭킹 조회", description = "전체 조직의 랭킹을 조회합니다. 조직 내 사용자들의 랭킹 포인트 합계 내림차순으로 정렬됩니다.")
+    @Operation(summary = "전체 조직 랭킹 조회", description = "전체 조직의 랭킹을 조회합니다. 하위 조직을 포함한 사용자들의 랭킹 포인트 합계 내림차순으로 정렬되며, parentId를 지정하면 그 조직의 바로 아래 조직들만 조회합니다.")
     @GetMapping("/organizations")
-    public ResponseEntity<ApiResponse<Page<OrganizationRankingResponse>>> getOrganizationRankings(@ModelAttribute PageRequestDto pageRequest) {
-        Page<OrganizationRankingResponse> rankings = rankingService.getOrganizationRankings(pageRequest.toPageable());
+    public ResponseEntity<ApiResponse<Page<OrganizationRankingResponse>>> getOrganizationRankings(
+            @ModelAttribute PageRequestDto pageRequest,
+            @RequestParam(required = false) Long parentId) {
+        Page<OrganizationRankingResponse> rankings = rankingService.getOrganizationRankings(parentId, pageRequest.toPageable());
         return ResponseEntity.ok(ApiResponse.success(rankings));
     }
+
+    /**
+     * 조직 합계와 상위 조직 내 순위 조회.
+     */
+    @Operation(summary = "조직 합계와 상위 조직 내 순위 조회", description = "하위 조직을 포함한 조직의 통계 합계와, 같은 상위 조직 아래에서의 순위를 조회합니다.")
+    @GetMapping("/organizations/{organizationId}")
+    public ResponseEntity<ApiResponse<OrganizationRollupResponse>> getOrganizationRollup(@PathVariable Long organizationId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(rankingService.getOrganizationRollup(organizationId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.notFound(e.getMessage()));
+        }
+    }
 }
 
 
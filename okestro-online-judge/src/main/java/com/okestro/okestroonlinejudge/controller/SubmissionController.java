@@ -1,10 +1,16 @@
 package com.okestro.okestroonlinejudge.controller;
 
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
 import com.okestro.okestroonlinejudge.dto.request.RunSampleRequest;
 import com.okestro.okestroonlinejudge.dto.request.SubmitCodeRequest;
 import com.okestro.okestroonlinejudge.dto.response.ApiResponse;
+import com.okestro.okestroonlinejudge.dto.response.CursorPageResponse;
 import com.okestro.okestroonlinejudge.dto.response.SampleTestResponse;
 import com.okestro.okestroonlinejudge.dto.response.SubmissionResponse;
+import com.okestro.okestroonlinejudge.security.CustomUserDetails;
+import com.okestro.okestroonlinejudge.service.IdempotencyStore;
+import com.okestro.okestroonlinejudge.service.SubmissionFeedService;
+import com.okestro.okestroonlinejudge.service.SubmissionFeedService.FeedFilter;
 import com.okestro.okestroonlinejudge.service.SubmissionService;
 import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +18,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -31,18 +41,58 @@ import java.util.List;
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final SubmissionFeedService submissionFeedService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * 코드를 제출하고 채점합니다.
+     * 멱등 키 요청 헤더
      */
-    @Operation(summary = "코드 제출", description = "코드를 제출하고 채점을 수행합니다.")
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 이전 요청의 결과를 재사용했음을 알리는 응답 헤더
+     */
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * 코드를 제출하고 채점 작업을 등록합니다.
+     * 채점 결과는 상태 조회 API 또는 SSE 구독으로 확인합니다.
+     * Idempotency-Key가 같은 재시도는 새 제출을 만들지 않고 처음 제출의 현재 상태를 돌려줍니다.
+     * 멱등 키는 요청 본문이 아닌 인증된 사용자 범위로 나눠, 다른 사용자의 키로 제출을 되돌려받을 수 없습니다.
+     */
+    @Operation(summary = "코드 제출", description = "코드를 제출하고 채점 작업을 등록합니다. 채점 중(Judging) 상태로 즉시 응답하며, 결과는 상태 조회 API로 확인합니다. "
+            + "Idempotency-Key 헤더가 같은 재시도는 처음 제출을 그대로 돌려줍니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<SubmissionResponse>> submit(
-            @Valid @RequestBody SubmitCodeRequest request
+            @Valid @RequestBody SubmitCodeRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        SubmissionResponse response = submissionService.submit(request);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(response));
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            SubmissionResponse response = submissionService.submit(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(response));
+        }
+
+        try {
+            IdempotencyStore.Result<SubmissionResponse> result = idempotencyStore.execute(
+                    "submit:" + idempotencyScope(userDetails) + ":" + idempotencyKey,
+                    IdempotencyStore.fingerprint(request.getUserId(), request.getProblemId(), request.getLanguage(),
+                            request.getSourceCode()),
+                    () -> submissionService.submit(request));
+            if (!result.replayed()) {
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(result.value()));
+            }
+            // 처음 제출 이후 진행된 채점 상태로 응답
+            SubmissionResponse current = submissionService.getSubmission(Long.valueOf(result.value().getId()));
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(ApiResponse.success(current));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage(), HttpStatus.CONFLICT.value()));
+        }
     }
 
     /**
@@ -71,67 +121,138 @@ public class SubmissionController {
     }
 
     /**
-     * 사용자의 제출 목록을 조회합니다.
+     * 사용자의 제출 목록을 조회합니다 (최신순, 커서 페이징).
      */
-    @Operation(summary = "사용자 제출 목록 조회", description = "특정 사용자의 제출 목록을 조회합니다.")
+    @Operation(summary = "사용자 제출 목록 조회", description = "특정 사용자의 제출 목록을 최신순으로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<List<SubmissionResponse>>> getSubmissionsByUser(
-            @Parameter(description = "사용자 ID") @PathVariable Long userId
+    public ResponseEntity<ApiResponse<CursorPageResponse<SubmissionResponse>>> getSubmissionsByUser(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
     ) {
-        List<SubmissionResponse> response = submissionService.getSubmissionsByUser(userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        try {
+            return ResponseEntity.ok(ApiResponse.success(submissionService.getSubmissionsByUser(userId, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
     }
 
     /**
-     * 문제의 제출 목록을 조회합니다.
+     * 문제의 제출 목록을 조회합니다 (최신순, 커서 페이징).
      */
-    @Operation(summary = "문제 제출 목록 조회", description = "특정 문제의 제출 목록을 조회합니다.")
+    @Operation(summary = "문제 제출 목록 조회", description = "특정 문제의 제출 목록을 최신순으로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
     @GetMapping("/problem/{problemId}")
-    public ResponseEntity<ApiResponse<List<SubmissionResponse>>> getSubmissionsByProblem(
-            @Parameter(description = "문제 ID") @PathVariable Long problemId
+    public ResponseEntity<ApiResponse<CursorPageResponse<SubmissionResponse>>> getSubmissionsByProblem(
+            @Parameter(description = "문제 ID") @PathVariable Long problemId,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
     ) {
-        List<SubmissionResponse> response = submissionService.getSubmissionsByProblem(problemId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        try {
+            return ResponseEntity.ok(ApiResponse.success(submissionService.getSubmissionsByProblem(problemId, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
     }
 
     /**
-     * 전체 제출 목록을 조회합니다 (최신순 정렬, 페이징 지원).
+     * 전체 제출 목록을 조회합니다 (최신순, 커서 페이징).
      *
-     * @param page 페이지 번호 (0부터 시작)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
      * @param size 페이지 크기
-     * @return 제출 목록
+     * @return 제출 목록 페이지
      */
-    @Operation(summary = "전체 제출 목록 조회", description = "전체 제출 목록을 최신순으로 조회합니다.")
+    @Operation(summary = "전체 제출 목록 조회", description = "전체 제출 목록을 최신순으로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SubmissionResponse>>> getAllSubmissions(
-            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size
+    public ResponseEntity<ApiResponse<CursorPageResponse<SubmissionResponse>>> getAllSubmissions(
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
     ) {
-        List<SubmissionResponse> response = submissionService.getAllSubmissions(page, size);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        try {
+            return ResponseEntity.ok(ApiResponse.success(submissionService.getAllSubmissions(cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        }
+    }
+
+    /**
+     * 새 제출과 채점 완료를 실시간으로 받는 피드 (SSE).
+     * 문제, 언어, 결과 조건은 서버에서 적용하며, 메모리의 최근 이벤트에서 제공하므로 DB를 조회하지 않습니다.
+     *
+     * @param problemId 문제 ID 조건
+     * @param language 언어 조건
+     * @param result 결과 조건
+     * @param limit 처음에 받을 최근 이벤트 수
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재접속 시)
+     * @return SseEmitter
+     */
+    @Operation(summary = "실시간 제출 피드", description = "새 제출과 채점 완료 이벤트를 Server-Sent Events로 구독합니다.")
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeFeed(
+            @Parameter(description = "문제 ID") @RequestParam(required = false) Long problemId,
+            @Parameter(description = "언어") @RequestParam(required = false) String language,
+            @Parameter(description = "결과") @RequestParam(required = false) SubmissionResult result,
+            @Parameter(description = "처음에 받을 최근 이벤트 수") @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        try {
+            return ResponseEntity.ok(submissionFeedService.subscribe(
+                    new FeedFilter(problemId, language, result), limit, lastEventId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
     }
 
     /**
      * 샘플 테스트케이스만 실행합니다 (제출 기록 없이 테스트용).
+     * Idempotency-Key가 같은 재시도는 다시 실행하지 않고 처음 실행의 결과(진행 중이면 끝난 뒤의 결과)를 돌려줍니다.
      *
      * @param request 샘플 실행 요청 DTO
+     * @param idempotencyKey 멱등 키 (선택)
+     * @param userDetails 로그인 사용자 (멱등 키 범위 구분용)
      * @return 샘플 테스트케이스 실행 결과
      */
     @Operation(summary = "샘플 테스트케이스 실행", description = "샘플 테스트케이스만 실행하여 결과를 반환합니다. 제출 기록은 남지 않습니다.")
     @PostMapping("/run-sample")
     public ResponseEntity<ApiResponse<SampleTestResponse>> runSampleTestCases(
-            @Valid @RequestBody RunSampleRequest request
+            @Valid @RequestBody RunSampleRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         try {
-            List<TestCaseResult> results = submissionService.runSampleTestCases(
-                    request.getProblemId(),
-                    request.getSourceCode(),
-                    request.getLanguage()
-            );
-            SampleTestResponse response = SampleTestResponse.from(results);
-            return ResponseEntity.ok(ApiResponse.success(response));
+            if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                return ResponseEntity.ok(ApiResponse.success(SampleTestResponse.from(runSample(request))));
+            }
+            IdempotencyStore.Result<List<TestCaseResult>> result = idempotencyStore.execute(
+                    "run-sample:" + idempotencyScope(userDetails) + ":" + idempotencyKey,
+                    IdempotencyStore.fingerprint(request.getProblemId(), request.getLanguage(), request.getSourceCode()),
+                    () -> runSample(request));
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(ApiResponse.success(SampleTestResponse.from(result.value())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage(), HttpStatus.CONFLICT.value()));
         } catch (Exception e) {
             return ResponseEntity.ok(ApiResponse.internalError("샘플 실행 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 멱등 키를 나누는 범위 (인증된 사용자, 익명이면 공용 범위).
+     */
+    private String idempotencyScope(CustomUserDetails userDetails) {
+        return userDetails != null ? userDetails.getUsername() : "-";
+    }
+
+    private List<TestCaseResult> runSample(RunSampleRequest request) {
+        return submissionService.runSampleTestCases(
+                request.getProblemId(),
+                request.getSourceCode(),
+                request.getLanguage()
+        );
+    }
 }
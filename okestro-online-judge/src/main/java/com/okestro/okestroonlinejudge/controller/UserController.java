@@ -8,7 +8,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -188,14 +187,15 @@ public class UserController {
      */
     @Operation(summary = "내가 시도한 문제 목록", description = "로그인한 사용자가 시도한 문제 목록을 조회합니다.")
     @GetMapping({"/me/problems", "/me/solved"})
-    public ResponseEntity<ApiResponse<Page<AttemptedProblemResponse>>> getMyAttemptedProblems(
+    public ResponseEntity<ApiResponse<CursorPageResponse<AttemptedProblemResponse>>> getMyAttemptedProblems(
             @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(defaultValue = "0") int pageNumber,
-            @RequestParam(defaultValue = "10") int pageSize
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size
     ) {
         try {
             String username = userDetails.getUsername();
-            Page<AttemptedProblemResponse> result = userService.getAttemptedProblemsByUsername(username, pageNumber, pageSize);
+            CursorPageResponse<AttemptedProblemResponse> result =
+                    userService.getAttemptedProblemsByUsername(username, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(result));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
@@ -205,16 +205,16 @@ public class UserController {
     /**
      * 내 제출 이력 조회.
      */
-    @Operation(summary = "내 제출 이력 조회", description = "로그인한 사용자의 제출 이력을 조회합니다.")
+    @Operation(summary = "내 제출 이력 조회", description = "로그인한 사용자의 제출 이력을 최신순으로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
     @GetMapping("/me/submissions")
-    public ResponseEntity<ApiResponse<Page<SubmissionResponse>>> getMySubmissions(
+    public ResponseEntity<ApiResponse<CursorPageResponse<SubmissionResponse>>> getMySubmissions(
             @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(defaultValue = "0") int pageNumber,
-            @RequestParam(defaultValue = "10") int pageSize
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
     ) {
         try {
             String username = userDetails.getUsername();
-            Page<SubmissionResponse> result = userService.getSubmissionsByUsername(username, pageNumber, pageSize);
+            CursorPageResponse<SubmissionResponse> result = userService.getSubmissionsByUsername(username, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(result));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
@@ -319,13 +319,14 @@ public class UserController {
      */
     @Operation(summary = "다른 사용자 풀이 기록 조회", description = "다른 사용자의 풀이 기록을 조회합니다. 비공개 시 빈 결과가 반환됩니다.")
     @GetMapping("/{userId}/problems")
-    public ResponseEntity<ApiResponse<Page<AttemptedProblemResponse>>> getUserAttemptedProblems(
+    public ResponseEntity<ApiResponse<CursorPageResponse<AttemptedProblemResponse>>> getUserAttemptedProblems(
             @PathVariable Long userId,
-            @RequestParam(defaultValue = "0") int pageNumber,
-            @RequestParam(defaultValue = "10") int pageSize
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size
     ) {
         try {
-            Page<AttemptedProblemResponse> result = userService.getPublicAttemptedProblems(userId, pageNumber, pageSize);
+            CursorPageResponse<AttemptedProblemResponse> result =
+                    userService.getPublicAttemptedProblems(userId, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(result));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.ok(ApiResponse.badRequest(e.getMessage()));
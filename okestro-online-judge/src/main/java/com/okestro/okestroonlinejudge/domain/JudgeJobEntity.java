@@ -0,0 +1,248 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채점 작업 엔티티.
+ * 제출 하나에 대한 채점 진행 상태를 DB에 남겨, 서버가 채점 도중 재시작되어도 이어서 처리할 수 있게 한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "judge_job", indexes = {
+        @Index(name = "idx_judge_job_status", columnList = "status, created_at"),
+        @Index(name = "idx_judge_job_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_judge_job_claim", columnList = "status, priority, id"),
+        @Index(name = "idx_judge_job_submission", columnList = "submission_id"),
+        @Index(name = "idx_judge_job_rejudge", columnList = "rejudge_job_id, status")
+})
+public class JudgeJobEntity extends BaseTimeEntity {
+
+    /**
+     * 일반 제출 채점 우선순위
+     */
+    public static final int PRIORITY_NORMAL = 0;
+
+    /**
+     * 재채점 우선순위 (일반 제출이 대기 중이면 항상 뒤로 밀린다)
+     */
+    public static final int PRIORITY_LOW = 10;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 채점 대상 제출
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "submission_id", nullable = false)
+    private SubmissionEntity submissionEntity;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JudgeJobStatus status;
+
+    /**
+     * 우선순위 (작을수록 먼저 채점)
+     */
+    @Column(nullable = false)
+    private Integer priority = PRIORITY_NORMAL;
+
+    /**
+     * 재채점 작업 ID (재채점으로 생성된 경우)
+     */
+    @Column(name = "rejudge_job_id")
+    private Long rejudgeJobId;
+
+    /**
+     * 채점 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    /**
+     * 작업을 점유한 워커 노드 ID
+     */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    /**
+     * 점유 만료 일시 (이 시각이 지나면 다른 노드가 작업을 가져갈 수 있음)
+     */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * 재시도 가능 일시 (반납된 작업은 이 시각이 지나야 다시 점유할 수 있음)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 하트비트 일시
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 전체 테스트케이스 수 (완료 시 기록)
+     */
+    @Column(name = "total_test_cases")
+    private Integer totalTestCases;
+
+    /**
+     * 통과한 테스트케이스 수 (완료 시 기록)
+     */
+    @Column(name = "passed_test_cases")
+    private Integer passedTestCases;
+
+    /**
+     * 마지막 채점 시작 일시
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 채점 종료 일시
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * JudgeJob 생성자.
+     *
+     * @param submissionEntity 채점 대상 제출
+     */
+    public JudgeJobEntity(SubmissionEntity submissionEntity) {
+        this(submissionEntity, PRIORITY_NORMAL, null);
+    }
+
+    /**
+     * 재채점용 JudgeJob 생성자.
+     *
+     * @param submissionEntity 채점 대상 제출
+     * @param rejudgeJobId 재채점 작업 ID
+     */
+    public JudgeJobEntity(SubmissionEntity submissionEntity, Long rejudgeJobId) {
+        this(submissionEntity, PRIORITY_LOW, rejudgeJobId);
+    }
+
+    private JudgeJobEntity(SubmissionEntity submissionEntity, int priority, Long rejudgeJobId) {
+        this.submissionEntity = submissionEntity;
+        this.status = JudgeJobStatus.QUEUED;
+        this.attemptCount = 0;
+        this.priority = priority;
+        this.rejudgeJobId = rejudgeJobId;
+    }
+
+    /**
+     * 재채점으로 생성된 작업인지 확인한다.
+     *
+     * @return 재채점 작업이면 true
+     */
+    public boolean isRejudge() {
+        return rejudgeJobId != null;
+    }
+
+    /**
+     * 워커 노드가 작업을 점유하고 채점을 시작(또는 재개)한다.
+     *
+     * @param owner 워커 노드 ID
+     * @param leaseExpiresAt 점유 만료 일시
+     */
+    public void lease(String owner, LocalDateTime leaseExpiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = JudgeJobStatus.RUNNING;
+        this.attemptCount++;
+        this.startedAt = now;
+        this.heartbeatAt = now;
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * 워커가 가져갈 수 있는 작업인지 확인한다 (재시도 대기가 끝난 대기 작업이거나 점유가 만료된 작업).
+     *
+     * @param now 현재 일시
+     * @return 가져갈 수 있으면 true
+     */
+    public boolean isClaimable(LocalDateTime now) {
+        return (status == JudgeJobStatus.QUEUED && (nextAttemptAt == null || !nextAttemptAt.isAfter(now)))
+                || (status == JudgeJobStatus.RUNNING && leaseExpiresAt != null && leaseExpiresAt.isBefore(now));
+    }
+
+    /**
+     * 주어진 노드가 현재 작업을 점유하고 있는지 확인한다.
+     *
+     * @param owner 워커 노드 ID
+     * @return 점유 중이면 true
+     */
+    public boolean isLeasedBy(String owner) {
+        return status == JudgeJobStatus.RUNNING && owner != null && owner.equals(leaseOwner);
+    }
+
+    /**
+     * 채점 완료 처리한다.
+     *
+     * @param totalTestCases 전체 테스트케이스 수
+     * @param passedTestCases 통과한 테스트케이스 수
+     */
+    public void complete(int totalTestCases, int passedTestCases) {
+        this.status = JudgeJobStatus.COMPLETED;
+        this.totalTestCases = totalTestCases;
+        this.passedTestCases = passedTestCases;
+        this.finishedAt = LocalDateTime.now();
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 오류로 중단된 작업을 재시도 대기 상태로 되돌린다.
+     *
+     * @param error 오류 메시지
+     * @param nextAttemptAt 다시 점유할 수 있는 일시
+     */
+    public void requeue(String error, LocalDateTime nextAttemptAt) {
+        this.status = JudgeJobStatus.QUEUED;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 재시도 횟수를 초과한 작업을 실패 처리한다.
+     *
+     * @param error 오류 메시지
+     */
+    public void fail(String error) {
+        this.status = JudgeJobStatus.FAILED;
+        this.lastError = truncate(error);
+        this.finishedAt = LocalDateTime.now();
+        this.leaseExpiresAt = null;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
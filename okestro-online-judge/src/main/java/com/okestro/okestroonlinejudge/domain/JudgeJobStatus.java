@@ -0,0 +1,38 @@
+package com.okestro.okestroonlinejudge.domain;
+
+/**
+ * 채점 작업 상태 열거형.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public enum JudgeJobStatus {
+    /**
+     * 채점 대기 (워커가 가져가기 전)
+     */
+    QUEUED,
+
+    /**
+     * 채점 진행 중 (Judge0 토큰 발급/폴링 중)
+     */
+    RUNNING,
+
+    /**
+     * 채점 완료 (제출 결과 반영됨)
+     */
+    COMPLETED,
+
+    /**
+     * 재시도 횟수 초과로 채점 실패
+     */
+    FAILED;
+
+    /**
+     * 더 이상 처리할 필요가 없는 상태인지 여부.
+     *
+     * @return COMPLETED 또는 FAILED면 true
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
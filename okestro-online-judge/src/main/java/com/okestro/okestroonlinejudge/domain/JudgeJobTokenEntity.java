@@ -0,0 +1,75 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 작업의 테스트케이스별 Judge0 토큰 엔티티.
+ * 토큰을 발급 즉시 저장해 두어 재시작 후에는 재제출 없이 결과 폴링만 이어서 수행한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "judge_job_token", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"judge_job_id", "test_case_id"})
+})
+public class JudgeJobTokenEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 소속 채점 작업
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "judge_job_id", nullable = false)
+    private JudgeJobEntity judgeJobEntity;
+
+    /**
+     * 테스트케이스 ID (테스트케이스가 삭제되어도 이력은 남도록 FK를 두지 않음)
+     */
+    @Column(name = "test_case_id", nullable = false)
+    private Long testCaseId;
+
+    /**
+     * 테스트케이스 번호 (1부터 시작)
+     */
+    @Column(name = "test_case_number", nullable = false)
+    private Integer testCaseNumber;
+
+    /**
+     * Judge0 제출 토큰
+     */
+    @Column(nullable = false)
+    private String token;
+
+    /**
+     * JudgeJobToken 생성자.
+     *
+     * @param judgeJobEntity 채점 작업
+     * @param testCaseId 테스트케이스 ID
+     * @param testCaseNumber 테스트케이스 번호
+     * @param token Judge0 토큰
+     */
+    public JudgeJobTokenEntity(JudgeJobEntity judgeJobEntity, Long testCaseId, Integer testCaseNumber, String token) {
+        this.judgeJobEntity = judgeJobEntity;
+        this.testCaseId = testCaseId;
+        this.testCaseNumber = testCaseNumber;
+        this.token = token;
+    }
+
+    /**
+     * 토큰을 교체한다 (Judge0에서 만료되어 재제출한 경우).
+     *
+     * @param token 새 Judge0 토큰
+     */
+    public void updateToken(String token) {
+        this.token = token;
+    }
+}
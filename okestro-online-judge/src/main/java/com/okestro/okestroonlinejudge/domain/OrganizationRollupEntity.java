@@ -0,0 +1,71 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조직과 모든 하위 조직에 속한 사용자의 통계 합계.
+ * 사용자가 문제를 풀거나 조직을 옮기거나 조직의 상위 조직이 바뀔 때 상위 조직들까지 함께 증감한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "organization_rollup", indexes = {
+        @Index(name = "idx_organization_rollup_ranking", columnList = "ranking_point, solved_count")
+})
+public class OrganizationRollupEntity {
+
+    /**
+     * 조직 ID (FK, PK)
+     */
+    @Id
+    private Long id;
+
+    /**
+     * 대상 조직
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "organization_id")
+    private OrganizationEntity organizationEntity;
+
+    /**
+     * 하위 조직을 포함한 해결 문제 수 합계
+     */
+    @Column(name = "solved_count", nullable = false)
+    private Long solvedCount = 0L;
+
+    /**
+     * 하위 조직을 포함한 랭킹 포인트 합계
+     */
+    @Column(name = "ranking_point", nullable = false)
+    private Long rankingPoint = 0L;
+
+    /**
+     * 하위 조직을 포함한 사용자 수
+     */
+    @Column(name = "user_count", nullable = false)
+    private Long userCount = 0L;
+
+    public OrganizationRollupEntity(OrganizationEntity organizationEntity) {
+        this.organizationEntity = organizationEntity;
+    }
+
+    /**
+     * 합계를 다시 계산한 값으로 바꾼다.
+     *
+     * @param solvedCount 해결 문제 수 합계
+     * @param rankingPoint 랭킹 포인트 합계
+     * @param userCount 사용자 수
+     */
+    public void reset(long solvedCount, long rankingPoint, long userCount) {
+        this.solvedCount = solvedCount;
+        this.rankingPoint = rankingPoint;
+        this.userCount = userCount;
+    }
+}
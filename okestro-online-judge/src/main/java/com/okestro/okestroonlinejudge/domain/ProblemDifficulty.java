@@ -0,0 +1,53 @@
+package com.okestro.okestroonlinejudge.domain;
+
+/**
+ * 사용자 통계의 난이도 구분을 정의하는 Enum.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public enum ProblemDifficulty {
+    /**
+     * 쉬움 (BRONZE, SILVER)
+     */
+    EASY,
+
+    /**
+     * 보통 (GOLD, PLATINUM)
+     */
+    MEDIUM,
+
+    /**
+     * 어려움 (그 외 티어)
+     */
+    HARD;
+
+    /**
+     * 문제 티어 그룹으로 난이도를 구한다.
+     *
+     * @param groupName 티어 그룹 이름
+     * @return 난이도 (티어가 없으면 null)
+     */
+    public static ProblemDifficulty of(String groupName) {
+        if (groupName == null) {
+            return null;
+        }
+        if (groupName.equalsIgnoreCase("BRONZE") || groupName.equalsIgnoreCase("SILVER")) {
+            return EASY;
+        }
+        if (groupName.equalsIgnoreCase("GOLD") || groupName.equalsIgnoreCase("PLATINUM")) {
+            return MEDIUM;
+        }
+        return HARD;
+    }
+
+    /**
+     * 문제의 난이도를 구한다.
+     *
+     * @param problem 문제
+     * @return 난이도 (티어가 없으면 null)
+     */
+    public static ProblemDifficulty of(ProblemEntity problem) {
+        return problem.getTierEntity() != null ? of(problem.getTierEntity().getGroupName()) : null;
+    }
+}
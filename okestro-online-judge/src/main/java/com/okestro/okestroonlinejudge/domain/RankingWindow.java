@@ -0,0 +1,34 @@
+package com.okestro.okestroonlinejudge.domain;
+
+/**
+ * 사용자 랭킹 집계 기간을 정의하는 Enum.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public enum RankingWindow {
+    /**
+     * 전체 기간 (사용자 통계)
+     */
+    ALL_TIME,
+
+    /**
+     * 오늘
+     */
+    DAILY,
+
+    /**
+     * 이번 주 (월요일부터)
+     */
+    WEEKLY,
+
+    /**
+     * 이번 달
+     */
+    MONTHLY,
+
+    /**
+     * 이번 시즌 (연초부터 ranking.window.season-months개월 단위)
+     */
+    SEASON
+}
@@ -0,0 +1,160 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 재채점 작업 엔티티.
+ * 문제의 제출을 ID 순으로 조금씩 채점 큐에 넣으며, 마지막으로 넣은 제출 ID(커서)를 DB에 남겨
+ * 서버가 재시작되어도 이어서 진행할 수 있게 한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rejudge_job", indexes = {
+        @Index(name = "idx_rejudge_job_status", columnList = "status")
+})
+public class RejudgeJobEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 재채점 대상 문제
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "problem_id", nullable = false)
+    private ProblemEntity problemEntity;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RejudgeJobStatus status;
+
+    /**
+     * 대상 제출 시작 일시 (포함, null이면 제한 없음)
+     */
+    @Column(name = "submitted_from")
+    private LocalDateTime submittedFrom;
+
+    /**
+     * 대상 제출 종료 일시 (미포함, null이면 제한 없음)
+     */
+    @Column(name = "submitted_to")
+    private LocalDateTime submittedTo;
+
+    /**
+     * 대상 채점 결과 목록 (쉼표로 구분)
+     */
+    @Column(name = "result_filter", nullable = false, length = 500)
+    private String resultFilter;
+
+    /**
+     * 마지막으로 큐에 넣은 제출 ID (커서)
+     */
+    @Column(name = "last_submission_id", nullable = false)
+    private Long lastSubmissionId = 0L;
+
+    /**
+     * 대상 제출 ID 상한 (요청 시점의 마지막 제출 ID, 이후 제출은 이미 바뀐 기준으로 채점됨)
+     */
+    @Column(name = "max_submission_id", nullable = false)
+    private Long maxSubmissionId;
+
+    /**
+     * 큐에 넣은 제출 수
+     */
+    @Column(name = "enqueued_count", nullable = false)
+    private Long enqueuedCount = 0L;
+
+    /**
+     * 결과가 바뀐 제출 수
+     */
+    @Column(name = "changed_count", nullable = false)
+    private Long changedCount = 0L;
+
+    /**
+     * 요청한 관리자 (로그인 아이디)
+     */
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    /**
+     * 종료 일시
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * RejudgeJob 생성자.
+     *
+     * @param problemEntity 재채점 대상 문제
+     * @param submittedFrom 대상 제출 시작 일시
+     * @param submittedTo 대상 제출 종료 일시
+     * @param results 대상 채점 결과 목록
+     * @param maxSubmissionId 대상 제출 ID 상한
+     * @param requestedBy 요청한 관리자
+     */
+    public RejudgeJobEntity(ProblemEntity problemEntity, LocalDateTime submittedFrom, LocalDateTime submittedTo,
+                            Collection<SubmissionResult> results, Long maxSubmissionId, String requestedBy) {
+        this.problemEntity = problemEntity;
+        this.maxSubmissionId = maxSubmissionId;
+        this.status = RejudgeJobStatus.RUNNING;
+        this.submittedFrom = submittedFrom;
+        this.submittedTo = submittedTo;
+        this.resultFilter = results.stream().map(Enum::name).collect(Collectors.joining(","));
+        this.requestedBy = requestedBy;
+    }
+
+    /**
+     * 대상 채점 결과 목록을 반환한다.
+     *
+     * @return 채점 결과 목록
+     */
+    public List<SubmissionResult> getResults() {
+        return Arrays.stream(resultFilter.split(","))
+                .map(SubmissionResult::valueOf)
+                .toList();
+    }
+
+    /**
+     * 제출 묶음을 큐에 넣은 뒤 커서를 옮긴다.
+     *
+     * @param lastSubmissionId 묶음의 마지막 제출 ID
+     * @param count 묶음 크기
+     */
+    public void advance(Long lastSubmissionId, int count) {
+        this.lastSubmissionId = lastSubmissionId;
+        this.enqueuedCount += count;
+    }
+
+    /**
+     * 재채점을 완료 처리한다.
+     */
+    public void complete() {
+        this.status = RejudgeJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재채점을 취소한다.
+     */
+    public void cancel() {
+        this.status = RejudgeJobStatus.CANCELLED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
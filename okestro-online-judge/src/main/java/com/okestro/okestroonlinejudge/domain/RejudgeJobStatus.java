@@ -0,0 +1,33 @@
+package com.okestro.okestroonlinejudge.domain;
+
+/**
+ * 재채점 작업 상태 열거형.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public enum RejudgeJobStatus {
+    /**
+     * 대상 제출을 채점 큐에 나눠 넣는 중
+     */
+    RUNNING,
+
+    /**
+     * 모든 대상 제출의 재채점 완료
+     */
+    COMPLETED,
+
+    /**
+     * 관리자가 취소 (이미 큐에 들어간 제출은 끝까지 채점됨)
+     */
+    CANCELLED;
+
+    /**
+     * 더 이상 처리할 필요가 없는 상태인지 여부.
+     *
+     * @return COMPLETED 또는 CANCELLED면 true
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.okestro.okestroonlinejudge.domain;
+
+/**
+ * 사용자 점수 버킷의 시간 단위를 정의하는 Enum.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public enum ScoreBucketType {
+    /**
+     * 하루 (일간, 주간 랭킹에 사용)
+     */
+    DAY,
+
+    /**
+     * 한 달 (월간, 시즌 랭킹에 사용)
+     */
+    MONTH
+}
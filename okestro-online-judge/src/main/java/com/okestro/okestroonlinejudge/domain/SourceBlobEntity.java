@@ -0,0 +1,58 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제출 소스 코드 저장소 엔티티.
+ * 소스 코드의 SHA-256을 키로 하여 같은 코드는 한 번만 저장하고, 내용은 Deflate로 압축해 둔다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "source_blob", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_source_blob_sha256", columnNames = "sha256")
+})
+public class SourceBlobEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 원본 소스 코드(UTF-8)의 SHA-256 (16진수)
+     */
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    /**
+     * Deflate로 압축한 소스 코드
+     */
+    @Lob
+    @Column(nullable = false, length = 16 * 1024 * 1024)
+    private byte[] content;
+
+    /**
+     * 원본 크기 (바이트)
+     */
+    @Column(name = "original_size", nullable = false)
+    private Integer originalSize;
+
+    /**
+     * SourceBlob 생성자.
+     *
+     * @param sha256 원본 소스 코드의 SHA-256
+     * @param content 압축한 소스 코드
+     * @param originalSize 원본 크기 (바이트)
+     */
+    public SourceBlobEntity(String sha256, byte[] content, Integer originalSize) {
+        this.sha256 = sha256;
+        this.content = content;
+        this.originalSize = originalSize;
+    }
+}
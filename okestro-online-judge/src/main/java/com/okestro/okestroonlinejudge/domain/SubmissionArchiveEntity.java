@@ -0,0 +1,109 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 {@code submission}에서 옮겨진 제출 엔티티.
+ * 원래 제출 ID와 제출 일시를 그대로 유지하므로 기존 링크와 커서가 계속 유효하다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "submission_archive", indexes = {
+        @Index(name = "idx_submission_archive_created", columnList = "created_at, id"),
+        @Index(name = "idx_submission_archive_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_submission_archive_problem_created", columnList = "problem_id, created_at, id")
+})
+public class SubmissionArchiveEntity {
+
+    /**
+     * 원래 제출 ID
+     */
+    @Id
+    private Long id;
+
+    /**
+     * 제출한 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity userEntity;
+
+    /**
+     * 대상 문제
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "problem_id", nullable = false)
+    private ProblemEntity problemEntity;
+
+    /**
+     * 언어
+     */
+    @Column(nullable = false)
+    private String language;
+
+    /**
+     * 소스 코드 저장소
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_blob_id", nullable = false)
+    private SourceBlobEntity sourceBlobEntity;
+
+    /**
+     * 채점 결과
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SubmissionResult result;
+
+    /**
+     * 실행 시간 (ms)
+     */
+    @Column(name = "exec_time_ms")
+    private Integer execTimeMs;
+
+    /**
+     * 메모리 사용량 (KB)
+     */
+    @Column(name = "memory_kb")
+    private Integer memoryKb;
+
+    /**
+     * 원래 제출 일시
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 보관 처리 일시
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 제출을 보관용으로 복사한다.
+     *
+     * @param submission 원래 제출 (소스 코드가 저장소로 옮겨진 상태여야 한다)
+     * @param archivedAt 보관 처리 일시
+     */
+    public SubmissionArchiveEntity(SubmissionEntity submission, LocalDateTime archivedAt) {
+        this.id = submission.getId();
+        this.userEntity = submission.getUserEntity();
+        this.problemEntity = submission.getProblemEntity();
+        this.language = submission.getLanguage();
+        this.sourceBlobEntity = submission.getSourceBlobEntity();
+        this.result = submission.getResult();
+        this.execTimeMs = submission.getExecTimeMs();
+        this.memoryKb = submission.getMemoryKb();
+        this.createdAt = submission.getCreatedAt();
+        this.archivedAt = archivedAt;
+    }
+}
@@ -15,7 +15,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "submission")
+@Table(name = "submission", indexes = {
+        @Index(name = "idx_submission_created", columnList = "created_at, id"),
+        @Index(name = "idx_submission_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_submission_user_problem", columnList = "user_id, problem_id, created_at"),
+        @Index(name = "idx_submission_problem_created", columnList = "problem_id, created_at, id")
+})
 public class SubmissionEntity extends BaseTimeEntity {
 
     /**
@@ -46,11 +51,18 @@ public class SubmissionEntity extends BaseTimeEntity {
     private String language;
 
     /**
-     * 소스 코드
+     * 소스 코드 (이전 방식으로 저장된 제출만 값이 있고, 저장소로 옮긴 제출은 빈 문자열)
      */
     @Column(name = "source_code", nullable = false, columnDefinition = "TEXT")
     private String sourceCode;
 
+    /**
+     * 소스 코드 저장소 (코드를 볼 때만 읽는다)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_blob_id")
+    private SourceBlobEntity sourceBlobEntity;
+
     /**
      * 채점 결과
      */
@@ -76,17 +88,19 @@ public class SubmissionEntity extends BaseTimeEntity {
      * @param userEntity 사용자
      * @param problemEntity 문제
      * @param language 언어
-     * @param sourceCode 소스 코드
+     * @param sourceCode 소스 코드 (저장소를 쓰지 않는 경우)
+     * @param sourceBlobEntity 소스 코드 저장소
      * @param result 결과
      * @param execTimeMs 실행 시간
      * @param memoryKb 메모리 사용량
      */
     @Builder
-    public SubmissionEntity(UserEntity userEntity, ProblemEntity problemEntity, String language, String sourceCode, SubmissionResult result, Integer execTimeMs, Integer memoryKb) {
+    public SubmissionEntity(UserEntity userEntity, ProblemEntity problemEntity, String language, String sourceCode, SourceBlobEntity sourceBlobEntity, SubmissionResult result, Integer execTimeMs, Integer memoryKb) {
         this.userEntity = userEntity;
         this.problemEntity = problemEntity;
         this.language = language;
-        this.sourceCode = sourceCode;
+        this.sourceBlobEntity = sourceBlobEntity;
+        this.sourceCode = sourceBlobEntity != null ? "" : sourceCode;
         this.result = result;
         this.execTimeMs = execTimeMs;
         this.memoryKb = memoryKb;
@@ -104,6 +118,16 @@ public class SubmissionEntity extends BaseTimeEntity {
         this.execTimeMs = execTimeMs;
         this.memoryKb = memoryKb;
     }
+
+    /**
+     * 행에 직접 저장된 소스 코드를 저장소로 옮긴다.
+     *
+     * @param sourceBlobEntity 같은 내용의 소스 코드 저장소
+     */
+    public void moveSourceTo(SourceBlobEntity sourceBlobEntity) {
+        this.sourceBlobEntity = sourceBlobEntity;
+        this.sourceCode = "";
+    }
 }
 
 
@@ -0,0 +1,50 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 채점 진행 이벤트 전달용 아웃박스 엔티티.
+ * 발행한 노드가 한 행을 남기면 모든 노드가 주기적으로 새 행을 읽어 로컬 구독자에게 전달하고,
+ * 보관 기간이 지난 행은 삭제한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "submission_event", indexes = {
+        @Index(name = "idx_submission_event_created_at", columnList = "created_at")
+})
+public class SubmissionEventEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 제출 ID
+     */
+    @Column(name = "submission_id", nullable = false)
+    private Long submissionId;
+
+    /**
+     * 이벤트 본문 (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * SubmissionEvent 생성자.
+     *
+     * @param submissionId 제출 ID
+     * @param payload 이벤트 본문 (JSON)
+     */
+    public SubmissionEventEntity(Long submissionId, String payload) {
+        this.submissionId = submissionId;
+        this.payload = payload;
+    }
+}
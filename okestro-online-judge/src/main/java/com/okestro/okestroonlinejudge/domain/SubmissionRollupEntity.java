@@ -0,0 +1,104 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 제출의 사용자-문제별 집계 엔티티.
+ * 통계는 보관 테이블을 읽지 않고 이 집계와 {@code submission}의 최근 제출을 합쳐 계산한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "submission_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_submission_rollup_user_problem", columnNames = {"user_id", "problem_id"})
+})
+public class SubmissionRollupEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity userEntity;
+
+    /**
+     * 문제
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "problem_id", nullable = false)
+    private ProblemEntity problemEntity;
+
+    /**
+     * 보관된 제출 수
+     */
+    @Column(name = "submission_count", nullable = false)
+    private Integer submissionCount = 0;
+
+    /**
+     * 보관된 제출 중 정답 수
+     */
+    @Column(name = "accepted_count", nullable = false)
+    private Integer acceptedCount = 0;
+
+    /**
+     * 보관된 제출 중 가장 최근 제출의 결과
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_result")
+    private SubmissionResult lastResult;
+
+    /**
+     * 보관된 제출 중 가장 최근 제출의 언어
+     */
+    @Column(name = "last_language")
+    private String lastLanguage;
+
+    /**
+     * 보관된 제출 중 가장 최근 제출 일시
+     */
+    @Column(name = "last_submitted_at")
+    private LocalDateTime lastSubmittedAt;
+
+    public SubmissionRollupEntity(UserEntity userEntity, ProblemEntity problemEntity) {
+        this.userEntity = userEntity;
+        this.problemEntity = problemEntity;
+    }
+
+    /**
+     * 보관된 제출 하나를 집계에 더한다.
+     *
+     * @param archive 보관된 제출
+     */
+    public void add(SubmissionArchiveEntity archive) {
+        this.submissionCount++;
+        if (archive.getResult() == SubmissionResult.ACCEPTED) {
+            this.acceptedCount++;
+        }
+        if (lastSubmittedAt == null || archive.getCreatedAt().isAfter(lastSubmittedAt)) {
+            this.lastResult = archive.getResult();
+            this.lastLanguage = archive.getLanguage();
+            this.lastSubmittedAt = archive.getCreatedAt();
+        }
+    }
+
+    /**
+     * 보관된 제출 중 정답이 있는지 여부.
+     *
+     * @return 정답이 있으면 true
+     */
+    public boolean isSolved() {
+        return acceptedCount > 0;
+    }
+}
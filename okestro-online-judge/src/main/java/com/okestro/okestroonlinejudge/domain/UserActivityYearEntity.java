@@ -0,0 +1,122 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * 사용자의 한 해 동안의 날짜별 해결 기록 (스트릭, 잔디 표시용).
+ * 문제를 해결한 날은 비트(1월 1일이 0번)로, 그날 해결한 문제 수는 날짜마다 2바이트로 담는다.
+ * 스트릭 조회는 제출을 다시 읽지 않고 이 한 행의 비트 연산으로 계산한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_activity_year", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_activity_year", columnNames = {"user_id", "activity_year"})
+})
+public class UserActivityYearEntity {
+
+    /**
+     * 한 해의 최대 일수 (윤년)
+     */
+    public static final int MAX_DAYS = 366;
+
+    private static final int MAX_DAILY_COUNT = 0xFFFF;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity userEntity;
+
+    /**
+     * 연도
+     */
+    @Column(name = "activity_year", nullable = false)
+    private int year;
+
+    /**
+     * 해결한 날 비트 ({@link BitSet#toByteArray()} 형식, 1월 1일이 0번 비트)
+     */
+    @Column(name = "day_bits", nullable = false, length = (MAX_DAYS + 7) / 8)
+    private byte[] dayBits;
+
+    /**
+     * 날짜별 해결한 문제 수 (날짜마다 부호 없는 2바이트)
+     */
+    @Column(name = "day_counts", nullable = false, length = MAX_DAYS * 2)
+    private byte[] dayCounts;
+
+    /**
+     * 날짜별 해결 수로 한 해 기록을 만든다.
+     *
+     * @param userEntity 사용자
+     * @param year 연도
+     * @param counts 날짜별 해결 수 (1월 1일이 0번)
+     */
+    public UserActivityYearEntity(UserEntity userEntity, int year, int[] counts) {
+        this.userEntity = userEntity;
+        this.year = year;
+        this.dayBits = new byte[(MAX_DAYS + 7) / 8];
+        this.dayCounts = new byte[MAX_DAYS * 2];
+        for (int day = 0; day < Math.min(counts.length, MAX_DAYS); day++) {
+            setCount(day, counts[day]);
+        }
+    }
+
+    /**
+     * 그날 해결한 문제 수를 증감한다. 0이 되면 해결한 날에서 빠진다.
+     *
+     * @param date 날짜 (이 기록의 연도)
+     * @param delta 해결 수 증감
+     */
+    public void addSolved(LocalDate date, int delta) {
+        int day = date.getDayOfYear() - 1;
+        setCount(day, getCount(day) + delta);
+    }
+
+    /**
+     * 해결한 날 비트.
+     *
+     * @return 1월 1일이 0번인 비트 집합 (복사본)
+     */
+    public BitSet getDays() {
+        return BitSet.valueOf(dayBits);
+    }
+
+    /**
+     * 그날 해결한 문제 수.
+     *
+     * @param day 1월 1일이 0인 날짜 번호
+     * @return 해결 수
+     */
+    public int getCount(int day) {
+        return ((dayCounts[day * 2] & 0xFF) << 8) | (dayCounts[day * 2 + 1] & 0xFF);
+    }
+
+    private void setCount(int day, int count) {
+        int clamped = Math.max(0, Math.min(MAX_DAILY_COUNT, count));
+        dayCounts[day * 2] = (byte) (clamped >>> 8);
+        dayCounts[day * 2 + 1] = (byte) clamped;
+
+        // BitSet.valueOf(byte[])와 같은 순서: n번 비트는 n / 8번 바이트의 n % 8번 비트
+        if (clamped > 0) {
+            dayBits[day >>> 3] |= (byte) (1 << (day & 7));
+        } else {
+            dayBits[day >>> 3] &= (byte) ~(1 << (day & 7));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 
 /**
  * 사용자별 문제 풀이 상태를 나타내는 엔티티.
+ * 제출과 채점 결과가 생길 때마다 갱신되며, 해결 여부 판단(통계, 솔루션 열람, 문제 목록 표시)의 기준이 된다.
  *
  * @author Assistant
  * @since 1.0
@@ -16,7 +17,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_problem_status")
+@Table(name = "user_problem_status", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_problem_status", columnNames = {"user_id", "problem_id"})
+}, indexes = {
+        @Index(name = "idx_user_problem_status_attempted", columnList = "user_id, last_attempted_at, problem_id")
+})
 public class UserProblemStatusEntity {
 
     /**
@@ -53,6 +58,36 @@ public class UserProblemStatusEntity {
     @Column(name = "last_solved")
     private LocalDateTime lastSolved;
 
+    /**
+     * 처음 해결한 일시 (보관된 제출로만 해결해 알 수 없으면 null)
+     */
+    @Column(name = "first_solved_at")
+    private LocalDateTime firstSolvedAt;
+
+    /**
+     * 마지막 제출 일시 (시도한 문제 목록의 정렬 기준, 백필 전의 행은 null)
+     */
+    @Column(name = "last_attempted_at")
+    private LocalDateTime lastAttemptedAt;
+
+    /**
+     * 마지막 제출 언어
+     */
+    @Column(name = "last_language")
+    private String lastLanguage;
+
+    /**
+     * 제출 수 (보관된 제출 포함)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private long attemptCount;
+
+    /**
+     * 정답 제출 수 (보관된 제출 포함, 재채점으로 줄어들 수 있음)
+     */
+    @Column(name = "accepted_count", nullable = false)
+    private long acceptedCount;
+
     /**
      * UserProblemStatus 생성자.
      *
@@ -77,6 +112,74 @@ public class UserProblemStatusEntity {
             this.lastSolved = LocalDateTime.now();
         }
     }
-}
 
+    /**
+     * 제출 기록으로 계산한 값으로 상태를 채운다.
+     *
+     * @param attemptCount 제출 수
+     * @param acceptedCount 정답 제출 수
+     * @param firstSolvedAt 처음 해결한 일시
+     */
+    public void reset(long attemptCount, long acceptedCount, LocalDateTime firstSolvedAt) {
+        this.attemptCount = attemptCount;
+        this.acceptedCount = acceptedCount;
+        this.firstSolvedAt = acceptedCount > 0 ? firstSolvedAt : null;
+        this.status = acceptedCount > 0 ? ProblemStatus.SOLVED : ProblemStatus.ATTEMPTED;
+    }
 
+    /**
+     * 새 제출을 시도 횟수에 더하고 마지막 시도로 기록한다.
+     *
+     * @param submittedAt 제출 일시
+     * @param language 제출 언어
+     */
+    public void addAttempt(LocalDateTime submittedAt, String language) {
+        this.attemptCount++;
+        updateLastAttempt(submittedAt, language);
+    }
+
+    /**
+     * 기록된 마지막 시도보다 늦은 시도면 마지막 시도로 기록한다.
+     *
+     * @param attemptedAt 시도 일시
+     * @param language 시도 언어
+     */
+    public void updateLastAttempt(LocalDateTime attemptedAt, String language) {
+        if (attemptedAt != null && (lastAttemptedAt == null || !attemptedAt.isBefore(lastAttemptedAt))) {
+            this.lastAttemptedAt = attemptedAt;
+            this.lastLanguage = language;
+        }
+    }
+
+    /**
+     * 채점 결과로 바뀐 정답 제출 수를 반영한다. 정답이 하나도 남지 않으면 시도 상태로 돌아간다.
+     *
+     * @param acceptedDelta 정답 제출 수 증감
+     * @param judgedAt 채점된 제출의 제출 일시
+     */
+    public void addAccepted(long acceptedDelta, LocalDateTime judgedAt) {
+        boolean wasSolved = acceptedCount > 0;
+        this.acceptedCount = Math.max(0L, this.acceptedCount + acceptedDelta);
+        if (acceptedCount == 0) {
+            this.status = ProblemStatus.ATTEMPTED;
+            this.firstSolvedAt = null;
+            return;
+        }
+        if (acceptedDelta > 0) {
+            this.lastSolved = judgedAt;
+            if (!wasSolved || (firstSolvedAt != null && judgedAt.isBefore(firstSolvedAt))) {
+                this.firstSolvedAt = judgedAt;
+            }
+        }
+        this.status = ProblemStatus.SOLVED;
+    }
+
+    /**
+     * 해결 여부.
+     *
+     * @return 해결했으면 true
+     */
+    public boolean isSolved() {
+        return status == ProblemStatus.SOLVED;
+    }
+}
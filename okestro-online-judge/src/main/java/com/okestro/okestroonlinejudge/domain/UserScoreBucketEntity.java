@@ -0,0 +1,71 @@
+package com.okestro.okestroonlinejudge.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자가 한 기간(하루 또는 한 달) 동안 얻은 해결 수와 랭킹 포인트.
+ * 기간별 랭킹은 제출을 다시 읽지 않고 기간에 걸친 몇 개의 버킷만 더해 계산한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_score_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_score_bucket", columnNames = {"user_id", "bucket_type", "bucket_start"})
+}, indexes = {
+        @Index(name = "idx_user_score_bucket_window", columnList = "bucket_type, bucket_start")
+})
+public class UserScoreBucketEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity userEntity;
+
+    /**
+     * 버킷 단위
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 10)
+    private ScoreBucketType bucketType;
+
+    /**
+     * 버킷 시작일 (DAY면 그 날, MONTH면 그 달의 1일)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    /**
+     * 기간 동안 새로 해결한 문제 수
+     */
+    @Column(name = "solved_count", nullable = false)
+    private Long solvedCount = 0L;
+
+    /**
+     * 기간 동안 얻은 랭킹 포인트
+     */
+    @Column(name = "ranking_point", nullable = false)
+    private Long rankingPoint = 0L;
+
+    public UserScoreBucketEntity(UserEntity userEntity, ScoreBucketType bucketType, LocalDate bucketStart,
+                                 long solvedCount, long rankingPoint) {
+        this.userEntity = userEntity;
+        this.bucketType = bucketType;
+        this.bucketStart = bucketStart;
+        this.solvedCount = solvedCount;
+        this.rankingPoint = rankingPoint;
+    }
+}
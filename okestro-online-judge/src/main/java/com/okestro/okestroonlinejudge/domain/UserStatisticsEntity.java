@@ -4,14 +4,18 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 사용자 통계 정보를 나타내는 엔티티.
+ * 제출 수, 정답 제출 수, 시도한 문제 수는 채점 경로에서 UPDATE 문으로 바로 증감하므로,
+ * 엔티티를 저장할 때 바뀐 열만 쓰도록 해 그 값을 덮어쓰지 않게 한다.
  *
  * @author Assistant
  * @since 1.0
  */
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "user_statistics")
@@ -49,6 +53,42 @@ public class UserStatisticsEntity {
     @Column(name = "ranking_point", nullable = false)
     private Long rankingPoint = 0L;
 
+    /**
+     * 전체 제출 수 (보관된 제출 포함). 아래 상세 통계가 아직 계산되지 않았으면 null
+     */
+    @Column(name = "submission_count")
+    private Long submissionCount;
+
+    /**
+     * 정답 제출 수 (보관된 제출 포함)
+     */
+    @Column(name = "accepted_submission_count")
+    private Long acceptedSubmissionCount;
+
+    /**
+     * 한 번이라도 제출한 문제 수
+     */
+    @Column(name = "attempted_problem_count")
+    private Long attemptedProblemCount;
+
+    /**
+     * 해결한 쉬운 문제 수 (BRONZE, SILVER)
+     */
+    @Column(name = "easy_solved_count")
+    private Long easySolvedCount;
+
+    /**
+     * 해결한 보통 문제 수 (GOLD, PLATINUM)
+     */
+    @Column(name = "medium_solved_count")
+    private Long mediumSolvedCount;
+
+    /**
+     * 해결한 어려운 문제 수
+     */
+    @Column(name = "hard_solved_count")
+    private Long hardSolvedCount;
+
     /**
      * UserStatistics 생성자.
      *
@@ -78,12 +118,66 @@ public class UserStatisticsEntity {
      * 문제를 해결했을 때 통계를 업데이트한다.
      *
      * @param problemScore 해결한 문제의 점수 (난이도에 따라 결정됨)
+     * @param difficulty 해결한 문제의 난이도 (티어가 없으면 null)
      */
-    public void addSolvedProblem(int problemScore) {
+    public void addSolvedProblem(int problemScore, ProblemDifficulty difficulty) {
         this.solvedCount++;
         this.rankingPoint += problemScore;
+        addDifficulty(difficulty, 1);
     }
     
+    /**
+     * 재채점으로 해결한 문제가 해결하지 못한 문제가 되었을 때 통계를 되돌린다.
+     *
+     * @param problemScore 문제 점수
+     * @param difficulty 문제 난이도 (티어가 없으면 null)
+     */
+    public void removeSolvedProblem(int problemScore, ProblemDifficulty difficulty) {
+        this.solvedCount = Math.max(0L, this.solvedCount - 1);
+        this.rankingPoint = Math.max(0L, this.rankingPoint - problemScore);
+        addDifficulty(difficulty, -1);
+    }
+
+    /**
+     * 제출 기록으로 다시 계산한 상세 통계로 바꾼다.
+     *
+     * @param submissionCount 전체 제출 수
+     * @param acceptedSubmissionCount 정답 제출 수
+     * @param attemptedProblemCount 시도한 문제 수
+     * @param easySolvedCount 해결한 쉬운 문제 수
+     * @param mediumSolvedCount 해결한 보통 문제 수
+     * @param hardSolvedCount 해결한 어려운 문제 수
+     */
+    public void resetDetail(long submissionCount, long acceptedSubmissionCount, long attemptedProblemCount,
+                            long easySolvedCount, long mediumSolvedCount, long hardSolvedCount) {
+        this.submissionCount = submissionCount;
+        this.acceptedSubmissionCount = acceptedSubmissionCount;
+        this.attemptedProblemCount = attemptedProblemCount;
+        this.easySolvedCount = easySolvedCount;
+        this.mediumSolvedCount = mediumSolvedCount;
+        this.hardSolvedCount = hardSolvedCount;
+    }
+
+    /**
+     * 상세 통계가 계산되어 있는지 여부.
+     *
+     * @return 계산되어 있으면 true
+     */
+    public boolean hasDetail() {
+        return submissionCount != null;
+    }
+
+    private void addDifficulty(ProblemDifficulty difficulty, long delta) {
+        if (difficulty == null || !hasDetail()) {
+            return;
+        }
+        switch (difficulty) {
+            case EASY -> this.easySolvedCount = Math.max(0L, this.easySolvedCount + delta);
+            case MEDIUM -> this.mediumSolvedCount = Math.max(0L, this.mediumSolvedCount + delta);
+            case HARD -> this.hardSolvedCount = Math.max(0L, this.hardSolvedCount + delta);
+        }
+    }
+
     /**
      * 문제를 실패했을 때 통계를 업데이트한다.
      */
@@ -0,0 +1,18 @@
+package com.okestro.okestroonlinejudge.dto.judge0;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Judge0 API 일괄 제출 요청 DTO.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Judge0BatchRequest {
+
+    private List<Judge0SubmissionRequest> submissions;
+}
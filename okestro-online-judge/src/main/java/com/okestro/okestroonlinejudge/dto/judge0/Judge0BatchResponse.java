@@ -0,0 +1,18 @@
+package com.okestro.okestroonlinejudge.dto.judge0;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Judge0 API 일괄 조회 응답 DTO.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Judge0BatchResponse {
+
+    private List<Judge0SubmissionResponse> submissions;
+}
@@ -0,0 +1,37 @@
+package com.okestro.okestroonlinejudge.dto.request;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재채점 요청 DTO.
+ * 모든 필드는 선택이며, 비워두면 해당 조건으로 거르지 않는다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RejudgeRequest {
+
+    /**
+     * 대상 제출 시작 일시 (포함)
+     */
+    private LocalDateTime from;
+
+    /**
+     * 대상 제출 종료 일시 (미포함)
+     */
+    private LocalDateTime to;
+
+    /**
+     * 대상 채점 결과 목록 (비우면 채점이 끝난 모든 결과)
+     */
+    private List<SubmissionResult> results;
+}
@@ -1,7 +1,6 @@
 package com.okestro.okestroonlinejudge.dto.response;
 
-import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
-import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -57,12 +56,20 @@ public class AttemptedProblemResponse {
     private int tryCount;
 
     /**
-     * Entity로부터 DTO 생성.
+     * 문제와 시도 요약으로부터 DTO 생성.
+     *
+     * @param problem 문제 (티어를 함께 읽어 둘 것)
+     * @param solved 해결 여부 (정답이 한 번이라도 있으면 true)
+     * @param attemptedAt 마지막 시도 일시
+     * @param language 마지막 시도 언어
+     * @param tryCount 시도 횟수
+     * @return 시도한 문제 응답
      */
-    public static AttemptedProblemResponse from(SubmissionEntity submission, int tryCount) {
+    public static AttemptedProblemResponse of(ProblemEntity problem, boolean solved,
+                                              LocalDateTime attemptedAt, String language, int tryCount) {
         String difficulty = "Medium"; // 기본값
-        if (submission.getProblemEntity().getTierEntity() != null) {
-            String groupName = submission.getProblemEntity().getTierEntity().getGroupName();
+        if (problem.getTierEntity() != null) {
+            String groupName = problem.getTierEntity().getGroupName();
             if (groupName != null) {
                 if (groupName.equalsIgnoreCase("BRONZE") || groupName.equalsIgnoreCase("SILVER")) {
                     difficulty = "Easy";
@@ -74,15 +81,15 @@ public class AttemptedProblemResponse {
             }
         }
 
-        String status = submission.getResult() == SubmissionResult.ACCEPTED ? "Accepted" : "Failed";
+        String status = solved ? "Accepted" : "Failed";
 
         return AttemptedProblemResponse.builder()
-                .id(submission.getProblemEntity().getId())
-                .title(submission.getProblemEntity().getTitle())
+                .id(problem.getId())
+                .title(problem.getTitle())
                 .difficulty(difficulty)
                 .status(status)
-                .attemptedAt(submission.getCreatedAt())
-                .language(submission.getLanguage())
+                .attemptedAt(attemptedAt)
+                .language(language)
                 .tryCount(tryCount)
                 .build();
     }
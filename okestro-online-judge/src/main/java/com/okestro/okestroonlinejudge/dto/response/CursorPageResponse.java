@@ -0,0 +1,37 @@
+package com.okestro.okestroonlinejudge.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 응답 DTO.
+ * 다음 페이지는 {@code nextCursor}를 그대로 넘겨 조회한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    /**
+     * 현재 페이지 항목
+     */
+    private List<T> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,30 @@
+package com.okestro.okestroonlinejudge.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 조직의 하위 조직 포함 합계와 상위 조직 내 순위 응답 DTO.
+ */
+@Getter
+@Builder
+public class OrganizationRollupResponse {
+
+    private Long organizationId;
+    private String organizationName;
+    private Long parentId;
+    private Integer depth;
+    private Long totalSolvedCount;
+    private Long totalRankingPoint;
+    private Long userCount;
+
+    /**
+     * 같은 상위 조직(최상위 조직이면 최상위 조직들) 안에서의 순위, 소속 사용자가 없으면 null
+     */
+    private Integer rankInParent;
+
+    /**
+     * 같은 상위 조직 안에서 순위에 드는 조직 수
+     */
+    private Long rankedSiblingCount;
+}
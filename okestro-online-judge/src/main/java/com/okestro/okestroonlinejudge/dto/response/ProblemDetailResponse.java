@@ -1,6 +1,7 @@
 package com.okestro.okestroonlinejudge.dto.response;
 
 import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +14,7 @@ import lombok.NoArgsConstructor;
  * @since 1.0
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProblemDetailResponse {
@@ -35,6 +36,9 @@ public class ProblemDetailResponse {
     private Long commentCount;
     private Boolean isLiked;
 
+    // 로그인 사용자의 풀이 상태 (시도하지 않았거나 비로그인이면 null)
+    private ProblemStatus userStatus;
+
     // 생성자 정보
     private CreatorInfo creator;
 
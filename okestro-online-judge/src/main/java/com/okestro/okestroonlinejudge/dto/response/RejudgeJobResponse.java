@@ -0,0 +1,115 @@
+package com.okestro.okestroonlinejudge.dto.response;
+
+import com.okestro.okestroonlinejudge.domain.RejudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.RejudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재채점 작업 응답 DTO.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejudgeJobResponse {
+
+    /**
+     * 재채점 작업 ID
+     */
+    private Long id;
+
+    /**
+     * 문제 ID
+     */
+    private Long problemId;
+
+    /**
+     * 작업 상태
+     */
+    private RejudgeJobStatus status;
+
+    /**
+     * 대상 제출 시작 일시
+     */
+    private LocalDateTime from;
+
+    /**
+     * 대상 제출 종료 일시
+     */
+    private LocalDateTime to;
+
+    /**
+     * 대상 채점 결과 목록
+     */
+    private List<SubmissionResult> results;
+
+    /**
+     * 큐에 넣은 제출 수
+     */
+    private Long enqueuedCount;
+
+    /**
+     * 아직 채점 중인 제출 수
+     */
+    private Long pendingCount;
+
+    /**
+     * 결과가 바뀐 제출 수
+     */
+    private Long changedCount;
+
+    /**
+     * 마지막으로 큐에 넣은 제출 ID
+     */
+    private Long lastSubmissionId;
+
+    /**
+     * 요청한 관리자
+     */
+    private String requestedBy;
+
+    /**
+     * 생성 일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 종료 일시
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * 엔티티에서 응답 DTO 생성.
+     *
+     * @param entity 재채점 작업 엔티티
+     * @param pendingCount 아직 채점 중인 제출 수
+     * @return 응답 DTO
+     */
+    public static RejudgeJobResponse from(RejudgeJobEntity entity, long pendingCount) {
+        return RejudgeJobResponse.builder()
+                .id(entity.getId())
+                .problemId(entity.getProblemEntity().getId())
+                .status(entity.getStatus())
+                .from(entity.getSubmittedFrom())
+                .to(entity.getSubmittedTo())
+                .results(entity.getResults())
+                .enqueuedCount(entity.getEnqueuedCount())
+                .pendingCount(pendingCount)
+                .changedCount(entity.getChangedCount())
+                .lastSubmissionId(entity.getLastSubmissionId())
+                .requestedBy(entity.getRequestedBy())
+                .createdAt(entity.getCreatedAt())
+                .finishedAt(entity.getFinishedAt())
+                .build();
+    }
+}
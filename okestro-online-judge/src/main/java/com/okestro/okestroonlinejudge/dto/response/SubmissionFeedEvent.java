@@ -0,0 +1,98 @@
+package com.okestro.okestroonlinejudge.dto.response;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출 피드 이벤트 DTO.
+ * SSE {@code submission} 이벤트의 data로 전송된다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionFeedEvent {
+
+    /**
+     * 이벤트 종류
+     */
+    private Type type;
+
+    /**
+     * 제출 ID
+     */
+    private Long submissionId;
+
+    /**
+     * 문제 ID
+     */
+    private Long problemId;
+
+    /**
+     * 문제 제목
+     */
+    private String problemTitle;
+
+    /**
+     * 제출한 사용자 ID
+     */
+    private Long userId;
+
+    /**
+     * 제출한 사용자 닉네임
+     */
+    private String username;
+
+    /**
+     * 언어
+     */
+    private String language;
+
+    /**
+     * 결과 (NEW는 JUDGING)
+     */
+    private SubmissionResult result;
+
+    /**
+     * FE 표시용 상태 문자열
+     */
+    private String status;
+
+    /**
+     * 최대 실행 시간 (ms, FINISHED)
+     */
+    private Integer execTimeMs;
+
+    /**
+     * 최대 메모리 사용량 (KB, FINISHED)
+     */
+    private Integer memoryKb;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * 피드 이벤트 종류.
+     */
+    public enum Type {
+        /**
+         * 새 제출
+         */
+        NEW,
+
+        /**
+         * 채점 완료
+         */
+        FINISHED
+    }
+}
@@ -0,0 +1,135 @@
+package com.okestro.okestroonlinejudge.dto.response;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 진행 이벤트 DTO.
+ * SSE {@code status} 이벤트의 data로 전송된다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionProgressEvent {
+
+    /**
+     * 제출 ID
+     */
+    private Long submissionId;
+
+    /**
+     * 문제 ID (QUEUED, FINISHED 단계)
+     */
+    private Long problemId;
+
+    /**
+     * 문제 제목 (QUEUED 단계)
+     */
+    private String problemTitle;
+
+    /**
+     * 제출한 사용자 ID (QUEUED 단계)
+     */
+    private Long userId;
+
+    /**
+     * 제출한 사용자 닉네임 (QUEUED 단계)
+     */
+    private String username;
+
+    /**
+     * 언어 (QUEUED, FINISHED 단계)
+     */
+    private String language;
+
+    /**
+     * 진행 단계
+     */
+    private Stage stage;
+
+    /**
+     * FE 표시용 상태 문자열 (Judging, Accepted, Wrong Answer ...)
+     */
+    private String status;
+
+    /**
+     * 전체 테스트케이스 수 (채점 시작 이후)
+     */
+    private Integer totalTestCases;
+
+    /**
+     * 채점이 끝난 테스트케이스 수
+     */
+    private Integer completedTestCases;
+
+    /**
+     * 통과한 테스트케이스 수
+     */
+    private Integer passedTestCases;
+
+    /**
+     * 마지막으로 끝난 테스트케이스 번호
+     */
+    private Integer lastTestCaseNumber;
+
+    /**
+     * 마지막으로 끝난 테스트케이스 결과
+     */
+    private SubmissionResult lastTestCaseResult;
+
+    /**
+     * 최종 결과 (FINISHED 단계)
+     */
+    private SubmissionResult result;
+
+    /**
+     * 최대 실행 시간 (ms, FINISHED 단계)
+     */
+    private Integer execTimeMs;
+
+    /**
+     * 최대 메모리 사용량 (KB, FINISHED 단계)
+     */
+    private Integer memoryKb;
+
+    /**
+     * 최종 이벤트인지 여부.
+     *
+     * @return FINISHED 단계면 true
+     */
+    public boolean isFinal() {
+        return stage == Stage.FINISHED;
+    }
+
+    /**
+     * 채점 진행 단계.
+     */
+    public enum Stage {
+        /**
+         * 채점 대기열 등록
+         */
+        QUEUED,
+
+        /**
+         * 워커가 가져가 컴파일/실행 시작
+         */
+        COMPILING,
+
+        /**
+         * 테스트케이스 채점 중 (i/N)
+         */
+        TESTING,
+
+        /**
+         * 최종 결과 확정
+         */
+        FINISHED
+    }
+}
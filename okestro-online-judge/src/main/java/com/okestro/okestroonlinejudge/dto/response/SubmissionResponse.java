@@ -1,8 +1,10 @@
 package com.okestro.okestroonlinejudge.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.okestro.okestroonlinejudge.domain.SubmissionArchiveEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.repository.projection.SubmissionSummaryProjection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -75,6 +77,44 @@ public class SubmissionResponse {
                 .build();
     }
 
+    /**
+     * 보관된 제출로부터 DTO 생성.
+     */
+    public static SubmissionResponse from(SubmissionArchiveEntity archive) {
+        return SubmissionResponse.builder()
+                .id(String.valueOf(archive.getId()))
+                .problemId(archive.getProblemEntity().getId())
+                .problemTitle(archive.getProblemEntity().getTitle())
+                .status(archive.getResult().toDisplayName())
+                .language(archive.getLanguage())
+                .runtime(archive.getExecTimeMs() != null ? archive.getExecTimeMs() + "ms" : null)
+                .memory(archive.getMemoryKb() != null ? archive.getMemoryKb() + "KB" : null)
+                .submittedAt(archive.getCreatedAt())
+                .userId(archive.getUserEntity().getId())
+                .username(archive.getUserEntity().getUsername())
+                .resultEnum(archive.getResult())
+                .build();
+    }
+
+    /**
+     * 목록 조회용 프로젝션으로 응답 생성 (소스 코드를 읽지 않음)
+     */
+    public static SubmissionResponse from(SubmissionSummaryProjection summary) {
+        return SubmissionResponse.builder()
+                .id(String.valueOf(summary.getId()))
+                .problemId(summary.getProblemId())
+                .problemTitle(summary.getProblemTitle())
+                .status(summary.getResult().toDisplayName())
+                .language(summary.getLanguage())
+                .runtime(summary.getExecTimeMs() != null ? summary.getExecTimeMs() + "ms" : null)
+                .memory(summary.getMemoryKb() != null ? summary.getMemoryKb() + "KB" : null)
+                .submittedAt(summary.getCreatedAt())
+                .userId(summary.getUserId())
+                .username(summary.getUsername())
+                .resultEnum(summary.getResult())
+                .build();
+    }
+
     /**
      * 제출 결과와 테스트케이스 정보를 포함한 응답 생성
      */
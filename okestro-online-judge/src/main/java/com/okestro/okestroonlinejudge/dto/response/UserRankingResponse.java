@@ -1,5 +1,7 @@
 package com.okestro.okestroonlinejudge.dto.response;
 
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,6 +20,41 @@ public class UserRankingResponse {
     private Long rankingPoint;
     private String organizationName;
     private String profileImage;
+
+    /**
+     * 사용자 통계로 랭킹 응답을 만든다. 사용자와 티어, 조직이 함께 조회되어 있어야 한다.
+     *
+     * @param stats 사용자 통계
+     * @param rank 순위
+     * @return 랭킹 응답
+     */
+    public static UserRankingResponse from(UserStatisticsEntity stats, int rank) {
+        return of(stats.getUserEntity(), stats.getSolvedCount(), stats.getRankingPoint(), rank);
+    }
+
+    /**
+     * 사용자와 집계 값으로 랭킹 응답을 만든다. 사용자의 티어와 조직이 함께 조회되어 있어야 한다.
+     *
+     * @param user 사용자
+     * @param solvedCount 해결 문제 수
+     * @param rankingPoint 랭킹 포인트
+     * @param rank 순위
+     * @return 랭킹 응답
+     */
+    public static UserRankingResponse of(UserEntity user, long solvedCount, long rankingPoint, int rank) {
+        return UserRankingResponse.builder()
+                .rank(rank)
+                .userId(user.getId())
+                .username(user.getUsername())
+                .tierName(user.getTierEntity() != null
+                        ? user.getTierEntity().getGroupName()
+                        : "Unranked")
+                .solvedCount(solvedCount)
+                .rankingPoint(rankingPoint)
+                .organizationName(user.getOrganizationName())
+                .profileImage(user.getProfileImage())
+                .build();
+    }
 }
 
 
@@ -27,6 +27,11 @@ public class UserStatsResponse {
      */
     private int totalUsers;
 
+    /**
+     * 상위 백분율 (예: 3.2면 상위 3.2%)
+     */
+    private double topPercent;
+
     /**
      * 해결한 문제 수
      */
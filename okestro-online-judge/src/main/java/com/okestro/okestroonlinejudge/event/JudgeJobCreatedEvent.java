@@ -0,0 +1,18 @@
+package com.okestro.okestroonlinejudge.event;
+
+/**
+ * 채점 작업이 생성되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리되어야 워커가 커밋되지 않은 작업을 읽지 않는다.
+ * 제출 피드에 표시할 수 있도록 제출 요약 정보도 함께 담는다.
+ *
+ * @param judgeJobId 채점 작업 ID
+ * @param submissionId 제출 ID
+ * @param problemId 문제 ID
+ * @param problemTitle 문제 제목
+ * @param userId 제출한 사용자 ID
+ * @param username 제출한 사용자 닉네임
+ * @param language 언어
+ */
+public record JudgeJobCreatedEvent(Long judgeJobId, Long submissionId, Long problemId, String problemTitle,
+                                   Long userId, String username, String language) {
+}
@@ -0,0 +1,17 @@
+package com.okestro.okestroonlinejudge.event;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+
+/**
+ * 채점 작업이 재시도 횟수를 넘겨 최종 결과 없이 실패 처리되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리되어야 구독자가 커밋되지 않은 결과를 보지 않는다.
+ *
+ * @param judgeJobId 채점 작업 ID
+ * @param submissionId 제출 ID
+ * @param problemId 문제 ID
+ * @param language 언어
+ * @param result 제출에 저장된 결과
+ */
+public record JudgeJobFailedEvent(Long judgeJobId, Long submissionId, Long problemId, String language,
+                                  SubmissionResult result) {
+}
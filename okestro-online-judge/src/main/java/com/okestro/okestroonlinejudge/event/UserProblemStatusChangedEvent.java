@@ -0,0 +1,14 @@
+package com.okestro.okestroonlinejudge.event;
+
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
+
+/**
+ * 사용자의 문제 풀이 상태가 생기거나 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리되어야 롤백된 변경이 풀이 상태 비트맵에 반영되지 않는다.
+ *
+ * @param userId 사용자 ID
+ * @param problemId 문제 ID
+ * @param status 변경 후 상태
+ */
+public record UserProblemStatusChangedEvent(Long userId, Long problemId, ProblemStatus status) {
+}
@@ -0,0 +1,12 @@
+package com.okestro.okestroonlinejudge.event;
+
+/**
+ * 사용자 통계(해결 수, 랭킹 포인트)가 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리되어야 롤백된 변경이 순위 색인에 반영되지 않는다.
+ *
+ * @param userId 사용자 ID
+ * @param solvedCount 변경 후 해결 수
+ * @param rankingPoint 변경 후 랭킹 포인트
+ */
+public record UserStatisticsChangedEvent(Long userId, long solvedCount, long rankingPoint) {
+}
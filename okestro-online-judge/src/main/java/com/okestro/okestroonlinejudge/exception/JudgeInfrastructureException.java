@@ -0,0 +1,19 @@
+package com.okestro.okestroonlinejudge.exception;
+
+/**
+ * 채점 결과가 아니라 채점 기반 시설(Judge0, 테스트케이스 저장소)의 장애로 채점을 끝내지 못했음을 나타내는 예외.
+ * 채점 워커는 이 예외를 받으면 결과를 저장하지 않고 작업을 큐에 반납해, 최대 시도 횟수 안에서 다시 채점한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public class JudgeInfrastructureException extends RuntimeException {
+
+    public JudgeInfrastructureException(String message) {
+        super(message);
+    }
+
+    public JudgeInfrastructureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
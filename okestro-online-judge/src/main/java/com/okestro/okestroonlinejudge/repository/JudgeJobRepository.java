@@ -0,0 +1,141 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채점 작업 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface JudgeJobRepository extends JpaRepository<JudgeJobEntity, Long> {
+
+    /**
+     * 워커가 가져갈 수 있는 작업 ID를 행 잠금과 함께 조회.
+     * 대기 중이거나 점유가 만료된 작업을 우선순위 순으로 가져오며, 다른 노드가 잠근 행은 건너뛴다(SKIP LOCKED).
+     * 반납된 작업은 재시도 대기 시간이 지나야 가져온다.
+     * 호출한 트랜잭션이 끝날 때까지 반환된 행은 다른 노드가 가져갈 수 없다.
+     *
+     * @param now 현재 일시
+     * @param limit 최대 조회 수
+     * @return 작업 ID 목록
+     */
+    @Query(value = "SELECT id FROM judge_job " +
+            "WHERE (status = 'QUEUED' AND (next_attempt_at IS NULL OR next_attempt_at <= :now)) " +
+            "OR (status = 'RUNNING' AND lease_expires_at < :now) " +
+            "ORDER BY priority, id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findClaimableIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 작업을 비관적 잠금으로 조회 (완료 처리 시 중복 반영 방지).
+     *
+     * @param id 작업 ID
+     * @return 작업 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM JudgeJobEntity j WHERE j.id = :id")
+    Optional<JudgeJobEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 노드가 점유 중인 작업의 점유 기간을 연장 (하트비트).
+     *
+     * @param owner 워커 노드 ID
+     * @param ids 작업 ID 목록
+     * @param now 현재 일시
+     * @param leaseExpiresAt 새 점유 만료 일시
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JudgeJobEntity j SET j.heartbeatAt = :now, j.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE j.id IN :ids AND j.leaseOwner = :owner " +
+            "AND j.status = com.okestro.okestroonlinejudge.domain.JudgeJobStatus.RUNNING")
+    int extendLeases(@Param("owner") String owner,
+                     @Param("ids") Collection<Long> ids,
+                     @Param("now") LocalDateTime now,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    /**
+     * 노드가 점유 중인 모든 작업의 점유를 즉시 만료 (재시작한 노드가 이전 점유를 반납).
+     *
+     * @param owner 워커 노드 ID
+     * @param now 현재 일시
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JudgeJobEntity j SET j.leaseExpiresAt = :now " +
+            "WHERE j.leaseOwner = :owner " +
+            "AND j.status = com.okestro.okestroonlinejudge.domain.JudgeJobStatus.RUNNING")
+    int expireLeases(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 상태이면서 생성 시각이 기준보다 오래된 작업 수 조회.
+     *
+     * @param statuses 상태 목록
+     * @param before 기준 일시
+     * @return 작업 수
+     */
+    long countByStatusInAndCreatedAtBefore(Collection<JudgeJobStatus> statuses, LocalDateTime before);
+
+    /**
+     * 재채점 작업에 속한 작업 중 주어진 상태인 작업 수 조회.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @param statuses 상태 목록
+     * @return 작업 수
+     */
+    long countByRejudgeJobIdAndStatusIn(Long rejudgeJobId, Collection<JudgeJobStatus> statuses);
+
+    /**
+     * 주어진 제출 중 주어진 상태의 작업이 있는 제출 ID 조회.
+     *
+     * @param submissionIds 제출 ID 목록
+     * @param statuses 상태 목록
+     * @return 제출 ID 목록
+     */
+    @Query("SELECT DISTINCT j.submissionEntity.id FROM JudgeJobEntity j " +
+            "WHERE j.submissionEntity.id IN :submissionIds AND j.status IN :statuses")
+    List<Long> findSubmissionIdsWithStatusIn(@Param("submissionIds") Collection<Long> submissionIds,
+                                             @Param("statuses") Collection<JudgeJobStatus> statuses);
+
+    /**
+     * 제출의 가장 최근 채점 작업 조회.
+     *
+     * @param submissionId 제출 ID
+     * @return 채점 작업 Optional
+     */
+    Optional<JudgeJobEntity> findTopBySubmissionEntity_IdOrderByIdDesc(Long submissionId);
+
+    /**
+     * 상태별 작업 수 조회.
+     *
+     * @param status 작업 상태
+     * @return 작업 수
+     */
+    long countByStatus(JudgeJobStatus status);
+
+    /**
+     * 제출들의 채점 작업 일괄 삭제 (제출 보관용, 토큰을 먼저 삭제해야 한다).
+     *
+     * @param submissionIds 제출 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM JudgeJobEntity j WHERE j.submissionEntity.id IN :submissionIds")
+    int deleteBySubmissionIds(@Param("submissionIds") Collection<Long> submissionIds);
+}
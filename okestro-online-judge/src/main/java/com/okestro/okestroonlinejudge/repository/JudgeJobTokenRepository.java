@@ -0,0 +1,50 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채점 작업 토큰 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface JudgeJobTokenRepository extends JpaRepository<JudgeJobTokenEntity, Long> {
+
+    /**
+     * 채점 작업의 토큰 목록 조회.
+     *
+     * @param judgeJobId 채점 작업 ID
+     * @return 토큰 목록
+     */
+    List<JudgeJobTokenEntity> findByJudgeJobEntity_Id(Long judgeJobId);
+
+    /**
+     * 채점 작업의 특정 테스트케이스 토큰 조회.
+     *
+     * @param judgeJobId 채점 작업 ID
+     * @param testCaseId 테스트케이스 ID
+     * @return 토큰 Optional
+     */
+    Optional<JudgeJobTokenEntity> findByJudgeJobEntity_IdAndTestCaseId(Long judgeJobId, Long testCaseId);
+
+    /**
+     * 제출들의 채점 작업 토큰 일괄 삭제 (제출 보관용).
+     *
+     * @param submissionIds 제출 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM JudgeJobTokenEntity t WHERE t.judgeJobEntity.id IN " +
+            "(SELECT j.id FROM JudgeJobEntity j WHERE j.submissionEntity.id IN :submissionIds)")
+    int deleteBySubmissionIds(@Param("submissionIds") Collection<Long> submissionIds);
+}
@@ -0,0 +1,93 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.OrganizationRollupEntity;
+import com.okestro.okestroonlinejudge.repository.projection.OrganizationRankingProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 조직 계층 통계 합계 Repository.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface OrganizationRollupRepository extends JpaRepository<OrganizationRollupEntity, Long> {
+
+    /**
+     * 여러 조직의 합계를 한 번에 증감한다. 읽고 쓰는 사이에 다른 변경을 덮어쓰지 않도록 UPDATE 문으로 더한다.
+     *
+     * @param organizationIds 조직 ID 목록 (조직과 상위 조직들)
+     * @param solvedCount 해결 문제 수 증감
+     * @param rankingPoint 랭킹 포인트 증감
+     * @param userCount 사용자 수 증감
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrganizationRollupEntity r SET " +
+            "r.solvedCount = r.solvedCount + :solvedCount, " +
+            "r.rankingPoint = r.rankingPoint + :rankingPoint, " +
+            "r.userCount = r.userCount + :userCount " +
+            "WHERE r.id IN :organizationIds")
+    int addToAll(@Param("organizationIds") Collection<Long> organizationIds,
+                 @Param("solvedCount") long solvedCount,
+                 @Param("rankingPoint") long rankingPoint,
+                 @Param("userCount") long userCount);
+
+    @Query(value = "SELECT o.id as organizationId, o.name as organizationName, " +
+            "r.solvedCount as totalSolvedCount, r.rankingPoint as totalRankingPoint, r.userCount as userCount " +
+            "FROM OrganizationRollupEntity r JOIN r.organizationEntity o " +
+            "WHERE r.userCount > 0 " +
+            "ORDER BY r.rankingPoint DESC, r.solvedCount DESC, o.id ASC",
+            countQuery = "SELECT COUNT(r) FROM OrganizationRollupEntity r WHERE r.userCount > 0")
+    Page<OrganizationRankingProjection> findRankings(Pageable pageable);
+
+    @Query(value = "SELECT o.id as organizationId, o.name as organizationName, " +
+            "r.solvedCount as totalSolvedCount, r.rankingPoint as totalRankingPoint, r.userCount as userCount " +
+            "FROM OrganizationRollupEntity r JOIN r.organizationEntity o " +
+            "WHERE o.parent.id = :parentId AND r.userCount > 0 " +
+            "ORDER BY r.rankingPoint DESC, r.solvedCount DESC, o.id ASC",
+            countQuery = "SELECT COUNT(r) FROM OrganizationRollupEntity r " +
+            "WHERE r.organizationEntity.parent.id = :parentId AND r.userCount > 0")
+    Page<OrganizationRankingProjection> findRankingsByParentId(@Param("parentId") Long parentId, Pageable pageable);
+
+    /**
+     * 같은 상위 조직 아래에서 주어진 합계보다 앞서는 조직 수 (랭킹과 같은 정렬 기준).
+     */
+    @Query("SELECT COUNT(r) FROM OrganizationRollupEntity r " +
+            "WHERE r.organizationEntity.parent.id = :parentId AND r.userCount > 0 AND (" +
+            "r.rankingPoint > :rankingPoint " +
+            "OR (r.rankingPoint = :rankingPoint AND r.solvedCount > :solvedCount) " +
+            "OR (r.rankingPoint = :rankingPoint AND r.solvedCount = :solvedCount AND r.id < :organizationId))")
+    long countAheadInParent(@Param("parentId") Long parentId,
+                            @Param("organizationId") Long organizationId,
+                            @Param("rankingPoint") long rankingPoint,
+                            @Param("solvedCount") long solvedCount);
+
+    /**
+     * 최상위 조직 중에서 주어진 합계보다 앞서는 조직 수 (랭킹과 같은 정렬 기준).
+     */
+    @Query("SELECT COUNT(r) FROM OrganizationRollupEntity r " +
+            "WHERE r.organizationEntity.parent IS NULL AND r.userCount > 0 AND (" +
+            "r.rankingPoint > :rankingPoint " +
+            "OR (r.rankingPoint = :rankingPoint AND r.solvedCount > :solvedCount) " +
+            "OR (r.rankingPoint = :rankingPoint AND r.solvedCount = :solvedCount AND r.id < :organizationId))")
+    long countAheadAmongRoots(@Param("organizationId") Long organizationId,
+                              @Param("rankingPoint") long rankingPoint,
+                              @Param("solvedCount") long solvedCount);
+
+    @Query("SELECT COUNT(r) FROM OrganizationRollupEntity r " +
+            "WHERE r.organizationEntity.parent.id = :parentId AND r.userCount > 0")
+    long countRankedInParent(@Param("parentId") Long parentId);
+
+    @Query("SELECT COUNT(r) FROM OrganizationRollupEntity r " +
+            "WHERE r.organizationEntity.parent IS NULL AND r.userCount > 0")
+    long countRankedAmongRoots();
+}
@@ -1,8 +1,10 @@
 package com.okestro.okestroonlinejudge.repository;
 
 import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,6 +29,14 @@ public interface ProblemRepository extends JpaRepository<ProblemEntity, Long>, J
            "LEFT JOIN FETCH p.tierEntity " +
            "WHERE p.id = :id")
     Optional<ProblemEntity> findByIdWithCreator(@Param("id") Long id);
-}
-
 
+    /**
+     * 문제를 비관적 잠금으로 조회 (같은 문제의 재채점 작업이 동시에 만들어지지 않도록).
+     *
+     * @param id 문제 ID
+     * @return 문제 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProblemEntity p WHERE p.id = :id")
+    Optional<ProblemEntity> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,62 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.RejudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.RejudgeJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 재채점 작업 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface RejudgeJobRepository extends JpaRepository<RejudgeJobEntity, Long> {
+
+    /**
+     * 주어진 상태의 재채점 작업 ID 목록 조회.
+     *
+     * @param status 상태
+     * @return 작업 ID 목록
+     */
+    @Query("SELECT r.id FROM RejudgeJobEntity r WHERE r.status = :status ORDER BY r.id")
+    List<Long> findIdsByStatus(@Param("status") RejudgeJobStatus status);
+
+    /**
+     * 문제에 주어진 상태의 재채점 작업이 있는지 확인.
+     *
+     * @param problemId 문제 ID
+     * @param status 상태
+     * @return 있으면 true
+     */
+    boolean existsByProblemEntity_IdAndStatus(Long problemId, RejudgeJobStatus status);
+
+    /**
+     * 재채점 작업을 비관적 잠금으로 조회 (여러 노드가 같은 묶음을 중복으로 넣지 않도록).
+     *
+     * @param id 작업 ID
+     * @return 작업 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RejudgeJobEntity r WHERE r.id = :id")
+    Optional<RejudgeJobEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 결과가 바뀐 제출 수를 1 증가.
+     *
+     * @param id 작업 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE RejudgeJobEntity r SET r.changedCount = r.changedCount + 1 WHERE r.id = :id")
+    int incrementChangedCount(@Param("id") Long id);
+}
@@ -0,0 +1,28 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.SourceBlobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 소스 코드 저장소 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface SourceBlobRepository extends JpaRepository<SourceBlobEntity, Long> {
+
+    /**
+     * SHA-256으로 소스 코드 ID 조회 (내용은 읽지 않음).
+     *
+     * @param sha256 소스 코드의 SHA-256
+     * @return 소스 코드 ID Optional
+     */
+    @Query("SELECT b.id FROM SourceBlobEntity b WHERE b.sha256 = :sha256")
+    Optional<Long> findIdBySha256(@Param("sha256") String sha256);
+}
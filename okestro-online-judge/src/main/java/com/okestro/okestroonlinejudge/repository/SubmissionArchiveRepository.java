@@ -0,0 +1,111 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionArchiveEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.repository.projection.AcceptedSubmissionProjection;
+import com.okestro.okestroonlinejudge.repository.projection.SubmissionSummaryProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관된 제출 데이터 접근을 위한 리포지토리.
+ * 조회 쿼리는 {@link SubmissionRepository}의 같은 이름 쿼리와 결과 형태가 같다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface SubmissionArchiveRepository extends JpaRepository<SubmissionArchiveEntity, Long> {
+
+    /**
+     * 가장 최근에 보관된 제출의 제출 일시 조회. 이보다 최근 제출은 모두 {@code submission}에 있다.
+     *
+     * @return 제출 일시 Optional (보관된 제출이 없으면 empty)
+     */
+    @Query("SELECT MAX(a.createdAt) FROM SubmissionArchiveEntity a")
+    Optional<LocalDateTime> findLatestCreatedAt();
+
+    /**
+     * 보관된 전체 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징).
+     *
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT a.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "a.language AS language, a.result AS result, a.execTimeMs AS execTimeMs, a.memoryKb AS memoryKb, " +
+            "a.createdAt AS createdAt " +
+            "FROM SubmissionArchiveEntity a JOIN a.problemEntity p JOIN a.userEntity u " +
+            "WHERE a.createdAt < :cursorAt OR (a.createdAt = :cursorAt AND a.id < :cursorId) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<SubmissionSummaryProjection> findSummariesBefore(@Param("cursorAt") LocalDateTime cursorAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    /**
+     * 사용자의 보관된 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징).
+     *
+     * @param userId 사용자 ID
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT a.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "a.language AS language, a.result AS result, a.execTimeMs AS execTimeMs, a.memoryKb AS memoryKb, " +
+            "a.createdAt AS createdAt " +
+            "FROM SubmissionArchiveEntity a JOIN a.problemEntity p JOIN a.userEntity u " +
+            "WHERE a.userEntity.id = :userId " +
+            "AND (a.createdAt < :cursorAt OR (a.createdAt = :cursorAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<SubmissionSummaryProjection> findUserSummariesBefore(@Param("userId") Long userId,
+                                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Pageable pageable);
+
+    /**
+     * 문제의 보관된 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징).
+     *
+     * @param problemId 문제 ID
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT a.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "a.language AS language, a.result AS result, a.execTimeMs AS execTimeMs, a.memoryKb AS memoryKb, " +
+            "a.createdAt AS createdAt " +
+            "FROM SubmissionArchiveEntity a JOIN a.problemEntity p JOIN a.userEntity u " +
+            "WHERE a.problemEntity.id = :problemId " +
+            "AND (a.createdAt < :cursorAt OR (a.createdAt = :cursorAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<SubmissionSummaryProjection> findProblemSummariesBefore(@Param("problemId") Long problemId,
+                                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                                 @Param("cursorId") Long cursorId,
+                                                                 Pageable pageable);
+
+    /**
+     * 사용자의 기간 내 정답 제출의 문제 ID와 제출 일시 조회 (보관된 제출).
+     *
+     * @param userId 사용자 ID
+     * @param result 제출 결과 (ACCEPTED)
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @return 문제 ID와 제출 일시 목록
+     */
+    @Query("SELECT a.problemEntity.id AS problemId, a.createdAt AS createdAt FROM SubmissionArchiveEntity a " +
+            "WHERE a.userEntity.id = :userId AND a.result = :result " +
+            "AND a.createdAt >= :from AND a.createdAt < :to")
+    List<AcceptedSubmissionProjection> findAcceptedBetween(@Param("userId") Long userId,
+                                                           @Param("result") SubmissionResult result,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+}
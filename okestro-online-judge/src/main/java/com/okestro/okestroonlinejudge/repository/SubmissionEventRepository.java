@@ -0,0 +1,39 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채점 진행 이벤트 아웃박스 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface SubmissionEventRepository extends JpaRepository<SubmissionEventEntity, Long> {
+
+    /**
+     * 주어진 시각 이후에 기록된 이벤트를 ID 순으로 조회.
+     *
+     * @param since 기준 시각
+     * @return 이벤트 목록
+     */
+    List<SubmissionEventEntity> findByCreatedAtAfterOrderByIdAsc(LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM SubmissionEventEntity e WHERE e.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,18 +1,26 @@
 package com.okestro.okestroonlinejudge.repository;
 
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
 import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
-import com.okestro.okestroonlinejudge.dto.response.StreakDateDto;
+import com.okestro.okestroonlinejudge.repository.projection.AcceptedSubmissionProjection;
+import com.okestro.okestroonlinejudge.repository.projection.SubmissionSummaryProjection;
+import com.okestro.okestroonlinejudge.repository.projection.UserProblemSubmissionTotalsProjection;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 제출 데이터 접근을 위한 리포지토리.
@@ -32,13 +40,71 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, Lo
     List<SubmissionEntity> findByUserEntity_Id(Long userId);
 
     /**
-     * 사용자 ID로 제출 목록 조회 (페이징).
+     * 제출을 비관적 잠금으로 조회 (같은 제출의 채점 결과가 동시에 반영되지 않도록).
+     *
+     * @param id 제출 ID
+     * @return 제출 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SubmissionEntity s WHERE s.id = :id")
+    Optional<SubmissionEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 사용자가 한 문제에 제출한 수.
      *
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
-     * @return 제출 페이지
+     * @param problemId 문제 ID
+     * @return 제출 수
      */
-    Page<SubmissionEntity> findByUserEntity_Id(Long userId, Pageable pageable);
+    long countByUserEntity_IdAndProblemEntity_Id(Long userId, Long problemId);
+
+    /**
+     * 사용자의 제출을 문제별로 집계 (제출 엔티티를 읽지 않고 제출 수와 정답 수만 계산).
+     *
+     * @param userId 사용자 ID
+     * @param accepted 정답 결과
+     * @return 문제별 제출 수, 정답 수, 첫 정답 일시, 티어 그룹
+     */
+    @Query("SELECT p.id AS problemId, t.groupName AS tierGroup, COUNT(s) AS submissionCount, " +
+            "SUM(CASE WHEN s.result = :accepted THEN 1 ELSE 0 END) AS acceptedCount, " +
+            "MIN(CASE WHEN s.result = :accepted THEN s.createdAt END) AS firstAcceptedAt " +
+            "FROM SubmissionEntity s JOIN s.problemEntity p LEFT JOIN p.tierEntity t " +
+            "WHERE s.userEntity.id = :userId " +
+            "GROUP BY p.id, t.groupName")
+    List<UserProblemSubmissionTotalsProjection> sumByProblemForUser(@Param("userId") Long userId,
+                                                                     @Param("accepted") SubmissionResult accepted);
+
+    /**
+     * 사용자의 제출을 주어진 문제들에 대해서만 문제별로 집계.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @param accepted 정답 결과
+     * @return 문제별 제출 수, 정답 수, 첫 정답 일시, 티어 그룹
+     */
+    @Query("SELECT p.id AS problemId, t.groupName AS tierGroup, COUNT(s) AS submissionCount, " +
+            "SUM(CASE WHEN s.result = :accepted THEN 1 ELSE 0 END) AS acceptedCount, " +
+            "MIN(CASE WHEN s.result = :accepted THEN s.createdAt END) AS firstAcceptedAt " +
+            "FROM SubmissionEntity s JOIN s.problemEntity p LEFT JOIN p.tierEntity t " +
+            "WHERE s.userEntity.id = :userId AND p.id IN :problemIds " +
+            "GROUP BY p.id, t.groupName")
+    List<UserProblemSubmissionTotalsProjection> sumByProblemForUserIn(@Param("userId") Long userId,
+                                                                       @Param("problemIds") Collection<Long> problemIds,
+                                                                       @Param("accepted") SubmissionResult accepted);
+
+    /**
+     * 사용자가 주어진 문제들에 마지막으로 한 제출을 문제, 티어와 함께 조회.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 문제별 마지막 제출 (같은 일시의 제출이 여럿이면 모두)
+     */
+    @Query("SELECT s FROM SubmissionEntity s JOIN FETCH s.problemEntity p LEFT JOIN FETCH p.tierEntity " +
+            "WHERE s.userEntity.id = :userId AND p.id IN :problemIds " +
+            "AND s.createdAt = (SELECT MAX(s2.createdAt) FROM SubmissionEntity s2 " +
+            "WHERE s2.userEntity.id = :userId AND s2.problemEntity.id = p.id)")
+    List<SubmissionEntity> findLatestByUserAndProblemIds(@Param("userId") Long userId,
+                                                         @Param("problemIds") Collection<Long> problemIds);
 
     /**
      * 문제 ID로 제출 목록 조회.
@@ -59,37 +125,174 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, Lo
     boolean existsByProblemEntity_IdAndUserEntity_IdAndResult(Long problemId, Long userId, SubmissionResult result);
 
     /**
-     * 사용자의 기간 내 일별 문제 해결 수 조회.
+     * 사용자의 기간 내 정답 제출의 문제 ID와 제출 일시 조회 (날짜별 해결 기록 계산용).
      *
      * @param userId 사용자 ID
      * @param result 제출 결과 (ACCEPTED)
-     * @param start 시작 일시
-     * @param end 종료 일시
-     * @return 날짜별 해결 수 목록
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @return 문제 ID와 제출 일시 목록
      */
-    @Query("SELECT new com.okestro.okestroonlinejudge.dto.response.StreakDateDto(" +
-            "FUNCTION('DATE_FORMAT', s.createdAt, '%Y-%m-%d'), COUNT(DISTINCT s.problemEntity.id)) " +
-            "FROM SubmissionEntity s " +
-            "WHERE s.userEntity.id = :userId " +
-            "AND s.result = :result " +
-            "AND s.createdAt BETWEEN :start AND :end " +
-            "GROUP BY FUNCTION('DATE_FORMAT', s.createdAt, '%Y-%m-%d')")
-    List<StreakDateDto> findDailySolvedCount(@Param("userId") Long userId,
-                                             @Param("result") SubmissionResult result,
-                                             @Param("start") LocalDateTime start,
-                                             @Param("end") LocalDateTime end);
+    @Query("SELECT s.problemEntity.id AS problemId, s.createdAt AS createdAt FROM SubmissionEntity s " +
+            "WHERE s.userEntity.id = :userId AND s.result = :result " +
+            "AND s.createdAt >= :from AND s.createdAt < :to")
+    List<AcceptedSubmissionProjection> findAcceptedBetween(@Param("userId") Long userId,
+                                                           @Param("result") SubmissionResult result,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
 
     /**
-     * 사용자 ID, 문제 ID, 결과로 제출 이력 조회
+     * 사용자가 기간 내에 문제를 맞힌 제출 수 (그날 그 문제의 첫 정답인지 확인용).
      *
      * @param userId 사용자 ID
      * @param problemId 문제 ID
-     * @param result 제출 결과
-     * @return 제출 이력 목록
-     */
-    List<SubmissionEntity> findByUserEntityIdAndProblemEntityIdAndResult(
-            @Param("userId") Long userId,
-            @Param("problemId") Long problemId,
-            @Param("result") SubmissionResult result
-    );
+     * @param result 제출 결과 (ACCEPTED)
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @return 제출 수
+     */
+    @Query("SELECT COUNT(s) FROM SubmissionEntity s " +
+            "WHERE s.userEntity.id = :userId AND s.problemEntity.id = :problemId AND s.result = :result " +
+            "AND s.createdAt >= :from AND s.createdAt < :to")
+    long countByProblemAndResultBetween(@Param("userId") Long userId,
+                                        @Param("problemId") Long problemId,
+                                        @Param("result") SubmissionResult result,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    /**
+     * 문제의 마지막 제출 ID 조회.
+     *
+     * @param problemId 문제 ID
+     * @return 마지막 제출 ID (제출이 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM SubmissionEntity s WHERE s.problemEntity.id = :problemId")
+    Long findMaxIdByProblemId(@Param("problemId") Long problemId);
+
+    /**
+     * 재채점 대상 제출 ID를 커서 이후부터 ID 순으로 조회 (keyset 페이징).
+     *
+     * @param problemId 문제 ID
+     * @param afterId 커서 (이 ID보다 큰 제출만 조회)
+     * @param maxId 제출 ID 상한 (포함)
+     * @param from 제출 시작 일시 (포함, null이면 제한 없음)
+     * @param to 제출 종료 일시 (미포함, null이면 제한 없음)
+     * @param results 대상 채점 결과 목록
+     * @param pageable 조회 크기 (정렬은 무시됨)
+     * @return 제출 ID 목록
+     */
+    @Query("SELECT s.id FROM SubmissionEntity s " +
+            "WHERE s.problemEntity.id = :problemId AND s.id > :afterId AND s.id <= :maxId " +
+            "AND (:from IS NULL OR s.createdAt >= :from) " +
+            "AND (:to IS NULL OR s.createdAt < :to) " +
+            "AND s.result IN :results " +
+            "ORDER BY s.id")
+    List<Long> findRejudgeTargetIds(@Param("problemId") Long problemId,
+                                    @Param("afterId") Long afterId,
+                                    @Param("maxId") Long maxId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("results") Collection<SubmissionResult> results,
+                                    Pageable pageable);
+
+    /**
+     * 전체 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징, 소스 코드 제외).
+     * (createdAt, id)가 커서보다 작은 행만 읽으므로 페이지가 깊어져도 비용이 같다.
+     *
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT s.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "s.language AS language, s.result AS result, s.execTimeMs AS execTimeMs, s.memoryKb AS memoryKb, " +
+            "s.createdAt AS createdAt " +
+            "FROM SubmissionEntity s JOIN s.problemEntity p JOIN s.userEntity u " +
+            "WHERE s.createdAt < :cursorAt OR (s.createdAt = :cursorAt AND s.id < :cursorId) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SubmissionSummaryProjection> findSummariesBefore(@Param("cursorAt") LocalDateTime cursorAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    /**
+     * 사용자의 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징, 소스 코드 제외).
+     *
+     * @param userId 사용자 ID
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT s.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "s.language AS language, s.result AS result, s.execTimeMs AS execTimeMs, s.memoryKb AS memoryKb, " +
+            "s.createdAt AS createdAt " +
+            "FROM SubmissionEntity s JOIN s.problemEntity p JOIN s.userEntity u " +
+            "WHERE s.userEntity.id = :userId " +
+            "AND (s.createdAt < :cursorAt OR (s.createdAt = :cursorAt AND s.id < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SubmissionSummaryProjection> findUserSummariesBefore(@Param("userId") Long userId,
+                                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Pageable pageable);
+
+    /**
+     * 문제의 제출 목록을 커서 이후부터 최신순으로 조회 (키셋 페이징, 소스 코드 제외).
+     *
+     * @param problemId 문제 ID
+     * @param cursorAt 커서의 제출 일시
+     * @param cursorId 커서의 제출 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 제출 목록
+     */
+    @Query("SELECT s.id AS id, p.id AS problemId, p.title AS problemTitle, u.id AS userId, u.username AS username, " +
+            "s.language AS language, s.result AS result, s.execTimeMs AS execTimeMs, s.memoryKb AS memoryKb, " +
+            "s.createdAt AS createdAt " +
+            "FROM SubmissionEntity s JOIN s.problemEntity p JOIN s.userEntity u " +
+            "WHERE s.problemEntity.id = :problemId " +
+            "AND (s.createdAt < :cursorAt OR (s.createdAt = :cursorAt AND s.id < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SubmissionSummaryProjection> findProblemSummariesBefore(@Param("problemId") Long problemId,
+                                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                                 @Param("cursorId") Long cursorId,
+                                                                 Pageable pageable);
+
+    /**
+     * 소스 코드가 아직 행에 직접 저장된 제출을 ID 순으로 조회 (저장소 이전용).
+     *
+     * @param afterId 이 ID 이후부터
+     * @param pageable 조회 개수
+     * @return 제출 목록
+     */
+    @Query("SELECT s FROM SubmissionEntity s WHERE s.sourceBlobEntity IS NULL AND s.id > :afterId ORDER BY s.id")
+    List<SubmissionEntity> findInlineSourceAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 보관할 수 있는 제출 ID를 ID 순으로 조회.
+     * 채점이 끝났고 소스 코드가 저장소로 옮겨졌으며, 공유된 풀이나 진행 중인 채점 작업이 참조하지 않는 제출만 대상이다.
+     *
+     * @param before 이 일시 이전에 제출된 것만
+     * @param pendingResults 채점이 끝나지 않은 결과 목록
+     * @param activeStatuses 진행 중인 채점 작업 상태 목록
+     * @param pageable 조회 개수
+     * @return 제출 ID 목록
+     */
+    @Query("SELECT s.id FROM SubmissionEntity s " +
+            "WHERE s.createdAt < :before AND s.sourceBlobEntity IS NOT NULL AND s.result NOT IN :pendingResults " +
+            "AND NOT EXISTS (SELECT so.id FROM SolutionEntity so WHERE so.submission = s) " +
+            "AND NOT EXISTS (SELECT j.id FROM JudgeJobEntity j WHERE j.submissionEntity = s AND j.status IN :activeStatuses) " +
+            "ORDER BY s.id")
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before,
+                                 @Param("pendingResults") Collection<SubmissionResult> pendingResults,
+                                 @Param("activeStatuses") Collection<JudgeJobStatus> activeStatuses,
+                                 Pageable pageable);
+
+    /**
+     * 제출 일괄 삭제 (보관 테이블로 옮긴 뒤 호출).
+     *
+     * @param ids 제출 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SubmissionEntity s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,63 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관된 제출 집계 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface SubmissionRollupRepository extends JpaRepository<SubmissionRollupEntity, Long> {
+
+    /**
+     * 사용자의 문제별 집계 조회 (문제와 티어를 함께 읽음).
+     *
+     * @param userId 사용자 ID
+     * @return 집계 목록
+     */
+    @Query("SELECT r FROM SubmissionRollupEntity r JOIN FETCH r.problemEntity p LEFT JOIN FETCH p.tierEntity " +
+            "WHERE r.userEntity.id = :userId")
+    List<SubmissionRollupEntity> findByUserIdWithProblem(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 주어진 문제들에 대한 집계 조회 (문제와 티어를 함께 읽음).
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 집계 목록
+     */
+    @Query("SELECT r FROM SubmissionRollupEntity r JOIN FETCH r.problemEntity p LEFT JOIN FETCH p.tierEntity " +
+            "WHERE r.userEntity.id = :userId AND p.id IN :problemIds")
+    List<SubmissionRollupEntity> findByUserIdAndProblemIdsWithProblem(@Param("userId") Long userId,
+                                                                     @Param("problemIds") Collection<Long> problemIds);
+
+    /**
+     * 사용자-문제 집계 조회.
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 집계 Optional
+     */
+    Optional<SubmissionRollupEntity> findByUserEntity_IdAndProblemEntity_Id(Long userId, Long problemId);
+
+    /**
+     * 보관된 제출 중 사용자가 문제를 맞힌 적이 있는지 확인.
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 정답 제출이 보관되어 있으면 true
+     */
+    @Query("SELECT COUNT(r) > 0 FROM SubmissionRollupEntity r " +
+            "WHERE r.userEntity.id = :userId AND r.problemEntity.id = :problemId AND r.acceptedCount > 0")
+    boolean existsAccepted(@Param("userId") Long userId, @Param("problemId") Long problemId);
+}
@@ -0,0 +1,52 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.UserActivityYearEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 연도별 해결 기록 데이터 접근을 위한 리포지토리.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface UserActivityYearRepository extends JpaRepository<UserActivityYearEntity, Long> {
+
+    /**
+     * 사용자의 한 해 기록 조회.
+     *
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @return 기록 Optional
+     */
+    @Query("SELECT a FROM UserActivityYearEntity a WHERE a.userEntity.id = :userId AND a.year = :year")
+    Optional<UserActivityYearEntity> findByUserIdAndYear(@Param("userId") Long userId, @Param("year") int year);
+
+    /**
+     * 사용자의 한 해 기록을 비관적 잠금으로 조회 (같은 해의 해결 수가 동시에 바뀔 때 겹치지 않도록).
+     *
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @return 기록 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM UserActivityYearEntity a WHERE a.userEntity.id = :userId AND a.year = :year")
+    Optional<UserActivityYearEntity> findForUpdate(@Param("userId") Long userId, @Param("year") int year);
+
+    /**
+     * 사용자의 기록이 있는 연도 조회.
+     *
+     * @param userId 사용자 ID
+     * @return 연도 목록
+     */
+    @Query("SELECT a.year FROM UserActivityYearEntity a WHERE a.userEntity.id = :userId")
+    List<Integer> findYearsByUserId(@Param("userId") Long userId);
+}
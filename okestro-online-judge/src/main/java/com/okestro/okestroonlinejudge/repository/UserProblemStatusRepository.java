@@ -1,9 +1,17 @@
 package com.okestro.okestroonlinejudge.repository;
 
 import com.okestro.okestroonlinejudge.domain.UserProblemStatusEntity;
+import com.okestro.okestroonlinejudge.repository.projection.UserProblemStatusProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,6 +31,53 @@ public interface UserProblemStatusRepository extends JpaRepository<UserProblemSt
      * @return 상태 엔티티 Optional
      */
     Optional<UserProblemStatusEntity> findByUserEntity_IdAndProblemEntity_Id(Long userId, Long problemId);
-}
 
+    /**
+     * 사용자와 문제로 상태를 비관적 잠금으로 조회 (같은 문제의 채점 결과가 동시에 반영될 때 증감이 겹치지 않도록).
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 상태 엔티티 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserProblemStatusEntity s " +
+            "WHERE s.userEntity.id = :userId AND s.problemEntity.id = :problemId")
+    Optional<UserProblemStatusEntity> findForUpdate(@Param("userId") Long userId, @Param("problemId") Long problemId);
+
+    /**
+     * 사용자의 모든 문제 풀이 상태를 문제 ID와 상태만 조회 (풀이 상태 비트맵 구성용).
+     *
+     * @param userId 사용자 ID
+     * @return 문제 ID와 상태 목록
+     */
+    @Query("SELECT s.problemEntity.id AS problemId, s.status AS status " +
+            "FROM UserProblemStatusEntity s WHERE s.userEntity.id = :userId")
+    List<UserProblemStatusProjection> findStatusesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 모든 문제 풀이 상태 조회 (백필용).
+     *
+     * @param userId 사용자 ID
+     * @return 상태 목록
+     */
+    List<UserProblemStatusEntity> findByUserEntity_Id(Long userId);
 
+    /**
+     * 사용자가 시도한 문제를 마지막 시도 최신순으로 커서 위치 이후부터 문제, 티어와 함께 조회.
+     * (사용자, 마지막 시도 일시, 문제) 인덱스를 커서 위치부터 읽으므로 OFFSET 없이 다음 페이지를 읽는다.
+     *
+     * @param userId 사용자 ID
+     * @param cursorAt 커서의 마지막 시도 일시
+     * @param cursorProblemId 커서의 문제 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 상태 목록
+     */
+    @Query("SELECT s FROM UserProblemStatusEntity s JOIN FETCH s.problemEntity p LEFT JOIN FETCH p.tierEntity " +
+            "WHERE s.userEntity.id = :userId " +
+            "AND (s.lastAttemptedAt < :cursorAt OR (s.lastAttemptedAt = :cursorAt AND p.id < :cursorProblemId)) " +
+            "ORDER BY s.lastAttemptedAt DESC, p.id DESC")
+    List<UserProblemStatusEntity> findAttemptedBefore(@Param("userId") Long userId,
+                                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                                      @Param("cursorProblemId") Long cursorProblemId,
+                                                      Pageable pageable);
+}
@@ -1,7 +1,11 @@
 package com.okestro.okestroonlinejudge.repository;
 
 import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.repository.projection.OrganizationMemberTotalsProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -71,6 +75,24 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      * @return 사용자 수
      */
     long countByOrganizationEntityId(Long organizationId);
-}
 
+    /**
+     * 조직별로 직접 소속된 사용자 수와 통계 합계 조회 (하위 조직 제외).
+     */
+    @Query("SELECT u.organizationEntity.id as organizationId, COUNT(u) as userCount, " +
+            "COALESCE(SUM(s.solvedCount), 0) as solvedCount, COALESCE(SUM(s.rankingPoint), 0) as rankingPoint " +
+            "FROM UserEntity u LEFT JOIN UserStatisticsEntity s ON s.id = u.id " +
+            "WHERE u.organizationEntity IS NOT NULL " +
+            "GROUP BY u.organizationEntity.id")
+    List<OrganizationMemberTotalsProjection> findMemberTotalsByOrganization();
 
+    /**
+     * 커서 이후의 사용자 ID를 ID 순으로 조회 (keyset 페이징).
+     *
+     * @param afterId 이 ID 이후부터 조회
+     * @param pageable 조회 개수
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,73 @@
+package com.okestro.okestroonlinejudge.repository;
+
+import com.okestro.okestroonlinejudge.domain.ScoreBucketType;
+import com.okestro.okestroonlinejudge.domain.UserScoreBucketEntity;
+import com.okestro.okestroonlinejudge.repository.projection.UserRankingPointProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 기간별 점수 버킷 Repository.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Repository
+public interface UserScoreBucketRepository extends JpaRepository<UserScoreBucketEntity, Long> {
+
+    /**
+     * 버킷에 해결 수와 랭킹 포인트를 더한다. 읽고 쓰는 사이에 다른 변경을 덮어쓰지 않도록 UPDATE 문으로 더한다.
+     *
+     * @param userId 사용자 ID
+     * @param bucketType 버킷 단위
+     * @param bucketStart 버킷 시작일
+     * @param solvedCount 해결 수 증감
+     * @param rankingPoint 랭킹 포인트 증감
+     * @return 갱신된 행 수 (버킷이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserScoreBucketEntity b SET " +
+            "b.solvedCount = b.solvedCount + :solvedCount, " +
+            "b.rankingPoint = b.rankingPoint + :rankingPoint " +
+            "WHERE b.userEntity.id = :userId AND b.bucketType = :bucketType AND b.bucketStart = :bucketStart")
+    int addTo(@Param("userId") Long userId,
+              @Param("bucketType") ScoreBucketType bucketType,
+              @Param("bucketStart") LocalDate bucketStart,
+              @Param("solvedCount") long solvedCount,
+              @Param("rankingPoint") long rankingPoint);
+
+    /**
+     * 기간에 걸친 버킷을 사용자별로 더해 순위 순으로 조회한다 (전체 랭킹과 같은 정렬 기준).
+     *
+     * @param bucketType 버킷 단위
+     * @param from 첫 버킷 시작일 (포함)
+     * @param to 마지막 버킷 시작일 (포함)
+     * @return 기간 동안의 사용자별 해결 수와 랭킹 포인트
+     */
+    @Query("SELECT b.userEntity.id as userId, SUM(b.solvedCount) as solvedCount, SUM(b.rankingPoint) as rankingPoint " +
+            "FROM UserScoreBucketEntity b " +
+            "WHERE b.bucketType = :bucketType AND b.bucketStart BETWEEN :from AND :to " +
+            "GROUP BY b.userEntity.id " +
+            "HAVING SUM(b.rankingPoint) > 0 OR SUM(b.solvedCount) > 0 " +
+            "ORDER BY SUM(b.rankingPoint) DESC, SUM(b.solvedCount) DESC, b.userEntity.id ASC")
+    List<UserRankingPointProjection> sumByWindow(@Param("bucketType") ScoreBucketType bucketType,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    /**
+     * 어떤 기간 랭킹에도 더 이상 쓰이지 않는 오래된 버킷을 지운다.
+     *
+     * @param bucketType 버킷 단위
+     * @param before 이 날짜보다 앞서 시작한 버킷을 지움
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM UserScoreBucketEntity b WHERE b.bucketType = :bucketType AND b.bucketStart < :before")
+    int deleteExpired(@Param("bucketType") ScoreBucketType bucketType, @Param("before") LocalDate before);
+}
@@ -1,13 +1,20 @@
 package com.okestro.okestroonlinejudge.repository;
 
 import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
-import com.okestro.okestroonlinejudge.repository.projection.OrganizationRankingProjection;
-import org.springframework.data.domain.Page;
+import com.okestro.okestroonlinejudge.repository.projection.UserRankingPointProjection;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 사용자 통계 데이터 접근을 위한 리포지토리.
  *
@@ -17,24 +24,73 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserStatisticsRepository extends JpaRepository<UserStatisticsEntity, Long> {
 
-    @Query(value = "SELECT u FROM UserStatisticsEntity u " +
+    /**
+     * 랭킹에 드는 (점수나 해결 수가 있는) 전체 사용자를 순위 순으로 조회한다.
+     *
+     * @return 순위 순 사용자 통계
+     */
+    @Query("SELECT u FROM UserStatisticsEntity u " +
             "JOIN FETCH u.userEntity user " +
             "LEFT JOIN FETCH user.tierEntity " +
             "LEFT JOIN FETCH user.organizationEntity " +
             "WHERE u.rankingPoint > 0 OR u.solvedCount > 0 " +
-            "ORDER BY u.rankingPoint DESC, u.solvedCount DESC",
-            countQuery = "SELECT COUNT(u) FROM UserStatisticsEntity u " +
-            "WHERE u.rankingPoint > 0 OR u.solvedCount > 0")
-    Page<UserStatisticsEntity> findUserRankings(Pageable pageable);
-
-    @Query("SELECT o.id as organizationId, o.name as organizationName, " +
-            "SUM(s.solvedCount) as totalSolvedCount, " +
-            "SUM(s.rankingPoint) as totalRankingPoint, " +
-            "COUNT(u.id) as userCount " +
-            "FROM UserStatisticsEntity s " +
-            "JOIN s.userEntity u " +
-            "JOIN u.organizationEntity o " +
-            "GROUP BY o.id, o.name " +
-            "ORDER BY SUM(s.rankingPoint) DESC")
-    Page<OrganizationRankingProjection> findOrganizationRankings(Pageable pageable);
+            "ORDER BY u.rankingPoint DESC, u.solvedCount DESC, u.id ASC")
+    List<UserStatisticsEntity> findAllUserRankings();
+
+    @Query("SELECT u FROM UserStatisticsEntity u " +
+            "JOIN FETCH u.userEntity user " +
+            "LEFT JOIN FETCH user.tierEntity " +
+            "LEFT JOIN FETCH user.organizationEntity " +
+            "WHERE u.id IN :userIds")
+    List<UserStatisticsEntity> findAllWithUserByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 순위 색인 구성에 필요한 값만 전체 사용자에 대해 조회한다.
+     *
+     * @return 사용자별 해결 수와 랭킹 포인트
+     */
+    @Query("SELECT s.id as userId, s.solvedCount as solvedCount, s.rankingPoint as rankingPoint " +
+            "FROM UserStatisticsEntity s")
+    List<UserRankingPointProjection> findAllRankingPoints();
+
+    /**
+     * 제출 수, 정답 제출 수, 시도한 문제 수를 증감한다. 읽고 쓰는 사이에 다른 채점의 변경을 덮어쓰지 않도록 UPDATE 문으로 더한다.
+     * 상세 통계가 아직 계산되지 않은 행은 백필에서 한꺼번에 계산하므로 건드리지 않는다.
+     *
+     * @param userId 사용자 ID
+     * @param submissionCount 제출 수 증감
+     * @param acceptedSubmissionCount 정답 제출 수 증감
+     * @param attemptedProblemCount 시도한 문제 수 증감
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserStatisticsEntity s SET " +
+            "s.submissionCount = s.submissionCount + :submissionCount, " +
+            "s.acceptedSubmissionCount = s.acceptedSubmissionCount + :acceptedSubmissionCount, " +
+            "s.attemptedProblemCount = s.attemptedProblemCount + :attemptedProblemCount " +
+            "WHERE s.id = :userId AND s.submissionCount IS NOT NULL")
+    int addSubmissionCounts(@Param("userId") Long userId,
+                            @Param("submissionCount") long submissionCount,
+                            @Param("acceptedSubmissionCount") long acceptedSubmissionCount,
+                            @Param("attemptedProblemCount") long attemptedProblemCount);
+
+    /**
+     * 상세 통계가 아직 계산되지 않은 사용자 ID를 순서대로 조회 (백필용).
+     *
+     * @param afterId 이 ID 이후부터 조회
+     * @param pageable 조회 개수
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT s.id FROM UserStatisticsEntity s WHERE s.submissionCount IS NULL AND s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsWithoutDetailAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 사용자 통계를 비관적 잠금으로 조회 (백필 중 채점 경로의 증감이 끼어들지 않도록).
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 통계 Optional
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStatisticsEntity s WHERE s.id = :userId")
+    Optional<UserStatisticsEntity> findByIdForUpdate(@Param("userId") Long userId);
 }
@@ -0,0 +1,8 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AcceptedSubmissionProjection {
+    Long getProblemId();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+public interface OrganizationMemberTotalsProjection {
+    Long getOrganizationId();
+    Long getUserCount();
+    Long getSolvedCount();
+    Long getRankingPoint();
+}
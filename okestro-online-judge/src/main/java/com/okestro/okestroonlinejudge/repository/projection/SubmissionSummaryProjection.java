@@ -0,0 +1,21 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출 목록용 프로젝션 (소스 코드 제외, 문제 제목과 사용자명 포함).
+ */
+public interface SubmissionSummaryProjection {
+    Long getId();
+    Long getProblemId();
+    String getProblemTitle();
+    Long getUserId();
+    String getUsername();
+    String getLanguage();
+    SubmissionResult getResult();
+    Integer getExecTimeMs();
+    Integer getMemoryKb();
+    LocalDateTime getCreatedAt();
+}
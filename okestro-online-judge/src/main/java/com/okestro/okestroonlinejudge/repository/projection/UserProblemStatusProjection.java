@@ -0,0 +1,8 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
+
+public interface UserProblemStatusProjection {
+    Long getProblemId();
+    ProblemStatus getStatus();
+}
@@ -0,0 +1,11 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserProblemSubmissionTotalsProjection {
+    Long getProblemId();
+    String getTierGroup();
+    Long getSubmissionCount();
+    Long getAcceptedCount();
+    LocalDateTime getFirstAcceptedAt();
+}
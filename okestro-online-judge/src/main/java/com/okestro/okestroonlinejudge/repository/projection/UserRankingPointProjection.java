@@ -0,0 +1,7 @@
+package com.okestro.okestroonlinejudge.repository.projection;
+
+public interface UserRankingPointProjection {
+    Long getUserId();
+    Long getSolvedCount();
+    Long getRankingPoint();
+}
@@ -0,0 +1,83 @@
+package com.okestro.okestroonlinejudge.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 마지막으로 처리한 ID를 커서로 넘기며 기존 데이터를 묶음 단위로 채우는 백필의 진행 상태.
+ * 진행 위치는 메모리에만 두므로 서버가 재시작되면 처음부터 다시 훑으며, 각 단계는 이미 채운 데이터를 건너뛰어야 한다.
+ * 단계가 실패하면 연속 실패 횟수만큼 다음 시도를 두 배씩 미루고, {@link #MAX_FAILURES}번 연속 실패하면 멈춘다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+final class ChunkedBackfill {
+
+    static final int MAX_FAILURES = 10;
+
+    private static final long BASE_BACKOFF_MS = 1_000L;
+    private static final long MAX_BACKOFF_MS = 600_000L;
+
+    private final String name;
+    private final LongFunction<Long> step;
+    private final LongSupplier clock;
+
+    private long cursor = 0L;
+    private boolean done = false;
+    private int failures = 0;
+    private long retryAt = 0L;
+
+    /**
+     * @param name 로그에 남길 백필 이름
+     * @param step 커서 이후의 한 묶음을 처리하고 마지막으로 처리한 ID를 반환하는 함수 (더 없으면 null)
+     */
+    ChunkedBackfill(String name, LongFunction<Long> step) {
+        this(name, step, System::currentTimeMillis);
+    }
+
+    ChunkedBackfill(String name, LongFunction<Long> step, LongSupplier clock) {
+        this.name = name;
+        this.step = step;
+        this.clock = clock;
+    }
+
+    /**
+     * 다음 묶음을 처리한다. 끝났거나 실패 후 다시 시도할 때가 되지 않았으면 아무것도 하지 않는다.
+     */
+    void runChunk() {
+        if (done || clock.getAsLong() < retryAt) {
+            return;
+        }
+        try {
+            Long lastId = step.apply(cursor);
+            failures = 0;
+            if (lastId == null) {
+                done = true;
+                log.info("{} 완료: lastId={}", name, cursor);
+                return;
+            }
+            cursor = lastId;
+            log.debug("{} 진행: lastId={}", name, cursor);
+        } catch (Exception e) {
+            failures++;
+            if (failures >= MAX_FAILURES) {
+                done = true;
+                log.error("{} 중단: {}번 연속 실패, afterId={}", name, failures, cursor, e);
+                return;
+            }
+            long backoffMs = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << (failures - 1));
+            retryAt = clock.getAsLong() + backoffMs;
+            log.warn("{} 실패: afterId={}, {}ms 후 다시 시도", name, cursor, backoffMs, e);
+        }
+    }
+
+    /**
+     * 더 처리할 묶음이 없거나 연속 실패로 멈췄는지.
+     */
+    boolean isDone() {
+        return done;
+    }
+}
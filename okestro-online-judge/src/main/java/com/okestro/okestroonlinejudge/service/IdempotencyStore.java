@@ -0,0 +1,143 @@
+package com.okestro.okestroonlinejudge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key) 임시 저장소.
+ * 같은 키로 다시 들어온 요청은 작업을 다시 실행하지 않고, 처음 요청의 결과(진행 중이면 끝날 때까지 기다린 결과)를 받는다.
+ * 노드 메모리에 보관하므로 같은 키의 재시도가 다른 노드로 가면 중복을 막지 못한다. 프로덕션에서는 Redis 사용 권장.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    /**
+     * 키에 대한 작업을 한 번만 실행한다.
+     *
+     * @param key 범위(엔드포인트, 사용자)를 포함한 멱등 키
+     * @param fingerprint 요청 본문 지문 (같은 키로 다른 요청이 오면 거절)
+     * @param action 처음 요청일 때 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과와 재사용 여부
+     * @throws IllegalArgumentException 같은 키로 다른 내용의 요청이 온 경우
+     * @throws IllegalStateException 저장소가 가득 찼거나 처음 요청이 제한 시간 안에 끝나지 않은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(String key, String fingerprint, Supplier<T> action) {
+        Entry created = new Entry(fingerprint, new CompletableFuture<>(), LocalDateTime.now().plusSeconds(ttlSeconds));
+        Entry existing = store.compute(key, (k, current) -> current == null || current.isExpired() ? null : current);
+        if (existing == null) {
+            if (store.size() >= maxEntries) {
+                cleanExpired();
+                if (store.size() >= maxEntries) {
+                    throw new IllegalStateException("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            }
+            existing = store.putIfAbsent(key, created);
+        }
+
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            log.info("멱등 키 재사용: key={}", key);
+            return new Result<>((T) await(existing.result()), true);
+        }
+
+        try {
+            T value = action.get();
+            created.result().complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있게 지운다
+            store.remove(key, created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 키 정리.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void cleanExpired() {
+        int before = store.size();
+        store.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        int removed = before - store.size();
+        if (removed > 0) {
+            log.info("만료된 멱등 키 {} 건 삭제", removed);
+        }
+    }
+
+    /**
+     * 요청 본문 지문 계산.
+     *
+     * @param parts 요청을 구분하는 값들
+     * @return SHA-256 (16진수)
+     */
+    public static String fingerprint(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (Object part : parts) {
+            raw.append(part).append('\u0000');
+        }
+        return SourceBlobService.sha256(raw.toString());
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 Idempotency-Key의 이전 요청이 아직 처리 중입니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 멱등 처리 결과.
+     *
+     * @param value 작업 결과
+     * @param replayed 이전 요청의 결과를 재사용했으면 true
+     * @param <T> 결과 타입
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result, LocalDateTime expiresAt) {
+        boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+    }
+}
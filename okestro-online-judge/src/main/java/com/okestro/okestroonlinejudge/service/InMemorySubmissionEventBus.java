@@ -0,0 +1,44 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 이벤트 버스. 발행한 스레드에서 바로 로컬 리스너에게 전달한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.event-bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemorySubmissionEventBus implements SubmissionEventBus {
+
+    private final List<Consumer<SubmissionProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SubmissionProgressEvent event) {
+        deliver(listeners, event);
+    }
+
+    @Override
+    public void subscribe(Consumer<SubmissionProgressEvent> listener) {
+        listeners.add(listener);
+    }
+
+    static void deliver(List<Consumer<SubmissionProgressEvent>> listeners, SubmissionProgressEvent event) {
+        for (Consumer<SubmissionProgressEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("채점 진행 이벤트 처리 실패: submissionId={}", event.getSubmissionId(), e);
+            }
+        }
+    }
+}
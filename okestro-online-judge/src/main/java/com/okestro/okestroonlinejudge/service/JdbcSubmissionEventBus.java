@@ -0,0 +1,115 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okestro.okestroonlinejudge.domain.SubmissionEventEntity;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import com.okestro.okestroonlinejudge.repository.SubmissionEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 아웃박스 기반 이벤트 버스 (여러 노드용, 별도 메시지 브로커 없이 동작).
+ * 발행하면 {@code submission_event}에 한 행을 남기고, 모든 노드가 짧은 주기로 새 행을 읽어
+ * 자신의 로컬 리스너에게만 전달한다. 발행한 노드도 같은 경로로 받으므로 중복 전달이 없다.
+ * <p>
+ * ID 순서와 커밋 순서가 다를 수 있어 마지막 ID가 아니라 최근 {@code grace-ms} 구간을 다시 읽고,
+ * 이미 전달한 ID는 건너뛴다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.event-bus.type", havingValue = "jdbc")
+public class JdbcSubmissionEventBus implements SubmissionEventBus {
+
+    private final SubmissionEventRepository submissionEventRepository;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<SubmissionProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 전달한 이벤트 ID -> 기록 시각 (재조회 구간 밖으로 나가면 정리)
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    @Value("${notification.event-bus.grace-ms:5000}")
+    private long graceMs;
+
+    @Value("${notification.event-bus.retention-ms:600000}")
+    private long retentionMs;
+
+    public JdbcSubmissionEventBus(SubmissionEventRepository submissionEventRepository, ObjectMapper objectMapper) {
+        this.submissionEventRepository = submissionEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이벤트를 아웃박스에 기록한다.
+     * 커밋 이후 리스너에서 호출되어도 기록되도록 항상 새 트랜잭션을 사용한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void publish(SubmissionProgressEvent event) {
+        try {
+            submissionEventRepository.save(
+                    new SubmissionEventEntity(event.getSubmissionId(), objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채점 진행 이벤트 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SubmissionProgressEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 다른 노드(및 이 노드)가 기록한 새 이벤트를 읽어 로컬 리스너에게 전달한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.event-bus.poll-interval-ms:200}")
+    public synchronized void poll() {
+        LocalDateTime pollStartedAt = LocalDateTime.now();
+        LocalDateTime since = lastPolledAt.minusNanos(graceMs * 1_000_000);
+
+        List<SubmissionEventEntity> rows = submissionEventRepository.findByCreatedAtAfterOrderByIdAsc(since);
+        for (SubmissionEventEntity row : rows) {
+            if (delivered.putIfAbsent(row.getId(), row.getCreatedAt()) != null) {
+                continue;
+            }
+            try {
+                InMemorySubmissionEventBus.deliver(listeners,
+                        objectMapper.readValue(row.getPayload(), SubmissionProgressEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("채점 진행 이벤트 역직렬화 실패: id={}", row.getId(), e);
+            }
+        }
+
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(since));
+        lastPolledAt = pollStartedAt;
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트를 삭제한다. 여러 노드가 동시에 실행해도 무방하다.
+     */
+    @Scheduled(fixedDelayString = "${notification.event-bus.cleanup-interval-ms:60000}")
+    @Transactional
+    public void cleanup() {
+        int deleted = submissionEventRepository.deleteByCreatedAtBefore(
+                LocalDateTime.now().minusNanos(retentionMs * 1_000_000));
+        if (deleted > 0) {
+            log.debug("오래된 채점 진행 이벤트 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중단된 채점 작업 복구 서비스.
+ * 서버 시작 시 이 노드가 이전에 점유했던 작업을 반납해 곧바로 다시 처리되게 한다.
+ * 다른 노드가 점유한 작업은 점유가 만료되면 워커 폴링에서 자연스럽게 이어받는다.
+ * 오래 끝나지 않은 작업 수는 {@code judge.submissions.stuck}, 상태별 큐 길이는 {@code judge.queue.depth},
+ * 이 노드의 작업 슬롯 사용량은 {@code judge.worker.in.flight}/{@code judge.worker.capacity} 게이지로 노출한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JudgeJobRecoveryService {
+
+    private final JudgeJobService judgeJobService;
+    private final JudgeJobRunner judgeJobRunner;
+    private final AtomicLong stuckSubmissions = new AtomicLong();
+    private final AtomicLong queuedJobs = new AtomicLong();
+    private final AtomicLong runningJobs = new AtomicLong();
+
+    @Value("${judge.recovery.stuck-after:PT5M}")
+    private Duration stuckAfter;
+
+    public JudgeJobRecoveryService(JudgeJobService judgeJobService,
+                                   JudgeJobRunner judgeJobRunner,
+                                   MeterRegistry meterRegistry) {
+        this.judgeJobService = judgeJobService;
+        this.judgeJobRunner = judgeJobRunner;
+        Gauge.builder("judge.submissions.stuck", stuckSubmissions, AtomicLong::get)
+                .description("채점이 끝나지 않은 채 오래 방치된 제출 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.queue.depth", queuedJobs, AtomicLong::get)
+                .description("상태별 채점 작업 수 (전체 노드 공통)")
+                .tag("status", "queued")
+                .register(meterRegistry);
+        Gauge.builder("judge.queue.depth", runningJobs, AtomicLong::get)
+                .description("상태별 채점 작업 수 (전체 노드 공통)")
+                .tag("status", "running")
+                .register(meterRegistry);
+        Gauge.builder("judge.worker.in.flight", judgeJobRunner, JudgeJobRunner::getInFlightCount)
+                .description("이 노드에서 실행 중인 채점 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.worker.capacity", judgeJobRunner, JudgeJobRunner::getCapacity)
+                .description("이 노드가 동시에 점유할 수 있는 채점 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 시작 시 이 노드의 이전 점유를 반납하고 작업을 가져간다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        int released = judgeJobService.releaseLeases(judgeJobRunner.getNodeId());
+        if (released > 0) {
+            log.info("재시작 전 점유했던 채점 작업 {}건을 반납했습니다: nodeId={}", released, judgeJobRunner.getNodeId());
+        }
+        judgeJobRunner.poll();
+    }
+
+    /**
+     * 오래 끝나지 않은 작업 수 게이지를 갱신한다.
+     */
+    @Scheduled(fixedDelayString = "${judge.recovery.sweep-interval-ms:60000}",
+            initialDelayString = "${judge.recovery.sweep-interval-ms:60000}")
+    public void sweep() {
+        stuckSubmissions.set(judgeJobService.countStuck(LocalDateTime.now().minus(stuckAfter)));
+    }
+
+    /**
+     * 상태별 큐 길이 게이지를 갱신한다. 스크레이프마다 DB를 조회하지 않도록 주기적으로만 센다.
+     */
+    @Scheduled(fixedDelayString = "${judge.metrics.queue-depth-interval-ms:5000}")
+    public void refreshQueueDepth() {
+        queuedJobs.set(judgeJobService.countByStatus(JudgeJobStatus.QUEUED));
+        runningJobs.set(judgeJobService.countByStatus(JudgeJobStatus.RUNNING));
+    }
+}
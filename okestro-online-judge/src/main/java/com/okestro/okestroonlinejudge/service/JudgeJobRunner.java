@@ -0,0 +1,300 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
+import com.okestro.okestroonlinejudge.event.JudgeJobCreatedEvent;
+import com.okestro.okestroonlinejudge.repository.TestCaseRepository;
+import com.okestro.okestroonlinejudge.service.JudgeJobService.JudgeJobSnapshot;
+import com.okestro.okestroonlinejudge.service.SubmissionService.JudgeResultSummary;
+import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채점 작업 워커.
+ * DB의 채점 작업 큐에서 빈 슬롯만큼 작업을 점유(lease)해 테스트케이스를 실행하고 결과를 반영한다.
+ * 점유는 행 잠금(SKIP LOCKED)으로 이뤄지므로 여러 노드가 같은 DB를 바라보며 작업을 나눠 처리할 수 있고,
+ * 실행 중에는 주기적으로 점유를 연장해 노드가 죽으면 점유가 만료되어 다른 노드가 이어받는다.
+ * 발급된 Judge0 토큰은 즉시 저장되므로, 이어받은 작업도 같은 경로로 재개된다.
+ * 작업 하나의 실행은 {@code judge.submission} span을 루트로 하는 trace 하나로 추적한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JudgeJobRunner {
+
+    private final JudgeJobService judgeJobService;
+    private final SubmissionService submissionService;
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseExecutor testCaseExecutor;
+    private final SubmissionProgressPublisher progressPublisher;
+    private final TaskExecutor judgeJobExecutor;
+    private final TaskExecutor judgePollExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * 워커 노드 ID (점유 소유자)
+     */
+    @Getter
+    private final String nodeId;
+
+    /**
+     * 동시에 점유할 수 있는 최대 작업 수
+     */
+    @Getter
+    private final int capacity;
+
+    private final Duration leaseDuration;
+    private final boolean enabled;
+
+    // 이 노드에서 실행 중인 작업 ID
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public JudgeJobRunner(JudgeJobService judgeJobService,
+                          SubmissionService submissionService,
+                          TestCaseRepository testCaseRepository,
+                          TestCaseExecutor testCaseExecutor,
+                          SubmissionProgressPublisher progressPublisher,
+                          @Qualifier("judgeJobExecutor") TaskExecutor judgeJobExecutor,
+                          @Qualifier("judgePollExecutor") TaskExecutor judgePollExecutor,
+                          MeterRegistry meterRegistry,
+                          ObservationRegistry observationRegistry,
+                          @Value("${judge.worker.node-id:}") String nodeId,
+                          @Value("${judge.worker.threads:4}") int capacity,
+                          @Value("${judge.worker.lease-duration:PT60S}") Duration leaseDuration,
+                          @Value("${judge.worker.enabled:true}") boolean enabled) {
+        this.judgeJobService = judgeJobService;
+        this.submissionService = submissionService;
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseExecutor = testCaseExecutor;
+        this.progressPublisher = progressPublisher;
+        this.judgeJobExecutor = judgeJobExecutor;
+        this.judgePollExecutor = judgePollExecutor;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        this.capacity = capacity;
+        this.leaseDuration = leaseDuration;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 제출 트랜잭션이 커밋되면 다음 폴링을 기다리지 않고 바로 작업을 가져간다.
+     * 커밋 이후 단계의 요청 스레드에서 점유하면 이미 커밋된 트랜잭션에 참여해 점유가 저장되지 않고,
+     * 요청이 커넥션을 쥔 채 폴링을 기다리게 되므로 폴링 전용 스레드에 넘긴다.
+     *
+     * @param event 채점 작업 생성 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJudgeJobCreated(JudgeJobCreatedEvent event) {
+        judgePollExecutor.execute(() -> {
+            try {
+                poll();
+            } catch (Exception e) {
+                // 폴링 주기에 다시 시도된다
+                log.warn("채점 작업 즉시 점유 실패: judgeJobId={}", event.judgeJobId(), e);
+            }
+        });
+    }
+
+    /**
+     * 빈 슬롯만큼 작업을 점유해 스레드 풀에 넘긴다.
+     *
+     * @return 점유한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${judge.worker.poll-interval-ms:1000}")
+    public synchronized int poll() {
+        if (!enabled) {
+            return 0;
+        }
+        int free = capacity - inFlight.size();
+        if (free <= 0) {
+            return 0;
+        }
+
+        List<JudgeJobSnapshot> jobs = judgeJobService.claim(nodeId, free, leaseDuration);
+        for (JudgeJobSnapshot job : jobs) {
+            inFlight.add(job.judgeJobId());
+            try {
+                judgeJobExecutor.execute(() -> {
+                    try {
+                        run(job);
+                    } finally {
+                        inFlight.remove(job.judgeJobId());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(job.judgeJobId());
+                log.warn("채점 스레드 풀이 가득 차 작업을 반납합니다: judgeJobId={}", job.judgeJobId());
+                judgeJobService.requeue(job.judgeJobId(), nodeId, "채점 스레드 풀 포화");
+            }
+        }
+        return jobs.size();
+    }
+
+    /**
+     * 실행 중인 작업의 점유를 연장한다.
+     */
+    @Scheduled(fixedDelayString = "${judge.worker.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        int extended = judgeJobService.heartbeat(nodeId, Set.copyOf(inFlight), leaseDuration);
+        if (extended < inFlight.size()) {
+            log.warn("점유를 연장하지 못한 채점 작업이 있습니다: owner={}, 실행 중={}, 연장={}",
+                    nodeId, inFlight.size(), extended);
+        }
+    }
+
+    /**
+     * 이 노드에서 실행 중인 작업 수.
+     *
+     * @return 실행 중인 작업 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 점유한 채점 작업을 실행한다.
+     *
+     * @param job 채점 작업 스냅샷
+     */
+    void run(JudgeJobSnapshot job) {
+        // 폴링 스케줄러의 trace와 섞이지 않도록 항상 새 trace로 시작한다
+        Observation observation = Observation.createNotStarted("judge.submission", observationRegistry)
+                .parentObservation(null)
+                .lowCardinalityKeyValue("language", job.language())
+                .lowCardinalityKeyValue("type", job.rejudge() ? "rejudge" : "submission")
+                .highCardinalityKeyValue("submission.id", String.valueOf(job.submissionId()))
+                .highCardinalityKeyValue("problem.id", String.valueOf(job.problemId()))
+                .highCardinalityKeyValue("judge.job.id", String.valueOf(job.judgeJobId()));
+        observation.observe(() -> execute(job, observation));
+    }
+
+    private void execute(JudgeJobSnapshot job, Observation observation) {
+        Long judgeJobId = job.judgeJobId();
+        // 재채점은 구독자가 없으므로 진행 이벤트를 보내지 않는다
+        boolean notify = !job.rejudge();
+        boolean published = false;
+        try {
+            List<TestCaseEntity> testCases = observe("judge.testcases.load",
+                    () -> testCaseRepository.findByProblemEntity_Id(job.problemId()));
+            if (notify) {
+                progressPublisher.started(job.submissionId(), testCases.size());
+            }
+
+            JudgeResultSummary summary;
+            if (testCases.isEmpty()) {
+                log.warn("문제 {}에 테스트케이스가 없습니다.", job.problemId());
+                summary = JudgeResultSummary.noTestCase();
+            } else {
+                List<TestCaseResult> results = testCaseExecutor.executeTestCases(
+                        job.sourceCode(), job.language(), testCases, tokenTracker(job, notify));
+                summary = JudgeResultSummary.of(testCases.size(), results);
+            }
+
+            // 결과 저장과 사용자 통계 갱신
+            if (observe("judge.complete", () -> submissionService.completeJudge(judgeJobId, nodeId, summary))) {
+                countVerdict(job, summary);
+                if (notify) {
+                    progressPublisher.finished(job.submissionId(), job.problemId(), job.language(), summary);
+                    published = true;
+                }
+            }
+        } catch (Exception e) {
+            observation.error(e);
+            log.error("채점 작업 실행 중 오류 발생: judgeJobId={}", judgeJobId, e);
+            try {
+                judgeJobService.requeue(judgeJobId, nodeId, e.getMessage());
+            } catch (Exception requeueError) {
+                // 반납하지 못해도 점유가 만료되면 다시 처리된다
+                log.error("채점 작업 반납 실패: judgeJobId={}", judgeJobId, requeueError);
+            }
+        } finally {
+            if (notify && !published) {
+                progressPublisher.abandoned(job.submissionId());
+            }
+        }
+    }
+
+    private <T> T observe(String name, Supplier<T> action) {
+        return Observation.createNotStarted(name, observationRegistry).observe(action);
+    }
+
+    private void countVerdict(JudgeJobSnapshot job, JudgeResultSummary summary) {
+        Counter.builder("judge.verdicts")
+                .description("채점 완료 결과 수")
+                .tag("result", summary.getFinalResult().name())
+                .tag("language", job.language())
+                .tag("problem", String.valueOf(job.problemId()))
+                .tag("type", job.rejudge() ? "rejudge" : "submission")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private TestCaseExecutor.TokenTracker tokenTracker(JudgeJobSnapshot job, boolean notify) {
+        // 반납한 뒤에는 다른 노드가 작업을 이어받을 수 있으므로 늦게 도착한 콜백은 버린다
+        AtomicBoolean abandoned = new AtomicBoolean();
+        return new TestCaseExecutor.TokenTracker() {
+            @Override
+            public String findToken(Long testCaseId) {
+                return job.tokens().get(testCaseId);
+            }
+
+            @Override
+            public void onTokenIssued(Long testCaseId, int testCaseNumber, String token) {
+                if (!abandoned.get()) {
+                    judgeJobService.recordToken(job.judgeJobId(), testCaseId, testCaseNumber, token);
+                }
+            }
+
+            @Override
+            public void onTestCaseFinished(TestCaseResult result) {
+                if (notify && !abandoned.get()) {
+                    progressPublisher.testCaseFinished(job.submissionId(), result);
+                }
+            }
+
+            @Override
+            public void onAbandoned() {
+                abandoned.set(true);
+            }
+        };
+    }
+
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "judge-" + ProcessHandle.current().pid();
+        }
+    }
+}
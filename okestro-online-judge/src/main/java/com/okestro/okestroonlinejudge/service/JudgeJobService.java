@@ -0,0 +1,286 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.JudgeJobTokenEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.event.JudgeJobFailedEvent;
+import com.okestro.okestroonlinejudge.repository.JudgeJobRepository;
+import com.okestro.okestroonlinejudge.repository.JudgeJobTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채점 작업의 영속 상태 전이를 담당하는 서비스.
+ * 각 메서드는 짧은 트랜잭션으로 커밋되어, 채점 도중 서버가 종료되어도 진행 상황이 DB에 남는다.
+ * 작업은 점유(lease) 방식으로 여러 노드에 분배되며, 점유가 만료된 작업은 다른 노드가 이어받는다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JudgeJobService {
+
+    private static final Set<JudgeJobStatus> UNFINISHED_STATUSES = EnumSet.of(JudgeJobStatus.QUEUED, JudgeJobStatus.RUNNING);
+
+    private final JudgeJobRepository judgeJobRepository;
+    private final JudgeJobTokenRepository judgeJobTokenRepository;
+    private final SourceBlobService sourceBlobService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${judge.recovery.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${judge.recovery.retry-backoff:PT5S}")
+    private Duration retryBackoff;
+
+    @Value("${judge.recovery.max-retry-backoff:PT5M}")
+    private Duration maxRetryBackoff;
+
+    /**
+     * 제출에 대한 채점 작업을 생성한다. 호출한 쪽의 트랜잭션에 참여한다.
+     *
+     * @param submission 채점 대상 제출
+     * @return 생성된 채점 작업
+     */
+    @Transactional
+    public JudgeJobEntity createJob(SubmissionEntity submission) {
+        JudgeJobEntity job = judgeJobRepository.save(new JudgeJobEntity(submission));
+        log.info("채점 작업 생성: judgeJobId={}, submissionId={}", job.getId(), submission.getId());
+        return job;
+    }
+
+    /**
+     * 재채점용 채점 작업을 낮은 우선순위로 생성한다. 호출한 쪽의 트랜잭션에 참여한다.
+     *
+     * @param submission 채점 대상 제출
+     * @param rejudgeJobId 재채점 작업 ID
+     * @return 생성된 채점 작업
+     */
+    @Transactional
+    public JudgeJobEntity createRejudgeJob(SubmissionEntity submission, Long rejudgeJobId) {
+        return judgeJobRepository.save(new JudgeJobEntity(submission, rejudgeJobId));
+    }
+
+    /**
+     * 대기 중이거나 점유가 만료된 작업을 최대 {@code limit}건 점유하고 채점에 필요한 정보를 반환한다.
+     * 행 잠금(SKIP LOCKED) 안에서 점유하므로 여러 노드가 동시에 호출해도 같은 작업을 나눠 갖지 않는다.
+     * 재시도 횟수를 초과한 작업은 실패 처리하고 결과에서 제외한다. 제출 결과를 런타임 에러로 바꾼 경우에는
+     * 커밋 이후 최종 결과 이벤트가 나가도록 {@link JudgeJobFailedEvent}를 발행한다.
+     *
+     * @param owner 워커 노드 ID
+     * @param limit 최대 점유 수
+     * @param leaseDuration 점유 기간
+     * @return 점유한 채점 작업 스냅샷 목록
+     */
+    @Transactional
+    public List<JudgeJobSnapshot> claim(String owner, int limit, Duration leaseDuration) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = judgeJobRepository.findClaimableIdsForUpdate(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<JudgeJobSnapshot> claimed = new ArrayList<>();
+        for (JudgeJobEntity job : judgeJobRepository.findAllById(ids)) {
+            // 잠금을 얻는 사이 다른 노드가 먼저 점유하고 커밋했을 수 있으므로 잠근 뒤의 상태로 다시 확인한다
+            if (!job.isClaimable(now)) {
+                continue;
+            }
+            SubmissionEntity submission = job.getSubmissionEntity();
+            if (job.getAttemptCount() >= maxAttempts) {
+                log.warn("채점 재시도 횟수 초과: judgeJobId={}, attempts={}", job.getId(), job.getAttemptCount());
+                job.fail("재시도 횟수 초과: " + job.getLastError());
+                if (!submission.getResult().isFinal()) {
+                    submission.updateResult(SubmissionResult.RUNTIME_ERROR, null, null);
+                    eventPublisher.publishEvent(new JudgeJobFailedEvent(job.getId(), submission.getId(),
+                            submission.getProblemEntity().getId(), submission.getLanguage(), submission.getResult()));
+                }
+                continue;
+            }
+
+            if (job.getAttemptCount() == 0) {
+                // 첫 점유까지 큐에서 기다린 시간 (재시도 대기는 제외)
+                Timer.builder("judge.queue.wait")
+                        .description("채점 작업이 생성된 뒤 처음 점유될 때까지 기다린 시간")
+                        .tag("type", job.isRejudge() ? "rejudge" : "submission")
+                        .register(meterRegistry)
+                        .record(Duration.between(job.getCreatedAt(), now));
+            }
+            job.lease(owner, now.plus(leaseDuration));
+
+            Map<Long, String> tokens = judgeJobTokenRepository.findByJudgeJobEntity_Id(job.getId()).stream()
+                    .collect(Collectors.toMap(JudgeJobTokenEntity::getTestCaseId, JudgeJobTokenEntity::getToken));
+
+            log.info("채점 작업 점유: judgeJobId={}, submissionId={}, owner={}, attempt={}, 보유 토큰 수={}",
+                    job.getId(), submission.getId(), owner, job.getAttemptCount(), tokens.size());
+
+            claimed.add(new JudgeJobSnapshot(
+                    job.getId(),
+                    submission.getId(),
+                    submission.getProblemEntity().getId(),
+                    submission.getLanguage(),
+                    sourceBlobService.load(submission),
+                    job.isRejudge(),
+                    tokens
+            ));
+        }
+        return claimed;
+    }
+
+    /**
+     * 노드가 실행 중인 작업의 점유 기간을 연장한다.
+     *
+     * @param owner 워커 노드 ID
+     * @param judgeJobIds 실행 중인 작업 ID 목록
+     * @param leaseDuration 점유 기간
+     * @return 연장된 작업 수
+     */
+    @Transactional
+    public int heartbeat(String owner, Collection<Long> judgeJobIds, Duration leaseDuration) {
+        if (judgeJobIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return judgeJobRepository.extendLeases(owner, judgeJobIds, now, now.plus(leaseDuration));
+    }
+
+    /**
+     * 노드가 이전에 점유했던 작업을 모두 반납한다 (재시작 직후 호출).
+     * 반납된 작업은 만료된 점유로 취급되어 곧바로 다시 점유할 수 있다.
+     *
+     * @param owner 워커 노드 ID
+     * @return 반납된 작업 수
+     */
+    @Transactional
+    public int releaseLeases(String owner) {
+        return judgeJobRepository.expireLeases(owner, LocalDateTime.now());
+    }
+
+    /**
+     * 테스트케이스에 대해 발급받은 Judge0 토큰을 저장한다.
+     *
+     * @param judgeJobId 채점 작업 ID
+     * @param testCaseId 테스트케이스 ID
+     * @param testCaseNumber 테스트케이스 번호
+     * @param token Judge0 토큰
+     */
+    @Transactional
+    public void recordToken(Long judgeJobId, Long testCaseId, int testCaseNumber, String token) {
+        judgeJobTokenRepository.findByJudgeJobEntity_IdAndTestCaseId(judgeJobId, testCaseId)
+                .ifPresentOrElse(
+                        existing -> existing.updateToken(token),
+                        () -> judgeJobTokenRepository.save(new JudgeJobTokenEntity(
+                                judgeJobRepository.getReferenceById(judgeJobId), testCaseId, testCaseNumber, token))
+                );
+    }
+
+    /**
+     * 채점 도중 오류가 난 작업을 재시도 대기 상태로 되돌린다.
+     * 그 사이 다른 노드가 점유를 가져간 작업은 건드리지 않는다.
+     * Judge0나 저장소가 내려간 동안 곧바로 다시 점유해 재시도 횟수를 써버리지 않도록,
+     * 시도 횟수에 따라 두 배씩 늘어나는 대기 시간이 지나야 다시 점유할 수 있다.
+     *
+     * @param judgeJobId 채점 작업 ID
+     * @param owner 워커 노드 ID
+     * @param error 오류 메시지
+     */
+    @Transactional
+    public void requeue(Long judgeJobId, String owner, String error) {
+        judgeJobRepository.findByIdForUpdate(judgeJobId)
+                .filter(job -> job.isLeasedBy(owner))
+                .ifPresent(job -> job.requeue(error, LocalDateTime.now().plus(retryDelay(job.getAttemptCount()))));
+    }
+
+    private Duration retryDelay(int attempts) {
+        // 첫 시도 뒤에는 기본 대기 시간, 이후 시도마다 두 배 (오버플로 전에 상한에서 멈춘다)
+        Duration delay = retryBackoff;
+        for (int i = 1; i < attempts && delay.compareTo(maxRetryBackoff) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(maxRetryBackoff) < 0 ? delay : maxRetryBackoff;
+    }
+
+    /**
+     * 재채점 작업에 속한 작업 중 아직 끝나지 않은 작업 수 조회.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @return 작업 수
+     */
+    public long countUnfinishedForRejudge(Long rejudgeJobId) {
+        return judgeJobRepository.countByRejudgeJobIdAndStatusIn(rejudgeJobId, UNFINISHED_STATUSES);
+    }
+
+    /**
+     * 주어진 제출 중 아직 끝나지 않은 채점 작업이 있는 제출 ID 조회.
+     *
+     * @param submissionIds 제출 ID 목록
+     * @return 채점 중인 제출 ID 집합
+     */
+    public Set<Long> findBusySubmissionIds(Collection<Long> submissionIds) {
+        if (submissionIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(judgeJobRepository.findSubmissionIdsWithStatusIn(submissionIds, UNFINISHED_STATUSES));
+    }
+
+    /**
+     * 상태별 작업 수 조회.
+     *
+     * @param status 작업 상태
+     * @return 작업 수
+     */
+    public long countByStatus(JudgeJobStatus status) {
+        return judgeJobRepository.countByStatus(status);
+    }
+
+    /**
+     * 기준 시각 이전에 생성되었지만 아직 끝나지 않은 작업 수 조회.
+     *
+     * @param createdBefore 기준 일시
+     * @return 작업 수
+     */
+    public long countStuck(LocalDateTime createdBefore) {
+        return judgeJobRepository.countByStatusInAndCreatedAtBefore(UNFINISHED_STATUSES, createdBefore);
+    }
+
+    /**
+     * 채점에 필요한 작업 정보 스냅샷.
+     *
+     * @param judgeJobId 채점 작업 ID
+     * @param submissionId 제출 ID
+     * @param problemId 문제 ID
+     * @param language 언어
+     * @param sourceCode 소스 코드
+     * @param rejudge 재채점 작업 여부
+     * @param tokens 이미 발급된 테스트케이스별 Judge0 토큰 (testCaseId -> token)
+     */
+    public record JudgeJobSnapshot(Long judgeJobId, Long submissionId, Long problemId,
+                                   String language, String sourceCode, boolean rejudge,
+                                   Map<Long, String> tokens) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.RankingWindow;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.event.UserStatisticsChangedEvent;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 랭킹 전체를 메모리에 불변 스냅샷으로 유지하는 서비스.
+ * 페이지 조회는 DB를 거치지 않고 스냅샷을 잘라서 응답하며,
+ * 스냅샷 내용에서 계산한 버전으로 ETag를 만들어 내용이 그대로면 조건부 요청에 304를 돌려줄 수 있게 한다.
+ * 통계 변경 이벤트가 오면 다음 갱신 주기에 다시 만들고,
+ * 변경이 없어도 최대 지연 시간이 지나면 다시 만든다 (다른 노드의 변경, 프로필 변경, 기간 경계 반영).
+ * 전체 기간 스냅샷은 항상 유지하고, 기간 랭킹 스냅샷은 처음 조회될 때 만든 뒤 같은 방식으로 갱신한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class LeaderboardSnapshotService {
+
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final UserScoreBucketService userScoreBucketService;
+    private final Duration maxStaleness;
+    private final Duration cacheMaxAge;
+
+    private final Set<RankingWindow> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<RankingWindow, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public LeaderboardSnapshotService(UserStatisticsRepository userStatisticsRepository,
+                                      UserScoreBucketService userScoreBucketService,
+                                      @Value("${ranking.snapshot.max-staleness:PT60S}") Duration maxStaleness,
+                                      @Value("${ranking.snapshot.cache-max-age:PT5S}") Duration cacheMaxAge) {
+        this.userStatisticsRepository = userStatisticsRepository;
+        this.userScoreBucketService = userScoreBucketService;
+        this.maxStaleness = maxStaleness;
+        this.cacheMaxAge = cacheMaxAge;
+    }
+
+    /**
+     * 현재 전체 기간 스냅샷을 반환한다. 아직 만들어지지 않았으면 지금 만든다.
+     *
+     * @return 랭킹 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public Snapshot getSnapshot() {
+        return getSnapshot(RankingWindow.ALL_TIME);
+    }
+
+    /**
+     * 기간 랭킹의 현재 스냅샷을 반환한다. 아직 만들어지지 않았으면 지금 만든다.
+     *
+     * @param window 집계 기간
+     * @return 랭킹 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public Snapshot getSnapshot(RankingWindow window) {
+        Snapshot current = snapshots.get(window);
+        return current != null ? current : refresh(window);
+    }
+
+    /**
+     * 클라이언트와 프록시가 랭킹 응답을 재사용해도 되는 시간.
+     *
+     * @return 캐시 최대 유지 시간
+     */
+    public Duration getCacheMaxAge() {
+        return cacheMaxAge;
+    }
+
+    /**
+     * 커밋된 통계 변경이 있으면 다음 갱신 주기에 스냅샷을 다시 만든다.
+     *
+     * @param event 사용자 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserStatisticsChanged(UserStatisticsChangedEvent event) {
+        dirty.addAll(EnumSet.allOf(RankingWindow.class));
+    }
+
+    /**
+     * 변경이 있었거나 스냅샷이 최대 지연 시간보다 오래되었으면 다시 만든다.
+     * 기간 랭킹은 한 번이라도 조회되어 스냅샷이 있는 것만 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${ranking.snapshot.refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void refreshIfStale() {
+        for (RankingWindow window : RankingWindow.values()) {
+            Snapshot current = snapshots.get(window);
+            boolean stale = current != null && (dirty.contains(window)
+                    || System.currentTimeMillis() - current.builtAt() >= maxStaleness.toMillis());
+            if (stale || (current == null && window == RankingWindow.ALL_TIME)) {
+                refresh(window);
+            }
+        }
+    }
+
+    /**
+     * 전체 기간 랭킹을 읽어 스냅샷을 다시 만든다.
+     *
+     * @return 새 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public Snapshot refresh() {
+        return refresh(RankingWindow.ALL_TIME);
+    }
+
+    /**
+     * 기간 랭킹을 읽어 스냅샷을 다시 만든다.
+     *
+     * @param window 집계 기간
+     * @return 새 스냅샷
+     */
+    @Transactional(readOnly = true)
+    public synchronized Snapshot refresh(RankingWindow window) {
+        // 조회 중에 들어온 변경은 다음 주기에 다시 반영되도록 조회 전에 표시를 지운다
+        dirty.remove(window);
+        List<UserRankingResponse> entries = window == RankingWindow.ALL_TIME
+                ? loadAllTimeRankings()
+                : userScoreBucketService.getRankings(window, LocalDate.now());
+
+        long version = 1;
+        for (UserRankingResponse entry : entries) {
+            version = 31 * version + Objects.hash(entry.getUserId(), entry.getUsername(), entry.getTierName(),
+                    entry.getSolvedCount(), entry.getRankingPoint(), entry.getOrganizationName(),
+                    entry.getProfileImage());
+        }
+
+        Snapshot rebuilt = new Snapshot(List.copyOf(entries), Long.toHexString(version), System.currentTimeMillis());
+        snapshots.put(window, rebuilt);
+        log.debug("랭킹 스냅샷 갱신: window={}, {}명, version={}", window, entries.size(), rebuilt.version());
+        return rebuilt;
+    }
+
+    private List<UserRankingResponse> loadAllTimeRankings() {
+        List<UserStatisticsEntity> rankings = userStatisticsRepository.findAllUserRankings();
+        List<UserRankingResponse> entries = new ArrayList<>(rankings.size());
+        for (UserStatisticsEntity stats : rankings) {
+            entries.add(UserRankingResponse.from(stats, entries.size() + 1));
+        }
+        return entries;
+    }
+
+    /**
+     * 특정 시점의 전체 사용자 랭킹.
+     *
+     * @param entries 순위 순으로 정렬된 랭킹 (불변)
+     * @param version 랭킹 내용에서 계산한 버전
+     * @param builtAt 만든 시각 (epoch millis)
+     */
+    public record Snapshot(List<UserRankingResponse> entries, String version, long builtAt) {
+
+        /**
+         * 스냅샷에서 한 페이지를 잘라 반환한다.
+         *
+         * @param pageable 페이징 정보
+         * @return 랭킹 페이지
+         */
+        public Page<UserRankingResponse> page(Pageable pageable) {
+            int from = (int) Math.min(pageable.getOffset(), entries.size());
+            int to = Math.min(from + pageable.getPageSize(), entries.size());
+            return new PageImpl<>(entries.subList(from, to), pageable, entries.size());
+        }
+
+        /**
+         * 페이지 응답의 강한 ETag. 랭킹 내용이 같으면 스냅샷을 다시 만들어도 바뀌지 않는다.
+         *
+         * @param pageable 페이징 정보
+         * @return ETag 값 (따옴표 포함)
+         */
+        public String etag(Pageable pageable) {
+            return "\"" + version + "-" + pageable.getPageNumber() + "-" + pageable.getPageSize() + "\"";
+        }
+    }
+}
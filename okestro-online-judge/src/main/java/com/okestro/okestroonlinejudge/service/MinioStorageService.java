@@ -1,5 +1,8 @@
 package com.okestro.okestroonlinejudge.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.minio.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,9 +12,11 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MinIO를 이용한 파일 저장소 서비스 구현체.
+ * 문자열 읽기(테스트케이스 입출력)의 지연 시간과 크기를 {@code storage.read}, {@code storage.read.bytes}로 노출한다.
  *
  * @author Assistant
  * @since 1.0
@@ -22,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 public class MinioStorageService implements StorageService {
 
     private final MinioClient minioClient;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public String upload(MultipartFile file, String bucketName) {
@@ -83,14 +89,33 @@ public class MinioStorageService implements StorageService {
 
     @Override
     public String readString(String fileName, String bucketName) {
+        long startedAt = System.nanoTime();
         try (InputStream stream = download(fileName, bucketName)) {
-            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            byte[] content = stream.readAllBytes();
+            recordRead(bucketName, "success", startedAt);
+            DistributionSummary.builder("storage.read.bytes")
+                    .description("저장소에서 읽은 파일 크기")
+                    .baseUnit("bytes")
+                    .tag("bucket", bucketName)
+                    .register(meterRegistry)
+                    .record(content.length);
+            return new String(content, StandardCharsets.UTF_8);
         } catch (Exception e) {
+            recordRead(bucketName, "error", startedAt);
             log.error("MinIO read string failed", e);
             throw new RuntimeException("Read string failed", e);
         }
     }
 
+    private void recordRead(String bucketName, String outcome, long startedAtNanos) {
+        Timer.builder("storage.read")
+                .description("저장소 파일 읽기 지연 시간")
+                .tag("bucket", bucketName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
     private void ensureBucketExists(String bucketName) {
         try {
             boolean found = minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucketName).build());
@@ -1,28 +1,79 @@
 package com.okestro.okestroonlinejudge.service;
 
-import lombok.RequiredArgsConstructor;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**
  * SSE(Server-Sent Events) 알림 서비스.
  * 실시간 채점 상태 전송을 담당합니다.
+ * <p>
+ * 토픽(예: {@code submission:42})마다 여러 구독자를 둘 수 있고, 전송은 호출한 스레드가 아니라
+ * 전용 디스패처 스레드 풀에서 연결별로 한 번에 하나씩 진행한다.
+ * 연결마다 크기가 제한된 버퍼를 두고, 버퍼가 넘치는 느린 연결은 끊는다 (클라이언트는 Last-Event-ID로 재접속).
+ * 토픽별로 최근 이벤트를 링 버퍼에 보관해 재접속하거나 늦게 구독한 클라이언트에게 다시 보낸다.
+ * 채점 진행 이벤트는 {@link SubmissionEventBus}에서 받으므로 채점한 노드와 구독한 노드가 달라도 전달된다.
  *
  * @author Assistant
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
-    // submissionId -> SseEmitter
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final String SUBMISSION_TOPIC_PREFIX = "submission:";
+
+    private final Executor sseDispatcher;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    @Value("${notification.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notification.sse.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${notification.sse.max-connections-per-topic:100}")
+    private int maxConnectionsPerTopic;
+
+    @Value("${notification.sse.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${notification.sse.replay-size:32}")
+    private int replaySize;
+
+    @Value("${notification.sse.replay-retention-ms:120000}")
+    private long replayRetentionMs;
+
+    public NotificationService(@Qualifier("sseDispatcher") Executor sseDispatcher,
+                               SubmissionEventBus submissionEventBus) {
+        this.sseDispatcher = sseDispatcher;
+        // 이벤트 버스를 거쳐 이 노드에 도착한 채점 진행 이벤트를 로컬 구독자에게 보낸다
+        submissionEventBus.subscribe(this::sendProgress);
+    }
 
     /**
      * 클라이언트가 특정 제출(submissionId)에 대한 알림을 구독합니다.
@@ -31,36 +82,66 @@ public class NotificationService {
      * @return SseEmitter
      */
     public SseEmitter subscribe(Long submissionId) {
-        // 타임아웃 5분 (채점이 길어질 수 있음)
-        SseEmitter emitter = new SseEmitter(5 * 60 * 1000L);
-        emitters.put(submissionId, emitter);
+        return subscribe(submissionId, null);
+    }
 
-        log.info("Subscribed to submission: {}", submissionId);
+    /**
+     * 클라이언트가 특정 제출(submissionId)에 대한 알림을 구독합니다.
+     *
+     * @param submissionId 제출 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재접속 시, 없으면 null)
+     * @return SseEmitter
+     * @throws IllegalStateException 연결 수 제한을 넘은 경우
+     */
+    public SseEmitter subscribe(Long submissionId, String lastEventId) {
+        return subscribe(submissionTopic(submissionId), lastEventId);
+    }
 
-        // 연결 완료/타임아웃/에러 시 제거
-        emitter.onCompletion(() -> {
-            log.info("SSE Completed for submission: {}", submissionId);
-            emitters.remove(submissionId);
-        });
-        emitter.onTimeout(() -> {
-            log.info("SSE Timeout for submission: {}", submissionId);
-            emitters.remove(submissionId);
-        });
-        emitter.onError((e) -> {
-            log.error("SSE Error for submission: {}", submissionId, e);
-            emitters.remove(submissionId);
-        });
+    /**
+     * 토픽을 구독한다. 링 버퍼에 남아 있는 이벤트 중 lastEventId 이후의 것을 먼저 보내고,
+     * 토픽이 이미 끝났다면 다시 보낸 뒤 연결을 종료한다.
+     *
+     * @param topicKey 토픽 키
+     * @param lastEventId 마지막으로 받은 이벤트 ID (없으면 null)
+     * @return SseEmitter
+     * @throws IllegalStateException 연결 수 제한을 넘은 경우
+     */
+    public SseEmitter subscribe(String topicKey, String lastEventId) {
+        return subscribe(topicKey, lastEventId, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 토픽에서 조건에 맞는 이벤트만 받도록 구독한다. 조건은 연결마다 서버에서 적용한다.
+     * 다시 보내는 이벤트도 조건에 맞는 것 중 최근 maxReplay개로 제한한다.
+     *
+     * @param topicKey 토픽 키
+     * @param lastEventId 마지막으로 받은 이벤트 ID (없으면 null)
+     * @param filter 이벤트 데이터 조건 (null이면 모두)
+     * @param maxReplay 다시 보낼 최대 이벤트 수
+     * @return SseEmitter
+     * @throws IllegalStateException 연결 수 제한을 넘은 경우
+     */
+    public SseEmitter subscribe(String topicKey, String lastEventId, Predicate<Object> filter, int maxReplay) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new IllegalStateException("SSE 연결 수가 한도를 넘었습니다.");
+        }
 
-        // 초기 연결 확인 메시지 전송
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Connection connection = new Connection(emitter, filter);
         try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("Connected to submission " + submissionId));
-        } catch (IOException e) {
-            log.error("Failed to send connect event", e);
-            emitters.remove(submissionId);
+            attach(topicKey, connection, parseEventId(lastEventId), maxReplay);
+        } catch (IllegalStateException e) {
+            connectionCount.decrementAndGet();
+            throw e;
         }
 
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+        connection.flush();
+
+        log.debug("Subscribed to {} (connections={})", topicKey, connectionCount.get());
         return emitter;
     }
 
@@ -72,32 +153,274 @@ public class NotificationService {
      * @param data 추가 데이터 (선택 사항)
      */
     public void sendStatus(Long submissionId, String status, Object data) {
-        SseEmitter emitter = emitters.get(submissionId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("status")
-                        .data(Map.of("status", status, "data", data != null ? data : "{}")));
-                
-                // 최종 상태인 경우 연결 종료
-                if (isFinalStatus(status)) {
-                    emitter.complete();
-                    emitters.remove(submissionId);
+        publish(submissionTopic(submissionId), "status",
+                Map.of("status", status, "data", data != null ? data : "{}"), isFinalStatus(status));
+    }
+
+    /**
+     * 특정 제출의 채점 진행 이벤트를 전송합니다. 최종 이벤트면 연결을 종료합니다.
+     *
+     * @param event 채점 진행 이벤트
+     */
+    public void sendProgress(SubmissionProgressEvent event) {
+        publish(submissionTopic(event.getSubmissionId()), "status", event, event.isFinal());
+    }
+
+    /**
+     * 구독자가 없어도 정리되지 않는 토픽을 연다. 피드처럼 여러 사용자가 함께 보는 토픽에 사용한다.
+     * 함께 보는 토픽은 제출별 토픽의 연결 수 제한({@code max-connections-per-topic}) 대신 별도 한도를 둔다.
+     *
+     * @param topicKey 토픽 키
+     * @param replaySize 다시 보내기 위해 보관할 최근 이벤트 수
+     * @param maxTopicConnections 토픽의 최대 연결 수
+     */
+    public void openTopic(String topicKey, int replaySize, int maxTopicConnections) {
+        topics.compute(topicKey, (key, existing) -> {
+            Topic topic = existing != null ? existing : new Topic(replaySize, maxTopicConnections);
+            synchronized (topic) {
+                topic.capacity = replaySize;
+                topic.maxConnections = maxTopicConnections;
+                topic.permanent = true;
+            }
+            return topic;
+        });
+    }
+
+    /**
+     * 토픽의 모든 구독자에게 이벤트를 보낸다. 구독자가 없어도 링 버퍼에는 남긴다.
+     * 호출한 스레드는 버퍼에 넣기만 하고 바로 돌아간다.
+     *
+     * @param topicKey 토픽 키
+     * @param name 이벤트 이름
+     * @param data 이벤트 데이터
+     * @param terminal 마지막 이벤트 여부 (보낸 뒤 연결 종료)
+     */
+    public void publish(String topicKey, String name, Object data, boolean terminal) {
+        Topic topic = topics.computeIfAbsent(topicKey, key -> new Topic(replaySize, maxConnectionsPerTopic));
+        List<Connection> targets;
+        synchronized (topic) {
+            if (topic.evicted) {
+                // 방금 정리된 토픽이면 새로 만든다
+                publish(topicKey, name, data, terminal);
+                return;
+            }
+            Event event = new Event(++topic.sequence, name, data, terminal);
+            topic.remember(event);
+            targets = new ArrayList<>(topic.connections);
+            targets.forEach(connection -> connection.enqueue(event));
+        }
+        targets.forEach(Connection::flush);
+    }
+
+    /**
+     * 주기적으로 모든 연결에 하트비트(주석)를 보내 프록시가 유휴 연결을 끊지 않게 하고,
+     * 구독자가 없고 오래된 토픽의 링 버퍼를 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long expireBefore = System.currentTimeMillis() - replayRetentionMs;
+        topics.forEach((key, topic) -> {
+            List<Connection> targets;
+            synchronized (topic) {
+                if (topic.connections.isEmpty()) {
+                    if (!topic.permanent && topic.lastPublishedAt < expireBefore) {
+                        topic.evicted = true;
+                        topics.remove(key, topic);
+                    }
+                    return;
                 }
-            } catch (IOException e) {
-                log.error("Failed to send status event for submission: {}", submissionId, e);
-                emitters.remove(submissionId);
+                targets = new ArrayList<>(topic.connections);
+            }
+            targets.forEach(connection -> {
+                connection.enqueue(Event.HEARTBEAT);
+                connection.flush();
+            });
+        });
+    }
+
+    /**
+     * 현재 열린 SSE 연결 수.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * SseEmitter 생성 (테스트에서 전송 내용을 확인할 수 있도록 분리).
+     */
+    protected SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void attach(String topicKey, Connection connection, long lastEventId, int maxReplay) {
+        while (true) {
+            Topic topic = topics.computeIfAbsent(topicKey, key -> new Topic(replaySize, maxConnectionsPerTopic));
+            synchronized (topic) {
+                if (topic.evicted) {
+                    continue;
+                }
+                if (topic.connections.size() >= topic.maxConnections) {
+                    throw new IllegalStateException("토픽의 SSE 연결 수가 한도를 넘었습니다.");
+                }
+                connection.topicKey = topicKey;
+                connection.topic = topic;
+                connection.enqueue(new Event(0, "connect", "Connected to " + topicKey, false));
+                List<Event> replay = topic.recent.stream()
+                        .filter(event -> event.id() > lastEventId && connection.accepts(event))
+                        .toList();
+                replay.subList(Math.max(0, replay.size() - maxReplay), replay.size()).forEach(connection::enqueue);
+                if (!topic.finished) {
+                    topic.connections.add(connection);
+                } else if (lastEventId >= topic.sequence) {
+                    // 마지막 이벤트까지 받은 클라이언트라도 연결이 닫히도록 최종 이벤트를 한 번 더 보낸다
+                    connection.enqueue(topic.recent.getLast());
+                }
+                return;
             }
         }
     }
 
+    private static String submissionTopic(Long submissionId) {
+        return SUBMISSION_TOPIC_PREFIX + submissionId;
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // SubmissionResult의 표시 문자열 기준 (Time Limit, Compile Error 등)
     private boolean isFinalStatus(String status) {
-        return "Accepted".equalsIgnoreCase(status) ||
-               "Wrong Answer".equalsIgnoreCase(status) ||
-               "Time Limit Exceeded".equalsIgnoreCase(status) ||
-               "Memory Limit Exceeded".equalsIgnoreCase(status) ||
-               "Runtime Error".equalsIgnoreCase(status) ||
-               "Compilation Error".equalsIgnoreCase(status);
+        return Arrays.stream(SubmissionResult.values())
+                .filter(SubmissionResult::isFinal)
+                .anyMatch(result -> result.toDisplayName().equalsIgnoreCase(status));
     }
-}
 
+    /**
+     * 토픽: 구독자 목록과 최근 이벤트 링 버퍼. 모든 변경은 토픽 단위로 동기화한다.
+     */
+    private static final class Topic {
+        private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+        private final Deque<Event> recent = new ArrayDeque<>();
+        private int capacity;
+        private int maxConnections;
+        private long sequence;
+        private long lastPublishedAt = System.currentTimeMillis();
+        private boolean finished;
+        private boolean evicted;
+        private boolean permanent;
+
+        private Topic(int capacity, int maxConnections) {
+            this.capacity = capacity;
+            this.maxConnections = maxConnections;
+        }
+
+        private void remember(Event event) {
+            while (recent.size() >= capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(event);
+            lastPublishedAt = System.currentTimeMillis();
+            finished |= event.terminal();
+        }
+    }
+
+    private record Event(long id, String name, Object data, boolean terminal) {
+
+        private static final Event HEARTBEAT = new Event(0, null, null, false);
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data);
+            return id > 0 ? builder.id(String.valueOf(id)) : builder;
+        }
+    }
+
+    /**
+     * 구독 연결 하나. 버퍼에 쌓인 이벤트는 디스패처에서 한 번에 한 스레드만 보낸다.
+     */
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final Predicate<Object> filter;
+        private final Queue<Event> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private String topicKey;
+        private Topic topic;
+
+        private Connection(SseEmitter emitter, Predicate<Object> filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        // 연결 확인(connect)과 하트비트는 조건과 관계없이 보낸다
+        private boolean accepts(Event event) {
+            return filter == null || event.id() == 0 || filter.test(event.data());
+        }
+
+        private void enqueue(Event event) {
+            if (closed.get() || !accepts(event)) {
+                return;
+            }
+            if (!buffer.offer(event) && event != Event.HEARTBEAT) {
+                log.debug("SSE buffer overflow, closing connection on {}", topicKey);
+                close();
+            }
+        }
+
+        private void flush() {
+            if (closed.get() || buffer.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sseDispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event.toBuilder());
+                    if (event.terminal()) {
+                        close();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to send SSE event on {}: {}", topicKey, e.getMessage());
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            // 보내는 동안 새로 들어온 이벤트
+            flush();
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            connectionCount.decrementAndGet();
+            buffer.clear();
+            if (topic != null) {
+                topic.connections.remove(this);
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.OrganizationEntity;
+import com.okestro.okestroonlinejudge.domain.OrganizationRollupEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.repository.OrganizationRepository;
+import com.okestro.okestroonlinejudge.repository.OrganizationRollupRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.OrganizationMemberTotalsProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 조직 계층 통계 합계({@link OrganizationRollupEntity})를 유지하는 서비스.
+ * 사용자의 통계나 소속이 바뀌면 그 조직과 모든 상위 조직의 합계를 같은 트랜잭션에서 증감하므로,
+ * 조회할 때는 재귀 쿼리 없이 조직 한 행만 읽으면 하위 조직까지 포함한 합계를 얻는다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrganizationRollupService {
+
+    /**
+     * 상위 조직을 따라 올라갈 최대 단계 (잘못된 순환 참조 방지)
+     */
+    private static final int MAX_DEPTH = 64;
+
+    private final OrganizationRollupRepository organizationRollupRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final UserStatisticsRepository userStatisticsRepository;
+
+    /**
+     * 사용자의 통계 변화를 소속 조직과 상위 조직들의 합계에 더한다.
+     *
+     * @param user 사용자
+     * @param solvedDelta 해결 문제 수 증감
+     * @param pointDelta 랭킹 포인트 증감
+     */
+    @Transactional
+    public void addUserStatistics(UserEntity user, long solvedDelta, long pointDelta) {
+        if (user.getOrganizationEntity() == null || (solvedDelta == 0 && pointDelta == 0)) {
+            return;
+        }
+        addToChain(user.getOrganizationEntity(), solvedDelta, pointDelta, 0);
+    }
+
+    /**
+     * 사용자의 소속 조직이 바뀌기 전에 호출해 이전 조직 계층에서 빼고 새 조직 계층에 더한다.
+     *
+     * @param user 사용자
+     * @param to 새 소속 조직 (소속 해제면 null)
+     */
+    @Transactional
+    public void moveUser(UserEntity user, OrganizationEntity to) {
+        OrganizationEntity from = user.getOrganizationEntity();
+        if (Objects.equals(idOf(from), idOf(to))) {
+            return;
+        }
+        UserStatisticsEntity stats = userStatisticsRepository.findById(user.getId()).orElse(null);
+        long solved = stats != null ? stats.getSolvedCount() : 0L;
+        long points = stats != null ? stats.getRankingPoint() : 0L;
+        if (from != null) {
+            addToChain(from, -solved, -points, -1);
+        }
+        if (to != null) {
+            addToChain(to, solved, points, 1);
+        }
+    }
+
+    /**
+     * 조직의 상위 조직이 바뀌기 전에 호출해 조직의 합계를 이전 상위 계층에서 빼고 새 상위 계층에 더한다.
+     *
+     * @param organization 옮길 조직
+     * @param newParent 새 상위 조직 (최상위로 옮기면 null)
+     */
+    @Transactional
+    public void moveOrganization(OrganizationEntity organization, OrganizationEntity newParent) {
+        OrganizationEntity oldParent = organization.getParent();
+        if (Objects.equals(idOf(oldParent), idOf(newParent))) {
+            return;
+        }
+        organizationRollupRepository.findById(organization.getId()).ifPresent(rollup -> {
+            if (oldParent != null) {
+                addToChain(oldParent, -rollup.getSolvedCount(), -rollup.getRankingPoint(), -rollup.getUserCount());
+            }
+            if (newParent != null) {
+                addToChain(newParent, rollup.getSolvedCount(), rollup.getRankingPoint(), rollup.getUserCount());
+            }
+        });
+    }
+
+    /**
+     * 새 조직의 빈 합계를 만든다.
+     *
+     * @param organization 조직
+     */
+    @Transactional
+    public void create(OrganizationEntity organization) {
+        organizationRollupRepository.save(new OrganizationRollupEntity(organization));
+    }
+
+    /**
+     * 조직을 삭제하기 전에 호출해 합계를 상위 조직들에서 빼고 합계 행을 지운다.
+     *
+     * @param organization 삭제할 조직
+     */
+    @Transactional
+    public void delete(OrganizationEntity organization) {
+        organizationRollupRepository.findById(organization.getId()).ifPresent(rollup -> {
+            if (organization.getParent() != null) {
+                addToChain(organization.getParent(),
+                        -rollup.getSolvedCount(), -rollup.getRankingPoint(), -rollup.getUserCount());
+            }
+            organizationRollupRepository.delete(rollup);
+        });
+    }
+
+    /**
+     * 합계가 하나도 없으면 (처음 배포했을 때) 전체를 다시 계산한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (organizationRollupRepository.count() == 0 && organizationRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 조직별 직접 소속 사용자 합계를 상위 조직으로 올려 보내며 전체 합계를 다시 계산한다.
+     */
+    @Transactional
+    public void rebuild() {
+        List<OrganizationEntity> organizations = organizationRepository.findAll();
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (OrganizationEntity organization : organizations) {
+            parentIds.put(organization.getId(), idOf(organization.getParent()));
+        }
+
+        Map<Long, long[]> totals = new HashMap<>();
+        for (OrganizationMemberTotalsProjection members : userRepository.findMemberTotalsByOrganization()) {
+            Long organizationId = members.getOrganizationId();
+            for (int depth = 0; organizationId != null && depth <= MAX_DEPTH; depth++) {
+                long[] total = totals.computeIfAbsent(organizationId, id -> new long[3]);
+                total[0] += members.getSolvedCount();
+                total[1] += members.getRankingPoint();
+                total[2] += members.getUserCount();
+                organizationId = parentIds.get(organizationId);
+            }
+        }
+
+        Map<Long, OrganizationRollupEntity> rollups = organizationRollupRepository.findAll().stream()
+                .collect(Collectors.toMap(OrganizationRollupEntity::getId, Function.identity()));
+        List<OrganizationRollupEntity> rebuilt = new ArrayList<>(organizations.size());
+        for (OrganizationEntity organization : organizations) {
+            long[] total = totals.getOrDefault(organization.getId(), new long[3]);
+            OrganizationRollupEntity rollup = rollups.get(organization.getId());
+            if (rollup == null) {
+                rollup = new OrganizationRollupEntity(organization);
+            }
+            rollup.reset(total[0], total[1], total[2]);
+            rebuilt.add(rollup);
+        }
+        organizationRollupRepository.saveAll(rebuilt);
+        log.info("조직 계층 합계 재계산 완료: 조직 {}개", rebuilt.size());
+    }
+
+    private void addToChain(OrganizationEntity organization, long solvedDelta, long pointDelta, long userDelta) {
+        List<OrganizationEntity> chain = new ArrayList<>();
+        for (OrganizationEntity current = organization; current != null && chain.size() <= MAX_DEPTH;
+             current = current.getParent()) {
+            chain.add(current);
+        }
+        List<Long> ids = chain.stream().map(OrganizationEntity::getId).toList();
+
+        // 합계 행이 없는 조직(재계산 전에 만들어진 조직)은 빈 합계를 먼저 만든다
+        Set<Long> existing = organizationRollupRepository.findAllById(ids).stream()
+                .map(OrganizationRollupEntity::getId)
+                .collect(Collectors.toSet());
+        for (OrganizationEntity current : chain) {
+            if (!existing.contains(current.getId())) {
+                organizationRollupRepository.saveAndFlush(new OrganizationRollupEntity(current));
+            }
+        }
+        organizationRollupRepository.addToAll(ids, solvedDelta, pointDelta, userDelta);
+    }
+
+    private static Long idOf(OrganizationEntity organization) {
+        return organization != null ? organization.getId() : null;
+    }
+}
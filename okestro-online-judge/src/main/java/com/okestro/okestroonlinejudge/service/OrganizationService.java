@@ -29,6 +29,7 @@ public class OrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
+    private final OrganizationRollupService organizationRollupService;
 
     /**
      * 조직 생성.
@@ -58,6 +59,7 @@ public class OrganizationService {
                 .build();
 
         OrganizationEntity saved = organizationRepository.save(organization);
+        organizationRollupService.create(saved);
         return OrganizationResponse.from(saved);
     }
 
@@ -149,6 +151,7 @@ public class OrganizationService {
             if (isDescendantById(id, request.getParentId())) {
                 throw new IllegalArgumentException("하위 조직을 상위 조직으로 설정할 수 없습니다");
             }
+            organizationRollupService.moveOrganization(organization, newParent);
             organization.updateParent(newParent);
             updateChildrenDepthRecursively(id, organization.getDepth());
         }
@@ -167,6 +170,7 @@ public class OrganizationService {
         OrganizationEntity organization = organizationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("조직을 찾을 수 없습니다: " + id));
 
+        organizationRollupService.moveOrganization(organization, null);
         organization.updateParent(null);
         updateChildrenDepthRecursively(id, 0);
 
@@ -187,6 +191,7 @@ public class OrganizationService {
             throw new IllegalArgumentException("하위 조직이 있는 조직은 삭제할 수 없습니다. 하위 조직을 먼저 삭제하거나 이동해주세요.");
         }
 
+        organizationRollupService.delete(organization);
         organizationRepository.delete(organization);
     }
 
@@ -243,6 +248,7 @@ public class OrganizationService {
         OrganizationEntity organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new IllegalArgumentException("조직을 찾을 수 없습니다: " + organizationId));
 
+        organizationRollupService.moveUser(user, organization);
         user.updateOrganization(organization);
         return UserResponse.from(user);
     }
@@ -258,6 +264,7 @@ public class OrganizationService {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
+        organizationRollupService.moveUser(user, null);
         user.updateOrganization(null);
         return UserResponse.from(user);
     }
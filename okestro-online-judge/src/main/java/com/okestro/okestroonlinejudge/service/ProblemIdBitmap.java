@@ -0,0 +1,242 @@
+package com.okestro.okestroonlinejudge.service;
+
+import java.util.Arrays;
+
+/**
+ * 문제 ID 집합을 압축해 담는 비트맵 (roaring bitmap 방식).
+ * ID의 상위 비트로 2^16개 단위 구간을 나누고, 구간마다 값이 적으면 정렬된 하위 16비트 배열,
+ * 많으면 8KB 비트 배열에 담는다. 사용자가 푼 문제처럼 드문드문한 집합은 ID 하나에 2바이트 남짓만 쓴다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public final class ProblemIdBitmap {
+
+    /**
+     * 배열 구간이 담을 수 있는 최대 값 수 (넘으면 비트 구간으로 바꾼다)
+     */
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    /**
+     * ID를 추가한다.
+     *
+     * @param id 문제 ID (0 이상)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(long id) {
+        long key = highBits(id);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add(lowBits(id));
+        return containers[index].cardinality() > before;
+    }
+
+    /**
+     * ID를 뺀다.
+     *
+     * @param id 문제 ID
+     * @return 들어 있었으면 true
+     */
+    public boolean remove(long id) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(id));
+        if (index < 0) {
+            return false;
+        }
+        int before = containers[index].cardinality();
+        Container updated = containers[index].remove(lowBits(id));
+        if (updated.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = updated;
+        }
+        return updated.cardinality() < before;
+    }
+
+    /**
+     * ID가 들어 있는지 확인한다.
+     *
+     * @param id 문제 ID
+     * @return 들어 있으면 true
+     */
+    public boolean contains(long id) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(id));
+        return index >= 0 && containers[index].contains(lowBits(id));
+    }
+
+    /**
+     * 들어 있는 ID 수.
+     *
+     * @return ID 수
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static long highBits(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("문제 ID는 0 이상이어야 합니다: " + id);
+        }
+        return id >>> 16;
+    }
+
+    private static char lowBits(long id) {
+        return (char) (id & 0xFFFF);
+    }
+
+    /**
+     * 2^16개 단위 구간 하나의 값 집합. 추가나 삭제로 표현이 바뀌면 새 구간을 반환한다.
+     */
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+    }
+
+    /**
+     * 정렬된 하위 16비트 배열 구간.
+     */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 2^16비트 배열 구간.
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[1 << 10];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            long mask = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & mask) == 0) {
+                words[index] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long mask = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & mask) != 0) {
+                words[index] &= ~mask;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.add((char) (i * 64 + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
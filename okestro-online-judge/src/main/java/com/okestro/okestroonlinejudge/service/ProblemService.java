@@ -1,6 +1,7 @@
 package com.okestro.okestroonlinejudge.service;
 
 import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
 import com.okestro.okestroonlinejudge.domain.ShopItemType;
 import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
 import com.okestro.okestroonlinejudge.domain.TierEntity;
@@ -27,6 +28,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -47,14 +49,20 @@ public class ProblemService {
     private final ProblemStatisticsRepository problemStatisticsRepository;
     private final TestCaseRepository testCaseRepository;
     private final UserInventoryRepository userInventoryRepository;
+    private final UserProblemStatusService userProblemStatusService;
 
     @Value("${minio.bucket-name:okestro-problems}")
     private String bucketName;
 
     /**
      * 문제 목록 조회 (검색 및 페이징).
+     * 로그인한 사용자면 페이지의 문제들에 대한 풀이 상태를 한 번에 읽어 함께 표시한다.
+     *
+     * @param request 검색 조건
+     * @param userId 조회하는 사용자 ID (비로그인이면 null)
+     * @return 문제 목록
      */
-    public Page<ProblemDetailResponse> getProblems(SearchProblemRequest request) {
+    public Page<ProblemDetailResponse> getProblems(SearchProblemRequest request, Long userId) {
         Pageable pageable = PageRequest.of(
                 request.getPage(),
                 request.getSize(),
@@ -63,6 +71,9 @@ public class ProblemService {
 
         Specification<ProblemEntity> spec = ProblemSpecification.search(request);
         Page<ProblemEntity> problems = problemRepository.findAll(spec, pageable);
+        Map<Long, ProblemStatus> statuses = userId != null
+                ? userProblemStatusService.getStatuses(userId, problems.map(ProblemEntity::getId).getContent())
+                : Map.of();
 
         return problems.map(problem -> {
             // 내용(content)은 목록 조회 시에는 필요 없을 수 있으나, 기존 로직 유지를 위해 읽어옴.
@@ -70,7 +81,9 @@ public class ProblemService {
             // 여기서는 목록 조회 시에도 content를 읽지만, 실제로는 목록에서는 content가 필요 없을 수 있음.
             // ProblemSummaryResponse가 더 적합할 수 있음.
             String content = storageService.readString(problem.getContentPath(), bucketName);
-            return ProblemDetailResponse.from(problem, content);
+            return ProblemDetailResponse.from(problem, content).toBuilder()
+                    .userStatus(statuses.get(problem.getId()))
+                    .build();
         });
     }
 
@@ -1,8 +1,14 @@
 package com.okestro.okestroonlinejudge.service;
 
+import com.okestro.okestroonlinejudge.domain.OrganizationEntity;
+import com.okestro.okestroonlinejudge.domain.OrganizationRollupEntity;
 import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
 import com.okestro.okestroonlinejudge.dto.response.OrganizationRankingResponse;
+import com.okestro.okestroonlinejudge.dto.response.OrganizationRollupResponse;
 import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.repository.OrganizationRepository;
+import com.okestro.okestroonlinejudge.repository.OrganizationRollupRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
 import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
 import com.okestro.okestroonlinejudge.repository.projection.OrganizationRankingProjection;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 랭킹 관련 로직을 처리하는 서비스.
@@ -28,68 +37,62 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class RankingService {
 
+    /**
+     * 내 주변 랭킹에서 앞뒤로 조회할 수 있는 최대 사용자 수
+     */
+    private static final int MAX_AROUND_RADIUS = 50;
+
     private final UserStatisticsRepository userStatisticsRepository;
+    private final UserRepository userRepository;
+    private final UserRankIndex userRankIndex;
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationRollupRepository organizationRollupRepository;
 
     /**
-     * 사용자 랭킹 조회.
+     * 사용자 앞뒤로 radius명씩의 랭킹 조회.
+     * 순위 색인에서 구간을 찾으므로 전체 랭킹의 순위와 정렬 기준(랭킹 포인트, 해결 수, 사용자 ID)이 같다.
      *
-     * @param pageable 페이징 정보
-     * @return 랭킹 정보 페이지
+     * @param userId 기준 사용자 ID
+     * @param radius 앞뒤로 포함할 사용자 수
+     * @return 순위 순으로 정렬된 랭킹 목록, 기준 사용자가 랭킹에 없으면 빈 목록
      */
-    public Page<UserRankingResponse> getUserRankings(Pageable pageable) {
-        log.info("사용자 랭킹 조회 시작 - 페이지: {}, 사이즈: {}", pageable.getPageNumber(), pageable.getPageSize());
-        
-        Page<UserStatisticsEntity> statsPage = userStatisticsRepository.findUserRankings(pageable);
-        
-        log.info("조회된 통계 데이터 수: {}, 전체 개수: {}", 
-                statsPage.getContent().size(), statsPage.getTotalElements());
-        
-        List<UserRankingResponse> content = new ArrayList<>();
-        long startRank = pageable.getOffset() + 1;
-        int index = 0;
-        
-        for (UserStatisticsEntity stats : statsPage.getContent()) {
-            try {
-                String tierName = stats.getUserEntity().getTierEntity() != null 
-                        ? stats.getUserEntity().getTierEntity().getGroupName() 
-                        : "Unranked";
-                
-                UserRankingResponse response = UserRankingResponse.builder()
-                        .rank((int)(startRank + index))
-                        .userId(stats.getUserEntity().getId())
-                        .username(stats.getUserEntity().getUsername())
-                        .tierName(tierName)
-                        .solvedCount(stats.getSolvedCount())
-                        .rankingPoint(stats.getRankingPoint())
-                        .organizationName(stats.getUserEntity().getOrganizationName())
-                        .profileImage(stats.getUserEntity().getProfileImage())
-                        .build();
-                
-                content.add(response);
-                
-                log.debug("랭킹 데이터 추가 - 순위: {}, 사용자: {}, 포인트: {}", 
-                        response.getRank(), response.getUsername(), response.getRankingPoint());
-                
-            } catch (Exception e) {
-                log.error("랭킹 데이터 생성 중 오류 발생 - userId: {}, error: {}", 
-                        stats.getUserEntity().getId(), e.getMessage(), e);
+    public List<UserRankingResponse> getUserRankingsAround(Long userId, int radius) {
+        if (radius < 0 || radius > MAX_AROUND_RADIUS) {
+            throw new IllegalArgumentException("radius는 0 이상 " + MAX_AROUND_RADIUS + " 이하여야 합니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+
+        List<UserRankIndex.RankedUser> window = userRankIndex.around(userId, radius);
+        if (window.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserStatisticsEntity> statsByUserId = userStatisticsRepository.findAllWithUserByIdIn(
+                        window.stream().map(UserRankIndex.RankedUser::userId).toList()).stream()
+                .collect(Collectors.toMap(UserStatisticsEntity::getId, Function.identity()));
+
+        List<UserRankingResponse> content = new ArrayList<>(window.size());
+        for (UserRankIndex.RankedUser ranked : window) {
+            UserStatisticsEntity stats = statsByUserId.get(ranked.userId());
+            if (stats != null) {
+                content.add(UserRankingResponse.from(stats, ranked.rank()));
             }
-            index++;
         }
-        
-        log.info("랭킹 조회 완료 - 반환 데이터 수: {}", content.size());
-        
-        return new PageImpl<>(content, pageable, statsPage.getTotalElements());
+        return content;
     }
 
     /**
-     * 조직 랭킹 조회.
+     * 조직 랭킹 조회. 각 조직의 점수는 하위 조직에 속한 사용자까지 포함한 합계다.
      *
+     * @param parentId 상위 조직 ID (지정하면 그 조직의 바로 아래 조직들만 순위를 매긴다)
      * @param pageable 페이징 정보
      * @return 조직 랭킹 정보 페이지
      */
-    public Page<OrganizationRankingResponse> getOrganizationRankings(Pageable pageable) {
-        Page<OrganizationRankingProjection> projPage = userStatisticsRepository.findOrganizationRankings(pageable);
+    public Page<OrganizationRankingResponse> getOrganizationRankings(Long parentId, Pageable pageable) {
+        Page<OrganizationRankingProjection> projPage = parentId != null
+                ? organizationRollupRepository.findRankingsByParentId(parentId, pageable)
+                : organizationRollupRepository.findRankings(pageable);
         
         List<OrganizationRankingResponse> content = new ArrayList<>();
         long startRank = pageable.getOffset() + 1;
@@ -109,6 +112,45 @@ public class RankingService {
         
         return new PageImpl<>(content, pageable, projPage.getTotalElements());
     }
+
+    /**
+     * 조직의 하위 조직 포함 합계와 같은 상위 조직 안에서의 순위 조회.
+     *
+     * @param organizationId 조직 ID
+     * @return 조직 합계와 순위
+     */
+    public OrganizationRollupResponse getOrganizationRollup(Long organizationId) {
+        OrganizationEntity organization = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new IllegalArgumentException("조직을 찾을 수 없습니다: " + organizationId));
+        OrganizationRollupEntity rollup = organizationRollupRepository.findById(organizationId).orElse(null);
+        long solvedCount = rollup != null ? rollup.getSolvedCount() : 0L;
+        long rankingPoint = rollup != null ? rollup.getRankingPoint() : 0L;
+        long userCount = rollup != null ? rollup.getUserCount() : 0L;
+
+        Long parentId = organization.getParent() != null ? organization.getParent().getId() : null;
+        Integer rankInParent = null;
+        if (userCount > 0) {
+            long ahead = parentId != null
+                    ? organizationRollupRepository.countAheadInParent(parentId, organizationId, rankingPoint, solvedCount)
+                    : organizationRollupRepository.countAheadAmongRoots(organizationId, rankingPoint, solvedCount);
+            rankInParent = (int) ahead + 1;
+        }
+        long rankedSiblingCount = parentId != null
+                ? organizationRollupRepository.countRankedInParent(parentId)
+                : organizationRollupRepository.countRankedAmongRoots();
+
+        return OrganizationRollupResponse.builder()
+                .organizationId(organizationId)
+                .organizationName(organization.getName())
+                .parentId(parentId)
+                .depth(organization.getDepth())
+                .totalSolvedCount(solvedCount)
+                .totalRankingPoint(rankingPoint)
+                .userCount(userCount)
+                .rankInParent(rankInParent)
+                .rankedSiblingCount(rankedSiblingCount)
+                .build();
+    }
 }
 
 
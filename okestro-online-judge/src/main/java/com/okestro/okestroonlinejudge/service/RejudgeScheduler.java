@@ -0,0 +1,35 @@
+package com.okestro.okestroonlinejudge.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 재채점 작업을 주기적으로 조금씩 채점 큐에 넣는 스케줄러.
+ * 진행 상황(커서)은 DB에 있으므로 서버가 재시작되어도 다음 주기부터 이어서 진행된다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RejudgeScheduler {
+
+    private final RejudgeService rejudgeService;
+
+    /**
+     * 진행 중인 재채점 작업마다 다음 묶음을 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${judge.rejudge.feed-interval-ms:2000}")
+    public void feed() {
+        for (Long rejudgeJobId : rejudgeService.findRunningIds()) {
+            try {
+                rejudgeService.feed(rejudgeJobId);
+            } catch (Exception e) {
+                log.error("재채점 묶음 등록 실패: rejudgeJobId={}", rejudgeJobId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.RejudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.RejudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.request.RejudgeRequest;
+import com.okestro.okestroonlinejudge.dto.response.RejudgeJobResponse;
+import com.okestro.okestroonlinejudge.repository.ProblemRepository;
+import com.okestro.okestroonlinejudge.repository.RejudgeJobRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 재채점 서비스.
+ * 테스트케이스나 제한이 바뀐 문제의 제출을 다시 채점한다.
+ * 대상 제출은 ID 순으로 조금씩 낮은 우선순위의 채점 작업으로 넣어, 일반 제출 채점을 밀어내지 않게 한다.
+ * 한 문제에는 진행 중인 재채점 작업을 하나만 두고, 끝나지 않은 채점 작업이 있는 제출을 만나면
+ * 그 작업이 끝날 때까지 기다렸다가 넣어 같은 제출의 결과 변화가 두 번 반영되지 않게 한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RejudgeService {
+
+    private final RejudgeJobRepository rejudgeJobRepository;
+    private final ProblemRepository problemRepository;
+    private final SubmissionRepository submissionRepository;
+    private final JudgeJobService judgeJobService;
+
+    /**
+     * 한 번에 큐에 넣을 최대 제출 수
+     */
+    @Value("${judge.rejudge.chunk-size:50}")
+    private int chunkSize;
+
+    /**
+     * 재채점 작업 하나가 동시에 큐에 둘 수 있는 최대 제출 수
+     */
+    @Value("${judge.rejudge.max-in-flight:4}")
+    private int maxInFlight;
+
+    /**
+     * 재채점 작업을 생성한다. 실제 채점은 주기적으로 조금씩 진행된다.
+     * 같은 문제에 진행 중인 재채점 작업이 있으면 생성하지 않는다.
+     *
+     * @param problemId 문제 ID
+     * @param request 재채점 조건
+     * @param requestedBy 요청한 관리자
+     * @return 재채점 작업 응답
+     */
+    @Transactional
+    public RejudgeJobResponse createRejudge(Long problemId, RejudgeRequest request, String requestedBy) {
+        // 문제 행을 잠가 같은 문제의 재채점 요청이 동시에 들어와도 하나만 만들어지게 한다
+        ProblemEntity problem = problemRepository.findByIdForUpdate(problemId)
+                .orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다: " + problemId));
+        if (rejudgeJobRepository.existsByProblemEntity_IdAndStatus(problemId, RejudgeJobStatus.RUNNING)) {
+            throw new IllegalArgumentException("이미 진행 중인 재채점 작업이 있습니다: " + problemId);
+        }
+
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new IllegalArgumentException("시작 일시는 종료 일시보다 앞서야 합니다.");
+        }
+
+        List<SubmissionResult> results = request.getResults() == null || request.getResults().isEmpty()
+                ? Arrays.stream(SubmissionResult.values()).filter(SubmissionResult::isFinal).toList()
+                : request.getResults();
+        if (results.stream().anyMatch(result -> !result.isFinal())) {
+            throw new IllegalArgumentException("채점이 끝난 결과만 재채점할 수 있습니다.");
+        }
+
+        // 요청 이후의 제출은 이미 바뀐 테스트케이스로 채점되므로 대상에서 뺀다
+        Long maxSubmissionId = submissionRepository.findMaxIdByProblemId(problemId);
+        RejudgeJobEntity rejudge = rejudgeJobRepository.save(new RejudgeJobEntity(
+                problem, request.getFrom(), request.getTo(), results, maxSubmissionId, requestedBy));
+
+        log.info("재채점 작업 생성: rejudgeJobId={}, problemId={}, results={}, requestedBy={}",
+                rejudge.getId(), problemId, results, requestedBy);
+
+        return RejudgeJobResponse.from(rejudge, 0);
+    }
+
+    /**
+     * 재채점 작업 진행 상황 조회.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @return 재채점 작업 응답
+     */
+    public RejudgeJobResponse getRejudge(Long rejudgeJobId) {
+        RejudgeJobEntity rejudge = rejudgeJobRepository.findById(rejudgeJobId)
+                .orElseThrow(() -> new IllegalArgumentException("재채점 작업을 찾을 수 없습니다: " + rejudgeJobId));
+        return RejudgeJobResponse.from(rejudge, judgeJobService.countUnfinishedForRejudge(rejudgeJobId));
+    }
+
+    /**
+     * 재채점 작업을 취소한다. 이미 큐에 들어간 제출은 끝까지 채점된다.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @return 재채점 작업 응답
+     */
+    @Transactional
+    public RejudgeJobResponse cancelRejudge(Long rejudgeJobId) {
+        RejudgeJobEntity rejudge = rejudgeJobRepository.findByIdForUpdate(rejudgeJobId)
+                .orElseThrow(() -> new IllegalArgumentException("재채점 작업을 찾을 수 없습니다: " + rejudgeJobId));
+        if (rejudge.getStatus().isFinished()) {
+            throw new IllegalArgumentException("이미 끝난 재채점 작업입니다.");
+        }
+        rejudge.cancel();
+        log.info("재채점 작업 취소: rejudgeJobId={}, enqueued={}", rejudgeJobId, rejudge.getEnqueuedCount());
+        return RejudgeJobResponse.from(rejudge, judgeJobService.countUnfinishedForRejudge(rejudgeJobId));
+    }
+
+    /**
+     * 진행 중인 재채점 작업 ID 목록 조회.
+     *
+     * @return 작업 ID 목록
+     */
+    public List<Long> findRunningIds() {
+        return rejudgeJobRepository.findIdsByStatus(RejudgeJobStatus.RUNNING);
+    }
+
+    /**
+     * 재채점 작업의 다음 묶음을 채점 큐에 넣는다.
+     * 작업 행을 잠근 채로 진행하므로 여러 노드가 동시에 호출해도 같은 제출이 두 번 들어가지 않는다.
+     * 큐에 남은 제출이 {@code max-in-flight}만큼 있으면 넣지 않으며, 더 넣을 제출도 남은 제출도 없으면 완료 처리한다.
+     * 아직 끝나지 않은 채점 작업이 있는 제출을 만나면 그 앞까지만 넣고, 그 제출은 작업이 끝난 뒤의 호출에서 넣는다.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @return 이번에 큐에 넣은 제출 수
+     */
+    @Transactional
+    public int feed(Long rejudgeJobId) {
+        RejudgeJobEntity rejudge = rejudgeJobRepository.findByIdForUpdate(rejudgeJobId).orElse(null);
+        if (rejudge == null || rejudge.getStatus().isFinished()) {
+            return 0;
+        }
+
+        long inFlight = judgeJobService.countUnfinishedForRejudge(rejudgeJobId);
+        int room = (int) Math.min(chunkSize, maxInFlight - inFlight);
+        if (room <= 0) {
+            return 0;
+        }
+
+        List<Long> targetIds = submissionRepository.findRejudgeTargetIds(
+                rejudge.getProblemEntity().getId(),
+                rejudge.getLastSubmissionId(),
+                rejudge.getMaxSubmissionId(),
+                rejudge.getSubmittedFrom(),
+                rejudge.getSubmittedTo(),
+                rejudge.getResults(),
+                PageRequest.of(0, room));
+
+        if (targetIds.isEmpty()) {
+            if (inFlight == 0) {
+                rejudge.complete();
+                log.info("재채점 작업 완료: rejudgeJobId={}, enqueued={}, changed={}",
+                        rejudgeJobId, rejudge.getEnqueuedCount(), rejudge.getChangedCount());
+            }
+            return 0;
+        }
+
+        // 건너뛰면 커서가 지나가 다시 채점되지 않으므로, 채점 중인 제출에서 멈추고 작업이 끝나면 이어서 넣는다
+        Set<Long> busy = judgeJobService.findBusySubmissionIds(targetIds);
+        List<Long> submissionIds = targetIds.stream().takeWhile(id -> !busy.contains(id)).toList();
+        if (submissionIds.isEmpty()) {
+            log.debug("채점 중인 제출을 기다립니다: rejudgeJobId={}, submissionId={}", rejudgeJobId, targetIds.get(0));
+            return 0;
+        }
+
+        for (Long submissionId : submissionIds) {
+            judgeJobService.createRejudgeJob(submissionRepository.getReferenceById(submissionId), rejudgeJobId);
+        }
+        rejudge.advance(submissionIds.get(submissionIds.size() - 1), submissionIds.size());
+
+        log.debug("재채점 묶음 등록: rejudgeJobId={}, count={}, cursor={}",
+                rejudgeJobId, submissionIds.size(), rejudge.getLastSubmissionId());
+        return submissionIds.size();
+    }
+}
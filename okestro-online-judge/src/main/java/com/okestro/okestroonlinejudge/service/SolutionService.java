@@ -23,7 +23,8 @@ public class SolutionService {
     private final SubmissionRepository submissionRepository;
     private final UserRepository userRepository;
     private final ProblemRepository problemRepository;
-    private final UserProblemStatusRepository userProblemStatusRepository;
+    private final SourceBlobService sourceBlobService;
+    private final UserProblemStatusService userProblemStatusService;
 
     /**
      * 정답 공유 생성.
@@ -58,7 +59,7 @@ public class SolutionService {
                 .problem(submission.getProblemEntity())
                 .submission(submission)
                 .language(submission.getLanguage())
-                .code(submission.getSourceCode()) // 제출 당시 코드 사용
+                .code(sourceBlobService.load(submission)) // 제출 당시 코드 사용
                 .description(request.getDescription())
                 .visibility(request.getVisibility())
                 .build();
@@ -95,8 +96,7 @@ public class SolutionService {
                     throw new IllegalArgumentException("비공개 솔루션입니다.");
                 }
                 // 2. 문제 풀이 여부 체크 (해당 문제를 맞춘 사용자만 열람 가능)
-                boolean solved = submissionRepository.existsByProblemEntity_IdAndUserEntity_IdAndResult(
-                        solution.getProblem().getId(), user.getId(), SubmissionResult.ACCEPTED);
+                boolean solved = userProblemStatusService.isSolved(user.getId(), solution.getProblem().getId());
 
                 if (!solved) {
                     throw new IllegalArgumentException("해당 문제를 먼저 해결해야 정답 코드를 볼 수 있습니다.");
@@ -0,0 +1,36 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 행에 직접 저장된 기존 제출 소스 코드를 주기적으로 조금씩 {@code source_blob}으로 옮기는 스케줄러.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Component
+public class SourceBlobBackfillScheduler {
+
+    private final ChunkedBackfill progress;
+    private final boolean enabled;
+
+    public SourceBlobBackfillScheduler(SourceBlobService sourceBlobService,
+                                       @Value("${submission.source-blob.backfill-enabled:true}") boolean enabled,
+                                       @Value("${submission.source-blob.backfill-chunk-size:200}") int chunkSize) {
+        this.enabled = enabled;
+        this.progress = new ChunkedBackfill("제출 소스 코드 이전",
+                afterId -> sourceBlobService.backfill(afterId, chunkSize));
+    }
+
+    /**
+     * 다음 묶음을 옮긴다. 더 옮길 제출이 없으면 이후 주기는 아무것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${submission.source-blob.backfill-interval-ms:1000}")
+    public void backfill() {
+        if (enabled) {
+            progress.runChunk();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SourceBlobEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.repository.SourceBlobRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 제출 소스 코드 저장 서비스.
+ * 소스 코드를 SHA-256 기준으로 중복 없이 Deflate 압축해 {@code source_blob}에 저장하고,
+ * 제출 행에는 참조만 남겨 {@code submission} 테이블을 가볍게 유지한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SourceBlobService {
+
+    private final SourceBlobRepository sourceBlobRepository;
+    private final SubmissionRepository submissionRepository;
+
+    /**
+     * 소스 코드를 현재 트랜잭션에 저장하고 참조를 반환한다. 같은 코드가 이미 있으면 그대로 재사용한다.
+     * 같은 코드가 동시에 처음 저장되면 늦은 쪽이 유일 키 충돌({@link DataIntegrityViolationException})로 실패하므로,
+     * 호출한 쪽은 트랜잭션을 다시 시도해 먼저 저장된 행을 사용한다.
+     * 별도 트랜잭션으로 저장하지 않는 이유는 요청 하나가 커넥션을 두 개 잡게 되어,
+     * 동시 요청이 커넥션 풀 크기를 넘는 순간 서로를 기다리며 멈추기 때문이다.
+     *
+     * @param sourceCode 소스 코드
+     * @return 소스 코드 저장소 참조
+     */
+    @Transactional
+    public SourceBlobEntity store(String sourceCode) {
+        String sha256 = sha256(sourceCode);
+        return sourceBlobRepository.findIdBySha256(sha256)
+                .map(sourceBlobRepository::getReferenceById)
+                .orElseGet(() -> {
+                    byte[] raw = sourceCode.getBytes(StandardCharsets.UTF_8);
+                    return sourceBlobRepository.saveAndFlush(new SourceBlobEntity(sha256, compress(raw), raw.length));
+                });
+    }
+
+    /**
+     * 제출의 소스 코드를 읽는다. 저장소로 옮기기 전의 제출은 행에 있는 값을 그대로 반환한다.
+     *
+     * @param submission 제출
+     * @return 소스 코드
+     */
+    public String load(SubmissionEntity submission) {
+        SourceBlobEntity blob = submission.getSourceBlobEntity();
+        return blob != null ? decompress(blob.getContent()) : submission.getSourceCode();
+    }
+
+    /**
+     * 행에 직접 저장된 소스 코드를 다음 묶음만큼 저장소로 옮긴다.
+     *
+     * @param afterId 이 ID 이후의 제출부터 처리
+     * @param chunkSize 한 번에 옮길 제출 수
+     * @return 이번에 처리한 마지막 제출 ID (옮길 제출이 없으면 null)
+     */
+    @Transactional
+    public Long backfill(Long afterId, int chunkSize) {
+        List<SubmissionEntity> submissions =
+                submissionRepository.findInlineSourceAfter(afterId, PageRequest.of(0, chunkSize));
+        for (SubmissionEntity submission : submissions) {
+            submission.moveSourceTo(store(submission.getSourceCode()));
+        }
+        return submissions.isEmpty() ? null : submissions.get(submissions.size() - 1).getId();
+    }
+
+    static String sha256(String sourceCode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sourceCode.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String decompress(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 소스 코드 데이터입니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 소스 코드 데이터입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
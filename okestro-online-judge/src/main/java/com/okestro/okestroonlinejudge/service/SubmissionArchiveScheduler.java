@@ -0,0 +1,57 @@
+package com.okestro.okestroonlinejudge.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 제출을 주기적으로 보관 테이블로 옮기는 스케줄러.
+ * 묶음마다 별도 트랜잭션이므로 도중에 실패하거나 서버가 재시작되어도 다음 주기부터 이어서 진행된다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionArchiveScheduler {
+
+    private final SubmissionArchiveService submissionArchiveService;
+
+    @Value("${submission.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${submission.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${submission.archive.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    /**
+     * 보관 대상이 남아 있으면 한 주기에 최대 {@code max-chunks-per-run} 묶음까지 옮긴다.
+     */
+    @Scheduled(fixedDelayString = "${submission.archive.interval-ms:600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        try {
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                int moved = submissionArchiveService.archive(chunkSize);
+                total += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("제출 보관 실패: 이번 주기 처리 수={}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("제출 보관 주기 완료: count={}", total);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionArchiveEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.SubmissionRollupEntity;
+import com.okestro.okestroonlinejudge.repository.JudgeJobRepository;
+import com.okestro.okestroonlinejudge.repository.JudgeJobTokenRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionArchiveRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 제출 보관 서비스.
+ * 보관 기간이 지난 제출을 {@code submission_archive}로 옮기고 사용자-문제별 집계를 {@code submission_rollup}에 더해,
+ * 최근 제출만 남은 {@code submission} 테이블과 집계만으로 통계를 계산할 수 있게 한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubmissionArchiveService {
+
+    private static final List<SubmissionResult> PENDING_RESULTS = Arrays.stream(SubmissionResult.values())
+            .filter(result -> !result.isFinal())
+            .toList();
+
+    private static final List<JudgeJobStatus> ACTIVE_JOB_STATUSES = List.of(JudgeJobStatus.QUEUED, JudgeJobStatus.RUNNING);
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionArchiveRepository submissionArchiveRepository;
+    private final SubmissionRollupRepository submissionRollupRepository;
+    private final JudgeJobRepository judgeJobRepository;
+    private final JudgeJobTokenRepository judgeJobTokenRepository;
+
+    @Value("${submission.archive.age-days:365}")
+    private int ageDays;
+
+    /**
+     * 보관 기준 일시. 하루가 두 테이블에 나뉘지 않도록 날짜 경계에 맞춘다.
+     *
+     * @return 이 일시 이전 제출이 보관 대상
+     */
+    public LocalDateTime cutoff() {
+        return LocalDate.now().minusDays(ageDays).atStartOfDay();
+    }
+
+    /**
+     * 보관 대상 제출을 한 묶음 옮긴다.
+     * 옮기는 도중 다른 요청이 같은 제출을 참조하게 되면(풀이 공유, 재채점) 외래 키 위반으로 묶음 전체가 롤백되고,
+     * 다음 주기에는 해당 제출이 대상에서 빠진다.
+     *
+     * @param chunkSize 한 번에 옮길 제출 수
+     * @return 옮긴 제출 수
+     */
+    @Transactional
+    public int archive(int chunkSize) {
+        List<Long> ids = submissionRepository.findArchivableIds(
+                cutoff(), PENDING_RESULTS, ACTIVE_JOB_STATUSES, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, SubmissionRollupEntity> rollups = new HashMap<>();
+        List<SubmissionArchiveEntity> archives = submissionRepository.findAllById(ids).stream()
+                .map(submission -> new SubmissionArchiveEntity(submission, now))
+                .toList();
+        for (SubmissionArchiveEntity archive : archives) {
+            Long userId = archive.getUserEntity().getId();
+            Long problemId = archive.getProblemEntity().getId();
+            rollups.computeIfAbsent(userId + ":" + problemId, key -> submissionRollupRepository
+                            .findByUserEntity_IdAndProblemEntity_Id(userId, problemId)
+                            .orElseGet(() -> new SubmissionRollupEntity(archive.getUserEntity(), archive.getProblemEntity())))
+                    .add(archive);
+        }
+        submissionArchiveRepository.saveAll(archives);
+        submissionRollupRepository.saveAll(rollups.values());
+
+        judgeJobTokenRepository.deleteBySubmissionIds(ids);
+        judgeJobRepository.deleteBySubmissionIds(ids);
+        submissionRepository.deleteAllByIdIn(ids);
+
+        log.info("제출 보관: count={}, firstId={}, lastId={}", ids.size(), ids.get(0), ids.get(ids.size() - 1));
+        return ids.size();
+    }
+
+    /**
+     * 사용자가 문제를 맞힌 적이 있는지 확인한다 (보관된 제출 포함).
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 정답 제출이 있으면 true
+     */
+    public boolean isSolved(Long userId, Long problemId) {
+        return submissionRepository.existsByProblemEntity_IdAndUserEntity_IdAndResult(
+                        problemId, userId, SubmissionResult.ACCEPTED)
+                || isSolvedInArchive(userId, problemId);
+    }
+
+    /**
+     * 보관된 제출 중에 사용자가 문제를 맞힌 제출이 있는지 확인한다.
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 보관된 정답 제출이 있으면 true
+     */
+    public boolean isSolvedInArchive(Long userId, Long problemId) {
+        return submissionRollupRepository.existsAccepted(userId, problemId);
+    }
+
+    /**
+     * 보관된 제출을 조회한다.
+     *
+     * @param submissionId 제출 ID
+     * @return 보관된 제출 Optional
+     */
+    public Optional<SubmissionArchiveEntity> findArchived(Long submissionId) {
+        return submissionArchiveRepository.findById(submissionId);
+    }
+
+    /**
+     * 사용자의 주어진 문제들에 대한 보관된 제출 집계를 문제와 함께 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 문제별 집계 목록
+     */
+    public List<SubmissionRollupEntity> findRollups(Long userId, Collection<Long> problemIds) {
+        return submissionRollupRepository.findByUserIdAndProblemIdsWithProblem(userId, problemIds);
+    }
+
+    /**
+     * 가장 최근에 보관된 제출의 제출 일시. 이보다 최근 제출은 보관 테이블을 볼 필요가 없다.
+     *
+     * @return 제출 일시 Optional (보관된 제출이 없으면 empty)
+     */
+    public Optional<LocalDateTime> findLatestArchivedAt() {
+        return submissionArchiveRepository.findLatestCreatedAt();
+    }
+}
@@ -0,0 +1,31 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * 채점 진행 이벤트 버스.
+ * 채점 워커와 SSE 구독자가 서로 다른 노드에 있어도 이벤트가 전달되도록,
+ * 발행된 이벤트를 모든 노드에 퍼뜨리고 각 노드는 자신의 로컬 리스너에게만 전달한다.
+ * {@code notification.event-bus.type}으로 구현체를 고른다 (memory: 단일 노드, jdbc: DB 아웃박스).
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public interface SubmissionEventBus {
+
+    /**
+     * 이벤트를 발행한다. 호출한 스레드를 오래 붙잡지 않아야 한다.
+     *
+     * @param event 채점 진행 이벤트
+     */
+    void publish(SubmissionProgressEvent event);
+
+    /**
+     * 이 노드에 도착한 이벤트를 받을 리스너를 등록한다.
+     *
+     * @param listener 로컬 리스너
+     */
+    void subscribe(Consumer<SubmissionProgressEvent> listener);
+}
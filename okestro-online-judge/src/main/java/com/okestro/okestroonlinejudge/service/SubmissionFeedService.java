@@ -0,0 +1,134 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionFeedEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실시간 제출 피드 서비스.
+ * 채점 파이프라인의 이벤트 버스에서 새 제출(QUEUED)과 채점 완료(FINISHED)만 골라
+ * 피드 토픽의 링 버퍼에 쌓고, 구독자별 조건(문제, 언어, 결과)은 서버에서 적용한다.
+ * 구독자가 늘어도 DB 조회는 발생하지 않는다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Service
+public class SubmissionFeedService {
+
+    static final String FEED_TOPIC = "feed:submissions";
+
+    private static final String EVENT_NAME = "submission";
+
+    private final NotificationService notificationService;
+
+    // 최근 새 제출 (채점 완료 이벤트에 문제 제목, 닉네임 등을 채우는 용도)
+    private final Map<Long, SubmissionFeedEvent> recentSubmissions;
+
+    @Value("${submission.feed.max-replay:50}")
+    private int maxReplay;
+
+    public SubmissionFeedService(NotificationService notificationService,
+                                 SubmissionEventBus submissionEventBus,
+                                 @Value("${submission.feed.buffer-size:500}") int bufferSize,
+                                 @Value("${submission.feed.max-connections:10000}") int maxConnections) {
+        this.notificationService = notificationService;
+        this.recentSubmissions = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SubmissionFeedEvent> eldest) {
+                return size() > bufferSize;
+            }
+        };
+        notificationService.openTopic(FEED_TOPIC, bufferSize, maxConnections);
+        submissionEventBus.subscribe(this::onProgress);
+    }
+
+    /**
+     * 제출 피드를 구독한다. 조건에 맞는 최근 이벤트를 최대 limit개 먼저 보낸 뒤 새 이벤트를 보낸다.
+     *
+     * @param filter 피드 조건
+     * @param limit 처음에 보낼 최근 이벤트 수
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재접속 시)
+     * @return SseEmitter
+     * @throws IllegalStateException 연결 수 제한을 넘은 경우
+     */
+    public SseEmitter subscribe(FeedFilter filter, int limit, String lastEventId) {
+        return notificationService.subscribe(FEED_TOPIC, lastEventId,
+                data -> data instanceof SubmissionFeedEvent event && filter.matches(event),
+                Math.max(0, Math.min(limit, maxReplay)));
+    }
+
+    private void onProgress(SubmissionProgressEvent event) {
+        SubmissionFeedEvent feedEvent = switch (event.getStage()) {
+            case QUEUED -> toNewEvent(event);
+            case FINISHED -> toFinishedEvent(event);
+            default -> null;
+        };
+        if (feedEvent != null) {
+            notificationService.publish(FEED_TOPIC, EVENT_NAME, feedEvent, false);
+        }
+    }
+
+    private SubmissionFeedEvent toNewEvent(SubmissionProgressEvent event) {
+        SubmissionFeedEvent feedEvent = SubmissionFeedEvent.builder()
+                .type(SubmissionFeedEvent.Type.NEW)
+                .submissionId(event.getSubmissionId())
+                .problemId(event.getProblemId())
+                .problemTitle(event.getProblemTitle())
+                .userId(event.getUserId())
+                .username(event.getUsername())
+                .language(event.getLanguage())
+                .result(SubmissionResult.JUDGING)
+                .status(event.getStatus())
+                .occurredAt(LocalDateTime.now())
+                .build();
+        synchronized (recentSubmissions) {
+            recentSubmissions.put(event.getSubmissionId(), feedEvent);
+        }
+        return feedEvent;
+    }
+
+    private SubmissionFeedEvent toFinishedEvent(SubmissionProgressEvent event) {
+        SubmissionFeedEvent submitted;
+        synchronized (recentSubmissions) {
+            submitted = recentSubmissions.remove(event.getSubmissionId());
+        }
+        SubmissionFeedEvent.SubmissionFeedEventBuilder builder = submitted != null
+                ? submitted.toBuilder()
+                : SubmissionFeedEvent.builder()
+                        .submissionId(event.getSubmissionId())
+                        .problemId(event.getProblemId())
+                        .language(event.getLanguage());
+        return builder
+                .type(SubmissionFeedEvent.Type.FINISHED)
+                .result(event.getResult())
+                .status(event.getStatus())
+                .execTimeMs(event.getExecTimeMs())
+                .memoryKb(event.getMemoryKb())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 피드 조건. 값이 null인 항목은 조건에서 제외한다.
+     *
+     * @param problemId 문제 ID
+     * @param language 언어
+     * @param result 결과
+     */
+    public record FeedFilter(Long problemId, String language, SubmissionResult result) {
+
+        boolean matches(SubmissionFeedEvent event) {
+            return (problemId == null || problemId.equals(event.getProblemId()))
+                    && (language == null || language.equalsIgnoreCase(event.getLanguage()))
+                    && (result == null || result == event.getResult());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent.Stage;
+import com.okestro.okestroonlinejudge.event.JudgeJobCreatedEvent;
+import com.okestro.okestroonlinejudge.event.JudgeJobFailedEvent;
+import com.okestro.okestroonlinejudge.service.SubmissionService.JudgeResultSummary;
+import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채점 진행 이벤트 발행기.
+ * 채점 파이프라인의 단계(대기, 컴파일, 테스트케이스 i/N, 최종 결과)를 {@link SubmissionEventBus}로 발행한다.
+ * 테스트케이스 결과는 제출마다 {@code judge.progress.min-interval-ms}에 한 번만 보내고(마지막 상태로 합침),
+ * 마지막 테스트케이스와 최종 결과는 항상 보낸다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SubmissionProgressPublisher {
+
+    private final SubmissionEventBus submissionEventBus;
+
+    // submissionId -> 테스트케이스 진행 상황
+    private final Map<Long, Progress> progresses = new ConcurrentHashMap<>();
+
+    @Value("${judge.progress.min-interval-ms:500}")
+    private long minIntervalMs;
+
+    public SubmissionProgressPublisher(SubmissionEventBus submissionEventBus) {
+        this.submissionEventBus = submissionEventBus;
+    }
+
+    /**
+     * 제출 트랜잭션이 커밋되면 대기 이벤트를 보낸다. 워커가 작업을 가져가기 전에 먼저 보낸다.
+     *
+     * @param event 채점 작업 생성 이벤트
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJudgeJobCreated(JudgeJobCreatedEvent event) {
+        send(SubmissionProgressEvent.builder()
+                .submissionId(event.submissionId())
+                .problemId(event.problemId())
+                .problemTitle(event.problemTitle())
+                .userId(event.userId())
+                .username(event.username())
+                .language(event.language())
+                .stage(Stage.QUEUED)
+                .status(SubmissionResult.JUDGING.toDisplayName())
+                .build());
+    }
+
+    /**
+     * 재시도 횟수를 넘겨 실패 처리된 작업의 결과가 커밋되면 최종 결과를 알린다.
+     * 실행 중인 워커가 없으므로, 이 이벤트가 없으면 구독자는 연결이 끊길 때까지 결과를 기다리게 된다.
+     *
+     * @param event 채점 작업 실패 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJudgeJobFailed(JudgeJobFailedEvent event) {
+        finished(event.submissionId(), event.problemId(), event.language(), JudgeResultSummary.builder()
+                .finalResult(event.result())
+                .testCaseResults(List.of())
+                .build());
+    }
+
+    /**
+     * 워커가 채점을 시작했음을 알린다.
+     *
+     * @param submissionId 제출 ID
+     * @param totalTestCases 전체 테스트케이스 수
+     */
+    public void started(Long submissionId, int totalTestCases) {
+        progresses.put(submissionId, new Progress(totalTestCases));
+        send(SubmissionProgressEvent.builder()
+                .submissionId(submissionId)
+                .stage(Stage.COMPILING)
+                .status(SubmissionResult.JUDGING.toDisplayName())
+                .totalTestCases(totalTestCases)
+                .completedTestCases(0)
+                .passedTestCases(0)
+                .build());
+    }
+
+    /**
+     * 테스트케이스 하나의 결과를 반영한다. 여러 스레드에서 동시에 호출될 수 있다.
+     *
+     * @param submissionId 제출 ID
+     * @param result 테스트케이스 결과
+     */
+    public void testCaseFinished(Long submissionId, TestCaseResult result) {
+        Progress progress = progresses.get(submissionId);
+        if (progress == null) {
+            return;
+        }
+
+        SubmissionProgressEvent event;
+        synchronized (progress) {
+            progress.completed++;
+            if (result.getResult() == SubmissionResult.ACCEPTED) {
+                progress.passed++;
+            }
+
+            long now = System.currentTimeMillis();
+            boolean last = progress.completed >= progress.total;
+            if (!last && now - progress.lastSentAt < minIntervalMs) {
+                return;
+            }
+            progress.lastSentAt = now;
+
+            event = SubmissionProgressEvent.builder()
+                    .submissionId(submissionId)
+                    .stage(Stage.TESTING)
+                    .status(SubmissionResult.JUDGING.toDisplayName())
+                    .totalTestCases(progress.total)
+                    .completedTestCases(progress.completed)
+                    .passedTestCases(progress.passed)
+                    .lastTestCaseNumber(result.getTestCaseNumber())
+                    .lastTestCaseResult(result.getResult())
+                    .build();
+        }
+        send(event);
+    }
+
+    /**
+     * 최종 결과를 알린다. 결과가 DB에 커밋된 뒤에 호출해야 한다.
+     *
+     * @param submissionId 제출 ID
+     * @param summary 채점 결과
+     */
+    public void finished(Long submissionId, JudgeResultSummary summary) {
+        finished(submissionId, null, null, summary);
+    }
+
+    /**
+     * 최종 결과를 알린다. 결과가 DB에 커밋된 뒤에 호출해야 한다.
+     * 문제와 언어를 함께 보내 제출 피드가 조건에 맞춰 거를 수 있게 한다.
+     *
+     * @param submissionId 제출 ID
+     * @param problemId 문제 ID
+     * @param language 언어
+     * @param summary 채점 결과
+     */
+    public void finished(Long submissionId, Long problemId, String language, JudgeResultSummary summary) {
+        progresses.remove(submissionId);
+        send(SubmissionProgressEvent.builder()
+                .submissionId(submissionId)
+                .problemId(problemId)
+                .language(language)
+                .stage(Stage.FINISHED)
+                .status(summary.getFinalResult().toDisplayName())
+                .totalTestCases(summary.getTotalTestCases())
+                .completedTestCases(summary.getTotalTestCases())
+                .passedTestCases(summary.getPassedTestCases())
+                .result(summary.getFinalResult())
+                .execTimeMs(summary.getMaxExecutionTime() > 0 ? (int) (summary.getMaxExecutionTime() * 1000) : null)
+                .memoryKb(summary.getMaxMemoryUsage() > 0 ? summary.getMaxMemoryUsage() : null)
+                .build());
+    }
+
+    /**
+     * 최종 결과 없이 채점이 중단되었을 때(재시도 대기) 진행 상황을 정리한다.
+     *
+     * @param submissionId 제출 ID
+     */
+    public void abandoned(Long submissionId) {
+        progresses.remove(submissionId);
+    }
+
+    private void send(SubmissionProgressEvent event) {
+        try {
+            submissionEventBus.publish(event);
+        } catch (Exception e) {
+            // 알림 실패가 채점에 영향을 주지 않도록 한다
+            log.warn("채점 진행 이벤트 전송 실패: submissionId={}, stage={}", event.getSubmissionId(), event.getStage(), e);
+        }
+    }
+
+    private static final class Progress {
+        private final int total;
+        private int completed;
+        private int passed;
+        private long lastSentAt;
+
+        private Progress(int total) {
+            this.total = total;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.okestro.okestroonlinejudge.service;
 
 import com.okestro.okestroonlinejudge.client.Judge0Client;
+import com.okestro.okestroonlinejudge.domain.JudgeJobEntity;
 import com.okestro.okestroonlinejudge.domain.PointEntity;
 import com.okestro.okestroonlinejudge.domain.PointType;
+import com.okestro.okestroonlinejudge.domain.ProblemDifficulty;
 import com.okestro.okestroonlinejudge.domain.ProblemEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
@@ -10,23 +12,42 @@ import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
 import com.okestro.okestroonlinejudge.domain.UserEntity;
 import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
 import com.okestro.okestroonlinejudge.dto.request.SubmitCodeRequest;
+import com.okestro.okestroonlinejudge.dto.response.CursorPageResponse;
 import com.okestro.okestroonlinejudge.dto.response.SubmissionResponse;
+import com.okestro.okestroonlinejudge.event.JudgeJobCreatedEvent;
+import com.okestro.okestroonlinejudge.event.UserStatisticsChangedEvent;
+import com.okestro.okestroonlinejudge.repository.JudgeJobRepository;
 import com.okestro.okestroonlinejudge.repository.PointRepository;
 import com.okestro.okestroonlinejudge.repository.ProblemRepository;
+import com.okestro.okestroonlinejudge.repository.RejudgeJobRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionArchiveRepository;
 import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
 import com.okestro.okestroonlinejudge.repository.TestCaseRepository;
 import com.okestro.okestroonlinejudge.repository.UserRepository;
 import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.SubmissionSummaryProjection;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 제출 관리 서비스.
@@ -40,6 +61,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SubmissionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserStatisticsRepository userStatisticsRepository;
     private final SubmissionRepository submissionRepository;
     private final UserRepository userRepository;
@@ -49,6 +72,19 @@ public class SubmissionService {
     private final Judge0Client judge0Client;
     private final StorageService storageService;
     private final TestCaseExecutor testCaseExecutor;
+    private final JudgeJobService judgeJobService;
+    private final JudgeJobRepository judgeJobRepository;
+    private final RejudgeJobRepository rejudgeJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrganizationRollupService organizationRollupService;
+    private final UserScoreBucketService userScoreBucketService;
+    private final UserStatisticsService userStatisticsService;
+    private final UserProblemStatusService userProblemStatusService;
+    private final UserActivityService userActivityService;
+    private final SourceBlobService sourceBlobService;
+    private final SubmissionArchiveService submissionArchiveService;
+    private final SubmissionArchiveRepository submissionArchiveRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -66,13 +102,25 @@ public class SubmissionService {
     private int cpuTimeLimitSec;
 
     /**
-     * 코드를 제출하고 채점합니다.
+     * 코드를 제출하고 채점 작업을 등록합니다.
+     * 채점은 트랜잭션 커밋 이후 채점 워커가 비동기로 수행하며, 결과는 상태 조회 API로 확인합니다.
+     * 같은 소스 코드가 동시에 처음 저장되어 유일 키가 충돌하면, 한 번 더 시도해 먼저 저장된 코드를 사용합니다.
      *
      * @param request 제출 요청 DTO
-     * @return 제출 결과 응답
+     * @return 제출 결과 응답 (채점 중 상태)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SubmissionResponse submit(SubmitCodeRequest request) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return transaction.execute(status -> createSubmission(request));
+        } catch (DataIntegrityViolationException e) {
+            log.info("같은 소스 코드가 동시에 저장되어 제출을 다시 시도합니다: userId={}", request.getUserId());
+            return transaction.execute(status -> createSubmission(request));
+        }
+    }
+
+    private SubmissionResponse createSubmission(SubmitCodeRequest request) {
         UserEntity user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.getUserId()));
 
@@ -84,7 +132,7 @@ public class SubmissionService {
                 .userEntity(user)
                 .problemEntity(problem)
                 .language(request.getLanguage())
-                .sourceCode(request.getSourceCode())
+                .sourceBlobEntity(sourceBlobService.store(request.getSourceCode()))
                 .result(SubmissionResult.JUDGING)
                 .build();
 
@@ -92,12 +140,45 @@ public class SubmissionService {
         log.info("제출 생성 완료: submissionId={}, problemId={}, userId={}",
                 submission.getId(), request.getProblemId(), request.getUserId());
 
-        // 채점 수행
-        JudgeResultSummary judgeResult = judgeCode(
-                request.getProblemId(),
-                request.getSourceCode(),
-                request.getLanguage()
-        );
+        userStatisticsService.recordSubmission(user, problem.getId());
+        userProblemStatusService.recordSubmission(user, problem, submission.getCreatedAt(), submission.getLanguage());
+
+        // 채점 작업 등록 (커밋 이후 워커가 처리)
+        JudgeJobEntity job = judgeJobService.createJob(submission);
+        eventPublisher.publishEvent(new JudgeJobCreatedEvent(job.getId(), submission.getId(),
+                problem.getId(), problem.getTitle(), user.getId(), user.getNickname(), submission.getLanguage()));
+
+        return SubmissionResponse.from(submission);
+    }
+
+    /**
+     * 채점 결과를 제출에 반영하고 채점 작업을 완료 처리합니다.
+     * 작업 행을 잠근 뒤, 이미 완료되었거나 다른 노드로 점유가 넘어간 작업이면 아무것도 하지 않으므로
+     * 같은 작업이 여러 번 반영되지 않습니다. 이전 결과는 제출 행을 잠근 뒤 읽으므로,
+     * 같은 제출의 채점 작업이 동시에 끝나도 결과 변화(해결 여부, 점수)는 차례로 한 번씩만 반영됩니다.
+     *
+     * @param judgeJobId  채점 작업 ID
+     * @param owner       작업을 점유한 워커 노드 ID
+     * @param judgeResult 채점 결과
+     * @return 결과 반영 여부
+     */
+    @Transactional
+    public boolean completeJudge(Long judgeJobId, String owner, JudgeResultSummary judgeResult) {
+        JudgeJobEntity job = judgeJobRepository.findByIdForUpdate(judgeJobId)
+                .orElseThrow(() -> new IllegalArgumentException("채점 작업을 찾을 수 없습니다: " + judgeJobId));
+        if (job.getStatus().isFinished()) {
+            log.info("이미 완료된 채점 작업: judgeJobId={}, status={}", judgeJobId, job.getStatus());
+            return false;
+        }
+        if (!job.isLeasedBy(owner)) {
+            log.warn("점유가 다른 노드로 넘어간 채점 작업: judgeJobId={}, owner={}, leaseOwner={}",
+                    judgeJobId, owner, job.getLeaseOwner());
+            return false;
+        }
+
+        SubmissionEntity submission = submissionRepository.findByIdForUpdate(job.getSubmissionEntity().getId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "제출을 찾을 수 없습니다: " + job.getSubmissionEntity().getId()));
 
         // 결과 업데이트
         Integer execTimeMs = judgeResult.getMaxExecutionTime() > 0
@@ -107,29 +188,40 @@ public class SubmissionService {
                 ? judgeResult.getMaxMemoryUsage()
                 : null;
 
+        SubmissionResult previousResult = submission.getResult();
         submission.updateResult(judgeResult.getFinalResult(), execTimeMs, memoryKb);
+        job.complete(judgeResult.getTotalTestCases(), judgeResult.getPassedTestCases());
 
         log.info("채점 완료: submissionId={}, result={}, execTimeMs={}, memoryKb={}",
                 submission.getId(), judgeResult.getFinalResult(), execTimeMs, memoryKb);
 
+        UserEntity user = submission.getUserEntity();
+        ProblemEntity problem = submission.getProblemEntity();
+        userStatisticsService.recordJudged(user.getId(), previousResult, judgeResult.getFinalResult());
+        UserProblemStatusService.Change solvedChange = userProblemStatusService.recordJudged(user, problem,
+                submission.getCreatedAt(), previousResult, judgeResult.getFinalResult());
+        userActivityService.recordJudged(user, problem.getId(), submission.getCreatedAt(),
+                previousResult, judgeResult.getFinalResult());
+
+        if (job.isRejudge()) {
+            applyRejudgedResult(job.getRejudgeJobId(), user, problem, submission.getCreatedAt(),
+                    previousResult, judgeResult.getFinalResult(), solvedChange);
+            return true;
+        }
+
         // 사용자 통계 업데이트
         log.info("사용자 통계 업데이트 메서드 호출 직전 - userId={}, problemId={}, result={}", 
                 user.getId(), problem.getId(), judgeResult.getFinalResult());
         
         try {
-            updateUserStatistics(user, problem, judgeResult.getFinalResult());
+            updateUserStatistics(user, problem, submission.getCreatedAt(), judgeResult.getFinalResult(),
+                    solvedChange);
             log.info("사용자 통계 업데이트 메서드 호출 완료");
         } catch (Exception e) {
             log.error("사용자 통계 업데이트 중 오류 발생", e);
             // 통계 업데이트 실패해도 제출 자체는 성공으로 처리
         }
-
-        // 테스트케이스 정보와 함께 응답 반환
-        return SubmissionResponse.fromWithTestCases(
-                submission, 
-                judgeResult.getTotalTestCases(), 
-                judgeResult.getPassedTestCases()
-        );
+        return true;
     }
     
     /**
@@ -137,9 +229,12 @@ public class SubmissionService {
      *
      * @param user 사용자 엔티티
      * @param problem 문제 엔티티
+     * @param submittedAt 제출 일시 (기간별 점수 버킷 기준)
      * @param result 제출 결과
+     * @param solvedChange 사용자 문제 풀이 상태의 해결 여부 변화
      */
-    protected void updateUserStatistics(UserEntity user, ProblemEntity problem, SubmissionResult result) {
+    protected void updateUserStatistics(UserEntity user, ProblemEntity problem, LocalDateTime submittedAt,
+                                        SubmissionResult result, UserProblemStatusService.Change solvedChange) {
         log.info("사용자 통계 업데이트 시작 - 사용자 ID: {}, 문제 ID: {}, 결과: {}", 
                 user.getId(), problem.getId(), result);
         
@@ -150,30 +245,14 @@ public class SubmissionService {
             return;
         }
         
-        // 이미 해결한 문제인지 확인 (현재 제출 이전의 성공 제출이 있는지 확인)
-        List<SubmissionEntity> previousAcceptedSubmissions = submissionRepository
-                .findByUserEntityIdAndProblemEntityIdAndResult(
-                        user.getId(),
-                        problem.getId(),
-                        SubmissionResult.ACCEPTED
-                );
-        
-        // 현재 제출을 제외하고 이전에 성공한 적이 있는지 확인
-        boolean alreadySolved = previousAcceptedSubmissions.size() > 1;
-
-        log.info("이전 성공 제출 건수: {}, 이미 해결한 문제 여부: {}", 
-                previousAcceptedSubmissions.size(), alreadySolved);
-
-        // 이미 해결한 문제면 통계 업데이트 안 함
-        if (alreadySolved) {
+        // 이미 해결한 문제면 통계 업데이트 안 함 (사용자 문제 풀이 상태가 이번 결과 전에 이미 해결이었는지로 판단)
+        if (!solvedChange.newlySolved()) {
             log.info("이미 해결한 문제 - 사용자 ID: {}, 문제 ID: {}", user.getId(), problem.getId());
             return;
         }
 
         // 문제의 난이도에 따른 점수 가져오기 (기본값: 10)
-        int problemScore = problem.getTierEntity() != null && problem.getTierEntity().getProblemScore() != null
-                ? problem.getTierEntity().getProblemScore()
-                : 10;
+        int problemScore = getProblemScore(problem);
 
         log.info("문제 점수: {}", problemScore);
 
@@ -189,13 +268,76 @@ public class SubmissionService {
                 userStats.getSolvedCount(), userStats.getRankingPoint());
 
         // 통계 업데이트
-        userStats.addSolvedProblem(problemScore);
+        userStats.addSolvedProblem(problemScore, ProblemDifficulty.of(problem));
         userStatisticsRepository.save(userStats);
+        organizationRollupService.addUserStatistics(user, 1, problemScore);
+        userScoreBucketService.record(user, submittedAt.toLocalDate(), 1, problemScore);
+        eventPublisher.publishEvent(new UserStatisticsChangedEvent(
+                user.getId(), userStats.getSolvedCount(), userStats.getRankingPoint()));
 
         log.info("통계 업데이트 완료 - 사용자 ID: {}, 문제 ID: {}, 문제 점수: {}, 새로운 해결 문제 수: {}, 새로운 랭킹 포인트: {}",
                 user.getId(), problem.getId(), problemScore, userStats.getSolvedCount(), userStats.getRankingPoint());
     }
 
+    /**
+     * 재채점으로 결과가 바뀐 만큼 사용자 통계를 보정합니다.
+     * 정답이 새로 생기면 기존 통계 업데이트 경로를 그대로 타고,
+     * 정답이 사라져 해당 문제의 정답 제출이 하나도 남지 않으면 (풀이 상태가 해결에서 시도로 바뀌면)
+     * 해결 수와 점수를 되돌립니다.
+     *
+     * @param rejudgeJobId 재채점 작업 ID
+     * @param user 사용자 엔티티
+     * @param problem 문제 엔티티
+     * @param submittedAt 제출 일시
+     * @param previousResult 재채점 전 결과
+     * @param newResult 재채점 결과
+     * @param solvedChange 사용자 문제 풀이 상태의 해결 여부 변화
+     */
+    private void applyRejudgedResult(Long rejudgeJobId, UserEntity user, ProblemEntity problem,
+                                     LocalDateTime submittedAt, SubmissionResult previousResult,
+                                     SubmissionResult newResult, UserProblemStatusService.Change solvedChange) {
+        if (previousResult == newResult) {
+            return;
+        }
+        rejudgeJobRepository.incrementChangedCount(rejudgeJobId);
+        log.info("재채점 결과 변경: rejudgeJobId={}, userId={}, problemId={}, {} -> {}",
+                rejudgeJobId, user.getId(), problem.getId(), previousResult, newResult);
+
+        if (newResult == SubmissionResult.ACCEPTED) {
+            updateUserStatistics(user, problem, submittedAt, newResult, solvedChange);
+            return;
+        }
+        if (!solvedChange.unsolved()) {
+            return;
+        }
+
+        userStatisticsRepository.findById(user.getId()).ifPresent(userStats -> {
+            long solvedBefore = userStats.getSolvedCount();
+            long pointBefore = userStats.getRankingPoint();
+            userStats.removeSolvedProblem(getProblemScore(problem), ProblemDifficulty.of(problem));
+            organizationRollupService.addUserStatistics(user,
+                    userStats.getSolvedCount() - solvedBefore, userStats.getRankingPoint() - pointBefore);
+            userScoreBucketService.record(user, submittedAt.toLocalDate(),
+                    userStats.getSolvedCount() - solvedBefore, userStats.getRankingPoint() - pointBefore);
+            eventPublisher.publishEvent(new UserStatisticsChangedEvent(
+                    user.getId(), userStats.getSolvedCount(), userStats.getRankingPoint()));
+            log.info("재채점으로 해결 취소 - 사용자 ID: {}, 문제 ID: {}, 해결 문제 수: {}, 랭킹 포인트: {}",
+                    user.getId(), problem.getId(), userStats.getSolvedCount(), userStats.getRankingPoint());
+        });
+    }
+
+    /**
+     * 문제의 난이도에 따른 점수 (기본값: 10)
+     *
+     * @param problem 문제 엔티티
+     * @return 문제 점수
+     */
+    private int getProblemScore(ProblemEntity problem) {
+        return problem.getTierEntity() != null && problem.getTierEntity().getProblemScore() != null
+                ? problem.getTierEntity().getProblemScore()
+                : 10;
+    }
+
     /**
      * 문제 점수에 따른 젬 보상 계산
      * 
@@ -210,57 +352,74 @@ public class SubmissionService {
     }
 
     /**
-     * 제출 ID로 제출 정보를 조회합니다.
+     * 제출 ID로 제출 정보를 조회합니다. 보관된 제출이면 보관 테이블에서 읽습니다.
      *
      * @param submissionId 제출 ID
      * @return 제출 응답 DTO
      */
     public SubmissionResponse getSubmission(Long submissionId) {
-        SubmissionEntity submission = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new IllegalArgumentException("제출을 찾을 수 없습니다: " + submissionId));
-        return SubmissionResponse.from(submission);
+        SubmissionEntity submission = submissionRepository.findById(submissionId).orElse(null);
+        if (submission == null) {
+            return submissionArchiveService.findArchived(submissionId)
+                    .map(SubmissionResponse::from)
+                    .orElseThrow(() -> new IllegalArgumentException("제출을 찾을 수 없습니다: " + submissionId));
+        }
+        return judgeJobRepository.findTopBySubmissionEntity_IdOrderByIdDesc(submissionId)
+                .filter(job -> job.getTotalTestCases() != null)
+                .map(job -> SubmissionResponse.fromWithTestCases(
+                        submission, job.getTotalTestCases(), job.getPassedTestCases()))
+                .orElseGet(() -> SubmissionResponse.from(submission));
     }
 
     /**
-     * 사용자의 제출 목록을 조회합니다.
+     * 사용자의 제출 목록을 최신순으로 커서 페이징 조회합니다 (소스 코드 제외).
      *
      * @param userId 사용자 ID
-     * @return 제출 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 제출 목록 페이지
      */
-    public List<SubmissionResponse> getSubmissionsByUser(Long userId) {
-        return submissionRepository.findByUserEntity_Id(userId).stream()
-                .map(SubmissionResponse::from)
-                .toList();
+    public CursorPageResponse<SubmissionResponse> getSubmissionsByUser(Long userId, String cursor, int size) {
+        SubmissionCursor position = SubmissionCursor.decode(cursor);
+        return toCursorPage(submissionRepository.findUserSummariesBefore(
+                        userId, position.createdAt(), position.id(), limitOf(size)),
+                () -> submissionArchiveRepository.findUserSummariesBefore(
+                        userId, position.createdAt(), position.id(), limitOf(size)),
+                size);
     }
 
     /**
-     * 문제의 제출 목록을 조회합니다.
+     * 문제의 제출 목록을 최신순으로 커서 페이징 조회합니다 (소스 코드 제외).
      *
      * @param problemId 문제 ID
-     * @return 제출 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 제출 목록 페이지
      */
-    public List<SubmissionResponse> getSubmissionsByProblem(Long problemId) {
-        return submissionRepository.findByProblemEntity_Id(problemId).stream()
-                .map(SubmissionResponse::from)
-                .toList();
+    public CursorPageResponse<SubmissionResponse> getSubmissionsByProblem(Long problemId, String cursor, int size) {
+        SubmissionCursor position = SubmissionCursor.decode(cursor);
+        return toCursorPage(submissionRepository.findProblemSummariesBefore(
+                        problemId, position.createdAt(), position.id(), limitOf(size)),
+                () -> submissionArchiveRepository.findProblemSummariesBefore(
+                        problemId, position.createdAt(), position.id(), limitOf(size)),
+                size);
     }
 
     /**
-     * 전체 제출 목록을 최신순으로 조회합니다.
+     * 전체 제출 목록을 최신순으로 커서 페이징 조회합니다 (소스 코드 제외).
+     * OFFSET 없이 (제출 일시, ID) 인덱스에서 커서 위치부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
      *
-     * @param page 페이지 번호 (0부터 시작)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
      * @param size 페이지 크기
-     * @return 제출 목록
+     * @return 제출 목록 페이지
      */
-    public List<SubmissionResponse> getAllSubmissions(int page, int size) {
-        org.springframework.data.domain.Pageable pageable = 
-                org.springframework.data.domain.PageRequest.of(page, size, 
-                        org.springframework.data.domain.Sort.by(
-                                org.springframework.data.domain.Sort.Direction.DESC, "createdAt"));
-        
-        return submissionRepository.findAll(pageable).stream()
-                .map(SubmissionResponse::from)
-                .toList();
+    public CursorPageResponse<SubmissionResponse> getAllSubmissions(String cursor, int size) {
+        SubmissionCursor position = SubmissionCursor.decode(cursor);
+        return toCursorPage(submissionRepository.findSummariesBefore(
+                        position.createdAt(), position.id(), limitOf(size)),
+                () -> submissionArchiveRepository.findSummariesBefore(
+                        position.createdAt(), position.id(), limitOf(size)),
+                size);
     }
 
     /**
@@ -282,39 +441,7 @@ public class SubmissionService {
         // 테스트케이스 실행
         List<TestCaseResult> results = testCaseExecutor.executeTestCases(sourceCode, language, testCases);
 
-        // 결과 집계
-        int passedCount = (int) results.stream()
-                .filter(result -> result.getResult() == SubmissionResult.ACCEPTED)
-                .count();
-
-        // 최종 결과 결정
-        SubmissionResult finalResult = results.stream()
-                .map(TestCaseResult::getResult)
-                .filter(result -> result != SubmissionResult.ACCEPTED)
-                .findFirst()
-                .orElse(SubmissionResult.ACCEPTED);
-
-        // 최대 실행 시간 및 메모리 사용량 계산
-        double maxExecutionTime = results.stream()
-                .map(TestCaseResult::getExecutionTime)
-                .filter(Objects::nonNull)
-                .max(Double::compareTo)
-                .orElse(0.0);
-
-        int maxMemoryUsage = results.stream()
-                .map(TestCaseResult::getMemoryUsage)
-                .filter(Objects::nonNull)
-                .max(Integer::compareTo)
-                .orElse(0);
-
-        return JudgeResultSummary.builder()
-                .finalResult(finalResult)
-                .totalTestCases(testCases.size())
-                .passedTestCases(passedCount)
-                .maxExecutionTime(maxExecutionTime)
-                .maxMemoryUsage(maxMemoryUsage)
-                .testCaseResults(results)
-                .build();
+        return JudgeResultSummary.of(testCases.size(), results);
     }
 
     /**
@@ -365,6 +492,48 @@ public class SubmissionService {
         private final int maxMemoryUsage;
         private final List<TestCaseResult> testCaseResults;
 
+        /**
+         * 테스트케이스 실행 결과를 집계합니다.
+         *
+         * @param totalTestCases 전체 테스트케이스 수
+         * @param results 테스트케이스 실행 결과 목록
+         * @return 채점 결과 요약
+         */
+        public static JudgeResultSummary of(int totalTestCases, List<TestCaseResult> results) {
+            int passedCount = (int) results.stream()
+                    .filter(result -> result.getResult() == SubmissionResult.ACCEPTED)
+                    .count();
+
+            // 최종 결과 결정
+            SubmissionResult finalResult = results.stream()
+                    .map(TestCaseResult::getResult)
+                    .filter(result -> result != SubmissionResult.ACCEPTED)
+                    .findFirst()
+                    .orElse(SubmissionResult.ACCEPTED);
+
+            // 최대 실행 시간 및 메모리 사용량 계산
+            double maxExecutionTime = results.stream()
+                    .map(TestCaseResult::getExecutionTime)
+                    .filter(Objects::nonNull)
+                    .max(Double::compareTo)
+                    .orElse(0.0);
+
+            int maxMemoryUsage = results.stream()
+                    .map(TestCaseResult::getMemoryUsage)
+                    .filter(Objects::nonNull)
+                    .max(Integer::compareTo)
+                    .orElse(0);
+
+            return JudgeResultSummary.builder()
+                    .finalResult(finalResult)
+                    .totalTestCases(totalTestCases)
+                    .passedTestCases(passedCount)
+                    .maxExecutionTime(maxExecutionTime)
+                    .maxMemoryUsage(maxMemoryUsage)
+                    .testCaseResults(results)
+                    .build();
+        }
+
         public static JudgeResultSummary noTestCase() {
             return JudgeResultSummary.builder()
                     .finalResult(SubmissionResult.RUNTIME_ERROR)
@@ -496,6 +665,75 @@ public class SubmissionService {
             return memoryUsage != null ? memoryUsage / 1024.0 : 0.0;
         }
     }
-}
 
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+    private PageRequest limitOf(int size) {
+        return PageRequest.of(0, clampPageSize(size) + 1);
+    }
 
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 최근 제출 페이지가 보관된 제출 구간에 닿을 때만 보관 테이블을 함께 읽어 합친다.
+     * 보관된 제출은 모두 가장 최근 보관 제출 일시 이전이므로, 그보다 최근 행으로 페이지가 채워지면 읽을 필요가 없다.
+     */
+    private CursorPageResponse<SubmissionResponse> toCursorPage(List<SubmissionSummaryProjection> live,
+                                                                Supplier<List<SubmissionSummaryProjection>> archived,
+                                                                int size) {
+        int limit = clampPageSize(size) + 1;
+        LocalDateTime lastLiveAt = live.size() < limit ? null : live.get(live.size() - 1).getCreatedAt();
+        boolean reachesArchive = submissionArchiveService.findLatestArchivedAt()
+                .map(latest -> lastLiveAt == null || !lastLiveAt.isAfter(latest))
+                .orElse(false);
+        if (!reachesArchive) {
+            return toCursorPage(live, size);
+        }
+        List<SubmissionSummaryProjection> merged = Stream.concat(live.stream(), archived.get().stream())
+                .sorted(Comparator.comparing(SubmissionSummaryProjection::getCreatedAt)
+                        .thenComparing(SubmissionSummaryProjection::getId)
+                        .reversed())
+                .limit(limit)
+                .toList();
+        return toCursorPage(merged, size);
+    }
+
+    private CursorPageResponse<SubmissionResponse> toCursorPage(List<SubmissionSummaryProjection> rows, int size) {
+        int pageSize = clampPageSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<SubmissionSummaryProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        SubmissionSummaryProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<SubmissionResponse>builder()
+                .items(page.stream().map(SubmissionResponse::from).toList())
+                .nextCursor(hasNext ? new SubmissionCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 제출 목록 커서 (마지막으로 받은 제출의 일시와 ID). 클라이언트에는 불투명한 문자열로 전달한다.
+     */
+    record SubmissionCursor(LocalDateTime createdAt, Long id) {
+
+        // 첫 페이지: 모든 제출보다 뒤
+        private static final SubmissionCursor FIRST = new SubmissionCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+        static SubmissionCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return FIRST;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_", 2);
+                return new SubmissionCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.okestro.okestroonlinejudge.service;
 import com.okestro.okestroonlinejudge.client.Judge0Client;
 import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.exception.JudgeInfrastructureException;
 import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -15,20 +18,20 @@ import java.util.concurrent.*;
 
 /**
  * 테스트케이스 실행을 담당하는 서비스.
+ * 테스트케이스마다 {@code judge.testcase} span을 호출한 쪽의 span 아래에 만들고,
+ * 입출력 파일 조회는 {@code judge.testcase.fetch} span으로 추적한다.
  *
  * @author Cascade
  * @since 2025-12-08
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TestCaseExecutor {
 
     private final Judge0Client judge0Client;
     private final StorageService storageService;
-
-    @Value("${judge0.max-concurrent-executions:5}")
-    private int maxConcurrentExecutions;
+    private final Executor judge0Executor;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${judge0.timeout-multiplier:2.0}")
     private double timeoutMultiplier;
@@ -42,6 +45,16 @@ public class TestCaseExecutor {
     @Value("${minio.testcase-bucket-name:okestro-testcases}")
     private String testcaseBucketName;
 
+    public TestCaseExecutor(Judge0Client judge0Client,
+                            StorageService storageService,
+                            @Qualifier("judge0Executor") Executor judge0Executor,
+                            ObservationRegistry observationRegistry) {
+        this.judge0Client = judge0Client;
+        this.storageService = storageService;
+        this.judge0Executor = judge0Executor;
+        this.observationRegistry = observationRegistry;
+    }
+
     /**
      * 테스트케이스들을 실행하고 결과를 반환합니다.
      *
@@ -51,49 +64,80 @@ public class TestCaseExecutor {
      * @return 테스트케이스 실행 결과 목록
      */
     public List<TestCaseResult> executeTestCases(String sourceCode, String language, List<TestCaseEntity> testCases) {
-        List<TestCaseResult> results = new ArrayList<>();
-        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrentExecutions);
-        List<Future<TestCaseResult>> futures = new ArrayList<>();
+        return executeTestCases(sourceCode, language, testCases, TokenTracker.NONE);
+    }
 
-        try {
-            // 모든 테스트케이스를 비동기로 실행
-            for (int i = 0; i < testCases.size(); i++) {
-                final int index = i;
-                Future<TestCaseResult> future = executor.submit(() -> 
-                    executeSingleTestCase(sourceCode, language, testCases.get(index), index + 1)
-                );
-                futures.add(future);
-            }
+    /**
+     * 발급된 Judge0 토큰을 추적하면서 테스트케이스들을 실행합니다.
+     * 이미 토큰이 있는 테스트케이스는 재제출하지 않고 결과 폴링만 이어서 수행합니다.
+     * 토큰을 추적할 때는 Judge0나 저장소 장애를 결과로 바꾸지 않고 {@link JudgeInfrastructureException}으로 던지므로,
+     * 호출한 쪽은 작업을 다시 시도할 수 있습니다. 추적하지 않으면 장애도 런타임 에러 결과로 돌려줍니다.
+     *
+     * @param sourceCode   소스 코드
+     * @param language     프로그래밍 언어
+     * @param testCases    테스트케이스 목록
+     * @param tokenTracker 토큰 조회/저장 및 진행 상황 콜백
+     * @return 테스트케이스 실행 결과 목록
+     * @throws JudgeInfrastructureException 토큰을 추적하는 채점이 장애로 끝나지 못한 경우
+     */
+    public List<TestCaseResult> executeTestCases(String sourceCode, String language, List<TestCaseEntity> testCases,
+                                                 TokenTracker tokenTracker) {
+        // 노드 공용 Judge0 스레드 풀에서 비동기로 실행 (동시 호출 수는 풀 크기로 제한됨)
+        List<CompletableFuture<TestCaseResult>> futures = new ArrayList<>();
+        // 다른 스레드에서 실행되므로 현재 span을 명시적으로 부모로 넘긴다
+        Observation parent = observationRegistry.getCurrentObservation();
+        for (int i = 0; i < testCases.size(); i++) {
+            final int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> Observation
+                    .createNotStarted("judge.testcase", observationRegistry)
+                    .parentObservation(parent)
+                    .highCardinalityKeyValue("testcase.number", String.valueOf(index + 1))
+                    .observe(() -> {
+                        TestCaseResult result = executeSingleTestCase(
+                                sourceCode, language, testCases.get(index), index + 1, tokenTracker);
+                        tokenTracker.onTestCaseFinished(result);
+                        return result;
+                    }), judge0Executor));
+        }
 
-            // 결과 수집
-            for (Future<TestCaseResult> future : futures) {
-                try {
-                    results.add(future.get());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error("테스트케이스 실행 중단됨", e);
-                    // 중단된 테스트케이스에 대한 오류 결과 추가
-                    results.add(createErrorResult("테스트케이스 실행이 중단되었습니다."));
-                } catch (ExecutionException e) {
-                    log.error("테스트케이스 실행 중 오류 발생", e);
-                    results.add(createErrorResult("테스트케이스 실행 중 오류가 발생했습니다: " + e.getCause().getMessage()));
-                }
-            }
-        } finally {
-            executor.shutdown();
+        // 결과 수집
+        List<TestCaseResult> results = new ArrayList<>();
+        for (CompletableFuture<TestCaseResult> future : futures) {
             try {
-                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                }
+                results.add(future.get());
             } catch (InterruptedException e) {
-                executor.shutdownNow();
                 Thread.currentThread().interrupt();
+                log.error("테스트케이스 실행 중단됨", e);
+                if (tokenTracker != TokenTracker.NONE) {
+                    cancelAll(futures, tokenTracker);
+                    throw new JudgeInfrastructureException("테스트케이스 실행이 중단되었습니다.", e);
+                }
+                // 중단된 테스트케이스에 대한 오류 결과 추가
+                results.add(createErrorResult("테스트케이스 실행이 중단되었습니다."));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof JudgeInfrastructureException infrastructureError) {
+                    // 작업은 어차피 다시 시도되므로 남은 테스트케이스는 더 돌리지 않는다
+                    cancelAll(futures, tokenTracker);
+                    throw infrastructureError;
+                }
+                log.error("테스트케이스 실행 중 오류 발생", e);
+                results.add(createErrorResult("테스트케이스 실행 중 오류가 발생했습니다: " + e.getCause().getMessage()));
             }
         }
 
         return results;
     }
 
+    /**
+     * 아직 끝나지 않은 테스트케이스 실행을 취소합니다.
+     * 시작 전인 테스트케이스는 실행되지 않고, 이미 Judge0를 호출 중인 테스트케이스는
+     * 끝나더라도 추적기가 콜백을 무시해 반납된 작업의 토큰이나 진행 상황을 남기지 않습니다.
+     */
+    private void cancelAll(List<CompletableFuture<TestCaseResult>> futures, TokenTracker tokenTracker) {
+        tokenTracker.onAbandoned();
+        futures.forEach(future -> future.cancel(true));
+    }
+
     /**
      * 단일 테스트케이스를 실행합니다.
      *
@@ -101,24 +145,22 @@ public class TestCaseExecutor {
      * @param language   프로그래밍 언어
      * @param testCase   테스트케이스 엔티티
      * @param testCaseNumber 테스트케이스 번호
+     * @param tokenTracker 토큰 조회/저장 콜백
      * @return 테스트케이스 실행 결과
      */
     private TestCaseResult executeSingleTestCase(String sourceCode, String language,
-                                               TestCaseEntity testCase, int testCaseNumber) {
+                                               TestCaseEntity testCase, int testCaseNumber,
+                                               TokenTracker tokenTracker) {
         try {
-            String input = storageService.readString(testCase.getInputPath(), testcaseBucketName);
-            String expectedOutput = storageService.readString(testCase.getOutputPath(), testcaseBucketName);
+            String input = fetch(testCase.getInputPath(), "input");
+            String expectedOutput = fetch(testCase.getOutputPath(), "output");
             
             log.debug("테스트케이스 {} - input 길이: {}, output 길이: {}", 
                     testCaseNumber, input.length(), expectedOutput.length());
 
-            // Judge0로 코드 실행
-            Judge0Client.JudgeResult judgeResult = judge0Client.judge(
-                    sourceCode,
-                    language,
-                    input,
-                    expectedOutput
-            );
+            // Judge0로 코드 실행 (이전에 발급된 토큰이 있으면 폴링만 재개)
+            Judge0Client.JudgeResult judgeResult = judge(sourceCode, language, input, expectedOutput,
+                    testCase.getId(), testCaseNumber, tokenTracker);
 
             // 결과 반환
             return TestCaseResult.builder()
@@ -137,10 +179,113 @@ public class TestCaseExecutor {
                     .build();
         } catch (Exception e) {
             log.error("테스트케이스 {} 실행 중 오류 발생: {}", testCaseNumber, e.getMessage(), e);
+            if (tokenTracker != TokenTracker.NONE) {
+                // 채점 작업은 결과 대신 장애로 끝내 다시 시도하게 한다
+                throw e instanceof JudgeInfrastructureException infrastructureError ? infrastructureError
+                        : new JudgeInfrastructureException("테스트케이스 실행 중 오류가 발생했습니다: " + e.getMessage(), e);
+            }
             return createErrorResult("테스트케이스 실행 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 저장소에서 테스트케이스 파일을 읽습니다.
+     */
+    private String fetch(String path, String file) {
+        return Observation.createNotStarted("judge.testcase.fetch", observationRegistry)
+                .lowCardinalityKeyValue("file", file)
+                .observe(() -> storageService.readString(path, testcaseBucketName));
+    }
+
+    /**
+     * 토큰을 재사용하거나 새로 발급받아 Judge0 채점 결과를 가져옵니다.
+     */
+    private Judge0Client.JudgeResult judge(String sourceCode, String language, String input, String expectedOutput,
+                                           Long testCaseId, int testCaseNumber, TokenTracker tokenTracker) {
+        if (tokenTracker == TokenTracker.NONE) {
+            return judge0Client.judge(sourceCode, language, input, expectedOutput);
+        }
+
+        String token = tokenTracker.findToken(testCaseId);
+        if (token != null) {
+            Judge0Client.JudgeResult resumed = judge0Client.pollResult(token);
+            if (!isTokenNotFound(resumed)) {
+                log.info("테스트케이스 {} - 기존 토큰으로 결과 조회 재개: token={}", testCaseNumber, token);
+                return resumed;
+            }
+            log.info("테스트케이스 {} - 토큰이 만료되어 재제출합니다: token={}", testCaseNumber, token);
+        }
+
+        token = judge0Client.createSubmission(sourceCode, language, input, expectedOutput);
+        if (token == null) {
+            return Judge0Client.JudgeResult.error("지원하지 않는 언어입니다: " + language);
+        }
+        tokenTracker.onTokenIssued(testCaseId, testCaseNumber, token);
+        Judge0Client.JudgeResult result = judge0Client.pollResult(token);
+        if (isTokenNotFound(result)) {
+            throw new JudgeInfrastructureException("방금 발급된 Judge0 토큰을 찾을 수 없습니다: " + token);
+        }
+        return result;
+    }
+
+    private static boolean isTokenNotFound(Judge0Client.JudgeResult result) {
+        return Judge0Client.TOKEN_NOT_FOUND_MESSAGE.equals(result.getErrorMessage());
+    }
+
+    /**
+     * 테스트케이스별 Judge0 토큰을 조회/저장하는 콜백.
+     * 채점 작업을 재개할 때 이미 제출된 테스트케이스를 다시 제출하지 않기 위해 사용하며,
+     * 테스트케이스가 끝날 때마다 진행 상황도 전달받습니다.
+     */
+    public interface TokenTracker {
+
+        /**
+         * 토큰을 추적하지 않는 기본 구현.
+         */
+        TokenTracker NONE = new TokenTracker() {
+            @Override
+            public String findToken(Long testCaseId) {
+                return null;
+            }
+
+            @Override
+            public void onTokenIssued(Long testCaseId, int testCaseNumber, String token) {
+            }
+        };
+
+        /**
+         * 테스트케이스에 대해 이미 발급된 토큰을 조회합니다.
+         *
+         * @param testCaseId 테스트케이스 ID
+         * @return 토큰, 없으면 null
+         */
+        String findToken(Long testCaseId);
+
+        /**
+         * 새로 발급된 토큰을 저장합니다.
+         *
+         * @param testCaseId 테스트케이스 ID
+         * @param testCaseNumber 테스트케이스 번호
+         * @param token Judge0 토큰
+         */
+        void onTokenIssued(Long testCaseId, int testCaseNumber, String token);
+
+        /**
+         * 테스트케이스 하나의 채점이 끝났을 때 호출됩니다. 끝난 순서대로, 여러 스레드에서 호출될 수 있습니다.
+         *
+         * @param result 테스트케이스 결과
+         */
+        default void onTestCaseFinished(TestCaseResult result) {
+        }
+
+        /**
+         * 채점이 장애로 중단되어 작업이 반납될 때 호출됩니다.
+         * 이후에도 아직 실행 중이던 테스트케이스에서 콜백이 올 수 있으므로, 구현은 이를 무시해야 합니다.
+         */
+        default void onAbandoned() {
+        }
+    }
+
     /**
      * 오류 결과를 생성합니다.
      *
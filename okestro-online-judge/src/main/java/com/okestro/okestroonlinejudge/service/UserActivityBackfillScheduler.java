@@ -0,0 +1,38 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 연도별 해결 기록이 없는 해를 주기적으로 조금씩 제출 기록으로 만드는 스케줄러.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Component
+public class UserActivityBackfillScheduler {
+
+    private final ChunkedBackfill progress;
+    private final boolean enabled;
+
+    public UserActivityBackfillScheduler(UserActivityService userActivityService,
+                                         @Value("${user-activity.backfill-enabled:true}") boolean enabled,
+                                         @Value("${user-activity.backfill-chunk-size:50}") int chunkSize) {
+        this.enabled = enabled;
+        this.progress = new ChunkedBackfill("사용자 날짜별 해결 기록 백필",
+                afterId -> userActivityService.backfill(afterId, chunkSize, LocalDate.now().getYear()));
+    }
+
+    /**
+     * 다음 묶음의 사용자를 처리한다. 더 처리할 사용자가 없으면 이후 주기는 아무것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${user-activity.backfill-interval-ms:1000}")
+    public void backfill() {
+        if (enabled) {
+            progress.runChunk();
+        }
+    }
+}
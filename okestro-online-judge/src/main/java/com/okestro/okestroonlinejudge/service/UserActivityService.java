@@ -0,0 +1,211 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.UserActivityYearEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.dto.response.StreakDateDto;
+import com.okestro.okestroonlinejudge.repository.SubmissionArchiveRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.UserActivityYearRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.repository.projection.AcceptedSubmissionProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자의 날짜별 해결 기록({@link UserActivityYearEntity})을 유지하고 스트릭을 계산하는 서비스.
+ * 그날 어떤 문제의 첫 정답이 나오거나 마지막 정답이 사라질 때만 그해 기록 한 행의 그날 해결 수를 증감하므로,
+ * 스트릭과 잔디 조회는 제출을 읽지 않고 한두 행의 비트 연산으로 끝난다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserActivityService {
+
+    private final UserActivityYearRepository userActivityYearRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionArchiveRepository submissionArchiveRepository;
+    private final SubmissionArchiveService submissionArchiveService;
+    private final UserRepository userRepository;
+
+    /**
+     * 채점(재채점 포함) 결과를 날짜별 해결 기록에 반영한다. 제출 결과가 바뀐 뒤 같은 트랜잭션에서 호출한다.
+     * 해결 수는 그날 정답을 낸 서로 다른 문제 수이므로, 그날 그 문제의 첫 정답이 생기거나 마지막 정답이 사라질 때만 바뀐다.
+     * 그해 기록 행을 먼저 잠근 뒤 그날 정답 수를 세므로, 같은 날 같은 문제의 채점이 동시에 끝나도
+     * 뒤에 잠금을 얻은 쪽은 앞선 쪽이 커밋한 결과까지 보고 판단한다.
+     *
+     * @param user 사용자
+     * @param problemId 문제 ID
+     * @param submittedAt 채점된 제출의 제출 일시
+     * @param previousResult 이전 결과
+     * @param newResult 새 결과
+     */
+    @Transactional
+    public void recordJudged(UserEntity user, Long problemId, LocalDateTime submittedAt,
+                             SubmissionResult previousResult, SubmissionResult newResult) {
+        boolean accepted = newResult == SubmissionResult.ACCEPTED;
+        if (accepted == (previousResult == SubmissionResult.ACCEPTED)) {
+            return;
+        }
+        LocalDate date = submittedAt.toLocalDate();
+        UserActivityYearEntity activity = userActivityYearRepository.findForUpdate(user.getId(), date.getYear())
+                .orElse(null);
+        if (activity == null) {
+            // 제출 기록으로 계산하면 이번 결과가 이미 들어 있다
+            userActivityYearRepository.saveAndFlush(
+                    new UserActivityYearEntity(user, date.getYear(), computeCounts(user.getId(), date.getYear())));
+            return;
+        }
+
+        // 잠금을 얻은 뒤 실행하는 조회라 잠금을 먼저 가졌던 트랜잭션의 커밋된 결과가 포함된다
+        long acceptedThatDay = submissionRepository.countByProblemAndResultBetween(user.getId(), problemId,
+                SubmissionResult.ACCEPTED, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        int delta = accepted ? (acceptedThatDay == 1 ? 1 : 0) : (acceptedThatDay == 0 ? -1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        activity.addSolved(date, delta);
+    }
+
+    /**
+     * 기간 동안의 해결 기록으로 스트릭을 계산한다.
+     * 기간에 걸친 연도별 기록의 비트를 기간 기준으로 옮겨 담은 뒤, 연속 구간은 비트 탐색으로 찾는다.
+     *
+     * @param userId 사용자 ID
+     * @param start 시작일 (포함)
+     * @param end 종료일 (포함)
+     * @param today 오늘 (현재 스트릭 기준)
+     * @return 스트릭
+     */
+    public Streak getStreak(Long userId, LocalDate start, LocalDate end, LocalDate today) {
+        if (end.isBefore(start)) {
+            return new Streak(0L, 0, 0, List.of());
+        }
+        int length = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        BitSet days = new BitSet(length);
+        int[] counts = new int[length];
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            UserActivityYearEntity activity = findYear(userId, year);
+            BitSet yearDays = activity.getDays();
+            int offset = (int) ChronoUnit.DAYS.between(start, LocalDate.of(year, 1, 1));
+            for (int day = yearDays.nextSetBit(Math.max(0, -offset)); day >= 0 && day + offset < length;
+                 day = yearDays.nextSetBit(day + 1)) {
+                days.set(day + offset);
+                counts[day + offset] = activity.getCount(day);
+            }
+        }
+
+        long totalSolved = 0;
+        int maxStreak = 0;
+        List<StreakDateDto> solvedDays = new ArrayList<>(days.cardinality());
+        int from = days.nextSetBit(0);
+        while (from >= 0) {
+            int to = days.nextClearBit(from);
+            maxStreak = Math.max(maxStreak, to - from);
+            for (int day = from; day < to; day++) {
+                totalSolved += counts[day];
+                solvedDays.add(StreakDateDto.builder()
+                        .date(start.plusDays(day).toString())
+                        .count((long) counts[day])
+                        .build());
+            }
+            from = days.nextSetBit(to);
+        }
+
+        // 현재 스트릭: 오늘부터 (오늘 안 풀었으면 어제부터) 거꾸로 이어진 날 수. 조회 기간이 최근을 포함할 때만 계산한다
+        int currentStreak = 0;
+        if (!end.isBefore(today.minusDays(1))) {
+            int day = (int) Math.min(ChronoUnit.DAYS.between(start, today), length - 1);
+            if (day >= 0 && !days.get(day)) {
+                day--;
+            }
+            if (day >= 0 && days.get(day)) {
+                currentStreak = day - days.previousClearBit(day);
+            }
+        }
+        return new Streak(totalSolved, maxStreak, currentStreak, solvedDays);
+    }
+
+    /**
+     * 다음 묶음의 사용자에 대해 가입한 해부터 올해까지 기록이 없는 연도를 제출 기록으로 계산해 만든다.
+     *
+     * @param afterId 이 사용자 ID 이후부터 처리
+     * @param chunkSize 한 번에 처리할 사용자 수
+     * @param thisYear 올해
+     * @return 이번에 처리한 마지막 사용자 ID (처리할 사용자가 없으면 null)
+     */
+    @Transactional
+    public Long backfill(Long afterId, int chunkSize, int thisYear) {
+        List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        for (UserEntity user : userRepository.findAllById(userIds)) {
+            Set<Integer> existing = new HashSet<>(userActivityYearRepository.findYearsByUserId(user.getId()));
+            int firstYear = user.getCreatedAt() != null ? user.getCreatedAt().getYear() : thisYear - 1;
+            for (int year = Math.min(firstYear, thisYear); year <= thisYear; year++) {
+                if (!existing.contains(year)) {
+                    userActivityYearRepository.save(
+                            new UserActivityYearEntity(user, year, computeCounts(user.getId(), year)));
+                }
+            }
+        }
+        return userIds.isEmpty() ? null : userIds.get(userIds.size() - 1);
+    }
+
+    /**
+     * 그해 기록을 읽는다. 아직 없으면 (백필 전) 제출 기록으로 계산한 기록을 저장하지 않고 돌려준다.
+     */
+    private UserActivityYearEntity findYear(Long userId, int year) {
+        return userActivityYearRepository.findByUserIdAndYear(userId, year)
+                .orElseGet(() -> new UserActivityYearEntity(userRepository.getReferenceById(userId), year,
+                        computeCounts(userId, year)));
+    }
+
+    /**
+     * 최근 제출과 보관된 제출의 정답으로 그해 날짜별 해결한 서로 다른 문제 수를 계산한다.
+     */
+    private int[] computeCounts(Long userId, int year) {
+        LocalDateTime from = LocalDate.of(year, 1, 1).atStartOfDay();
+        LocalDateTime to = LocalDate.of(year + 1, 1, 1).atStartOfDay();
+        List<AcceptedSubmissionProjection> accepted = new ArrayList<>(
+                submissionRepository.findAcceptedBetween(userId, SubmissionResult.ACCEPTED, from, to));
+        if (!from.isAfter(submissionArchiveService.cutoff())) {
+            accepted.addAll(submissionArchiveRepository.findAcceptedBetween(
+                    userId, SubmissionResult.ACCEPTED, from, to));
+        }
+
+        Map<Integer, Set<Long>> problemsByDay = new HashMap<>();
+        for (AcceptedSubmissionProjection submission : accepted) {
+            problemsByDay.computeIfAbsent(submission.getCreatedAt().getDayOfYear() - 1, day -> new HashSet<>())
+                    .add(submission.getProblemId());
+        }
+        int[] counts = new int[UserActivityYearEntity.MAX_DAYS];
+        problemsByDay.forEach((day, problems) -> counts[day] = problems.size());
+        return counts;
+    }
+
+    /**
+     * 기간 동안의 스트릭.
+     *
+     * @param totalSolved 기간 동안 날짜별 해결 수의 합
+     * @param maxStreak 최장 연속 해결 일수
+     * @param currentStreak 현재 연속 해결 일수
+     * @param days 해결한 날짜와 해결 수 (날짜 오름차순)
+     */
+    public record Streak(long totalSolved, int maxStreak, int currentStreak, List<StreakDateDto> days) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
+import com.okestro.okestroonlinejudge.event.UserProblemStatusChangedEvent;
+import com.okestro.okestroonlinejudge.repository.UserProblemStatusRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserProblemStatusProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별로 푼 문제와 시도한 문제의 ID 비트맵({@link ProblemIdBitmap})을 담아 두는 LRU 캐시.
+ * 문제 목록의 풀이 상태 표시는 캐시에 있는 사용자라면 쿼리 없이 비트맵만 확인한다.
+ * 캐시에 없으면 사용자 문제 풀이 상태로 한 번에 구성하고, 이후에는 커밋된 상태 변경 이벤트로 갱신한다.
+ * 다른 노드에서 일어난 변경은 항목이 오래되면 다시 구성해 맞춘다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class UserProblemBitmapCache {
+
+    private final UserProblemStatusRepository userProblemStatusRepository;
+    private final long maxAgeMs;
+
+    // 접근 순서를 유지하는 LRU (가장 오래 쓰지 않은 사용자부터 버린다)
+    private final Map<Long, Entry> entries;
+
+    // 구성 중에 커밋된 변경. 조회 시점 이후의 변경이 새 항목에서 빠지지 않도록 구성 후 다시 적용한다
+    private final Map<Long, List<UserProblemStatusChangedEvent>> changedDuringLoad = new HashMap<>();
+
+    public UserProblemBitmapCache(UserProblemStatusRepository userProblemStatusRepository,
+                                  @Value("${user-problem-status.bitmap-cache-size:10000}") int maxSize,
+                                  @Value("${user-problem-status.bitmap-max-age-ms:300000}") long maxAgeMs) {
+        this.userProblemStatusRepository = userProblemStatusRepository;
+        this.maxAgeMs = maxAgeMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 사용자의 주어진 문제들에 대한 풀이 상태를 비트맵으로 확인한다.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 문제 ID별 상태 (시도하지 않은 문제는 없음)
+     */
+    public Map<Long, ProblemStatus> getStatuses(Long userId, Collection<Long> problemIds) {
+        Entry entry = lookup(userId);
+        if (entry == null) {
+            entry = load(userId);
+        }
+        Map<Long, ProblemStatus> statuses = new HashMap<>();
+        synchronized (this) {
+            for (Long problemId : problemIds) {
+                if (entry.solved.contains(problemId)) {
+                    statuses.put(problemId, ProblemStatus.SOLVED);
+                } else if (entry.attempted.contains(problemId)) {
+                    statuses.put(problemId, ProblemStatus.ATTEMPTED);
+                }
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * 커밋된 풀이 상태 변경을 캐시에 있는 비트맵에 반영한다.
+     *
+     * @param event 풀이 상태 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onStatusChanged(UserProblemStatusChangedEvent event) {
+        Entry entry = entries.get(event.userId());
+        if (entry != null) {
+            entry.apply(event.problemId(), event.status());
+        }
+        List<UserProblemStatusChangedEvent> pending = changedDuringLoad.get(event.userId());
+        if (pending != null) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * 캐시에 있는 사용자 수.
+     *
+     * @return 사용자 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry lookup(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt > maxAgeMs) {
+            entries.remove(userId);
+            return null;
+        }
+        return entry;
+    }
+
+    private Entry load(Long userId) {
+        synchronized (this) {
+            changedDuringLoad.putIfAbsent(userId, new ArrayList<>());
+        }
+        Entry entry = new Entry(System.currentTimeMillis());
+        try {
+            for (UserProblemStatusProjection status : userProblemStatusRepository.findStatusesByUserId(userId)) {
+                entry.apply(status.getProblemId(), status.getStatus());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringLoad.remove(userId);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            List<UserProblemStatusChangedEvent> changed = changedDuringLoad.remove(userId);
+            if (changed != null) {
+                changed.forEach(event -> entry.apply(event.problemId(), event.status()));
+            }
+            entries.put(userId, entry);
+        }
+        log.debug("풀이 상태 비트맵 구성: userId={}, attempted={}, solved={}",
+                userId, entry.attempted.cardinality(), entry.solved.cardinality());
+        return entry;
+    }
+
+    /**
+     * 한 사용자의 시도한 문제(해결 포함)와 해결한 문제 비트맵.
+     */
+    private static final class Entry {
+        private final ProblemIdBitmap attempted = new ProblemIdBitmap();
+        private final ProblemIdBitmap solved = new ProblemIdBitmap();
+        private final long loadedAt;
+
+        Entry(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        void apply(Long problemId, ProblemStatus status) {
+            if (status == ProblemStatus.NOT_ATTEMPTED) {
+                attempted.remove(problemId);
+                solved.remove(problemId);
+                return;
+            }
+            attempted.add(problemId);
+            if (status == ProblemStatus.SOLVED) {
+                solved.add(problemId);
+            } else {
+                solved.remove(problemId);
+            }
+        }
+    }
+}
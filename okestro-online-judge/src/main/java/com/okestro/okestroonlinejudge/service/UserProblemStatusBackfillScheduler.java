@@ -0,0 +1,36 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 문제 풀이 상태 행이 없거나 마지막 시도가 비어 있는 (사용자, 문제)를 제출 기록으로 주기적으로 조금씩 채우는 스케줄러.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Component
+public class UserProblemStatusBackfillScheduler {
+
+    private final ChunkedBackfill progress;
+    private final boolean enabled;
+
+    public UserProblemStatusBackfillScheduler(UserProblemStatusService userProblemStatusService,
+                                              @Value("${user-problem-status.backfill-enabled:true}") boolean enabled,
+                                              @Value("${user-problem-status.backfill-chunk-size:50}") int chunkSize) {
+        this.enabled = enabled;
+        this.progress = new ChunkedBackfill("사용자 문제 풀이 상태 백필",
+                afterId -> userProblemStatusService.backfill(afterId, chunkSize));
+    }
+
+    /**
+     * 다음 묶음의 사용자를 처리한다. 더 처리할 사용자가 없으면 이후 주기는 아무것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${user-problem-status.backfill-interval-ms:1000}")
+    public void backfill() {
+        if (enabled) {
+            progress.runChunk();
+        }
+    }
+}
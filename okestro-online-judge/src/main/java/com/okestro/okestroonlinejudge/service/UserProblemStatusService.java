@@ -0,0 +1,345 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.SubmissionRollupEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserProblemStatusEntity;
+import com.okestro.okestroonlinejudge.dto.response.AttemptedProblemResponse;
+import com.okestro.okestroonlinejudge.dto.response.CursorPageResponse;
+import com.okestro.okestroonlinejudge.event.UserProblemStatusChangedEvent;
+import com.okestro.okestroonlinejudge.repository.ProblemRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRollupRepository;
+import com.okestro.okestroonlinejudge.repository.UserProblemStatusRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserProblemSubmissionTotalsProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 문제 풀이 상태({@link UserProblemStatusEntity})를 유지하는 서비스.
+ * 제출과 채점 결과가 생길 때마다 (사용자, 문제) 한 행을 잠그고 증감하므로,
+ * 해결 여부는 제출 기록을 다시 읽지 않고 그 행만 보고 판단한다.
+ * 행이 없는 (사용자, 문제)는 처음 갱신할 때 제출 기록과 보관된 집계로 계산해 만든다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserProblemStatusService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserProblemStatusRepository userProblemStatusRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionRollupRepository submissionRollupRepository;
+    private final UserRepository userRepository;
+    private final ProblemRepository problemRepository;
+    private final SubmissionArchiveService submissionArchiveService;
+    private final UserProblemBitmapCache userProblemBitmapCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새 제출을 시도 횟수에 더하고 마지막 시도로 기록한다. 제출이 저장된 뒤 같은 트랜잭션에서 호출한다.
+     *
+     * @param user 사용자
+     * @param problem 문제
+     * @param submittedAt 제출 일시
+     * @param language 제출 언어
+     */
+    @Transactional
+    public void recordSubmission(UserEntity user, ProblemEntity problem, LocalDateTime submittedAt, String language) {
+        userProblemStatusRepository.findForUpdate(user.getId(), problem.getId())
+                .ifPresentOrElse(status -> status.addAttempt(submittedAt, language), () -> create(user, problem));
+    }
+
+    /**
+     * 채점(재채점 포함) 결과를 반영하고 해결 여부가 어떻게 바뀌었는지 반환한다.
+     * 제출 결과가 바뀐 뒤 같은 트랜잭션에서 호출한다.
+     *
+     * @param user 사용자
+     * @param problem 문제
+     * @param submittedAt 채점된 제출의 제출 일시
+     * @param previousResult 이전 결과
+     * @param newResult 새 결과
+     * @return 반영 전후의 해결 여부
+     */
+    @Transactional
+    public Change recordJudged(UserEntity user, ProblemEntity problem, LocalDateTime submittedAt,
+                               SubmissionResult previousResult, SubmissionResult newResult) {
+        long acceptedDelta = (newResult == SubmissionResult.ACCEPTED ? 1 : 0)
+                - (previousResult == SubmissionResult.ACCEPTED ? 1 : 0);
+        UserProblemStatusEntity status = userProblemStatusRepository.findForUpdate(user.getId(), problem.getId())
+                .orElse(null);
+        if (status == null) {
+            // 제출 기록으로 계산하면 이번 결과가 이미 들어 있다
+            status = create(user, problem);
+            return new Change(status.getAcceptedCount() - acceptedDelta > 0, status.isSolved());
+        }
+        boolean wasSolved = status.isSolved();
+        if (acceptedDelta != 0) {
+            status.addAccepted(acceptedDelta, submittedAt);
+        }
+        if (wasSolved != status.isSolved()) {
+            publishChanged(status);
+        }
+        return new Change(wasSolved, status.isSolved());
+    }
+
+    /**
+     * 사용자가 문제를 해결했는지 확인한다.
+     * 상태 행이 아직 없으면 (백필 전) 제출 기록과 보관된 집계로 판단한다.
+     *
+     * @param userId 사용자 ID
+     * @param problemId 문제 ID
+     * @return 해결했으면 true
+     */
+    public boolean isSolved(Long userId, Long problemId) {
+        return userProblemStatusRepository.findByUserEntity_IdAndProblemEntity_Id(userId, problemId)
+                .map(UserProblemStatusEntity::isSolved)
+                .orElseGet(() -> submissionArchiveService.isSolved(userId, problemId));
+    }
+
+    /**
+     * 사용자의 주어진 문제들에 대한 풀이 상태를 조회한다 (문제 목록 표시용).
+     * 사용자의 풀이 상태 비트맵이 캐시에 있으면 쿼리 없이 확인한다.
+     *
+     * @param userId 사용자 ID
+     * @param problemIds 문제 ID 목록
+     * @return 문제 ID별 상태 (시도하지 않은 문제는 없음)
+     */
+    public Map<Long, ProblemStatus> getStatuses(Long userId, Collection<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return Map.of();
+        }
+        return userProblemBitmapCache.getStatuses(userId, problemIds);
+    }
+
+    /**
+     * 사용자가 시도한 문제 목록을 마지막 시도 최신순으로 커서 페이징 조회한다.
+     * 상태 행만 읽으므로 보관된 제출도 시도 횟수와 해결 여부에 이미 들어 있다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 시도한 문제 페이지
+     */
+    public CursorPageResponse<AttemptedProblemResponse> getAttemptedProblems(Long userId, String cursor, int size) {
+        AttemptedProblemCursor position = AttemptedProblemCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<UserProblemStatusEntity> rows = userProblemStatusRepository.findAttemptedBefore(
+                userId, position.lastAttemptedAt(), position.problemId(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<UserProblemStatusEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        UserProblemStatusEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext
+                ? new AttemptedProblemCursor(last.getLastAttemptedAt(), last.getProblemEntity().getId()).encode()
+                : null;
+        return CursorPageResponse.<AttemptedProblemResponse>builder()
+                .items(page.stream()
+                        .map(status -> AttemptedProblemResponse.of(status.getProblemEntity(), status.isSolved(),
+                                status.getLastAttemptedAt(), status.getLastLanguage(), (int) status.getAttemptCount()))
+                        .toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 다음 묶음의 사용자에 대해 상태 행이 없는 (사용자, 문제)를 제출 기록으로 계산해 만들고,
+     * 마지막 시도가 기록되지 않은 행은 마지막 시도를 채운다.
+     *
+     * @param afterId 이 사용자 ID 이후부터 처리
+     * @param chunkSize 한 번에 처리할 사용자 수
+     * @return 이번에 처리한 마지막 사용자 ID (처리할 사용자가 없으면 null)
+     */
+    @Transactional
+    public Long backfill(Long afterId, int chunkSize) {
+        List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        for (Long userId : userIds) {
+            backfillUser(userId);
+        }
+        return userIds.isEmpty() ? null : userIds.get(userIds.size() - 1);
+    }
+
+    private void backfillUser(Long userId) {
+        Map<Long, UserProblemStatusEntity> existing = new HashMap<>();
+        userProblemStatusRepository.findByUserEntity_Id(userId)
+                .forEach(status -> existing.put(status.getProblemEntity().getId(), status));
+        Map<Long, Seed> seeds = new HashMap<>();
+        for (UserProblemSubmissionTotalsProjection totals
+                : submissionRepository.sumByProblemForUser(userId, SubmissionResult.ACCEPTED)) {
+            if (needsBackfill(existing.get(totals.getProblemId()))) {
+                seeds.computeIfAbsent(totals.getProblemId(), id -> new Seed()).add(totals);
+            }
+        }
+        for (SubmissionRollupEntity rollup : submissionRollupRepository.findByUserIdWithProblem(userId)) {
+            if (needsBackfill(existing.get(rollup.getProblemEntity().getId()))) {
+                seeds.computeIfAbsent(rollup.getProblemEntity().getId(), id -> new Seed()).add(rollup);
+            }
+        }
+        if (seeds.isEmpty()) {
+            return;
+        }
+        submissionRepository.findLatestByUserAndProblemIds(userId, seeds.keySet())
+                .forEach(latest -> seeds.get(latest.getProblemEntity().getId()).add(latest));
+
+        UserEntity user = userRepository.getReferenceById(userId);
+        List<UserProblemStatusEntity> created = new ArrayList<>(seeds.size());
+        seeds.forEach((problemId, seed) -> {
+            UserProblemStatusEntity status = existing.get(problemId);
+            if (status != null) {
+                status.updateLastAttempt(seed.lastAttemptedAt, seed.lastLanguage);
+            } else {
+                created.add(seed.toEntity(user, problemRepository.getReferenceById(problemId)));
+            }
+        });
+        userProblemStatusRepository.saveAll(created);
+        created.forEach(this::publishChanged);
+        log.debug("사용자 문제 풀이 상태 백필: userId={}, created={}, dated={}",
+                userId, created.size(), seeds.size() - created.size());
+    }
+
+    // 행이 없거나, 마지막 시도를 기록하기 전에 만들어진 행
+    private static boolean needsBackfill(UserProblemStatusEntity status) {
+        return status == null || status.getLastAttemptedAt() == null;
+    }
+
+    private UserProblemStatusEntity create(UserEntity user, ProblemEntity problem) {
+        Seed seed = new Seed();
+        submissionRepository.sumByProblemForUserIn(user.getId(), List.of(problem.getId()), SubmissionResult.ACCEPTED)
+                .forEach(seed::add);
+        submissionRollupRepository.findByUserEntity_IdAndProblemEntity_Id(user.getId(), problem.getId())
+                .ifPresent(seed::add);
+        submissionRepository.findLatestByUserAndProblemIds(user.getId(), List.of(problem.getId()))
+                .forEach(seed::add);
+        // 같은 (사용자, 문제)의 첫 행이 동시에 만들어지면 유일 키 충돌이 여기서 드러난다
+        UserProblemStatusEntity status = userProblemStatusRepository.saveAndFlush(seed.toEntity(user, problem));
+        publishChanged(status);
+        return status;
+    }
+
+    private void publishChanged(UserProblemStatusEntity status) {
+        eventPublisher.publishEvent(new UserProblemStatusChangedEvent(
+                status.getUserEntity().getId(), status.getProblemEntity().getId(), status.getStatus()));
+    }
+
+    /**
+     * 상태 행을 만들기 위해 최근 제출 집계와 보관된 집계를 합친 값.
+     */
+    private static final class Seed {
+        private long attemptCount;
+        private long acceptedCount;
+        private LocalDateTime firstAcceptedAt;
+        private boolean solvedInArchive;
+        private LocalDateTime lastAttemptedAt;
+        private String lastLanguage;
+
+        void add(UserProblemSubmissionTotalsProjection totals) {
+            attemptCount += totals.getSubmissionCount();
+            acceptedCount += totals.getAcceptedCount();
+            firstAcceptedAt = totals.getFirstAcceptedAt();
+        }
+
+        void add(SubmissionRollupEntity rollup) {
+            attemptCount += rollup.getSubmissionCount();
+            acceptedCount += rollup.getAcceptedCount();
+            solvedInArchive = rollup.isSolved();
+            attempt(rollup.getLastSubmittedAt(), rollup.getLastLanguage());
+        }
+
+        void add(SubmissionEntity latest) {
+            attempt(latest.getCreatedAt(), latest.getLanguage());
+        }
+
+        private void attempt(LocalDateTime attemptedAt, String language) {
+            if (attemptedAt != null && (lastAttemptedAt == null || attemptedAt.isAfter(lastAttemptedAt))) {
+                lastAttemptedAt = attemptedAt;
+                lastLanguage = language;
+            }
+        }
+
+        UserProblemStatusEntity toEntity(UserEntity user, ProblemEntity problem) {
+            UserProblemStatusEntity status = new UserProblemStatusEntity(user, problem, ProblemStatus.ATTEMPTED);
+            // 보관된 제출로 먼저 해결했다면 처음 해결한 일시는 알 수 없다
+            status.reset(attemptCount, acceptedCount, solvedInArchive ? null : firstAcceptedAt);
+            status.updateLastAttempt(lastAttemptedAt, lastLanguage);
+            return status;
+        }
+    }
+
+    /**
+     * 시도한 문제 목록 커서 (마지막으로 받은 문제의 마지막 시도 일시와 문제 ID).
+     * 클라이언트에는 불투명한 문자열로 전달한다.
+     */
+    record AttemptedProblemCursor(LocalDateTime lastAttemptedAt, Long problemId) {
+
+        // 첫 페이지: 모든 시도보다 뒤
+        private static final AttemptedProblemCursor FIRST =
+                new AttemptedProblemCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+        static AttemptedProblemCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return FIRST;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_", 2);
+                return new AttemptedProblemCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((lastAttemptedAt + "_" + problemId).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 채점 결과 반영 전후의 해결 여부.
+     *
+     * @param wasSolved 반영 전 해결 여부
+     * @param solved 반영 후 해결 여부
+     */
+    public record Change(boolean wasSolved, boolean solved) {
+
+        /**
+         * 이번 결과로 처음 해결했는지.
+         *
+         * @return 처음 해결했으면 true
+         */
+        public boolean newlySolved() {
+            return !wasSolved && solved;
+        }
+
+        /**
+         * 이번 결과로 해결이 취소되었는지.
+         *
+         * @return 해결이 취소되었으면 true
+         */
+        public boolean unsolved() {
+            return wasSolved && !solved;
+        }
+    }
+}
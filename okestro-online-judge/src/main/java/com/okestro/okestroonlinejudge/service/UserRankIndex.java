@@ -0,0 +1,294 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.event.UserStatisticsChangedEvent;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserRankingPointProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자 순위를 O(log n)에 계산하는 메모리 색인.
+ * 랭킹 포인트 내림차순, 해결 수 내림차순, 사용자 ID 오름차순으로 정렬한 순서 통계 트리(treap)를 유지한다.
+ * 시작할 때 전체 통계로 구성하고 이후에는 통계 변경 이벤트로 갱신하며,
+ * 다른 노드에서 일어난 변경은 주기적인 재구성으로 맞춘다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRankIndex {
+
+    private final UserStatisticsRepository userStatisticsRepository;
+
+    private Node root;
+    private Map<Long, Key> keys = new HashMap<>();
+
+    // 재구성 중에 들어온 변경. 조회 시점 이후의 변경이 새 색인에서 빠지지 않도록 교체 후 다시 적용한다
+    private Map<Long, Key> changedDuringRebuild;
+
+    /**
+     * 전체 사용자 통계로 색인을 다시 구성한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ranking.index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${ranking.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new HashMap<>();
+        }
+        List<UserRankingPointProjection> points;
+        try {
+            points = userStatisticsRepository.findAllRankingPoints();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+        Node rebuilt = null;
+        Map<Long, Key> rebuiltKeys = new HashMap<>(points.size() * 2);
+        for (UserRankingPointProjection point : points) {
+            Key key = new Key(point.getRankingPoint(), point.getSolvedCount(), point.getUserId());
+            rebuilt = insert(rebuilt, new Node(key));
+            rebuiltKeys.put(key.userId(), key);
+        }
+        synchronized (this) {
+            root = rebuilt;
+            keys = rebuiltKeys;
+            Map<Long, Key> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            changed.values().forEach(key -> update(key.userId(), key.solvedCount(), key.rankingPoint()));
+        }
+        log.info("사용자 순위 색인 구성 완료: {}명", rebuiltKeys.size());
+    }
+
+    /**
+     * 커밋된 통계 변경을 색인에 반영한다.
+     *
+     * @param event 사용자 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserStatisticsChanged(UserStatisticsChangedEvent event) {
+        update(event.userId(), event.solvedCount(), event.rankingPoint());
+    }
+
+    /**
+     * 사용자의 해결 수와 랭킹 포인트를 갱신한다.
+     *
+     * @param userId 사용자 ID
+     * @param solvedCount 해결 수
+     * @param rankingPoint 랭킹 포인트
+     */
+    public synchronized void update(Long userId, long solvedCount, long rankingPoint) {
+        Key key = new Key(rankingPoint, solvedCount, userId);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(userId, key);
+        }
+        Key previous = keys.put(userId, key);
+        if (previous != null) {
+            root = remove(root, previous);
+        }
+        root = insert(root, new Node(key));
+    }
+
+    /**
+     * 사용자의 순위(1부터)를 조회한다.
+     * 통계가 없는 사용자는 통계가 있는 모든 사용자 다음 순위로 본다.
+     *
+     * @param userId 사용자 ID
+     * @return 순위
+     */
+    public synchronized int rank(Long userId) {
+        Key key = keys.get(userId);
+        if (key == null) {
+            return size(root) + 1;
+        }
+        return countBefore(root, key) + 1;
+    }
+
+    /**
+     * 사용자 앞뒤로 radius명씩의 순위 구간을 조회한다 (O(log n + radius)).
+     * 랭킹 페이지와 같이 점수와 해결 수가 모두 0인 사용자는 순위에서 제외한다.
+     *
+     * @param userId 기준 사용자 ID
+     * @param radius 앞뒤로 포함할 사용자 수
+     * @return 순위 순으로 정렬된 구간, 기준 사용자가 순위에 없으면 빈 목록
+     */
+    public synchronized List<RankedUser> around(Long userId, int radius) {
+        Key key = keys.get(userId);
+        if (key == null || !key.isRanked()) {
+            return List.of();
+        }
+        int index = countBefore(root, key);
+        int from = Math.max(0, index - radius);
+        List<RankedUser> window = new ArrayList<>(index - from + radius + 1);
+        collect(root, from, index - from + radius + 1, from + 1, window);
+        return window;
+    }
+
+    /**
+     * 색인에 들어 있는 사용자 수.
+     *
+     * @return 사용자 수
+     */
+    public synchronized int size() {
+        return size(root);
+    }
+
+    private static int countBefore(Node node, Key key) {
+        int count = 0;
+        while (node != null) {
+            if (node.key.compareTo(key) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 중위 순회로 앞의 skip개를 건너뛰고 순위에 드는 사용자를 최대 limit명 모은다.
+     *
+     * @return 아직 더 모아야 하는 사용자 수, 순위에 없는 사용자를 만나면 -1
+     */
+    private static int collect(Node node, int skip, int limit, int firstRank, List<RankedUser> window) {
+        if (node == null || limit <= 0) {
+            return limit;
+        }
+        int leftSize = size(node.left);
+        if (skip >= leftSize + 1) {
+            return collect(node.right, skip - leftSize - 1, limit, firstRank, window);
+        }
+        limit = collect(node.left, skip, limit, firstRank, window);
+        if (limit <= 0) {
+            return limit;
+        }
+        if (!node.key.isRanked()) {
+            return -1;
+        }
+        window.add(new RankedUser(firstRank + window.size(), node.key.userId()));
+        return collect(node.right, 0, limit - 1, firstRank, window);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        Node[] parts = split(node, inserted.key);
+        return merge(merge(parts[0], inserted), parts[1]);
+    }
+
+    private static Node remove(Node node, Key key) {
+        Node[] parts = split(node, key);
+        // 오른쪽 트리의 가장 앞 노드가 삭제할 키다
+        return merge(parts[0], removeFirst(parts[1]));
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return node.update();
+    }
+
+    /**
+     * 키보다 앞선 노드들과 나머지 노드들로 나눈다.
+     */
+    private static Node[] split(Node node, Key key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (node.key.compareTo(key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            return new Node[]{node.update(), parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        return new Node[]{parts[0], node.update()};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * 순위 구간의 한 사용자.
+     *
+     * @param rank 순위 (1부터)
+     * @param userId 사용자 ID
+     */
+    public record RankedUser(int rank, Long userId) {
+    }
+
+    /**
+     * 정렬 키. 앞설수록 높은 순위다.
+     */
+    private record Key(long rankingPoint, long solvedCount, long userId) implements Comparable<Key> {
+
+        private boolean isRanked() {
+            return rankingPoint > 0 || solvedCount > 0;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            if (rankingPoint != other.rankingPoint) {
+                return Long.compare(other.rankingPoint, rankingPoint);
+            }
+            if (solvedCount != other.solvedCount) {
+                return Long.compare(other.solvedCount, solvedCount);
+            }
+            return Long.compare(userId, other.userId);
+        }
+    }
+
+    private static final class Node {
+
+        private final Key key;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Key key) {
+            this.key = key;
+        }
+
+        private Node update() {
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.RankingWindow;
+import com.okestro.okestroonlinejudge.domain.ScoreBucketType;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserScoreBucketEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.repository.UserScoreBucketRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserRankingPointProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자의 기간별 점수 버킷을 유지하고 기간 랭킹을 계산하는 서비스.
+ * 문제를 해결하면 그 날의 DAY 버킷과 그 달의 MONTH 버킷에 더하고,
+ * 일간/주간 랭킹은 DAY 버킷 최대 7개, 월간/시즌 랭킹은 MONTH 버킷 최대 season-months개를 더해 계산한다.
+ * 더 이상 쓰이지 않는 버킷은 매일 정리한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserScoreBucketService {
+
+    private final UserScoreBucketRepository userScoreBucketRepository;
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final int seasonMonths;
+
+    public UserScoreBucketService(UserScoreBucketRepository userScoreBucketRepository,
+                                  UserStatisticsRepository userStatisticsRepository,
+                                  @Value("${ranking.window.season-months:3}") int seasonMonths) {
+        if (seasonMonths < 1 || 12 % seasonMonths != 0) {
+            throw new IllegalArgumentException("ranking.window.season-months는 12의 약수여야 합니다: " + seasonMonths);
+        }
+        this.userScoreBucketRepository = userScoreBucketRepository;
+        this.userStatisticsRepository = userStatisticsRepository;
+        this.seasonMonths = seasonMonths;
+    }
+
+    /**
+     * 해결 수와 랭킹 포인트 증감을 해결한 날의 DAY, MONTH 버킷에 더한다.
+     * 빼는 경우 버킷이 이미 정리되었으면 (기간 랭킹에 더 이상 쓰이지 않으므로) 아무것도 하지 않는다.
+     *
+     * @param user 사용자
+     * @param solvedOn 해결한 날 (제출일)
+     * @param solvedDelta 해결 수 증감
+     * @param pointDelta 랭킹 포인트 증감
+     */
+    @Transactional
+    public void record(UserEntity user, LocalDate solvedOn, long solvedDelta, long pointDelta) {
+        if (solvedDelta == 0 && pointDelta == 0) {
+            return;
+        }
+        addTo(user, ScoreBucketType.DAY, solvedOn, solvedDelta, pointDelta);
+        addTo(user, ScoreBucketType.MONTH, solvedOn.withDayOfMonth(1), solvedDelta, pointDelta);
+    }
+
+    /**
+     * 기간 랭킹 전체를 순위 순으로 계산한다.
+     *
+     * @param window 집계 기간 (ALL_TIME 제외)
+     * @param today 기준일
+     * @return 순위 순 랭킹
+     */
+    public List<UserRankingResponse> getRankings(RankingWindow window, LocalDate today) {
+        List<UserRankingPointProjection> points = switch (window) {
+            case DAILY -> userScoreBucketRepository.sumByWindow(ScoreBucketType.DAY, today, today);
+            case WEEKLY -> userScoreBucketRepository.sumByWindow(ScoreBucketType.DAY, weekStart(today), today);
+            case MONTHLY -> userScoreBucketRepository.sumByWindow(ScoreBucketType.MONTH,
+                    today.withDayOfMonth(1), today.withDayOfMonth(1));
+            case SEASON -> userScoreBucketRepository.sumByWindow(ScoreBucketType.MONTH,
+                    seasonStart(today), today.withDayOfMonth(1));
+            case ALL_TIME -> throw new IllegalArgumentException("전체 기간 랭킹은 사용자 통계에서 조회합니다");
+        };
+        if (points.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserStatisticsEntity> statsById = userStatisticsRepository.findAllWithUserByIdIn(
+                        points.stream().map(UserRankingPointProjection::getUserId).toList()).stream()
+                .collect(Collectors.toMap(UserStatisticsEntity::getId, Function.identity()));
+        List<UserRankingResponse> rankings = new ArrayList<>(points.size());
+        for (UserRankingPointProjection point : points) {
+            UserStatisticsEntity stats = statsById.get(point.getUserId());
+            if (stats != null) {
+                rankings.add(UserRankingResponse.of(stats.getUserEntity(),
+                        point.getSolvedCount(), point.getRankingPoint(), rankings.size() + 1));
+            }
+        }
+        return rankings;
+    }
+
+    /**
+     * 기간을 앞으로 옮긴다. 지난 주보다 오래된 DAY 버킷과 지난 시즌보다 오래된 MONTH 버킷을 지운다.
+     */
+    @Scheduled(cron = "${ranking.window.roll-cron:0 5 0 * * *}")
+    @Transactional
+    public void roll() {
+        roll(LocalDate.now());
+    }
+
+    @Transactional
+    public void roll(LocalDate today) {
+        int days = userScoreBucketRepository.deleteExpired(ScoreBucketType.DAY, weekStart(today).minusWeeks(1));
+        int months = userScoreBucketRepository.deleteExpired(ScoreBucketType.MONTH,
+                seasonStart(today).minusMonths(seasonMonths));
+        log.info("기간별 점수 버킷 정리: DAY {}개, MONTH {}개", days, months);
+    }
+
+    private void addTo(UserEntity user, ScoreBucketType bucketType, LocalDate bucketStart,
+                       long solvedDelta, long pointDelta) {
+        int updated = userScoreBucketRepository.addTo(user.getId(), bucketType, bucketStart, solvedDelta, pointDelta);
+        if (updated == 0 && solvedDelta >= 0 && pointDelta >= 0) {
+            userScoreBucketRepository.save(
+                    new UserScoreBucketEntity(user, bucketType, bucketStart, solvedDelta, pointDelta));
+        }
+    }
+
+    private static LocalDate weekStart(LocalDate today) {
+        return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private LocalDate seasonStart(LocalDate today) {
+        int month = (today.getMonthValue() - 1) / seasonMonths * seasonMonths + 1;
+        return LocalDate.of(today.getYear(), month, 1);
+    }
+}
@@ -7,8 +7,6 @@ import com.okestro.okestroonlinejudge.dto.response.*;
 import com.okestro.okestroonlinejudge.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,10 +15,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 사용자 관련 서비스.
@@ -41,6 +37,13 @@ public class UserService {
     private final ImageService imageService;
     private final PasswordEncoder passwordEncoder;
     private final UserInventoryRepository userInventoryRepository;
+    private final SubmissionArchiveService submissionArchiveService;
+    private final UserRankIndex userRankIndex;
+    private final OrganizationRollupService organizationRollupService;
+    private final UserStatisticsService userStatisticsService;
+    private final UserActivityService userActivityService;
+    private final UserProblemStatusService userProblemStatusService;
+    private final SubmissionService submissionService;
 
     /**
      * username으로 프로필 조회.
@@ -134,17 +137,22 @@ public class UserService {
         String deletedEmail = "deleted_" + uuid + "@deleted.com";
         String randomPassword = passwordEncoder.encode(UUID.randomUUID().toString());
         
+        organizationRollupService.moveUser(user, null);
         user.withdraw(deletedUsername, deletedEmail, randomPassword);
     }
 
     /**
-     * 사용자 제출 이력 조회 (페이징).
+     * 사용자 제출 이력 조회 (최신순, 커서 페이징).
+     * 사용자별 제출 목록과 같은 경로로 조회하므로 보관된 제출도 이어서 나온다.
+     *
+     * @param username 사용자 이름
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 제출 목록 페이지
      */
-    public Page<SubmissionResponse> getSubmissionsByUsername(String username, int pageNumber, int pageSize) {
+    public CursorPageResponse<SubmissionResponse> getSubmissionsByUsername(String username, String cursor, int size) {
         UserEntity user = findUserByUsername(username);
-        Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        Page<SubmissionEntity> submissions = submissionRepository.findByUserEntity_Id(user.getId(), pageable);
-        return submissions.map(SubmissionResponse::from);
+        return submissionService.getSubmissionsByUser(user.getId(), cursor, size);
     }
 
     /**
@@ -170,62 +178,14 @@ public class UserService {
             start = end.minusYears(1).plusDays(1);
         }
 
-        LocalDateTime startDateTime = start.atStartOfDay();
-        LocalDateTime endDateTime = end.atTime(23, 59, 59);
-
-        List<StreakDateDto> streaks = submissionRepository.findDailySolvedCount(
-                user.getId(), SubmissionResult.ACCEPTED, startDateTime, endDateTime);
-
-        long totalSolved = 0;
-        int maxStreak = 0;
-        int currentStreak = 0;
-
-        if (!streaks.isEmpty()) {
-            streaks.sort(Comparator.comparing(StreakDateDto::getDate));
-
-            Set<String> solvedDates = streaks.stream()
-                    .map(StreakDateDto::getDate)
-                    .collect(Collectors.toSet());
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            long tempTotal = 0;
-            int tempStreak = 0;
-
-            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-                String dateStr = date.format(formatter);
-                if (solvedDates.contains(dateStr)) {
-                    tempStreak++;
-                    // 해당 날짜의 count 찾기 (Set 사용 시 count 정보 유실되므로 Map 변환이 더 효율적일 수 있음)
-                    // 하지만 streaks 리스트 크기가 작으므로 stream filter도 수용 가능, 혹은 별도 계산
-                } else {
-                    tempStreak = 0;
-                }
-                maxStreak = Math.max(maxStreak, tempStreak);
-            }
-            
-            totalSolved = streaks.stream().mapToLong(StreakDateDto::getCount).sum();
-
-            // 현재 스트릭 계산 (오늘 포함 역순)
-            LocalDate today = LocalDate.now();
-            if (!end.isBefore(today.minusDays(1))) { // 조회 기간이 최근을 포함할 때만
-                LocalDate d = today;
-                if (!solvedDates.contains(d.format(formatter))) {
-                    d = d.minusDays(1); // 오늘 안풀었으면 어제부터 확인
-                }
-                
-                while (solvedDates.contains(d.format(formatter))) {
-                    currentStreak++;
-                    d = d.minusDays(1);
-                }
-            }
-        }
+        UserActivityService.Streak streak = userActivityService.getStreak(user.getId(), start, end, LocalDate.now());
 
         return UserStreakResponse.of(
                 year != null ? year : LocalDate.now().getYear(),
-                totalSolved,
-                maxStreak,
-                currentStreak,
-                streaks
+                streak.totalSolved(),
+                streak.maxStreak(),
+                streak.currentStreak(),
+                streak.days()
         );
     }
 
@@ -238,74 +198,34 @@ public class UserService {
     }
 
     /**
-     * username으로 시도한 문제 목록 조회.
+     * username으로 시도한 문제 목록 조회 (마지막 시도 최신순, 커서 페이징).
      */
-    public Page<AttemptedProblemResponse> getAttemptedProblemsByUsername(String username, int pageNumber, int pageSize) {
+    public CursorPageResponse<AttemptedProblemResponse> getAttemptedProblemsByUsername(String username, String cursor,
+                                                                                       int size) {
         UserEntity user = findUserByUsername(username);
-        return getAttemptedProblems(user, pageNumber, pageSize);
+        return userProblemStatusService.getAttemptedProblems(user.getId(), cursor, size);
     }
 
     /**
      * 사용자 통계 빌드.
      */
     private UserStatsResponse buildUserStats(UserEntity user) {
-        // 기본 통계
-        List<SubmissionEntity> submissions = submissionRepository.findByUserEntity_Id(user.getId());
-        int totalSubmissions = submissions.size();
-
-        // 문제별 최종 결과 계산
-        Map<Long, SubmissionResult> problemResults = new HashMap<>();
-        for (SubmissionEntity sub : submissions) {
-            Long problemId = sub.getProblemEntity().getId();
-            SubmissionResult current = problemResults.get(problemId);
-            if (current == null || sub.getResult() == SubmissionResult.ACCEPTED) {
-                problemResults.put(problemId, sub.getResult());
-            }
-        }
-
-        int solvedCount = (int) problemResults.values().stream()
-                .filter(r -> r == SubmissionResult.ACCEPTED)
-                .count();
-        int failedCount = problemResults.size() - solvedCount;
+        // 기본 통계 (제출과 채점 때마다 갱신되는 사용자 통계 한 행)
+        UserStatisticsEntity userStats = userStatisticsRepository.findById(user.getId()).orElse(null);
+        UserStatisticsService.Detail detail = userStatisticsService.getDetail(user.getId(), userStats);
+        int solvedCount = (int) detail.solvedCount();
+        int failedCount = (int) Math.max(0L, detail.attemptedProblemCount() - solvedCount);
+        int totalSubmissions = (int) detail.submissionCount();
 
         // 정답률 계산
         double acceptanceRate = totalSubmissions > 0
-                ? (double) submissions.stream().filter(s -> s.getResult() == SubmissionResult.ACCEPTED).count() / totalSubmissions * 100
+                ? (double) detail.acceptedSubmissionCount() / totalSubmissions * 100
                 : 0;
 
-        // 난이도별 카운트
-        int easyCount = 0, mediumCount = 0, hardCount = 0;
-        for (Map.Entry<Long, SubmissionResult> entry : problemResults.entrySet()) {
-            if (entry.getValue() == SubmissionResult.ACCEPTED) {
-                SubmissionEntity sub = submissions.stream()
-                        .filter(s -> s.getProblemEntity().getId().equals(entry.getKey()))
-                        .findFirst().orElse(null);
-                if (sub != null && sub.getProblemEntity().getTierEntity() != null) {
-                    String groupName = sub.getProblemEntity().getTierEntity().getGroupName();
-                    if (groupName != null) {
-                        if (groupName.equalsIgnoreCase("BRONZE") || groupName.equalsIgnoreCase("SILVER")) {
-                            easyCount++;
-                        } else if (groupName.equalsIgnoreCase("GOLD") || groupName.equalsIgnoreCase("PLATINUM")) {
-                            mediumCount++;
-                        } else {
-                            hardCount++;
-                        }
-                    }
-                }
-            }
-        }
-
-        // 랭킹 계산
-        List<UserStatisticsEntity> allStats = userStatisticsRepository.findAll();
-        allStats.sort((a, b) -> Long.compare(b.getRankingPoint(), a.getRankingPoint()));
-        int rank = 1;
-        for (int i = 0; i < allStats.size(); i++) {
-            if (allStats.get(i).getUserEntity().getId().equals(user.getId())) {
-                rank = i + 1;
-                break;
-            }
-        }
+        // 랭킹 계산 (순위 색인)
+        int rank = userRankIndex.rank(user.getId());
         int totalUsers = (int) userRepository.count();
+        double topPercent = totalUsers > 0 ? Math.round(rank * 1000.0 / totalUsers) / 10.0 : 0.0;
 
         // 티어 정보
         String tier = "BRONZE";
@@ -332,24 +252,21 @@ public class UserService {
         }
 
         // 포인트 정보
-        int problemPoints = 0;
-        Optional<UserStatisticsEntity> userStats = userStatisticsRepository.findById(user.getId());
-        if (userStats.isPresent()) {
-            problemPoints = userStats.get().getRankingPoint().intValue();
-        }
+        int problemPoints = userStats != null ? userStats.getRankingPoint().intValue() : 0;
 
         int shopPoints = pointRepository.getTotalPointsByUser(user); // 출석 등으로 얻은 젬
 
         return UserStatsResponse.builder()
                 .rank(rank)
                 .totalUsers(totalUsers)
+                .topPercent(topPercent)
                 .solvedCount(solvedCount)
                 .failedCount(failedCount)
                 .totalSubmissions(totalSubmissions)
                 .acceptanceRate(Math.round(acceptanceRate * 10) / 10.0)
-                .easyCount(easyCount)
-                .mediumCount(mediumCount)
-                .hardCount(hardCount)
+                .easyCount((int) detail.easySolvedCount())
+                .mediumCount((int) detail.mediumSolvedCount())
+                .hardCount((int) detail.hardSolvedCount())
                 .tier(tier)
                 .tierLevel(tierLevel)
                 .currentXP(currentXP)
@@ -361,40 +278,6 @@ public class UserService {
                 .build();
     }
 
-    /**
-     * 시도한 문제 목록 조회.
-     */
-    private Page<AttemptedProblemResponse> getAttemptedProblems(UserEntity user, int pageNumber, int pageSize) {
-        List<SubmissionEntity> allSubmissions = submissionRepository.findByUserEntity_Id(user.getId());
-
-        // 문제별로 그룹화하여 최신 제출과 시도 횟수 계산
-        Map<Long, List<SubmissionEntity>> byProblem = allSubmissions.stream()
-                .collect(Collectors.groupingBy(s -> s.getProblemEntity().getId()));
-
-        List<AttemptedProblemResponse> problems = new ArrayList<>();
-        for (Map.Entry<Long, List<SubmissionEntity>> entry : byProblem.entrySet()) {
-            List<SubmissionEntity> subs = entry.getValue();
-            subs.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-            SubmissionEntity latest = subs.get(0);
-            int tryCount = subs.size();
-            problems.add(AttemptedProblemResponse.from(latest, tryCount));
-        }
-
-        // 최신순 정렬
-        problems.sort((a, b) -> b.getAttemptedAt().compareTo(a.getAttemptedAt()));
-
-        // 페이징
-        Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), problems.size());
-
-        List<AttemptedProblemResponse> pageContent = start < problems.size()
-                ? problems.subList(start, end)
-                : Collections.emptyList();
-
-        return new PageImpl<>(pageContent, pageable, problems.size());
-    }
-
     /**
      * username으로 사용자 ID 조회.
      */
@@ -505,16 +388,16 @@ public class UserService {
     /**
      * 다른 사용자의 풀이 기록 조회 (공개 설정에 따름).
      */
-    public Page<AttemptedProblemResponse> getPublicAttemptedProblems(Long userId, int pageNumber, int pageSize) {
+    public CursorPageResponse<AttemptedProblemResponse> getPublicAttemptedProblems(Long userId, String cursor, int size) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 비공개인 경우 빈 결과 반환
         if (!user.getProfilePublic() || !user.getSolvedProblemsPublic()) {
-            return Page.empty();
+            return CursorPageResponse.<AttemptedProblemResponse>builder().items(List.of()).build();
         }
 
-        return getAttemptedProblems(user, pageNumber, pageSize);
+        return userProblemStatusService.getAttemptedProblems(user.getId(), cursor, size);
     }
 
     /**
@@ -541,6 +424,7 @@ public class UserService {
         return UserStatsResponse.builder()
                 .rank(stats.getRank())
                 .totalUsers(stats.getTotalUsers())
+                .topPercent(stats.getTopPercent())
                 .solvedCount(stats.getSolvedCount())
                 .failedCount(stats.getFailedCount())
                 .totalSubmissions(stats.getTotalSubmissions())
@@ -0,0 +1,36 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상세 통계가 없는 기존 사용자 통계 행을 주기적으로 조금씩 계산하는 스케줄러.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Component
+public class UserStatisticsBackfillScheduler {
+
+    private final ChunkedBackfill progress;
+    private final boolean enabled;
+
+    public UserStatisticsBackfillScheduler(UserStatisticsService userStatisticsService,
+                                           @Value("${user-statistics.backfill-enabled:true}") boolean enabled,
+                                           @Value("${user-statistics.backfill-chunk-size:100}") int chunkSize) {
+        this.enabled = enabled;
+        this.progress = new ChunkedBackfill("사용자 상세 통계 계산",
+                afterId -> userStatisticsService.backfill(afterId, chunkSize));
+    }
+
+    /**
+     * 다음 묶음을 계산한다. 더 계산할 행이 없으면 이후 주기는 아무것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${user-statistics.backfill-interval-ms:1000}")
+    public void backfill() {
+        if (enabled) {
+            progress.runChunk();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemDifficulty;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.SubmissionRollupEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRollupRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserProblemSubmissionTotalsProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 상세 통계(제출 수, 정답 제출 수, 시도한 문제 수, 난이도별 해결 수)를 유지하는 서비스.
+ * 제출과 채점 결과가 생길 때마다 {@code user_statistics} 한 행을 증감하므로, 통계 조회는 그 행만 읽는다.
+ * 상세 통계가 없는 기존 행은 제출 기록을 문제별로 집계해 한 번 계산한다.
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatisticsService {
+
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionRollupRepository submissionRollupRepository;
+
+    /**
+     * 새 제출을 통계에 더한다. 제출이 저장된 뒤 같은 트랜잭션에서 호출한다.
+     * 통계 행이 없으면 (첫 제출) 제출 기록으로 계산한 상세 통계로 만든다.
+     *
+     * @param user 사용자
+     * @param problemId 제출한 문제 ID
+     */
+    @Transactional
+    public void recordSubmission(UserEntity user, Long problemId) {
+        UserStatisticsEntity stats = userStatisticsRepository.findById(user.getId()).orElse(null);
+        if (stats == null) {
+            stats = new UserStatisticsEntity(user);
+            applyDetail(stats, computeDetail(user.getId()));
+            userStatisticsRepository.save(stats);
+            return;
+        }
+        if (!stats.hasDetail()) {
+            return;
+        }
+        boolean firstAttempt =
+                submissionRepository.countByUserEntity_IdAndProblemEntity_Id(user.getId(), problemId) == 1
+                && submissionRollupRepository.findByUserEntity_IdAndProblemEntity_Id(user.getId(), problemId).isEmpty();
+        userStatisticsRepository.addSubmissionCounts(user.getId(), 1, 0, firstAttempt ? 1 : 0);
+    }
+
+    /**
+     * 채점(재채점 포함) 결과가 바뀐 만큼 정답 제출 수를 증감한다.
+     *
+     * @param userId 사용자 ID
+     * @param previousResult 이전 결과
+     * @param newResult 새 결과
+     */
+    @Transactional
+    public void recordJudged(Long userId, SubmissionResult previousResult, SubmissionResult newResult) {
+        int delta = (newResult == SubmissionResult.ACCEPTED ? 1 : 0)
+                - (previousResult == SubmissionResult.ACCEPTED ? 1 : 0);
+        if (delta != 0) {
+            userStatisticsRepository.addSubmissionCounts(userId, 0, delta, 0);
+        }
+    }
+
+    /**
+     * 상세 통계를 조회한다. 아직 계산되지 않은 행이면 제출 기록으로 계산해 반환한다 (저장은 백필이 한다).
+     * 해결 수는 통계 행이 있으면 랭킹과 같은 값을 쓴다.
+     *
+     * @param userId 사용자 ID
+     * @param stats 사용자 통계 (없으면 null)
+     * @return 상세 통계
+     */
+    public Detail getDetail(Long userId, UserStatisticsEntity stats) {
+        if (stats == null || !stats.hasDetail()) {
+            return computeDetail(userId);
+        }
+        return new Detail(stats.getSolvedCount(), stats.getSubmissionCount(),
+                stats.getAcceptedSubmissionCount(), stats.getAttemptedProblemCount(),
+                stats.getEasySolvedCount(), stats.getMediumSolvedCount(), stats.getHardSolvedCount());
+    }
+
+    /**
+     * 상세 통계가 없는 통계 행을 다음 묶음만큼 계산한다.
+     *
+     * @param afterId 이 사용자 ID 이후부터 처리
+     * @param chunkSize 한 번에 계산할 사용자 수
+     * @return 이번에 처리한 마지막 사용자 ID (처리할 행이 없으면 null)
+     */
+    @Transactional
+    public Long backfill(Long afterId, int chunkSize) {
+        List<Long> userIds = userStatisticsRepository.findIdsWithoutDetailAfter(afterId, PageRequest.of(0, chunkSize));
+        for (Long userId : userIds) {
+            userStatisticsRepository.findByIdForUpdate(userId)
+                    .filter(stats -> !stats.hasDetail())
+                    .ifPresent(stats -> applyDetail(stats, computeDetail(userId)));
+        }
+        return userIds.isEmpty() ? null : userIds.get(userIds.size() - 1);
+    }
+
+    /**
+     * 최근 제출의 문제별 집계와 보관된 제출의 집계를 합쳐 상세 통계를 계산한다.
+     */
+    private Detail computeDetail(Long userId) {
+        Map<Long, long[]> totals = new HashMap<>();
+        Map<Long, ProblemDifficulty> difficulties = new HashMap<>();
+        for (UserProblemSubmissionTotalsProjection problem
+                : submissionRepository.sumByProblemForUser(userId, SubmissionResult.ACCEPTED)) {
+            long[] total = totals.computeIfAbsent(problem.getProblemId(), id -> new long[2]);
+            total[0] += problem.getSubmissionCount();
+            total[1] += problem.getAcceptedCount();
+            difficulties.put(problem.getProblemId(), ProblemDifficulty.of(problem.getTierGroup()));
+        }
+        for (SubmissionRollupEntity rollup : submissionRollupRepository.findByUserIdWithProblem(userId)) {
+            Long problemId = rollup.getProblemEntity().getId();
+            long[] total = totals.computeIfAbsent(problemId, id -> new long[2]);
+            total[0] += rollup.getSubmissionCount();
+            total[1] += rollup.getAcceptedCount();
+            difficulties.put(problemId, ProblemDifficulty.of(rollup.getProblemEntity()));
+        }
+
+        long solved = 0, submissions = 0, accepted = 0;
+        long[] solvedByDifficulty = new long[ProblemDifficulty.values().length];
+        for (Map.Entry<Long, long[]> entry : totals.entrySet()) {
+            submissions += entry.getValue()[0];
+            accepted += entry.getValue()[1];
+            if (entry.getValue()[1] == 0) {
+                continue;
+            }
+            solved++;
+            ProblemDifficulty difficulty = difficulties.get(entry.getKey());
+            if (difficulty != null) {
+                solvedByDifficulty[difficulty.ordinal()]++;
+            }
+        }
+        return new Detail(solved, submissions, accepted, totals.size(),
+                solvedByDifficulty[ProblemDifficulty.EASY.ordinal()],
+                solvedByDifficulty[ProblemDifficulty.MEDIUM.ordinal()],
+                solvedByDifficulty[ProblemDifficulty.HARD.ordinal()]);
+    }
+
+    private static void applyDetail(UserStatisticsEntity stats, Detail detail) {
+        stats.resetDetail(detail.submissionCount(), detail.acceptedSubmissionCount(), detail.attemptedProblemCount(),
+                detail.easySolvedCount(), detail.mediumSolvedCount(), detail.hardSolvedCount());
+    }
+
+    /**
+     * 사용자 상세 통계.
+     *
+     * @param solvedCount 해결한 문제 수
+     * @param submissionCount 전체 제출 수
+     * @param acceptedSubmissionCount 정답 제출 수
+     * @param attemptedProblemCount 시도한 문제 수
+     * @param easySolvedCount 해결한 쉬운 문제 수
+     * @param mediumSolvedCount 해결한 보통 문제 수
+     * @param hardSolvedCount 해결한 어려운 문제 수
+     */
+    public record Detail(long solvedCount, long submissionCount, long acceptedSubmissionCount,
+                         long attemptedProblemCount, long easySolvedCount, long mediumSolvedCount,
+                         long hardSolvedCount) {
+    }
+}
@@ -1,27 +1,58 @@
 package com.okestro.okestroonlinejudge.service;
 
 import com.okestro.okestroonlinejudge.client.Judge0Client;
+import com.okestro.okestroonlinejudge.config.Judge0Config;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
 import com.okestro.okestroonlinejudge.dto.request.ValidateProblemRequest;
 import com.okestro.okestroonlinejudge.dto.response.ValidationResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * 문제 검증 서비스.
+ * 첫 테스트케이스로 컴파일 여부를 먼저 확인한 뒤, 나머지는 Judge0 일괄 제출로 한 번에 넣고
+ * 일괄 조회로 끝난 결과부터 받아온다. 컴파일 오류면 나머지는 제출하지 않는다.
  *
  * @author Assistant
  * @since 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ValidationService {
 
     private final Judge0Client judge0Client;
+    private final Judge0Config judge0Config;
+    private final Executor judge0Executor;
+    private final TaskExecutor validationExecutor;
+
+    @Value("${judge.validation.sse-timeout-ms:600000}")
+    private long sseTimeoutMs;
+
+    public ValidationService(Judge0Client judge0Client,
+                             Judge0Config judge0Config,
+                             @Qualifier("judge0Executor") Executor judge0Executor,
+                             @Qualifier("validationExecutor") TaskExecutor validationExecutor) {
+        this.judge0Client = judge0Client;
+        this.judge0Config = judge0Config;
+        this.judge0Executor = judge0Executor;
+        this.validationExecutor = validationExecutor;
+    }
 
     /**
      * 정답 코드로 모든 테스트케이스를 실행하여 검증한다.
@@ -30,60 +61,193 @@ public class ValidationService {
      * @return 검증 결과
      */
     public ValidationResponse validateProblem(ValidateProblemRequest request) {
-        List<ValidationResponse.TestCaseResult> results = new ArrayList<>();
-        boolean allPassed = true;
-
-        for (int i = 0; i < request.getTestCases().size(); i++) {
-            ValidateProblemRequest.TestCaseInput tc = request.getTestCases().get(i);
-
-            Judge0Client.JudgeResult judgeResult = judge0Client.judge(
-                    request.getSolutionCode(),
-                    request.getLanguage(),
-                    tc.getInput(),
-                    tc.getExpectedOutput()
-            );
-
-            boolean passed = judgeResult.isAccepted();
-            if (!passed) {
-                allPassed = false;
+        return validateProblem(request, result -> {
+        });
+    }
+
+    /**
+     * 정답 코드로 모든 테스트케이스를 실행하여 검증하고, 테스트케이스 결과가 나올 때마다 알린다.
+     * 결과는 끝난 순서대로 알리며, 리스너는 호출한 스레드에서만 불린다.
+     *
+     * @param request 검증 요청
+     * @param listener 테스트케이스 결과 리스너
+     * @return 검증 결과 (인덱스 순)
+     */
+    public ValidationResponse validateProblem(ValidateProblemRequest request,
+                                              Consumer<ValidationResponse.TestCaseResult> listener) {
+        List<ValidateProblemRequest.TestCaseInput> testCases = request.getTestCases();
+        ValidationResponse.TestCaseResult[] results = new ValidationResponse.TestCaseResult[testCases.size()];
+        if (testCases.isEmpty()) {
+            return ValidationResponse.builder().success(true).results(List.of()).build();
+        }
+
+        // 1. 첫 테스트케이스로 컴파일 확인
+        ValidateProblemRequest.TestCaseInput first = testCases.get(0);
+        Judge0Client.JudgeResult firstResult = judge0Client.judge(
+                request.getSolutionCode(), request.getLanguage(), first.getInput(), first.getExpectedOutput());
+        record(results, 0, firstResult, listener);
+
+        if (firstResult.getResult() == SubmissionResult.COMPILE_ERROR) {
+            log.info("컴파일 오류로 나머지 {}개 테스트케이스는 제출하지 않습니다.", testCases.size() - 1);
+            for (int i = 1; i < testCases.size(); i++) {
+                record(results, i, firstResult, listener);
             }
+            return toResponse(results);
+        }
 
-            String error = null;
-            if (!passed) {
-                if (judgeResult.getErrorMessage() != null) {
-                    error = judgeResult.getErrorMessage();
-                } else if (judgeResult.getCompileOutput() != null && !judgeResult.getCompileOutput().isEmpty()) {
-                    error = "Compile Error: " + judgeResult.getCompileOutput();
-                } else if (judgeResult.getStderr() != null && !judgeResult.getStderr().isEmpty()) {
-                    error = "Runtime Error: " + judgeResult.getStderr();
-                } else if (judgeResult.getStatusDescription() != null) {
-                    error = judgeResult.getStatusDescription();
-                } else {
-                    error = "Wrong Answer";
+        // 2. 나머지는 묶음 단위로 나눠 공용 Judge0 스레드 풀에서 동시에 일괄 제출
+        Map<String, Integer> pending = submitRemaining(request, results, listener);
+
+        // 3. 끝난 결과부터 일괄 조회
+        int maxRetries = judge0Config.getMaxRetries();
+        for (int attempt = 0; attempt < maxRetries && !pending.isEmpty(); attempt++) {
+            Map<String, Judge0Client.JudgeResult> finished =
+                    judge0Client.getFinishedResults(new ArrayList<>(pending.keySet()));
+            finished.forEach((token, result) -> record(results, pending.remove(token), result, listener));
+
+            if (!pending.isEmpty()) {
+                try {
+                    Thread.sleep(judge0Config.getRetryDelayMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
             }
+        }
+        pending.values().forEach(index ->
+                record(results, index, Judge0Client.JudgeResult.error("채점 시간 초과"), listener));
+
+        return toResponse(results);
+    }
+
+    /**
+     * 검증을 별도 스레드에서 진행하며 결과를 SSE로 전송한다.
+     * 테스트케이스마다 {@code result} 이벤트를, 끝나면 전체 결과를 담은 {@code complete} 이벤트를 보낸다.
+     *
+     * @param request 검증 요청
+     * @return SseEmitter
+     */
+    public SseEmitter validateProblemStream(ValidateProblemRequest request) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        AtomicBoolean connected = new AtomicBoolean(true);
+        emitter.onCompletion(() -> connected.set(false));
+        emitter.onTimeout(() -> connected.set(false));
+        emitter.onError(e -> connected.set(false));
 
-            // 실행 시간을 ms로 변환 (Judge0는 초 단위로 반환)
-            Double timeMs = null;
-            if (judgeResult.getExecutionTime() != null) {
-                timeMs = judgeResult.getExecutionTime() * 1000;
+        try {
+            validationExecutor.execute(() -> {
+                try {
+                    ValidationResponse response = validateProblem(request,
+                            result -> send(emitter, connected, "result", result));
+                    send(emitter, connected, "complete", response);
+                    emitter.complete();
+                } catch (Exception e) {
+                    log.error("문제 검증 중 오류 발생", e);
+                    send(emitter, connected, "error", "검증 중 오류가 발생했습니다: " + e.getMessage());
+                    emitter.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("검증 요청이 많아 거절했습니다.");
+            send(emitter, connected, "error", "검증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private Map<String, Integer> submitRemaining(ValidateProblemRequest request,
+                                                 ValidationResponse.TestCaseResult[] results,
+                                                 Consumer<ValidationResponse.TestCaseResult> listener) {
+        List<ValidateProblemRequest.TestCaseInput> testCases = request.getTestCases();
+        int batchSize = Math.max(1, judge0Config.getBatchSize());
+
+        List<Integer> offsets = new ArrayList<>();
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int from = 1; from < testCases.size(); from += batchSize) {
+            List<Judge0Client.BatchInput> inputs = testCases.subList(from, Math.min(from + batchSize, testCases.size()))
+                    .stream()
+                    .map(tc -> new Judge0Client.BatchInput(tc.getInput(), tc.getExpectedOutput()))
+                    .toList();
+            offsets.add(from);
+            futures.add(CompletableFuture.supplyAsync(() -> judge0Client.createSubmissionBatch(
+                    request.getSolutionCode(), request.getLanguage(), inputs), judge0Executor));
+        }
+
+        Map<String, Integer> pending = new HashMap<>();
+        for (int chunk = 0; chunk < futures.size(); chunk++) {
+            List<String> tokens = futures.get(chunk).join();
+            for (int i = 0; i < tokens.size(); i++) {
+                int index = offsets.get(chunk) + i;
+                if (tokens.get(i) == null) {
+                    record(results, index, Judge0Client.JudgeResult.error("코드 제출에 실패했습니다."), listener);
+                } else {
+                    pending.put(tokens.get(i), index);
+                }
             }
+        }
+        return pending;
+    }
+
+    private void record(ValidationResponse.TestCaseResult[] results, int index, Judge0Client.JudgeResult judgeResult,
+                        Consumer<ValidationResponse.TestCaseResult> listener) {
+        ValidationResponse.TestCaseResult result = toTestCaseResult(index, judgeResult);
+        results[index] = result;
+        listener.accept(result);
 
-            results.add(ValidationResponse.TestCaseResult.builder()
-                    .index(i)
-                    .passed(passed)
-                    .actualOutput(judgeResult.getStdout())
-                    .error(error)
-                    .time(timeMs)
-                    .build());
+        log.info("TestCase {} validation: passed={}, time={}ms",
+                index + 1, result.isPassed(), result.getTime() != null ? String.format("%.2f", result.getTime()) : "N/A");
+    }
+
+    private ValidationResponse.TestCaseResult toTestCaseResult(int index, Judge0Client.JudgeResult judgeResult) {
+        boolean passed = judgeResult.isAccepted();
+
+        String error = null;
+        if (!passed) {
+            if (judgeResult.getErrorMessage() != null) {
+                error = judgeResult.getErrorMessage();
+            } else if (judgeResult.getCompileOutput() != null && !judgeResult.getCompileOutput().isEmpty()) {
+                error = "Compile Error: " + judgeResult.getCompileOutput();
+            } else if (judgeResult.getStderr() != null && !judgeResult.getStderr().isEmpty()) {
+                error = "Runtime Error: " + judgeResult.getStderr();
+            } else if (judgeResult.getStatusDescription() != null) {
+                error = judgeResult.getStatusDescription();
+            } else {
+                error = "Wrong Answer";
+            }
+        }
 
-            log.info("TestCase {} validation: passed={}, time={}ms",
-                    i + 1, passed, timeMs != null ? String.format("%.2f", timeMs) : "N/A");
+        // 실행 시간을 ms로 변환 (Judge0는 초 단위로 반환)
+        Double timeMs = null;
+        if (judgeResult.getExecutionTime() != null) {
+            timeMs = judgeResult.getExecutionTime() * 1000;
         }
 
+        return ValidationResponse.TestCaseResult.builder()
+                .index(index)
+                .passed(passed)
+                .actualOutput(judgeResult.getStdout())
+                .error(error)
+                .time(timeMs)
+                .build();
+    }
+
+    private ValidationResponse toResponse(ValidationResponse.TestCaseResult[] results) {
         return ValidationResponse.builder()
-                .success(allPassed)
-                .results(results)
+                .success(Arrays.stream(results).allMatch(ValidationResponse.TestCaseResult::isPassed))
+                .results(List.of(results))
                 .build();
     }
+
+    private void send(SseEmitter emitter, AtomicBoolean connected, String name, Object data) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊어도 검증은 끝까지 진행한다
+            log.debug("검증 결과 전송 실패 (연결 종료): {}", e.getMessage());
+            connected.set(false);
+        }
+    }
 }
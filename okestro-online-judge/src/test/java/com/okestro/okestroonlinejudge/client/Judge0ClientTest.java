@@ -2,6 +2,8 @@ package com.okestro.okestroonlinejudge.client;
 
 import com.okestro.okestroonlinejudge.config.Judge0Config;
 import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.web.client.RestTemplate;
 import org.yaml.snakeyaml.Yaml;
@@ -28,7 +30,7 @@ class Judge0ClientTest {
     void setUp() {
         judge0Config = loadConfigFromYaml();
         RestTemplate restTemplate = new RestTemplate();
-        judge0Client = new Judge0Client(restTemplate, judge0Config);
+        judge0Client = new Judge0Client(restTemplate, judge0Config, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
     }
 
     private Judge0Config loadConfigFromYaml() {
@@ -0,0 +1,94 @@
+package com.okestro.okestroonlinejudge.client;
+
+import com.okestro.okestroonlinejudge.config.Judge0Config;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Judge0 시뮬레이터에 대해 Judge0 클라이언트의 제출/조회 흐름을 확인하는 테스트.
+ */
+@DisplayName("Judge0 시뮬레이터 테스트")
+class Judge0SimulatorTest {
+
+    private Judge0Simulator simulator;
+    private Judge0Client judge0Client;
+
+    @BeforeEach
+    void setUp() {
+        simulator = Judge0Simulator.builder()
+                .workers(2)
+                .executionTime(Duration.ofMillis(20))
+                .verdictScript(Judge0Simulator.VerdictScript.markers())
+                .start();
+
+        Judge0Config judge0Config = new Judge0Config();
+        judge0Config.setApiUrl(simulator.getUrl());
+        judge0Config.setCpuTimeLimit(2.0);
+        judge0Config.setMemoryLimit(128000);
+        judge0Config.setMaxRetries(100);
+        judge0Config.setRetryDelayMs(10);
+        judge0Client = new Judge0Client(new RestTemplate(), judge0Config,
+                new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("단건 제출은 판정 스크립트의 결과를 돌려준다")
+    void judgeFollowsVerdictScript() {
+        assertThat(judge0Client.checkServerStatus()).isTrue();
+
+        Judge0Client.JudgeResult accepted = judge0Client.judge("print(input())", "python", "1", "1");
+        Judge0Client.JudgeResult wrong = judge0Client.judge("print(0)  #WA", "python", "1", "1");
+
+        assertThat(accepted.getResult()).isEqualTo(SubmissionResult.ACCEPTED);
+        assertThat(accepted.getStdout()).isEqualTo("1");
+        assertThat(wrong.getResult()).isEqualTo(SubmissionResult.WRONG_ANSWER);
+    }
+
+    @Test
+    @DisplayName("일괄 제출한 토큰을 일괄 조회한다")
+    void batchCreateAndPoll() throws Exception {
+        List<String> tokens = judge0Client.createSubmissionBatch("print(input())", "python", List.of(
+                new Judge0Client.BatchInput("1", "1"),
+                new Judge0Client.BatchInput("2", "2"),
+                new Judge0Client.BatchInput("3", "3")));
+
+        assertThat(tokens).hasSize(3).doesNotContainNull();
+        for (String token : tokens) {
+            simulator.find(token).done().get();
+        }
+
+        Map<String, Judge0Client.JudgeResult> results = judge0Client.getFinishedResults(tokens);
+        assertThat(results).containsOnlyKeys(tokens);
+        assertThat(results.values()).allMatch(Judge0Client.JudgeResult::isAccepted);
+    }
+
+    @Test
+    @DisplayName("삭제된 토큰은 기다리지 않고 토큰 없음 오류를 돌려준다")
+    void forgottenTokenIsNotFound() throws Exception {
+        String token = judge0Client.createSubmission("print(1)", "python", "", "1");
+        simulator.find(token).done().get();
+        simulator.forget(token);
+
+        Judge0Client.JudgeResult result = judge0Client.pollResult(token);
+
+        assertThat(result.getErrorMessage()).isEqualTo(Judge0Client.TOKEN_NOT_FOUND_MESSAGE);
+        assertThat(simulator.getPollCount()).isEqualTo(1);
+    }
+}
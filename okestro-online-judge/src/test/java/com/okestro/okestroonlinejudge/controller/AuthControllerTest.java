@@ -258,6 +258,7 @@ class AuthControllerTest {
 
     private void createTestUser() {
         UserEntity user = new UserEntity(
+                TEST_USERNAME,
                 TEST_USERNAME,
                 passwordEncoder.encode(TEST_PASSWORD),
                 TEST_EMAIL,
@@ -0,0 +1,51 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChunkedBackfill 단위 테스트")
+class ChunkedBackfillTest {
+
+    @Test
+    @DisplayName("커서를 넘기며 묶음을 처리하고 더 없으면 멈춘다")
+    void advancesCursorUntilDone() {
+        List<Long> cursors = new ArrayList<>();
+        ChunkedBackfill backfill = new ChunkedBackfill("테스트", afterId -> {
+            cursors.add(afterId);
+            return afterId < 20 ? afterId + 10 : null;
+        }, () -> 0L);
+
+        for (int i = 0; i < 5; i++) {
+            backfill.runChunk();
+        }
+
+        assertThat(cursors).containsExactly(0L, 10L, 20L);
+        assertThat(backfill.isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패하면 다음 시도를 두 배씩 미루고, 연속 실패 한도를 넘기면 멈춘다")
+    void backsOffAndGivesUpAfterRepeatedFailures() {
+        AtomicLong now = new AtomicLong();
+        List<Long> attemptedAt = new ArrayList<>();
+        ChunkedBackfill backfill = new ChunkedBackfill("테스트", afterId -> {
+            attemptedAt.add(now.get());
+            throw new IllegalStateException("DB 장애");
+        }, now::get);
+
+        for (int tick = 0; tick < 3_000; tick++) {
+            now.set(tick * 1_000L);
+            backfill.runChunk();
+        }
+
+        assertThat(attemptedAt).hasSize(ChunkedBackfill.MAX_FAILURES);
+        assertThat(attemptedAt.subList(0, 4)).containsExactly(0L, 1_000L, 3_000L, 7_000L);
+        assertThat(backfill.isDone()).isTrue();
+    }
+}
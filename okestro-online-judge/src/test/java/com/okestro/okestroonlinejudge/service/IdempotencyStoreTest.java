@@ -0,0 +1,80 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotencyStore 단위 테스트")
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore();
+        ReflectionTestUtils.setField(store, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(store, "maxEntries", 10);
+        ReflectionTestUtils.setField(store, "waitTimeoutMs", 5_000L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청과 같은 키로 온 재시도는 작업을 다시 실행하지 않고 같은 결과를 받는다")
+    void joinsInFlightRequest() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String fingerprint = IdempotencyStore.fingerprint(1L, "python", "print(1)");
+
+        CompletableFuture<IdempotencyStore.Result<String>> first = CompletableFuture.supplyAsync(() ->
+                store.execute("submit:1:key", fingerprint, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                    return "submission-1";
+                }));
+        started.await();
+        CompletableFuture<IdempotencyStore.Result<String>> retry = CompletableFuture.supplyAsync(() ->
+                store.execute("submit:1:key", fingerprint, () -> {
+                    executions.incrementAndGet();
+                    return "submission-2";
+                }));
+        release.countDown();
+
+        assertThat(first.get().value()).isEqualTo("submission-1");
+        assertThat(first.get().replayed()).isFalse();
+        assertThat(retry.get().value()).isEqualTo("submission-1");
+        assertThat(retry.get().replayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거절하고, 실패한 요청의 키는 다시 쓸 수 있다")
+    void rejectsMismatchAndAllowsRetryAfterFailure() {
+        store.execute("k", IdempotencyStore.fingerprint("a"), () -> "a");
+        assertThatThrownBy(() -> store.execute("k", IdempotencyStore.fingerprint("b"), () -> "b"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> store.execute("failing", "f", () -> {
+            throw new IllegalStateException("judge down");
+        })).hasMessage("judge down");
+        IdempotencyStore.Result<String> retried = store.execute("failing", "f", () -> "ok");
+        assertThat(retried.value()).isEqualTo("ok");
+        assertThat(retried.replayed()).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
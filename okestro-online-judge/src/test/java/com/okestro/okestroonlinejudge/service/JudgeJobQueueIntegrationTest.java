@@ -0,0 +1,363 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.JudgeJobEntity;
+import com.okestro.okestroonlinejudge.domain.JudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.RejudgeJobStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.dto.request.RejudgeRequest;
+import com.okestro.okestroonlinejudge.dto.response.RejudgeJobResponse;
+import com.okestro.okestroonlinejudge.event.JudgeJobFailedEvent;
+import com.okestro.okestroonlinejudge.repository.JudgeJobRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.TestCaseRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.service.JudgeJobService.JudgeJobSnapshot;
+import com.okestro.okestroonlinejudge.service.SubmissionService.JudgeResultSummary;
+import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 여러 워커 노드가 하나의 DB 채점 큐를 나눠 처리하는지 검증하는 통합 테스트.
+ * 노드마다 별도의 {@link JudgeJobRunner}와 스레드 풀을 만들어 같은 H2 DB를 바라보게 한다.
+ */
+@ServiceIntegrationTest
+// 채점기를 목으로 바꿔 컨텍스트를 따로 띄우므로 DB도 따로 쓴다
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:judgequeue;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@RecordApplicationEvents
+class JudgeJobQueueIntegrationTest {
+
+    private static final int WORKER_THREADS = 2;
+    private static final long EXECUTION_MILLIS = 300;
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private JudgeJobService judgeJobService;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private JudgeJobRepository judgeJobRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private TestCaseRepository testCaseRepository;
+
+    @Autowired
+    private RejudgeService rejudgeService;
+
+    @Autowired
+    private SubmissionProgressPublisher progressPublisher;
+
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TestCaseExecutor testCaseExecutor;
+
+    private volatile SubmissionResult verdict;
+
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private TierEntity tier;
+    private ProblemEntity problem;
+
+    @BeforeEach
+    void setUp() {
+        executions.clear();
+        verdict = SubmissionResult.ACCEPTED;
+        meterRegistry = new SimpleMeterRegistry();
+
+        tier = fixtures.tier("BRONZE", 10);
+        problem = fixtures.problem("A+B", tier, fixtures.user("queue", tier));
+        testCaseRepository.save(TestCaseEntity.builder()
+                .problemEntity(problem)
+                .input("1 2")
+                .output("3")
+                .isSample(true)
+                .build());
+
+        given(testCaseExecutor.executeTestCases(anyString(), anyString(), anyList(), any(TestCaseExecutor.TokenTracker.class)))
+                .willAnswer(invocation -> {
+                    String sourceCode = invocation.getArgument(0);
+                    executions.computeIfAbsent(sourceCode, key -> new AtomicInteger()).incrementAndGet();
+                    Thread.sleep(EXECUTION_MILLIS);
+                    return List.of(TestCaseResult.builder()
+                            .testCaseNumber(1)
+                            .result(verdict)
+                            .executionTime(0.01)
+                            .memoryUsage(1024)
+                            .build());
+                });
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 폴링해도 모든 작업이 정확히 한 번씩 채점된다")
+    void multipleReplicas_EachJobJudgedExactlyOnce() throws Exception {
+        List<Long> jobIds = enqueue(40);
+
+        drain(jobIds, 4);
+
+        assertThat(executions).hasSize(40);
+        assertThat(executions.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        for (JudgeJobEntity job : judgeJobRepository.findAllById(jobIds)) {
+            assertThat(job.getStatus()).isEqualTo(JudgeJobStatus.COMPLETED);
+            assertThat(job.getAttemptCount()).isEqualTo(1);
+            assertThat(submissionRepository.findById(job.getSubmissionEntity().getId()).orElseThrow().getResult())
+                    .isEqualTo(SubmissionResult.ACCEPTED);
+        }
+        assertThat(meterRegistry.get("judge.verdicts")
+                .tag("result", SubmissionResult.ACCEPTED.name())
+                .tag("language", "python")
+                .counter().count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("노드 수를 늘리면 처리 시간이 줄어든다")
+    void moreReplicas_HigherThroughput() throws Exception {
+        long singleNode = drain(enqueue(16), 1);
+        long fourNodes = drain(enqueue(16), 4);
+
+        // 채점 시간이 지배적이므로 이론상 1/4이지만, DB 처리 비용을 감안해 여유 있게 비교한다
+        assertThat(fourNodes).isLessThan(singleNode * 6 / 10);
+    }
+
+    @Test
+    @DisplayName("점유가 만료된 작업은 다른 노드가 이어받고, 이전 노드의 결과는 반영되지 않는다")
+    void expiredLease_TakenOverByAnotherNode() {
+        Long jobId = enqueue(1).get(0);
+
+        List<JudgeJobSnapshot> first = judgeJobService.claim("node-a", 1, Duration.ofMillis(-1));
+        List<JudgeJobSnapshot> second = judgeJobService.claim("node-b", 1, Duration.ofMinutes(1));
+
+        assertThat(first).extracting(JudgeJobSnapshot::judgeJobId).containsExactly(jobId);
+        assertThat(second).extracting(JudgeJobSnapshot::judgeJobId).containsExactly(jobId);
+
+        JudgeResultSummary summary = JudgeResultSummary.noTestCase();
+        assertThat(submissionService.completeJudge(jobId, "node-a", summary)).isFalse();
+        assertThat(submissionService.completeJudge(jobId, "node-b", summary)).isTrue();
+        assertThat(judgeJobRepository.findById(jobId).orElseThrow().getAttemptCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오류로 반납된 작업은 재시도 대기 시간이 지나야 다시 점유되고, 대기 시간은 시도마다 늘어난다")
+    void requeuedJob_WaitsForBackoff() {
+        Long jobId = enqueue(1).get(0);
+
+        assertThat(judgeJobService.claim("node-a", 1, Duration.ofMinutes(1))).hasSize(1);
+        judgeJobService.requeue(jobId, "node-a", "Judge0 연결 실패");
+        assertThat(judgeJobService.claim("node-b", 1, Duration.ofMinutes(1))).isEmpty();
+        LocalDateTime firstRetry = judgeJobRepository.findById(jobId).orElseThrow().getNextAttemptAt();
+
+        // 대기 시간이 지난 것으로 만든다
+        jdbcTemplate.update("UPDATE judge_job SET next_attempt_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), jobId);
+        assertThat(judgeJobService.claim("node-b", 1, Duration.ofMinutes(1)))
+                .extracting(JudgeJobSnapshot::judgeJobId)
+                .containsExactly(jobId);
+
+        LocalDateTime requeuedAt = LocalDateTime.now();
+        judgeJobService.requeue(jobId, "node-b", "Judge0 연결 실패");
+        assertThat(Duration.between(requeuedAt, judgeJobRepository.findById(jobId).orElseThrow().getNextAttemptAt()))
+                .isGreaterThan(Duration.between(requeuedAt, firstRetry));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 작업은 런타임 에러로 끝내고 실패 이벤트를 발행한다")
+    void exhaustedAttempts_FailedEventPublished() {
+        Long jobId = enqueue(1).get(0);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(judgeJobService.claim("node-a", 1, Duration.ofMillis(-1))).hasSize(1);
+        }
+
+        assertThat(judgeJobService.claim("node-a", 1, Duration.ofMinutes(1))).isEmpty();
+
+        JudgeJobEntity job = judgeJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(JudgeJobStatus.FAILED);
+        assertThat(submissionRepository.findById(job.getSubmissionEntity().getId()).orElseThrow().getResult())
+                .isEqualTo(SubmissionResult.RUNTIME_ERROR);
+        assertThat(applicationEvents.stream(JudgeJobFailedEvent.class))
+                .extracting(JudgeJobFailedEvent::judgeJobId, JudgeJobFailedEvent::result)
+                .containsExactly(tuple(jobId, SubmissionResult.RUNTIME_ERROR));
+    }
+
+    @Test
+    @DisplayName("재채점은 일반 제출보다 뒤에 점유되고, 정답이 사라지면 사용자 통계를 되돌린다")
+    void rejudge_LowPriorityAndStatisticsReverted() throws Exception {
+        Long firstJobId = enqueue(1).get(0);
+        drain(List.of(firstJobId), 1);
+        SubmissionEntity submission = judgeJobRepository.findById(firstJobId).orElseThrow().getSubmissionEntity();
+        Long userId = submissionRepository.findById(submission.getId()).orElseThrow().getUserEntity().getId();
+        assertThat(userStatisticsRepository.findById(userId).orElseThrow().getSolvedCount()).isEqualTo(1L);
+
+        verdict = SubmissionResult.WRONG_ANSWER;
+        RejudgeJobResponse rejudge = rejudgeService.createRejudge(problem.getId(), new RejudgeRequest(), "admin");
+        assertThat(rejudgeService.feed(rejudge.getId())).isPositive();
+
+        Long normalJobId = enqueue(1).get(0);
+        assertThat(judgeJobService.claim("node-x", 1, Duration.ofMinutes(1)))
+                .extracting(JudgeJobSnapshot::judgeJobId)
+                .containsExactly(normalJobId);
+        submissionService.completeJudge(normalJobId, "node-x", JudgeResultSummary.noTestCase());
+
+        drain(rejudgeJobIds(rejudge.getId()), 1);
+        rejudgeService.feed(rejudge.getId());
+
+        RejudgeJobResponse finished = rejudgeService.getRejudge(rejudge.getId());
+        assertThat(finished.getStatus()).isEqualTo(RejudgeJobStatus.COMPLETED);
+        assertThat(finished.getChangedCount()).isPositive();
+        assertThat(submissionRepository.findById(submission.getId()).orElseThrow().getResult())
+                .isEqualTo(SubmissionResult.WRONG_ANSWER);
+        assertThat(userStatisticsRepository.findById(userId).orElseThrow().getSolvedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 문제의 재채점은 하나만 진행되고, 채점 작업이 남은 제출은 다시 큐에 넣지 않는다")
+    void rejudge_NoDuplicateJobsForSameSubmission() throws Exception {
+        Long firstJobId = enqueue(1).get(0);
+        drain(List.of(firstJobId), 1);
+        Long submissionId = judgeJobRepository.findById(firstJobId).orElseThrow().getSubmissionEntity().getId();
+
+        RejudgeJobResponse first = rejudgeService.createRejudge(problem.getId(), new RejudgeRequest(), "admin");
+        assertThat(rejudgeService.feed(first.getId())).isEqualTo(1);
+        assertThatThrownBy(() -> rejudgeService.createRejudge(problem.getId(), new RejudgeRequest(), "admin"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 취소해도 이미 큐에 들어간 작업은 남으므로, 새 재채점은 그 작업이 끝날 때까지 그 제출을 넣지 않는다
+        rejudgeService.cancelRejudge(first.getId());
+        RejudgeJobResponse second = rejudgeService.createRejudge(problem.getId(), new RejudgeRequest(), "admin");
+        assertThat(rejudgeService.feed(second.getId())).isZero();
+        List<Long> unfinished = judgeJobRepository.findAll().stream()
+                .filter(job -> job.getSubmissionEntity().getId().equals(submissionId))
+                .filter(job -> !job.getStatus().isFinished())
+                .map(JudgeJobEntity::getId)
+                .toList();
+        assertThat(unfinished).hasSize(1);
+        drain(unfinished, 1);
+        assertThat(rejudgeService.feed(second.getId())).isEqualTo(1);
+        drain(rejudgeJobIds(second.getId()), 1);
+    }
+
+    @Test
+    @DisplayName("재채점은 채점 중인 제출에서 멈췄다가 그 작업이 끝나면 이어서 넣고, 건너뛰지 않는다")
+    void rejudge_WaitsForBusySubmission() throws Exception {
+        List<Long> jobIds = enqueue(3);
+        drain(jobIds, 1);
+        List<Long> submissionIds = judgeJobRepository.findAllById(jobIds).stream()
+                .map(job -> job.getSubmissionEntity().getId())
+                .sorted()
+                .toList();
+        // 가운데 제출에 끝나지 않은 채점 작업을 남긴다
+        Long busyJobId = judgeJobService.createJob(submissionRepository.getReferenceById(submissionIds.get(1))).getId();
+
+        RejudgeJobResponse rejudge = rejudgeService.createRejudge(problem.getId(), new RejudgeRequest(), "admin");
+        assertThat(rejudgeService.feed(rejudge.getId())).isEqualTo(1);
+        assertThat(rejudgeService.feed(rejudge.getId())).isZero();
+
+        drain(List.of(busyJobId), 1);
+        assertThat(rejudgeService.feed(rejudge.getId())).isEqualTo(2);
+        List<Long> rejudgeJobIds = rejudgeJobIds(rejudge.getId());
+        assertThat(judgeJobRepository.findAllById(rejudgeJobIds))
+                .extracting(job -> job.getSubmissionEntity().getId())
+                .containsExactlyInAnyOrderElementsOf(submissionIds);
+        drain(rejudgeJobIds, 1);
+    }
+
+    private List<Long> rejudgeJobIds(Long rejudgeJobId) {
+        return judgeJobRepository.findAll().stream()
+                .filter(job -> rejudgeJobId.equals(job.getRejudgeJobId()))
+                .map(JudgeJobEntity::getId)
+                .toList();
+    }
+
+    private List<Long> enqueue(int count) {
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // 같은 사용자의 통계 행을 여러 작업이 동시에 만들지 않도록 제출마다 사용자를 따로 둔다
+            SubmissionEntity submission =
+                    fixtures.submit(fixtures.user("queue", tier), problem, SubmissionResult.JUDGING);
+            jobIds.add(judgeJobService.createJob(submission).getId());
+        }
+        return jobIds;
+    }
+
+    /**
+     * 노드 {@code replicas}개로 주어진 작업이 모두 끝날 때까지 폴링하고 걸린 시간(ms)을 반환한다.
+     */
+    private long drain(List<Long> jobIds, int replicas) throws InterruptedException {
+        List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+        List<JudgeJobRunner> runners = new ArrayList<>();
+        for (int i = 0; i < replicas; i++) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(WORKER_THREADS);
+            executor.setMaxPoolSize(WORKER_THREADS);
+            executor.setThreadNamePrefix("node-" + i + "-");
+            executor.initialize();
+            executors.add(executor);
+            runners.add(new JudgeJobRunner(judgeJobService, submissionService, testCaseRepository, testCaseExecutor,
+                    progressPublisher, executor, Runnable::run, meterRegistry, ObservationRegistry.NOOP,
+                    "node-" + i, WORKER_THREADS, Duration.ofSeconds(30), true));
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + 30_000;
+        try {
+            while (!allFinished(jobIds)) {
+                assertThat(System.currentTimeMillis()).as("채점 큐 처리 시간 초과").isLessThan(deadline);
+                runners.parallelStream().forEach(JudgeJobRunner::poll);
+                Thread.sleep(10);
+            }
+            return System.currentTimeMillis() - startedAt;
+        } finally {
+            executors.forEach(ThreadPoolTaskExecutor::shutdown);
+        }
+    }
+
+    private boolean allFinished(List<Long> jobIds) {
+        return judgeJobRepository.findAllById(jobIds).stream()
+                .allMatch(job -> job.getStatus().isFinished());
+    }
+}
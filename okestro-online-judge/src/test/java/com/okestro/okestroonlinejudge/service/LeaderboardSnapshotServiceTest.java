@@ -0,0 +1,88 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.Role;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LeaderboardSnapshotService 단위 테스트")
+class LeaderboardSnapshotServiceTest {
+
+    private UserStatisticsRepository userStatisticsRepository;
+    private LeaderboardSnapshotService leaderboardSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        userStatisticsRepository = mock(UserStatisticsRepository.class);
+        leaderboardSnapshotService = new LeaderboardSnapshotService(userStatisticsRepository,
+                mock(UserScoreBucketService.class), Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 잘라 순위가 매겨진 페이지를 돌려준다")
+    void pagesAreSlicesOfSnapshot() {
+        when(userStatisticsRepository.findAllUserRankings()).thenReturn(List.of(
+                stats(1L, 300), stats(2L, 200), stats(3L, 100)));
+
+        Page<UserRankingResponse> page = leaderboardSnapshotService.getSnapshot().page(PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(UserRankingResponse::getRank).containsExactly(3);
+        assertThat(page.getContent()).extracting(UserRankingResponse::getUserId).containsExactly(3L);
+        verify(userStatisticsRepository, times(1)).findAllUserRankings();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 다시 만들어도 ETag가 같고, 점수가 바뀌면 ETag가 바뀐다")
+    void etagFollowsContent() {
+        when(userStatisticsRepository.findAllUserRankings())
+                .thenReturn(List.of(stats(1L, 300), stats(2L, 200)))
+                .thenReturn(List.of(stats(1L, 300), stats(2L, 200)))
+                .thenReturn(List.of(stats(1L, 300), stats(2L, 250)));
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        String first = leaderboardSnapshotService.refresh().etag(pageable);
+        String same = leaderboardSnapshotService.refresh().etag(pageable);
+        String changed = leaderboardSnapshotService.refresh().etag(pageable);
+
+        assertThat(same).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+        assertThat(first).startsWith("\"").endsWith("-0-20\"");
+    }
+
+    @Test
+    @DisplayName("통계 변경 이벤트가 없고 최대 지연 시간 전이면 다시 만들지 않는다")
+    void refreshesOnlyWhenChanged() {
+        when(userStatisticsRepository.findAllUserRankings()).thenReturn(List.of(stats(1L, 300)));
+
+        leaderboardSnapshotService.refreshIfStale();
+        leaderboardSnapshotService.refreshIfStale();
+        verify(userStatisticsRepository, times(1)).findAllUserRankings();
+
+        leaderboardSnapshotService.onUserStatisticsChanged(null);
+        leaderboardSnapshotService.refreshIfStale();
+        verify(userStatisticsRepository, times(2)).findAllUserRankings();
+    }
+
+    private static UserStatisticsEntity stats(Long userId, long rankingPoint) {
+        UserEntity user = new UserEntity("user" + userId, "사용자" + userId, "hash",
+                "user" + userId + "@example.com", Role.USER, null, null);
+        ReflectionTestUtils.setField(user, "id", userId);
+        UserStatisticsEntity stats = new UserStatisticsEntity(user);
+        stats.updateStatistics(1L, 0L, rankingPoint);
+        return stats;
+    }
+}
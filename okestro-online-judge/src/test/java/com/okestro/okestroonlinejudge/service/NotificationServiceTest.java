@@ -0,0 +1,119 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NotificationService SSE 팬아웃 단위 테스트")
+class NotificationServiceTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(Runnable::run, new InMemorySubmissionEventBus()) {
+            @Override
+            protected SseEmitter createEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(notificationService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(notificationService, "maxConnections", 3);
+        ReflectionTestUtils.setField(notificationService, "maxConnectionsPerTopic", 10);
+        ReflectionTestUtils.setField(notificationService, "bufferSize", 16);
+        ReflectionTestUtils.setField(notificationService, "replaySize", 4);
+        ReflectionTestUtils.setField(notificationService, "replayRetentionMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("같은 제출을 구독한 모든 연결이 이벤트를 받고, 최종 이벤트 후 연결이 닫힌다")
+    void fansOutToAllSubscribers() {
+        notificationService.subscribe(1L);
+        notificationService.subscribe(1L);
+
+        notificationService.publish("submission:1", "status", "Judging", false);
+        notificationService.publish("submission:1", "status", "Accepted", true);
+
+        assertThat(emitters).hasSize(2);
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.events).containsExactly("connect", "1:Judging", "2:Accepted");
+        }
+        assertThat(notificationService.getConnectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트만 링 버퍼에서 다시 보낸다")
+    void replaysAfterLastEventId() {
+        for (int i = 1; i <= 6; i++) {
+            notificationService.publish("submission:2", "status", "tc" + i, false);
+        }
+
+        notificationService.subscribe(2L, "4");
+        notificationService.subscribe(2L, null);
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "5:tc5", "6:tc6");
+        // 링 버퍼에는 최근 4개만 남는다
+        assertThat(emitters.get(1).events).containsExactly("connect", "3:tc3", "4:tc4", "5:tc5", "6:tc6");
+    }
+
+    @Test
+    @DisplayName("연결 수 한도를 넘으면 구독을 거절한다")
+    void rejectsOverCapacity() {
+        notificationService.subscribe(3L);
+        notificationService.subscribe(4L);
+        notificationService.subscribe(5L);
+
+        assertThatThrownBy(() -> notificationService.subscribe(6L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(notificationService.getConnectionCount()).isEqualTo(3);
+    }
+
+    /**
+     * 보낸 이벤트를 "id:data" (이벤트 ID가 없으면 이벤트 이름) 형태로 기록하고,
+     * 문자열이 아닌 data는 객체 그대로 따로 기록한다.
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<Object> payloads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder raw = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof String text) {
+                    raw.append(text);
+                } else {
+                    payloads.add(part.getData());
+                }
+            });
+            String id = null;
+            String name = null;
+            String data = null;
+            for (String line : raw.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            if (name != null) {
+                events.add(id != null ? id + ":" + data : name);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.OrganizationEntity;
+import com.okestro.okestroonlinejudge.domain.OrganizationRollupEntity;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.request.UpdateOrganizationRequest;
+import com.okestro.okestroonlinejudge.dto.response.OrganizationRollupResponse;
+import com.okestro.okestroonlinejudge.repository.OrganizationRepository;
+import com.okestro.okestroonlinejudge.repository.OrganizationRollupRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조직 계층 합계 유지와 재계산 통합 테스트.
+ */
+@ServiceIntegrationTest
+class OrganizationRollupServiceTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private OrganizationRollupService organizationRollupService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationRollupRepository organizationRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("소속, 해결, 조직 이동을 상위 조직 합계에 반영하고 재계산 결과와 같다")
+    void keepsSubtreeTotalsInSyncWithRebuild() {
+        String suffix = String.valueOf(System.nanoTime());
+        OrganizationEntity division = saveOrganization(null, "본부-" + suffix);
+        OrganizationEntity teamA = saveOrganization(division, "A팀-" + suffix);
+        OrganizationEntity teamB = saveOrganization(division, "B팀-" + suffix);
+        OrganizationEntity other = saveOrganization(null, "다른본부-" + suffix);
+
+        UserEntity first = saveUser("first", 3L, 30L);
+        UserEntity second = saveUser("second", 1L, 10L);
+        UserEntity third = saveUser("third", 2L, 50L);
+        organizationService.assignUserToOrganization(first.getId(), teamA.getId());
+        organizationService.assignUserToOrganization(second.getId(), teamA.getId());
+        organizationService.assignUserToOrganization(third.getId(), teamB.getId());
+
+        // third가 문제를 하나 더 푼다
+        transactionTemplate.executeWithoutResult(status -> {
+            userStatisticsRepository.findById(third.getId()).orElseThrow().addSolvedProblem(20, null);
+            organizationRollupService.addUserStatistics(userRepository.findById(third.getId()).orElseThrow(), 1, 20);
+        });
+
+        assertTotals(division, 7, 110, 3);
+        assertTotals(teamB, 3, 70, 1);
+        OrganizationRollupResponse rollupA = rankingService.getOrganizationRollup(teamA.getId());
+        assertThat(rollupA.getTotalRankingPoint()).isEqualTo(40L);
+        assertThat(rollupA.getRankInParent()).isEqualTo(2);
+        assertThat(rollupA.getRankedSiblingCount()).isEqualTo(2L);
+
+        UpdateOrganizationRequest move = new UpdateOrganizationRequest();
+        ReflectionTestUtils.setField(move, "parentId", other.getId());
+        organizationService.updateOrganization(teamB.getId(), move);
+        organizationService.removeUserFromOrganization(second.getId());
+
+        assertTotals(division, 3, 30, 1);
+        assertTotals(other, 3, 70, 1);
+        assertThat(rankingService.getOrganizationRollup(teamA.getId()).getRankInParent()).isEqualTo(1);
+        assertThat(rankingService.getOrganizationRollup(teamA.getId()).getRankedSiblingCount()).isEqualTo(1L);
+
+        organizationRollupService.rebuild();
+
+        assertTotals(division, 3, 30, 1);
+        assertTotals(teamA, 3, 30, 1);
+        assertTotals(teamB, 3, 70, 1);
+        assertTotals(other, 3, 70, 1);
+    }
+
+    private OrganizationEntity saveOrganization(OrganizationEntity parent, String name) {
+        return transactionTemplate.execute(status -> {
+            OrganizationEntity organization = organizationRepository.save(OrganizationEntity.builder()
+                    .parent(parent != null ? organizationRepository.getReferenceById(parent.getId()) : null)
+                    .name(name)
+                    .depth(parent != null ? parent.getDepth() + 1 : 0)
+                    .build());
+            organizationRollupService.create(organization);
+            return organization;
+        });
+    }
+
+    private UserEntity saveUser(String name, long solvedCount, long rankingPoint) {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        return transactionTemplate.execute(status -> {
+            UserEntity user = fixtures.user(name, tier);
+            UserStatisticsEntity stats = new UserStatisticsEntity(user);
+            stats.updateStatistics(solvedCount, 0L, rankingPoint);
+            userStatisticsRepository.save(stats);
+            return user;
+        });
+    }
+
+    private void assertTotals(OrganizationEntity organization, long solvedCount, long rankingPoint, long userCount) {
+        OrganizationRollupEntity rollup = organizationRollupRepository.findById(organization.getId()).orElseThrow();
+        assertThat(rollup.getSolvedCount()).as("%s 해결 수", organization.getName()).isEqualTo(solvedCount);
+        assertThat(rollup.getRankingPoint()).as("%s 랭킹 포인트", organization.getName()).isEqualTo(rankingPoint);
+        assertThat(rollup.getUserCount()).as("%s 사용자 수", organization.getName()).isEqualTo(userCount);
+    }
+}
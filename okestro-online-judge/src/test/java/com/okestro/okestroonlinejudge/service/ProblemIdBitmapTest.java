@@ -0,0 +1,59 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProblemIdBitmap 단위 테스트")
+class ProblemIdBitmapTest {
+
+    @Test
+    @DisplayName("배열 구간과 비트 구간을 오가며 추가, 삭제, 포함 여부가 집합과 같다")
+    void matchesHashSetAcrossContainerConversions() {
+        ProblemIdBitmap bitmap = new ProblemIdBitmap();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        // 한 구간에 배열 구간 한도(4096)를 넘게 넣어 비트 구간으로 바꾼 뒤 다시 줄인다
+        for (long id = 0; id < 6000; id++) {
+            assertThat(bitmap.add(id * 7 % 65536)).isEqualTo(expected.add(id * 7 % 65536));
+        }
+        for (int i = 0; i < 20000; i++) {
+            long id = random.nextInt(3) * 65536L + random.nextInt(65536);
+            if (random.nextBoolean()) {
+                assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+            } else {
+                assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+            }
+        }
+        for (long id = 0; id < 6000; id++) {
+            assertThat(bitmap.remove(id * 7 % 65536)).isEqualTo(expected.remove(id * 7 % 65536));
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long id = 0; id < 3 * 65536L; id++) {
+            assertThat(bitmap.contains(id)).as("id %d", id).isEqualTo(expected.contains(id));
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 값을 빼면 구간이 사라지고 다른 구간은 그대로다")
+    void dropsEmptyContainers() {
+        ProblemIdBitmap bitmap = new ProblemIdBitmap();
+        bitmap.add(5L);
+        bitmap.add(70000L);
+        bitmap.add(1L << 40);
+
+        assertThat(bitmap.remove(70000L)).isTrue();
+        assertThat(bitmap.remove(70000L)).isFalse();
+        assertThat(bitmap.contains(5L)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains(70000L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+}
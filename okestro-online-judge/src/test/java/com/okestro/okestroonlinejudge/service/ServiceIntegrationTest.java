@@ -0,0 +1,33 @@
+package com.okestro.okestroonlinejudge.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 통합 테스트의 공통 설정.
+ * 설정이 모두 같아야 테스트 클래스들이 스프링 컨텍스트와 H2 DB 하나를 함께 쓰므로, 클래스마다 속성을 더하지 않는다.
+ * 채점 워커와 백필, 보관 스케줄러는 꺼 두고(테스트에서 직접 호출한다), 데이터는 {@link SubmissionFixtures}로 만든다.
+ * 빈을 바꿔 끼워 컨텍스트를 따로 띄우는 테스트는 DB 이름도 바꿔, 다른 컨텍스트의 스키마를 지우지 않게 한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:service;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "judge.worker.enabled=false",
+        "submission.source-blob.backfill-enabled=false",
+        "user-statistics.backfill-enabled=false",
+        "user-problem-status.backfill-enabled=false",
+        "user-activity.backfill-enabled=false",
+        "submission.archive.enabled=false",
+        "submission.archive.age-days=30"
+})
+@ActiveProfiles("test")
+@Import(SubmissionFixtures.class)
+@interface ServiceIntegrationTest {
+}
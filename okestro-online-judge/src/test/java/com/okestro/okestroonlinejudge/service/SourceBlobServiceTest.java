@@ -0,0 +1,92 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.SourceBlobEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.repository.SourceBlobRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제출 소스 코드 중복 제거/압축 저장 통합 테스트.
+ */
+@ServiceIntegrationTest
+class SourceBlobServiceTest {
+
+    private static final String SOURCE = "a, b = map(int, input().split())\nprint(a + b)\n".repeat(20);
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private SourceBlobService sourceBlobService;
+
+    @Autowired
+    private SourceBlobRepository sourceBlobRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("같은 코드는 한 번만 압축 저장되고, 그대로 복원된다")
+    void storesIdenticalSourceOnce() {
+        long before = sourceBlobRepository.count();
+
+        Long first = transactionTemplate.execute(status -> sourceBlobService.store(SOURCE).getId());
+        Long second = transactionTemplate.execute(status -> sourceBlobService.store(SOURCE).getId());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(sourceBlobRepository.count()).isEqualTo(before + 1);
+        SourceBlobEntity blob = sourceBlobRepository.findById(first).orElseThrow();
+        assertThat(blob.getContent().length).isLessThan(blob.getOriginalSize());
+        assertThat(SourceBlobService.decompress(blob.getContent())).isEqualTo(SOURCE);
+    }
+
+    @Test
+    @DisplayName("백필은 행에 저장된 기존 소스 코드를 저장소로 옮기고, 읽는 쪽은 같은 코드를 받는다")
+    void backfillsInlineSources() {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("blob", tier);
+        ProblemEntity problem = fixtures.problem("백필 문제", tier, user);
+
+        // 저장소가 생기기 전처럼 소스 코드를 행에 직접 둔 제출
+        List<Long> submissionIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            submissionIds.add(submissionRepository.save(SubmissionEntity.builder()
+                    .userEntity(user)
+                    .problemEntity(problem)
+                    .language("python")
+                    .sourceCode(i % 2 == 0 ? "print(0)" : "print(1)")
+                    .result(SubmissionResult.ACCEPTED)
+                    .build()).getId());
+        }
+
+        Long cursor = 0L;
+        while (cursor != null) {
+            cursor = sourceBlobService.backfill(cursor, 2);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < submissionIds.size(); i++) {
+                SubmissionEntity submission = submissionRepository.findById(submissionIds.get(i)).orElseThrow();
+                assertThat(submission.getSourceBlobEntity()).isNotNull();
+                assertThat(submission.getSourceCode()).isEmpty();
+                assertThat(sourceBlobService.load(submission)).isEqualTo(i % 2 == 0 ? "print(0)" : "print(1)");
+            }
+        });
+    }
+}
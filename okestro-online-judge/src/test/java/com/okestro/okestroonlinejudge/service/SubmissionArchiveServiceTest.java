@@ -0,0 +1,144 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.dto.response.AttemptedProblemResponse;
+import com.okestro.okestroonlinejudge.dto.response.CursorPageResponse;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionResponse;
+import com.okestro.okestroonlinejudge.dto.response.UserStatsResponse;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 오래된 제출 보관과 보관 후 통계/조회 통합 테스트.
+ */
+@ServiceIntegrationTest
+class SubmissionArchiveServiceTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private SubmissionArchiveService submissionArchiveService;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProblemStatusService userProblemStatusService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Test
+    @DisplayName("보관 후에도 통계, 해결 여부, 단건/목록 조회 결과가 보관 전과 같다")
+    void keepsStatisticsAndReadsThroughAfterArchiving() {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("archive", tier);
+        ProblemEntity first = fixtures.problem("보관 문제 1", tier, user);
+        ProblemEntity second = fixtures.problem("보관 문제 2", tier, user);
+
+        Long oldWrong = fixtures.submitAt(user, first, SubmissionResult.WRONG_ANSWER,
+                LocalDateTime.now().minusDays(90));
+        Long oldAccepted = fixtures.submitAt(user, first, SubmissionResult.ACCEPTED,
+                LocalDateTime.now().minusDays(80));
+        Long oldOnly = fixtures.submitAt(user, second, SubmissionResult.WRONG_ANSWER,
+                LocalDateTime.now().minusDays(70));
+        Long recent = fixtures.submitAt(user, first, SubmissionResult.WRONG_ANSWER,
+                LocalDateTime.now().minusDays(1));
+
+        UserStatsResponse before = userService.getStatsByUsername(user.getUsername());
+        List<String> listingBefore = listIds(user.getId());
+
+        assertThat(submissionArchiveService.archive(100)).isEqualTo(3);
+
+        assertThat(submissionRepository.findAllById(List.of(oldWrong, oldAccepted, oldOnly))).isEmpty();
+        assertThat(submissionRepository.existsById(recent)).isTrue();
+
+        UserStatsResponse after = userService.getStatsByUsername(user.getUsername());
+        assertThat(after.getTotalSubmissions()).isEqualTo(before.getTotalSubmissions()).isEqualTo(4);
+        assertThat(after.getSolvedCount()).isEqualTo(before.getSolvedCount()).isEqualTo(1);
+        assertThat(after.getFailedCount()).isEqualTo(before.getFailedCount()).isEqualTo(1);
+        assertThat(after.getAcceptanceRate()).isEqualTo(before.getAcceptanceRate());
+        assertThat(submissionArchiveService.isSolved(user.getId(), first.getId())).isTrue();
+
+        SubmissionResponse archived = submissionService.getSubmission(oldAccepted);
+        assertThat(archived.getResultEnum()).isEqualTo(SubmissionResult.ACCEPTED);
+        assertThat(archived.getProblemTitle()).isEqualTo("보관 문제 1");
+
+        assertThat(listIds(user.getId())).isEqualTo(listingBefore)
+                .containsExactly(String.valueOf(recent), String.valueOf(oldOnly),
+                        String.valueOf(oldAccepted), String.valueOf(oldWrong));
+        assertThat(userService.getSubmissionsByUsername(user.getUsername(), null, 10).getItems())
+                .extracting(SubmissionResponse::getId).isEqualTo(listingBefore);
+
+        userProblemStatusService.backfill(user.getId() - 1, 1);
+        List<AttemptedProblemResponse> attempted = userService
+                .getAttemptedProblemsByUsername(user.getUsername(), null, 10).getItems();
+        assertThat(attempted).extracting(AttemptedProblemResponse::getId, AttemptedProblemResponse::getTryCount)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), 3),
+                        tuple(second.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("시도한 문제 목록은 보관된 제출을 합쳐 마지막 시도 최신순으로 커서 페이징하고 정답이 있으면 Accepted로 표시한다")
+    void pagesAttemptedProblemsAcrossArchive() {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("attempted", tier);
+        ProblemEntity first = fixtures.problem("시도 문제 1", tier, user);
+        ProblemEntity second = fixtures.problem("시도 문제 2", tier, user);
+        ProblemEntity third = fixtures.problem("시도 문제 3", tier, user);
+
+        fixtures.submitAt(user, first, SubmissionResult.WRONG_ANSWER, LocalDateTime.now().minusDays(60));
+        fixtures.submitAt(user, first, SubmissionResult.ACCEPTED, LocalDateTime.now().minusDays(50));
+        fixtures.submitAt(user, second, SubmissionResult.WRONG_ANSWER, LocalDateTime.now().minusDays(40));
+        fixtures.submitAt(user, third, SubmissionResult.ACCEPTED, LocalDateTime.now().minusDays(5));
+        fixtures.submitAt(user, first, SubmissionResult.WRONG_ANSWER, LocalDateTime.now().minusDays(2));
+        submissionArchiveService.archive(100);
+        userProblemStatusService.backfill(user.getId() - 1, 1);
+
+        CursorPageResponse<AttemptedProblemResponse> firstPage =
+                userService.getAttemptedProblemsByUsername(user.getUsername(), null, 2);
+        CursorPageResponse<AttemptedProblemResponse> secondPage =
+                userService.getAttemptedProblemsByUsername(user.getUsername(), firstPage.getNextCursor(), 2);
+
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getItems())
+                .extracting(AttemptedProblemResponse::getId, AttemptedProblemResponse::getTryCount,
+                        AttemptedProblemResponse::getStatus)
+                .containsExactly(
+                        tuple(first.getId(), 3, "Accepted"),
+                        tuple(third.getId(), 1, "Accepted"));
+        assertThat(secondPage.getItems())
+                .extracting(AttemptedProblemResponse::getId, AttemptedProblemResponse::getTryCount,
+                        AttemptedProblemResponse::getStatus)
+                .containsExactly(tuple(second.getId(), 1, "Failed"));
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    private List<String> listIds(Long userId) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<SubmissionResponse> page = submissionService.getSubmissionsByUser(userId, cursor, 2);
+            page.getItems().forEach(item -> ids.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
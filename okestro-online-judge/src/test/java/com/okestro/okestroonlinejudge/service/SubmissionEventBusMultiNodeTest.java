@@ -0,0 +1,95 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.OkestroOnlineJudgeApplication;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent.Stage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드(스프링 컨텍스트)가 같은 DB 아웃박스로 채점 진행 이벤트를 주고받는지 검증하는 통합 테스트.
+ * 노드 A는 테스트 컨텍스트, 노드 B는 같은 H2 DB를 바라보는 별도 컨텍스트다.
+ */
+@ServiceIntegrationTest
+// 이벤트 버스를 바꿔 컨텍스트를 따로 띄우므로 DB도 따로 쓴다
+@TestPropertySource(properties = {
+        SubmissionEventBusMultiNodeTest.DATASOURCE_URL,
+        "notification.event-bus.type=jdbc",
+        "notification.event-bus.poll-interval-ms=50"
+})
+class SubmissionEventBusMultiNodeTest {
+
+    static final String DATASOURCE_URL =
+            "spring.datasource.url=jdbc:h2:mem:eventbus;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private SubmissionEventBus nodeABus;
+
+    @Autowired
+    private NotificationService nodeANotifications;
+
+    @Test
+    @DisplayName("한 노드에서 발행한 이벤트를 모든 노드가 한 번씩 받아 자신의 구독자에게만 전달한다")
+    void deliversAcrossNodes() throws InterruptedException {
+        try (ConfigurableApplicationContext nodeB = new SpringApplicationBuilder(OkestroOnlineJudgeApplication.class)
+                .profiles("test")
+                // 기본 속성은 application.yml보다 우선순위가 낮으므로 명령행 인자로 넘긴다
+                .run("--" + DATASOURCE_URL,
+                        // 스키마는 노드 A가 만들었으므로 건드리지 않는다
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--server.port=0",
+                        "--judge.worker.enabled=false",
+                        "--notification.event-bus.type=jdbc",
+                        "--notification.event-bus.poll-interval-ms=50")) {
+            SubmissionEventBus nodeBBus = nodeB.getBean(SubmissionEventBus.class);
+            NotificationService nodeBNotifications = nodeB.getBean(NotificationService.class);
+
+            List<Long> receivedOnA = new CopyOnWriteArrayList<>();
+            List<Long> receivedOnB = new CopyOnWriteArrayList<>();
+            nodeABus.subscribe(event -> receivedOnA.add(event.getSubmissionId()));
+            nodeBBus.subscribe(event -> receivedOnB.add(event.getSubmissionId()));
+
+            // 제출 100은 노드 B에서, 제출 200은 노드 A에서 구독 중
+            nodeBNotifications.subscribe(100L);
+            nodeANotifications.subscribe(200L);
+            int connectionsOnA = nodeANotifications.getConnectionCount();
+
+            // 노드 A(채점 노드)에서 제출 100의 최종 결과 발행
+            nodeABus.publish(SubmissionProgressEvent.builder()
+                    .submissionId(100L)
+                    .stage(Stage.FINISHED)
+                    .status(SubmissionResult.ACCEPTED.toDisplayName())
+                    .result(SubmissionResult.ACCEPTED)
+                    .build());
+
+            awaitTrue(() -> receivedOnA.contains(100L) && receivedOnB.contains(100L));
+            // 노드 B의 구독자는 최종 이벤트를 받고 연결이 닫힌다
+            awaitTrue(() -> nodeBNotifications.getConnectionCount() == 0);
+
+            // 몇 번 더 폴링해도 중복 전달되지 않는다
+            Thread.sleep(300);
+            assertThat(receivedOnA).containsExactly(100L);
+            assertThat(receivedOnB).containsExactly(100L);
+            assertThat(nodeANotifications.getConnectionCount()).isEqualTo(connectionsOnA);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
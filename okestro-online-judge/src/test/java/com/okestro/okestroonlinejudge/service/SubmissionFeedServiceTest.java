@@ -0,0 +1,133 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionFeedEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent.Stage;
+import com.okestro.okestroonlinejudge.service.NotificationServiceTest.RecordingEmitter;
+import com.okestro.okestroonlinejudge.service.SubmissionFeedService.FeedFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SubmissionFeedService 피드 조건 단위 테스트")
+class SubmissionFeedServiceTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private InMemorySubmissionEventBus eventBus;
+    private NotificationService notificationService;
+    private SubmissionFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new InMemorySubmissionEventBus();
+        notificationService = new NotificationService(Runnable::run, eventBus) {
+            @Override
+            protected SseEmitter createEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(notificationService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(notificationService, "maxConnections", 10);
+        ReflectionTestUtils.setField(notificationService, "maxConnectionsPerTopic", 2);
+        ReflectionTestUtils.setField(notificationService, "bufferSize", 16);
+        ReflectionTestUtils.setField(notificationService, "replaySize", 4);
+
+        feedService = new SubmissionFeedService(notificationService, eventBus, 100, 5);
+        ReflectionTestUtils.setField(feedService, "maxReplay", 10);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 새 제출과 채점 완료만 보내고, 완료 이벤트에는 제출 정보를 채운다")
+    void filtersByProblemAndResult() {
+        eventBus.publish(queued(1L, 10L, "JAVA"));
+        eventBus.publish(queued(2L, 20L, "PYTHON"));
+
+        feedService.subscribe(new FeedFilter(10L, null, null), 10, null);
+        feedService.subscribe(new FeedFilter(null, "python", SubmissionResult.ACCEPTED), 10, null);
+
+        eventBus.publish(finished(1L, 10L, "JAVA", SubmissionResult.ACCEPTED));
+        eventBus.publish(finished(2L, 20L, "PYTHON", SubmissionResult.WRONG_ANSWER));
+        // 진행 중 이벤트는 피드에 나오지 않는다
+        eventBus.publish(SubmissionProgressEvent.builder().submissionId(3L).stage(Stage.TESTING).build());
+
+        List<SubmissionFeedEvent> byProblem = feedEvents(emitters.get(0));
+        assertThat(byProblem).extracting(SubmissionFeedEvent::getType)
+                .containsExactly(SubmissionFeedEvent.Type.NEW, SubmissionFeedEvent.Type.FINISHED);
+        assertThat(byProblem.get(1).getProblemTitle()).isEqualTo("문제 10");
+        assertThat(byProblem.get(1).getUsername()).isEqualTo("user1");
+        assertThat(byProblem.get(1).getResult()).isEqualTo(SubmissionResult.ACCEPTED);
+
+        assertThat(feedEvents(emitters.get(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독 시 조건에 맞는 최근 이벤트를 limit개까지만 먼저 보낸다")
+    void replaysRecentMatchingEvents() {
+        for (long id = 1; id <= 6; id++) {
+            eventBus.publish(queued(id, id % 2 == 0 ? 10L : 20L, "JAVA"));
+        }
+
+        feedService.subscribe(new FeedFilter(10L, null, null), 2, null);
+
+        assertThat(feedEvents(emitters.get(0))).extracting(SubmissionFeedEvent::getSubmissionId)
+                .containsExactly(4L, 6L);
+    }
+
+    @Test
+    @DisplayName("피드 토픽은 제출별 토픽 한도가 아니라 피드 연결 한도를 적용한다")
+    void feedTopicHasItsOwnConnectionLimit() {
+        for (int i = 0; i < 5; i++) {
+            feedService.subscribe(new FeedFilter(null, null, null), 0, null);
+        }
+
+        assertThatThrownBy(() -> feedService.subscribe(new FeedFilter(null, null, null), 0, null))
+                .isInstanceOf(IllegalStateException.class);
+        notificationService.subscribe(1L);
+        notificationService.subscribe(1L);
+        assertThatThrownBy(() -> notificationService.subscribe(1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<SubmissionFeedEvent> feedEvents(RecordingEmitter emitter) {
+        return emitter.payloads.stream()
+                .filter(SubmissionFeedEvent.class::isInstance)
+                .map(SubmissionFeedEvent.class::cast)
+                .toList();
+    }
+
+    private static SubmissionProgressEvent queued(Long submissionId, Long problemId, String language) {
+        return SubmissionProgressEvent.builder()
+                .submissionId(submissionId)
+                .problemId(problemId)
+                .problemTitle("문제 " + problemId)
+                .userId(submissionId)
+                .username("user" + submissionId)
+                .language(language)
+                .stage(Stage.QUEUED)
+                .status(SubmissionResult.JUDGING.toDisplayName())
+                .build();
+    }
+
+    private static SubmissionProgressEvent finished(Long submissionId, Long problemId, String language,
+                                                    SubmissionResult result) {
+        return SubmissionProgressEvent.builder()
+                .submissionId(submissionId)
+                .problemId(problemId)
+                .language(language)
+                .stage(Stage.FINISHED)
+                .status(result.toDisplayName())
+                .result(result)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.Role;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.repository.ProblemRepository;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.TierRepository;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통합 테스트용 사용자, 문제, 제출 픽스처.
+ * 여러 테스트가 한 DB를 함께 쓰므로 사용자 이름, 이메일과 제출 코드에는 매번 다른 값을 붙인다.
+ * 채점 서비스를 거치지 않고 행만 저장하며, 제출 코드는 새 제출처럼 {@code source_blob}에 둔다.
+ */
+class SubmissionFixtures {
+
+    private final TierRepository tierRepository;
+    private final UserRepository userRepository;
+    private final ProblemRepository problemRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SourceBlobService sourceBlobService;
+    private final JdbcTemplate jdbcTemplate;
+
+    SubmissionFixtures(TierRepository tierRepository, UserRepository userRepository,
+                       ProblemRepository problemRepository, SubmissionRepository submissionRepository,
+                       SourceBlobService sourceBlobService, JdbcTemplate jdbcTemplate) {
+        this.tierRepository = tierRepository;
+        this.userRepository = userRepository;
+        this.problemRepository = problemRepository;
+        this.submissionRepository = submissionRepository;
+        this.sourceBlobService = sourceBlobService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 티어 그룹의 티어를 찾고, 없으면 만든다.
+     */
+    TierEntity tier(String groupName, int problemScore) {
+        return tierRepository.findAll().stream()
+                .filter(tier -> groupName.equals(tier.getGroupName()))
+                .findFirst()
+                .orElseGet(() -> tierRepository.save(new TierEntity(groupName, 1, 0, 0, 100, problemScore)));
+    }
+
+    /**
+     * 새 사용자를 만든다.
+     */
+    UserEntity user(String prefix, TierEntity tier) {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new UserEntity(prefix + "-user-" + suffix, prefix + suffix, "hash",
+                prefix + suffix + "@example.com", Role.USER, null, tier));
+    }
+
+    /**
+     * 새 문제를 만든다.
+     */
+    ProblemEntity problem(String title, TierEntity tier, UserEntity creator) {
+        return problemRepository.save(ProblemEntity.builder()
+                .title(title)
+                .contentPath("problems/fixture.md")
+                .tierEntity(tier)
+                .creator(creator)
+                .timeLimitMs(1000)
+                .memoryLimitKb(128000)
+                .build());
+    }
+
+    /**
+     * 주어진 결과의 제출 행을 저장한다. 제출 코드는 제출마다 다르다.
+     */
+    SubmissionEntity submit(UserEntity user, ProblemEntity problem, SubmissionResult result) {
+        return submissionRepository.save(SubmissionEntity.builder()
+                .userEntity(user)
+                .problemEntity(problem)
+                .language("python")
+                .sourceBlobEntity(sourceBlobService.store("print(" + System.nanoTime() + ")"))
+                .result(result)
+                .build());
+    }
+
+    /**
+     * 주어진 결과의 제출 행을 저장하고 제출 일시를 바꾼다.
+     */
+    Long submitAt(UserEntity user, ProblemEntity problem, SubmissionResult result, LocalDateTime submittedAt) {
+        Long id = submit(user, problem, result).getId();
+        jdbcTemplate.update("UPDATE submission SET created_at = ? WHERE id = ?", submittedAt, id);
+        return id;
+    }
+}
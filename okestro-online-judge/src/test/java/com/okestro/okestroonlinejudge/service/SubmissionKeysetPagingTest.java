@@ -0,0 +1,72 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.dto.response.CursorPageResponse;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 제출 목록 커서(키셋) 페이징 통합 테스트.
+ */
+@ServiceIntegrationTest
+class SubmissionKeysetPagingTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 모든 제출을 최신순으로 중복 없이 한 번씩 받는다")
+    void walksAllPagesWithoutGapsOrDuplicates() {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("paging", tier);
+        ProblemEntity problem = fixtures.problem("페이징 문제", tier, user);
+
+        List<Long> submissionIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            submissionIds.add(fixtures.submit(user, problem, SubmissionResult.ACCEPTED).getId());
+        }
+
+        List<String> received = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<SubmissionResponse> page = submissionService.getSubmissionsByProblem(problem.getId(), cursor, 10);
+            page.getItems().forEach(item -> received.add(item.getId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(received).containsExactlyElementsOf(submissionIds.stream()
+                .sorted(Comparator.reverseOrder())
+                .map(String::valueOf)
+                .toList());
+
+        SubmissionResponse first = submissionService.getSubmissionsByUser(user.getId(), null, 1).getItems().get(0);
+        assertThat(first.getProblemTitle()).isEqualTo("페이징 문제");
+        assertThat(first.getUsername()).isEqualTo(user.getUsername());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> submissionService.getAllSubmissions("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
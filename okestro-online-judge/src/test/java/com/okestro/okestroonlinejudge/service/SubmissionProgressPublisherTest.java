@@ -0,0 +1,84 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent;
+import com.okestro.okestroonlinejudge.dto.response.SubmissionProgressEvent.Stage;
+import com.okestro.okestroonlinejudge.event.JudgeJobFailedEvent;
+import com.okestro.okestroonlinejudge.service.SubmissionService.JudgeResultSummary;
+import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SubmissionProgressPublisher 이벤트 합치기 단위 테스트")
+class SubmissionProgressPublisherTest {
+
+    private SubmissionEventBus submissionEventBus;
+    private SubmissionProgressPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        submissionEventBus = mock(SubmissionEventBus.class);
+        publisher = new SubmissionProgressPublisher(submissionEventBus);
+        ReflectionTestUtils.setField(publisher, "minIntervalMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("100개 테스트케이스도 시작, 첫 결과, 마지막 결과, 최종 결과만 전송")
+    void coalescesTestCaseEvents() {
+        publisher.started(1L, 100);
+        List<TestCaseResult> results = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            TestCaseResult result = TestCaseResult.builder()
+                    .testCaseNumber(i)
+                    .result(i == 50 ? SubmissionResult.WRONG_ANSWER : SubmissionResult.ACCEPTED)
+                    .build();
+            results.add(result);
+            publisher.testCaseFinished(1L, result);
+        }
+        publisher.finished(1L, JudgeResultSummary.of(100, results));
+
+        ArgumentCaptor<SubmissionProgressEvent> captor = ArgumentCaptor.forClass(SubmissionProgressEvent.class);
+        verify(submissionEventBus, times(4)).publish(captor.capture());
+
+        List<SubmissionProgressEvent> events = captor.getAllValues();
+        assertThat(events).extracting(SubmissionProgressEvent::getStage)
+                .containsExactly(Stage.COMPILING, Stage.TESTING, Stage.TESTING, Stage.FINISHED);
+        assertThat(events.get(2).getCompletedTestCases()).isEqualTo(100);
+        assertThat(events.get(2).getPassedTestCases()).isEqualTo(99);
+        assertThat(events.get(3).getResult()).isEqualTo(SubmissionResult.WRONG_ANSWER);
+        assertThat(events.get(3).getStatus()).isEqualTo("Wrong Answer");
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘겨 실패한 작업도 최종 결과를 전송")
+    void publishesFinishedForFailedJob() {
+        publisher.started(3L, 5);
+        publisher.onJudgeJobFailed(new JudgeJobFailedEvent(30L, 3L, 7L, "python", SubmissionResult.RUNTIME_ERROR));
+
+        ArgumentCaptor<SubmissionProgressEvent> captor = ArgumentCaptor.forClass(SubmissionProgressEvent.class);
+        verify(submissionEventBus, times(2)).publish(captor.capture());
+
+        SubmissionProgressEvent finished = captor.getAllValues().get(1);
+        assertThat(finished.getStage()).isEqualTo(Stage.FINISHED);
+        assertThat(finished.getResult()).isEqualTo(SubmissionResult.RUNTIME_ERROR);
+        assertThat(finished.getProblemId()).isEqualTo(7L);
+        assertThat(finished.getLanguage()).isEqualTo("python");
+    }
+
+    @Test
+    @DisplayName("채점 시작 전의 테스트케이스 결과는 무시")
+    void ignoresResultsWithoutStart() {
+        publisher.testCaseFinished(2L, TestCaseResult.builder().testCaseNumber(1).result(SubmissionResult.ACCEPTED).build());
+
+        verifyNoInteractions(submissionEventBus);
+    }
+}
@@ -0,0 +1,215 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.client.Judge0Client;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TestCaseEntity;
+import com.okestro.okestroonlinejudge.exception.JudgeInfrastructureException;
+import com.okestro.okestroonlinejudge.service.SubmissionService.TestCaseResult;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TestCaseExecutor 토큰 재개 단위 테스트")
+class TestCaseExecutorTest {
+
+    private Judge0Client judge0Client;
+    private StorageService storageService;
+    private TestCaseExecutor testCaseExecutor;
+
+    @BeforeEach
+    void setUp() {
+        judge0Client = mock(Judge0Client.class);
+        storageService = mock(StorageService.class);
+        when(storageService.readString(anyString(), any())).thenReturn("1 2");
+
+        testCaseExecutor = new TestCaseExecutor(judge0Client, storageService, Runnable::run, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    @DisplayName("이미 발급된 토큰이 있으면 재제출하지 않고 폴링만 재개")
+    void resumesPollingWithStoredToken() {
+        TestCaseEntity testCase = testCase(10L);
+        when(judge0Client.pollResult("stored-token")).thenReturn(accepted());
+
+        RecordingTracker tracker = new RecordingTracker(Map.of(10L, "stored-token"));
+        List<TestCaseResult> results = testCaseExecutor.executeTestCases("code", "python", List.of(testCase), tracker);
+
+        assertThat(results).extracting(TestCaseResult::getResult).containsExactly(SubmissionResult.ACCEPTED);
+        verify(judge0Client, never()).createSubmission(any(), any(), any(), any());
+        assertThat(tracker.issued).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰이 Judge0에서 만료되었으면 재제출하고 새 토큰을 기록")
+    void resubmitsWhenStoredTokenExpired() {
+        TestCaseEntity testCase = testCase(10L);
+        when(judge0Client.pollResult("expired-token"))
+                .thenReturn(Judge0Client.JudgeResult.error(Judge0Client.TOKEN_NOT_FOUND_MESSAGE));
+        when(judge0Client.createSubmission("code", "python", "1 2", "1 2")).thenReturn("new-token");
+        when(judge0Client.pollResult("new-token")).thenReturn(accepted());
+
+        RecordingTracker tracker = new RecordingTracker(Map.of(10L, "expired-token"));
+        List<TestCaseResult> results = testCaseExecutor.executeTestCases("code", "python", List.of(testCase), tracker);
+
+        assertThat(results).extracting(TestCaseResult::getResult).containsExactly(SubmissionResult.ACCEPTED);
+        assertThat(tracker.issued).containsEntry(10L, "new-token");
+    }
+
+    @Test
+    @DisplayName("토큰을 추적하는 채점은 Judge0 장애를 결과로 바꾸지 않고 예외로 던진다")
+    void throwsInfrastructureFailureWhenTracking() {
+        when(judge0Client.createSubmission(any(), any(), any(), any()))
+                .thenThrow(new JudgeInfrastructureException("코드 제출에 실패했습니다."));
+
+        assertThatThrownBy(() -> testCaseExecutor.executeTestCases(
+                "code", "python", List.of(testCase(10L)), new RecordingTracker(Map.of())))
+                .isInstanceOf(JudgeInfrastructureException.class);
+
+        when(judge0Client.judge(any(), any(), any(), any()))
+                .thenReturn(Judge0Client.JudgeResult.error("코드 제출에 실패했습니다."));
+        assertThat(testCaseExecutor.executeTestCases("code", "python", List.of(testCase(10L))))
+                .extracting(TestCaseResult::getResult).containsExactly(SubmissionResult.RUNTIME_ERROR);
+    }
+
+    @Test
+    @DisplayName("한 테스트케이스가 장애로 끝나면 남은 테스트케이스는 실행하지 않고 추적기에 반납을 알린다")
+    void cancelsRemainingTestCasesOnInfrastructureFailure() {
+        // 첫 테스트케이스만 바로 실행하고 나머지는 예외가 던져진 뒤에 실행한다
+        List<Runnable> pending = new ArrayList<>();
+        AtomicBoolean first = new AtomicBoolean(true);
+        TestCaseExecutor executor = new TestCaseExecutor(judge0Client, storageService, task -> {
+            if (first.getAndSet(false)) {
+                task.run();
+            } else {
+                pending.add(task);
+            }
+        }, ObservationRegistry.NOOP);
+        when(judge0Client.createSubmission(any(), any(), any(), any()))
+                .thenThrow(new JudgeInfrastructureException("코드 제출에 실패했습니다."));
+        RecordingTracker tracker = new RecordingTracker(Map.of());
+
+        assertThatThrownBy(() -> executor.executeTestCases(
+                "code", "python", List.of(testCase(10L), testCase(11L), testCase(12L)), tracker))
+                .isInstanceOf(JudgeInfrastructureException.class);
+        pending.forEach(Runnable::run);
+
+        verify(judge0Client, times(1)).createSubmission(any(), any(), any(), any());
+        assertThat(tracker.abandoned).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장소에서 테스트케이스를 읽지 못해도 결과 대신 예외로 던진다")
+    void throwsWhenTestCaseCannotBeRead() {
+        when(storageService.readString(anyString(), any())).thenThrow(new RuntimeException("MinIO 연결 실패"));
+
+        assertThatThrownBy(() -> testCaseExecutor.executeTestCases(
+                "code", "python", List.of(testCase(10L)), new RecordingTracker(Map.of())))
+                .isInstanceOf(JudgeInfrastructureException.class)
+                .hasRootCauseMessage("MinIO 연결 실패");
+        verify(judge0Client, never()).createSubmission(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 실행되는 테스트케이스 span도 호출한 쪽 span 아래에 만들어진다")
+    void testCaseSpansNestUnderCallerAcrossThreads() {
+        List<String> spans = new CopyOnWriteArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                ObservationView parent = context.getParentObservation();
+                spans.add(context.getName() + "<"
+                        + (parent != null ? parent.getContextView().getName() : "root"));
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            TestCaseExecutor executor = new TestCaseExecutor(judge0Client, storageService, pool, registry);
+            ReflectionTestUtils.setField(executor, "testcaseBucketName", "bucket");
+            when(judge0Client.createSubmission(any(), any(), any(), any())).thenReturn("token");
+            when(judge0Client.pollResult("token")).thenReturn(accepted());
+
+            Observation.createNotStarted("judge.submission", registry).observe(() ->
+                    executor.executeTestCases("code", "python", List.of(testCase(10L)), new RecordingTracker(Map.of())));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(spans).containsExactly(
+                "judge.submission<root",
+                "judge.testcase<judge.submission",
+                "judge.testcase.fetch<judge.testcase",
+                "judge.testcase.fetch<judge.testcase");
+    }
+
+    private TestCaseEntity testCase(Long id) {
+        TestCaseEntity testCase = TestCaseEntity.builder()
+                .input("1 2")
+                .output("1 2")
+                .inputPath("in.txt")
+                .outputPath("out.txt")
+                .isSample(false)
+                .build();
+        ReflectionTestUtils.setField(testCase, "id", id);
+        return testCase;
+    }
+
+    private Judge0Client.JudgeResult accepted() {
+        return Judge0Client.JudgeResult.builder()
+                .result(SubmissionResult.ACCEPTED)
+                .stdout("3")
+                .executionTime(0.01)
+                .memoryUsage(1024)
+                .build();
+    }
+
+    private static class RecordingTracker implements TestCaseExecutor.TokenTracker {
+        private final Map<Long, String> stored;
+        private final Map<Long, String> issued = new HashMap<>();
+        private boolean abandoned;
+
+        RecordingTracker(Map<Long, String> stored) {
+            this.stored = stored;
+        }
+
+        @Override
+        public String findToken(Long testCaseId) {
+            return stored.get(testCaseId);
+        }
+
+        @Override
+        public synchronized void onTokenIssued(Long testCaseId, int testCaseNumber, String token) {
+            issued.put(testCaseId, token);
+        }
+
+        @Override
+        public void onAbandoned() {
+            abandoned = true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.dto.response.StreakDateDto;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.UserActivityYearRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 사용자 날짜별 해결 기록과 스트릭 통합 테스트.
+ */
+@ServiceIntegrationTest
+class UserActivityServiceTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private UserActivityYearRepository userActivityYearRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("제출 기록으로 만든 연도별 기록에 그날 첫 정답만 더하고, 재채점으로 사라지면 빼서 스트릭을 계산한다")
+    void maintainsDailyBitmapAndStreak() {
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusYears(1).plusDays(1);
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("activity", tier);
+        ProblemEntity first = fixtures.problem("첫 문제", tier, user);
+        ProblemEntity second = fixtures.problem("둘째 문제", tier, user);
+
+        // 기록이 생기기 전의 제출: 5일 전에 두 문제(한 문제는 두 번)를 풀었다
+        fixtures.submitAt(user, first, SubmissionResult.ACCEPTED, today.minusDays(5).atTime(12, 0));
+        fixtures.submitAt(user, first, SubmissionResult.ACCEPTED, today.minusDays(5).atTime(12, 0));
+        fixtures.submitAt(user, second, SubmissionResult.ACCEPTED, today.minusDays(5).atTime(12, 0));
+        fixtures.submitAt(user, first, SubmissionResult.WRONG_ANSWER, today.minusDays(2).atTime(12, 0));
+
+        UserActivityService.Streak legacy = userActivityService.getStreak(user.getId(), start, today, today);
+        assertThat(legacy.days()).extracting(StreakDateDto::getDate, StreakDateDto::getCount)
+                .containsExactly(tuple(today.minusDays(5).toString(), 2L));
+
+        assertThat(userActivityService.backfill(user.getId() - 1, 100, today.getYear())).isEqualTo(user.getId());
+        assertThat(userActivityYearRepository.findByUserIdAndYear(user.getId(), today.getYear())).isPresent();
+
+        // 어제 첫 문제를 두 번, 오늘 둘째 문제를 풀었다
+        judge(user, first, today.minusDays(1), SubmissionResult.ACCEPTED);
+        judge(user, first, today.minusDays(1), SubmissionResult.ACCEPTED);
+        Long todayAccepted = judge(user, second, today, SubmissionResult.ACCEPTED);
+
+        UserActivityService.Streak streak = userActivityService.getStreak(user.getId(), start, today, today);
+        assertThat(streak.days()).extracting(StreakDateDto::getDate, StreakDateDto::getCount)
+                .containsExactly(
+                        tuple(today.minusDays(5).toString(), 2L),
+                        tuple(today.minusDays(1).toString(), 1L),
+                        tuple(today.toString(), 1L));
+        assertThat(streak.totalSolved()).isEqualTo(4L);
+        assertThat(streak.maxStreak()).isEqualTo(2);
+        assertThat(streak.currentStreak()).isEqualTo(2);
+
+        // 오늘 정답이 재채점으로 오답이 되면 오늘이 빠지고 현재 스트릭은 어제까지로 센다
+        transactionTemplate.executeWithoutResult(status -> {
+            SubmissionEntity submission = submissionRepository.findById(todayAccepted).orElseThrow();
+            submission.updateResult(SubmissionResult.WRONG_ANSWER, null, null);
+            userActivityService.recordJudged(user, second.getId(), submission.getCreatedAt(),
+                    SubmissionResult.ACCEPTED, SubmissionResult.WRONG_ANSWER);
+        });
+
+        UserActivityService.Streak rejudged = userActivityService.getStreak(user.getId(), start, today, today);
+        assertThat(rejudged.totalSolved()).isEqualTo(3L);
+        assertThat(rejudged.maxStreak()).isEqualTo(1);
+        assertThat(rejudged.currentStreak()).isEqualTo(1);
+    }
+
+    private Long judge(UserEntity user, ProblemEntity problem, LocalDate date, SubmissionResult result) {
+        Long id = fixtures.submitAt(user, problem, SubmissionResult.JUDGING, date.atTime(12, 0));
+        transactionTemplate.executeWithoutResult(status -> {
+            SubmissionEntity submission = submissionRepository.findById(id).orElseThrow();
+            submission.updateResult(result, null, null);
+            userActivityService.recordJudged(user, problem.getId(), submission.getCreatedAt(),
+                    SubmissionResult.JUDGING, result);
+        });
+        return id;
+    }
+
+}
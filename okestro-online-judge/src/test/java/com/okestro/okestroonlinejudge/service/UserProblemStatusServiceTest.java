@@ -0,0 +1,104 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.ProblemStatus;
+import com.okestro.okestroonlinejudge.domain.SubmissionEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserProblemStatusEntity;
+import com.okestro.okestroonlinejudge.repository.SubmissionRepository;
+import com.okestro.okestroonlinejudge.repository.UserProblemStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 문제 풀이 상태 백필과 채점 경로 갱신 통합 테스트.
+ */
+@ServiceIntegrationTest
+class UserProblemStatusServiceTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private UserProblemStatusService userProblemStatusService;
+
+    @Autowired
+    private UserProblemStatusRepository userProblemStatusRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("기존 제출 기록으로 상태 행을 만들고, 이후 채점 결과로 처음 해결과 해결 취소를 알려주며 비트맵에도 반영한다")
+    void backfillsThenTracksSolvedTransitions() {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        UserEntity user = fixtures.user("status", tier);
+        ProblemEntity solved = fixtures.problem("푼 문제", tier, user);
+        ProblemEntity attempted = fixtures.problem("시도한 문제", tier, user);
+        ProblemEntity fresh = fixtures.problem("새 문제", tier, user);
+
+        // 상태 행이 생기기 전의 제출
+        fixtures.submit(user, solved, SubmissionResult.WRONG_ANSWER);
+        SubmissionEntity accepted = fixtures.submit(user, solved, SubmissionResult.ACCEPTED);
+        fixtures.submit(user, attempted, SubmissionResult.TIME_LIMIT_EXCEEDED);
+        assertThat(userProblemStatusService.isSolved(user.getId(), solved.getId())).isTrue();
+
+        assertThat(userProblemStatusService.backfill(user.getId() - 1, 100)).isEqualTo(user.getId());
+        UserProblemStatusEntity backfilled = userProblemStatusRepository
+                .findByUserEntity_IdAndProblemEntity_Id(user.getId(), solved.getId()).orElseThrow();
+        assertThat(backfilled.getStatus()).isEqualTo(ProblemStatus.SOLVED);
+        assertThat(backfilled.getAttemptCount()).isEqualTo(2L);
+        assertThat(backfilled.getFirstSolvedAt())
+                .isEqualTo(submissionRepository.findById(accepted.getId()).orElseThrow().getCreatedAt());
+        assertThat(backfilled.getLastAttemptedAt()).isEqualTo(backfilled.getFirstSolvedAt());
+        assertThat(userProblemStatusService.getStatuses(user.getId(),
+                List.of(solved.getId(), attempted.getId(), fresh.getId())))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        solved.getId(), ProblemStatus.SOLVED, attempted.getId(), ProblemStatus.ATTEMPTED));
+
+        // 새 문제: 제출 -> 오답 -> 정답, 이미 푼 문제에 다시 정답
+        UserProblemStatusService.Change wrong = judge(user, fresh, SubmissionResult.WRONG_ANSWER);
+        UserProblemStatusService.Change first = judge(user, fresh, SubmissionResult.ACCEPTED);
+        UserProblemStatusService.Change again = judge(user, solved, SubmissionResult.ACCEPTED);
+        assertThat(wrong.newlySolved()).isFalse();
+        assertThat(first.newlySolved()).isTrue();
+        assertThat(again.newlySolved()).isFalse();
+        assertThat(userProblemStatusService.getStatuses(user.getId(), List.of(fresh.getId())))
+                .containsEntry(fresh.getId(), ProblemStatus.SOLVED);
+        assertThat(userProblemStatusRepository.findByUserEntity_IdAndProblemEntity_Id(user.getId(), fresh.getId())
+                .orElseThrow().getAttemptCount()).isEqualTo(2L);
+
+        // 재채점으로 새 문제의 유일한 정답이 오답이 되면 해결이 취소된다
+        UserProblemStatusService.Change revoked = transactionTemplate.execute(status ->
+                userProblemStatusService.recordJudged(user, fresh, LocalDateTime.now(),
+                        SubmissionResult.ACCEPTED, SubmissionResult.WRONG_ANSWER));
+        assertThat(revoked.unsolved()).isTrue();
+        assertThat(userProblemStatusService.isSolved(user.getId(), fresh.getId())).isFalse();
+        assertThat(userProblemStatusService.getStatuses(user.getId(), List.of(fresh.getId())))
+                .containsEntry(fresh.getId(), ProblemStatus.ATTEMPTED);
+    }
+
+    private UserProblemStatusService.Change judge(UserEntity user, ProblemEntity problem, SubmissionResult result) {
+        return transactionTemplate.execute(status -> {
+            SubmissionEntity submission = fixtures.submit(user, problem, SubmissionResult.JUDGING);
+            userProblemStatusService.recordSubmission(user, problem, submission.getCreatedAt(),
+                    submission.getLanguage());
+            submission.updateResult(result, null, null);
+            return userProblemStatusService.recordJudged(user, problem, submission.getCreatedAt(),
+                    SubmissionResult.JUDGING, result);
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import com.okestro.okestroonlinejudge.repository.projection.UserRankingPointProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserRankIndex 단위 테스트")
+class UserRankIndexTest {
+
+    private UserStatisticsRepository userStatisticsRepository;
+    private UserRankIndex userRankIndex;
+
+    @BeforeEach
+    void setUp() {
+        userStatisticsRepository = mock(UserStatisticsRepository.class);
+        userRankIndex = new UserRankIndex(userStatisticsRepository);
+    }
+
+    @Test
+    @DisplayName("동점이면 해결 수, 사용자 ID 순으로 순위를 정한다")
+    void breaksTiesBySolvedCountThenUserId() {
+        when(userStatisticsRepository.findAllRankingPoints()).thenReturn(List.of(
+                new Point(3L, 2L, 100L),
+                new Point(1L, 2L, 100L),
+                new Point(2L, 5L, 100L),
+                new Point(4L, 9L, 300L)));
+        userRankIndex.rebuild();
+
+        assertThat(userRankIndex.rank(4L)).isEqualTo(1);
+        assertThat(userRankIndex.rank(2L)).isEqualTo(2);
+        assertThat(userRankIndex.rank(1L)).isEqualTo(3);
+        assertThat(userRankIndex.rank(3L)).isEqualTo(4);
+        assertThat(userRankIndex.rank(99L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("갱신을 반복해도 전체 정렬로 구한 순위와 같다")
+    void matchesFullSortAfterUpdates() {
+        when(userStatisticsRepository.findAllRankingPoints()).thenReturn(List.of());
+        userRankIndex.rebuild();
+
+        Random random = new Random(42);
+        Map<Long, Point> points = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long userId = random.nextInt(500) + 1;
+            Point point = new Point(userId, (long) random.nextInt(20), (long) random.nextInt(50) * 10);
+            points.put(userId, point);
+            userRankIndex.update(userId, point.getSolvedCount(), point.getRankingPoint());
+        }
+
+        List<Point> sorted = new ArrayList<>(points.values());
+        sorted.sort(Comparator.comparing(Point::getRankingPoint).reversed()
+                .thenComparing(Comparator.comparing(Point::getSolvedCount).reversed())
+                .thenComparing(Point::getUserId));
+        assertThat(userRankIndex.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(userRankIndex.rank(sorted.get(i).getUserId())).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("주변 랭킹은 앞뒤 radius명을 돌려주고 점수가 없는 사용자는 제외한다")
+    void aroundReturnsWindowOfRankedUsers() {
+        List<UserRankingPointProjection> points = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            points.add(new Point(userId, 1L, (11 - userId) * 10));
+        }
+        points.add(new Point(11L, 0L, 0L));
+        points.add(new Point(12L, 0L, 0L));
+        when(userStatisticsRepository.findAllRankingPoints()).thenReturn(points);
+        userRankIndex.rebuild();
+
+        assertThat(userRankIndex.around(5L, 2)).containsExactly(
+                new UserRankIndex.RankedUser(3, 3L),
+                new UserRankIndex.RankedUser(4, 4L),
+                new UserRankIndex.RankedUser(5, 5L),
+                new UserRankIndex.RankedUser(6, 6L),
+                new UserRankIndex.RankedUser(7, 7L));
+        assertThat(userRankIndex.around(1L, 2)).extracting(UserRankIndex.RankedUser::userId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(userRankIndex.around(10L, 2)).extracting(UserRankIndex.RankedUser::userId)
+                .containsExactly(8L, 9L, 10L);
+        assertThat(userRankIndex.around(11L, 2)).isEmpty();
+    }
+
+    private record Point(Long getUserId, Long getSolvedCount, Long getRankingPoint)
+            implements UserRankingPointProjection {
+    }
+}
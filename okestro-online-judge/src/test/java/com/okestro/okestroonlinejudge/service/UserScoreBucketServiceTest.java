@@ -0,0 +1,93 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.RankingWindow;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.response.UserRankingResponse;
+import com.okestro.okestroonlinejudge.repository.UserScoreBucketRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 기간별 점수 버킷과 기간 랭킹 통합 테스트.
+ */
+@ServiceIntegrationTest
+class UserScoreBucketServiceTest {
+
+    // 2026-05-14는 목요일, 이번 주는 5/11부터, 이번 시즌은 4/1부터 (기본 시즌 길이 3개월)
+    private static final LocalDate TODAY = LocalDate.of(2026, 5, 14);
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private UserScoreBucketService userScoreBucketService;
+
+    @Autowired
+    private UserScoreBucketRepository userScoreBucketRepository;
+
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("기간에 걸친 버킷만 더해 일간, 주간, 월간, 시즌 랭킹을 매기고 지난 버킷을 정리한다")
+    void ranksWindowsFromBuckets() {
+        UserEntity first = saveUser("first");
+        UserEntity second = saveUser("second");
+        UserEntity revoked = saveUser("revoked");
+
+        userScoreBucketService.record(first, TODAY, 1, 10);
+        userScoreBucketService.record(first, LocalDate.of(2026, 5, 11), 1, 20);
+        userScoreBucketService.record(first, LocalDate.of(2026, 4, 2), 1, 30);
+        userScoreBucketService.record(second, LocalDate.of(2026, 5, 13), 2, 50);
+        userScoreBucketService.record(second, LocalDate.of(2025, 12, 10), 1, 100);
+        // 재채점으로 해결이 취소되면 같은 날 버킷에서 뺀다
+        userScoreBucketService.record(revoked, TODAY, 1, 10);
+        userScoreBucketService.record(revoked, TODAY, -1, -10);
+
+        assertThat(userScoreBucketService.getRankings(RankingWindow.DAILY, TODAY))
+                .extracting(UserRankingResponse::getRank, UserRankingResponse::getUserId,
+                        UserRankingResponse::getSolvedCount, UserRankingResponse::getRankingPoint)
+                .containsExactly(tuple(1, first.getId(), 1L, 10L));
+        assertThat(userScoreBucketService.getRankings(RankingWindow.WEEKLY, TODAY))
+                .extracting(UserRankingResponse::getUserId, UserRankingResponse::getRankingPoint)
+                .containsExactly(tuple(second.getId(), 50L), tuple(first.getId(), 30L));
+        assertThat(userScoreBucketService.getRankings(RankingWindow.MONTHLY, TODAY))
+                .extracting(UserRankingResponse::getUserId, UserRankingResponse::getRankingPoint)
+                .containsExactly(tuple(second.getId(), 50L), tuple(first.getId(), 30L));
+        assertThat(userScoreBucketService.getRankings(RankingWindow.SEASON, TODAY))
+                .extracting(UserRankingResponse::getUserId, UserRankingResponse::getSolvedCount,
+                        UserRankingResponse::getRankingPoint)
+                .containsExactly(tuple(first.getId(), 3L, 60L), tuple(second.getId(), 2L, 50L));
+
+        long before = userScoreBucketRepository.count();
+        userScoreBucketService.roll(TODAY);
+
+        // 2026-04-02, 2025-12-10 일 버킷과 2025-12 월 버킷
+        assertThat(userScoreBucketRepository.count()).isEqualTo(before - 3);
+        assertThat(userScoreBucketService.getRankings(RankingWindow.SEASON, TODAY))
+                .extracting(UserRankingResponse::getRankingPoint)
+                .containsExactly(60L, 50L);
+    }
+
+    private UserEntity saveUser(String name) {
+        TierEntity tier = fixtures.tier("BRONZE", 10);
+        return transactionTemplate.execute(status -> {
+            UserEntity user = fixtures.user(name, tier);
+            userStatisticsRepository.save(new UserStatisticsEntity(user));
+            return user;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.okestro.okestroonlinejudge.domain.ProblemEntity;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.domain.TierEntity;
+import com.okestro.okestroonlinejudge.domain.UserEntity;
+import com.okestro.okestroonlinejudge.domain.UserStatisticsEntity;
+import com.okestro.okestroonlinejudge.dto.response.UserStatsResponse;
+import com.okestro.okestroonlinejudge.repository.UserRepository;
+import com.okestro.okestroonlinejudge.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 상세 통계 백필과 증분 갱신 통합 테스트.
+ */
+@ServiceIntegrationTest
+class UserStatisticsServiceTest {
+
+    @Autowired
+    private SubmissionFixtures fixtures;
+
+    @Autowired
+    private UserStatisticsService userStatisticsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("기존 통계 행은 제출 기록으로 한 번 계산하고, 이후 제출과 채점은 한 행에 더해 조회한다")
+    void backfillsThenMaintainsIncrementally() {
+        TierEntity bronze = fixtures.tier("BRONZE", 10);
+        TierEntity gold = fixtures.tier("GOLD", 30);
+        UserEntity user = fixtures.user("stats", bronze);
+        ProblemEntity easy = fixtures.problem("쉬운 문제", bronze, user);
+        ProblemEntity medium = fixtures.problem("보통 문제", gold, user);
+        ProblemEntity unsolved = fixtures.problem("못 푼 문제", gold, user);
+
+        // 상세 통계가 생기기 전의 제출과 통계 행
+        fixtures.submit(user, easy, SubmissionResult.WRONG_ANSWER);
+        fixtures.submit(user, easy, SubmissionResult.ACCEPTED);
+        fixtures.submit(user, medium, SubmissionResult.ACCEPTED);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserStatisticsEntity stats = new UserStatisticsEntity(userRepository.getReferenceById(user.getId()));
+            stats.updateStatistics(2L, 0L, 40L);
+            userStatisticsRepository.save(stats);
+        });
+
+        assertThat(userStatisticsService.backfill(user.getId() - 1, 100)).isNotNull();
+        UserStatisticsEntity backfilled = userStatisticsRepository.findById(user.getId()).orElseThrow();
+        assertThat(backfilled.getSubmissionCount()).isEqualTo(3L);
+        assertThat(backfilled.getAcceptedSubmissionCount()).isEqualTo(2L);
+        assertThat(backfilled.getAttemptedProblemCount()).isEqualTo(2L);
+        assertThat(backfilled.getEasySolvedCount()).isEqualTo(1L);
+        assertThat(backfilled.getMediumSolvedCount()).isEqualTo(1L);
+
+        // 새 문제에 첫 제출, 같은 문제에 두 번째 제출 후 정답
+        transactionTemplate.executeWithoutResult(status -> {
+            fixtures.submit(user, unsolved, SubmissionResult.JUDGING);
+            userStatisticsService.recordSubmission(user, unsolved.getId());
+            userStatisticsService.recordJudged(user.getId(), SubmissionResult.JUDGING, SubmissionResult.WRONG_ANSWER);
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            fixtures.submit(user, medium, SubmissionResult.JUDGING);
+            userStatisticsService.recordSubmission(user, medium.getId());
+            userStatisticsService.recordJudged(user.getId(), SubmissionResult.JUDGING, SubmissionResult.ACCEPTED);
+        });
+
+        UserStatsResponse stats = userService.getStatsByUsername(user.getUsername());
+        assertThat(stats.getTotalSubmissions()).isEqualTo(5);
+        assertThat(stats.getSolvedCount()).isEqualTo(2);
+        assertThat(stats.getFailedCount()).isEqualTo(1);
+        assertThat(stats.getAcceptanceRate()).isEqualTo(60.0);
+        assertThat(stats.getEasyCount()).isEqualTo(1);
+        assertThat(stats.getMediumCount()).isEqualTo(1);
+        assertThat(stats.getHardCount()).isZero();
+        assertThat(userStatisticsService.backfill(user.getId() - 1, 100)).isNull();
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.okestro.okestroonlinejudge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okestro.okestroonlinejudge.client.Judge0Client;
+import com.okestro.okestroonlinejudge.config.Judge0Config;
+import com.okestro.okestroonlinejudge.controller.ProblemController;
+import com.okestro.okestroonlinejudge.domain.SubmissionResult;
+import com.okestro.okestroonlinejudge.dto.request.ValidateProblemRequest;
+import com.okestro.okestroonlinejudge.dto.response.ValidationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@DisplayName("ValidationService 일괄 검증 단위 테스트")
+class ValidationServiceTest {
+
+    private Judge0Client judge0Client;
+    private ExecutorService judge0Executor;
+    private ValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        judge0Client = mock(Judge0Client.class);
+        Judge0Config judge0Config = new Judge0Config();
+        judge0Config.setBatchSize(2);
+        judge0Config.setMaxRetries(5);
+        judge0Config.setRetryDelayMs(1);
+        judge0Executor = Executors.newFixedThreadPool(2);
+
+        validationService = new ValidationService(judge0Client, judge0Config, judge0Executor, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(validationService, "sseTimeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        judge0Executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("나머지 테스트케이스는 묶음으로 제출하고, 끝난 순서와 상관없이 결과는 인덱스 순으로 돌려준다")
+    void resultsKeepTestCaseOrder() {
+        when(judge0Client.judge(anyString(), anyString(), anyString(), anyString())).thenReturn(accepted("0"));
+        // 인덱스 1~4를 두 묶음으로 제출한다
+        when(judge0Client.createSubmissionBatch(anyString(), anyString(), anyList())).thenAnswer(invocation -> {
+            List<Judge0Client.BatchInput> inputs = invocation.getArgument(2);
+            return inputs.stream().map(input -> "token-" + input.stdin()).toList();
+        });
+        // 뒤쪽 테스트케이스가 먼저 끝난다
+        when(judge0Client.getFinishedResults(anyList()))
+                .thenReturn(Map.of("token-4", accepted("4"), "token-2", accepted("2")))
+                .thenReturn(Map.of("token-3", accepted("3"), "token-1", accepted("1")));
+
+        List<Integer> notified = new CopyOnWriteArrayList<>();
+        ValidationResponse response = validationService.validateProblem(request(5),
+                result -> notified.add(result.getIndex()));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResults()).extracting(ValidationResponse.TestCaseResult::getIndex)
+                .containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults()).extracting(ValidationResponse.TestCaseResult::getActualOutput)
+                .containsExactly("0", "1", "2", "3", "4");
+        assertThat(notified.subList(0, 1)).containsExactly(0);
+        assertThat(notified.subList(1, 3)).containsExactlyInAnyOrder(4, 2);
+        assertThat(notified.subList(3, 5)).containsExactlyInAnyOrder(3, 1);
+        verify(judge0Client, times(2)).createSubmissionBatch(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("첫 테스트케이스가 컴파일 오류면 나머지는 제출하지 않고 같은 오류로 채운다")
+    void compileErrorSkipsRemainingSubmissions() {
+        when(judge0Client.judge(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Judge0Client.JudgeResult.builder()
+                        .result(SubmissionResult.COMPILE_ERROR)
+                        .compileOutput("SyntaxError")
+                        .build());
+
+        ValidationResponse response = validationService.validateProblem(request(4));
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getResults()).hasSize(4)
+                .allSatisfy(result -> assertThat(result.getError()).isEqualTo("Compile Error: SyntaxError"));
+        verify(judge0Client, times(1)).judge(anyString(), anyString(), anyString(), anyString());
+        verify(judge0Client, never()).createSubmissionBatch(any(), any(), any());
+        verify(judge0Client, never()).getFinishedResults(any());
+    }
+
+    @Test
+    @DisplayName("한 묶음의 제출이 실패해도 그 테스트케이스만 오류로 남기고 나머지는 끝까지 조회한다")
+    void failedBatchMarksOnlyItsTestCases() {
+        when(judge0Client.judge(anyString(), anyString(), anyString(), anyString())).thenReturn(accepted("0"));
+        when(judge0Client.createSubmissionBatch(anyString(), anyString(), anyList())).thenAnswer(invocation -> {
+            List<Judge0Client.BatchInput> inputs = invocation.getArgument(2);
+            // 인덱스 3, 4가 담긴 두 번째 묶음은 Judge0가 받지 못했다
+            if (inputs.get(0).stdin().equals("3")) {
+                return Arrays.asList(null, null);
+            }
+            return inputs.stream().map(input -> "token-" + input.stdin()).toList();
+        });
+        when(judge0Client.getFinishedResults(anyList()))
+                .thenReturn(Map.of("token-1", accepted("1"), "token-2", accepted("2")));
+
+        ValidationResponse response = validationService.validateProblem(request(5));
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getResults()).extracting(ValidationResponse.TestCaseResult::isPassed)
+                .containsExactly(true, true, true, false, false);
+        assertThat(response.getResults().get(3).getError()).isEqualTo("코드 제출에 실패했습니다.");
+        verify(judge0Client).getFinishedResults(List.of("token-1", "token-2"));
+    }
+
+    @Test
+    @DisplayName("스트림 검증은 테스트케이스마다 result 이벤트를, 끝나면 complete 이벤트를 보낸다")
+    void streamSendsResultsThenComplete() throws Exception {
+        when(judge0Client.judge(anyString(), anyString(), anyString(), anyString())).thenReturn(accepted("0"));
+        when(judge0Client.createSubmissionBatch(anyString(), anyString(), anyList())).thenReturn(List.of("token-1"));
+        when(judge0Client.getFinishedResults(anyList())).thenReturn(Map.of("token-1", accepted("1")));
+
+        String body = stream(request(2));
+
+        assertThat(body.split("event:result", -1)).hasSize(3);
+        assertThat(body.indexOf("event:complete")).isGreaterThan(body.lastIndexOf("event:result"));
+        assertThat(body).doesNotContain("event:error");
+    }
+
+    @Test
+    @DisplayName("스트림 도중 Judge0 조회가 실패하면 이미 보낸 결과 뒤에 error 이벤트를 보내고 닫는다")
+    void streamSendsErrorOnMidStreamFailure() throws Exception {
+        when(judge0Client.judge(anyString(), anyString(), anyString(), anyString())).thenReturn(accepted("0"));
+        when(judge0Client.createSubmissionBatch(anyString(), anyString(), anyList()))
+                .thenReturn(List.of("token-1", "token-2"));
+        when(judge0Client.getFinishedResults(anyList())).thenThrow(new IllegalStateException("Judge0 응답 오류"));
+
+        String body = stream(request(3));
+
+        assertThat(body.split("event:result", -1)).hasSize(2);
+        assertThat(body.indexOf("event:error")).isGreaterThan(body.indexOf("event:result"));
+        assertThat(body).contains("Judge0 응답 오류").doesNotContain("event:complete");
+    }
+
+    private String stream(ValidateProblemRequest request) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new ProblemController(mock(ProblemService.class), validationService))
+                // 애플리케이션처럼 문자열 이벤트도 UTF-8로 쓴다
+                .setMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                        new MappingJackson2HttpMessageConverter())
+                .build();
+        return mockMvc.perform(post("/api/problems/validate/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(new ObjectMapper().writeValueAsString(request)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private ValidateProblemRequest request(int testCases) {
+        List<ValidateProblemRequest.TestCaseInput> inputs = new ArrayList<>();
+        IntStream.range(0, testCases).forEach(i -> inputs.add(new ValidateProblemRequest.TestCaseInput(
+                String.valueOf(i), String.valueOf(i))));
+        return new ValidateProblemRequest("print(input())", "python", inputs);
+    }
+
+    private Judge0Client.JudgeResult accepted(String stdout) {
+        return Judge0Client.JudgeResult.builder()
+                .result(SubmissionResult.ACCEPTED)
+                .stdout(stdout)
+                .executionTime(0.01)
+                .build();
+    }
+}
@@ -0,0 +1,537 @@
+package com.okestro.okestroonlinejudge.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트와 부하 테스트용 인프로세스 Judge0 시뮬레이터.
+ * 이 서버가 쓰는 Judge0 CE API(단건/일괄 제출, 단건/일괄 조회, 완료 콜백, {@code /about})를 JDK HTTP 서버로 흉내 낸다.
+ * <ul>
+ *     <li>응답 지연: 모든 요청은 {@code responseLatency ± responseJitter} 뒤에 응답한다.</li>
+ *     <li>큐 모델: {@code workers}개의 채점 워커가 FIFO 큐에서 제출을 꺼내 {@code executionTime ± executionJitter} 동안 실행한다.
+ *     대기 중인 제출이 {@code maxQueueSize}에 이르면 Judge0처럼 503으로 제출을 거절한다.</li>
+ *     <li>판정 스크립트: {@link VerdictScript}가 제출마다 결과를 정한다. 기본값은 예상 출력을 그대로 출력하는 정답이다.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * try (Judge0Simulator judge0 = Judge0Simulator.builder()
+ *         .workers(4)
+ *         .executionTime(Duration.ofMillis(200))
+ *         .verdictScript(VerdictScript.markers())
+ *         .start()) {
+ *     judge0Config.setApiUrl(judge0.getUrl());
+ * }
+ * }</pre>
+ *
+ * @author Assistant
+ * @since 1.0
+ */
+public final class Judge0Simulator implements AutoCloseable {
+
+    public static final String VERSION = "1.13.1-simulator";
+
+    private static final int IN_QUEUE = 1;
+    private static final int PROCESSING = 2;
+
+    private final Builder settings;
+    private final HttpServer server;
+    private final ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService workerPool;
+    private final HttpClient callbackClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, SimulatedSubmission> submissions = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong createCount = new AtomicLong();
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong callbackCount = new AtomicLong();
+
+    private Judge0Simulator(Builder settings) throws IOException {
+        this.settings = settings;
+        this.workerPool = Executors.newFixedThreadPool(settings.workers);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.port), 0);
+        this.server.setExecutor(httpExecutor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * {@code judge0.api-url}로 쓸 주소.
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getCreateCount() {
+        return createCount.get();
+    }
+
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    public long getCallbackCount() {
+        return callbackCount.get();
+    }
+
+    /**
+     * 아직 워커가 꺼내지 않은 제출 수.
+     */
+    public int getQueueLength() {
+        return queued.get();
+    }
+
+    public SimulatedSubmission find(String token) {
+        return submissions.get(token);
+    }
+
+    /**
+     * 토큰을 지워 Judge0에서 만료된 것처럼 만든다. 이후 조회는 404, 일괄 조회는 null이다.
+     */
+    public void forget(String token) {
+        submissions.remove(token);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workerPool.shutdownNow();
+        httpExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep(settings.responseLatency, settings.responseJitter);
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            boolean base64 = Boolean.parseBoolean(query.get("base64_encoded"));
+
+            if ("GET".equals(method) && "/about".equals(path)) {
+                respond(exchange, 200, Map.of(
+                        "version", VERSION,
+                        "homepage", "https://judge0.com",
+                        "source_code", "https://github.com/judge0/judge0",
+                        "maintainer", "simulator"));
+            } else if ("POST".equals(method) && "/submissions/batch".equals(path)) {
+                createBatch(exchange, base64);
+            } else if ("GET".equals(method) && "/submissions/batch".equals(path)) {
+                pollBatch(exchange, query, base64);
+            } else if ("POST".equals(method) && "/submissions".equals(path)) {
+                create(exchange, base64, Boolean.parseBoolean(query.get("wait")));
+            } else if ("GET".equals(method) && path.startsWith("/submissions/")) {
+                poll(exchange, path.substring("/submissions/".length()), base64);
+            } else {
+                respond(exchange, 404, Map.of("error", "Not Found"));
+            }
+        } catch (RuntimeException e) {
+            respond(exchange, 500, Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void create(HttpExchange exchange, boolean base64, boolean wait) throws IOException {
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        SimulatedSubmission submission = enqueue(body, base64);
+        if (submission == null) {
+            respond(exchange, 503, Map.of("error", "queue is full"));
+            return;
+        }
+        if (wait) {
+            submission.done.join();
+            respond(exchange, 201, toJson(submission, base64));
+            return;
+        }
+        respond(exchange, 201, Map.of("token", submission.token));
+    }
+
+    private void createBatch(HttpExchange exchange, boolean base64) throws IOException {
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        List<Map<String, Object>> tokens = new ArrayList<>();
+        for (JsonNode item : body.path("submissions")) {
+            SimulatedSubmission submission = enqueue(item, base64);
+            tokens.add(submission != null
+                    ? Map.of("token", submission.token)
+                    : Map.of("error", "queue is full"));
+        }
+        respond(exchange, 201, tokens);
+    }
+
+    private void poll(HttpExchange exchange, String token, boolean base64) throws IOException {
+        pollCount.incrementAndGet();
+        SimulatedSubmission submission = submissions.get(token);
+        if (submission == null) {
+            respond(exchange, 404, Map.of("error", "Not Found"));
+            return;
+        }
+        respond(exchange, 200, toJson(submission, base64));
+    }
+
+    private void pollBatch(HttpExchange exchange, Map<String, String> query, boolean base64) throws IOException {
+        pollCount.incrementAndGet();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String token : query.getOrDefault("tokens", "").split(",")) {
+            SimulatedSubmission submission = submissions.get(token);
+            results.add(submission != null ? toJson(submission, base64) : null);
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("submissions", results);
+        respond(exchange, 200, body);
+    }
+
+    private SimulatedSubmission enqueue(JsonNode request, boolean base64) {
+        // Judge0의 MAX_QUEUE_SIZE와 같이 대기 중인 제출 수로 거절한다
+        if (queued.incrementAndGet() > settings.maxQueueSize) {
+            queued.decrementAndGet();
+            return null;
+        }
+        createCount.incrementAndGet();
+        SimulatedSubmission submission = new SimulatedSubmission(
+                UUID.randomUUID().toString(),
+                request.path("language_id").asInt(),
+                decode(request.path("source_code").asText(null), base64),
+                decode(request.path("stdin").asText(null), base64),
+                decode(request.path("expected_output").asText(null), base64),
+                request.path("callback_url").asText(null));
+        submissions.put(submission.token, submission);
+        workerPool.execute(() -> execute(submission, base64));
+        return submission;
+    }
+
+    private void execute(SimulatedSubmission submission, boolean base64) {
+        queued.decrementAndGet();
+        submission.statusId = PROCESSING;
+        try {
+            sleep(settings.executionTime, settings.executionJitter);
+            submission.verdict = settings.verdictScript.decide(submission);
+        } catch (RuntimeException e) {
+            submission.verdict = Verdict.internalError(e.getMessage());
+        }
+        submission.statusId = submission.verdict.statusId();
+        submission.done.complete(submission);
+        if (submission.callbackUrl != null && !submission.callbackUrl.isBlank()) {
+            sendCallback(submission, base64);
+        }
+    }
+
+    private void sendCallback(SimulatedSubmission submission, boolean base64) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(submission.callbackUrl))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(toJson(submission, base64))))
+                    .build();
+            callbackClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenRun(callbackCount::incrementAndGet);
+        } catch (IOException e) {
+            // Judge0도 콜백 실패는 무시한다
+        }
+    }
+
+    private Map<String, Object> toJson(SimulatedSubmission submission, boolean base64) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("token", submission.token);
+        json.put("language_id", submission.languageId);
+        Verdict verdict = submission.verdict;
+        if (verdict == null) {
+            json.put("status", Map.of("id", submission.statusId,
+                    "description", submission.statusId == IN_QUEUE ? "In Queue" : "Processing"));
+            return json;
+        }
+        json.put("stdout", encode(verdict.stdout(), base64));
+        json.put("stderr", encode(verdict.stderr(), base64));
+        json.put("compile_output", encode(verdict.compileOutput(), base64));
+        json.put("message", encode(verdict.message(), base64));
+        json.put("time", String.format(Locale.ROOT, "%.3f", verdict.time()));
+        json.put("memory", verdict.memory());
+        json.put("status", Map.of("id", verdict.statusId(), "description", verdict.description()));
+        return json;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static String decode(String text, boolean base64) {
+        if (text == null || !base64) {
+            return text;
+        }
+        return new String(Base64.getMimeDecoder().decode(text), StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String text, boolean base64) {
+        if (text == null || !base64) {
+            return text;
+        }
+        return Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sleep(Duration base, Duration jitter) {
+        long millis = base.toMillis();
+        long jitterMillis = jitter.toMillis();
+        if (jitterMillis > 0) {
+            millis += ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 시뮬레이터가 받은 제출 하나. 판정 스크립트에 넘어가는 입력이기도 하다.
+     */
+    public static final class SimulatedSubmission {
+
+        private final String token;
+        private final int languageId;
+        private final String sourceCode;
+        private final String stdin;
+        private final String expectedOutput;
+        private final String callbackUrl;
+        private final CompletableFuture<SimulatedSubmission> done = new CompletableFuture<>();
+        private volatile int statusId = IN_QUEUE;
+        private volatile Verdict verdict;
+
+        private SimulatedSubmission(String token, int languageId, String sourceCode, String stdin,
+                                    String expectedOutput, String callbackUrl) {
+            this.token = token;
+            this.languageId = languageId;
+            this.sourceCode = sourceCode;
+            this.stdin = stdin;
+            this.expectedOutput = expectedOutput;
+            this.callbackUrl = callbackUrl;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        public int languageId() {
+            return languageId;
+        }
+
+        public String sourceCode() {
+            return sourceCode;
+        }
+
+        public String stdin() {
+            return stdin;
+        }
+
+        public String expectedOutput() {
+            return expectedOutput;
+        }
+
+        public int statusId() {
+            return statusId;
+        }
+
+        /**
+         * 채점이 끝나면 완료되는 future.
+         */
+        public CompletableFuture<SimulatedSubmission> done() {
+            return done;
+        }
+    }
+
+    /**
+     * 채점 결과. 상태 ID는 Judge0 CE의 상태 표를 따른다.
+     */
+    public record Verdict(int statusId, String description, String stdout, String stderr,
+                          String compileOutput, String message, double time, int memory) {
+
+        public static Verdict accepted(String stdout) {
+            return new Verdict(3, "Accepted", stdout, null, null, null, 0.01, 1024);
+        }
+
+        public static Verdict wrongAnswer(String stdout) {
+            return new Verdict(4, "Wrong Answer", stdout, null, null, null, 0.01, 1024);
+        }
+
+        public static Verdict timeLimitExceeded() {
+            return new Verdict(5, "Time Limit Exceeded", null, null, null, null, 5.0, 1024);
+        }
+
+        public static Verdict compilationError(String compileOutput) {
+            return new Verdict(6, "Compilation Error", null, null, compileOutput, null, 0, 0);
+        }
+
+        public static Verdict runtimeError(String stderr) {
+            return new Verdict(11, "Runtime Error (NZEC)", null, stderr, null, "Exited with error status 1", 0.01, 1024);
+        }
+
+        public static Verdict internalError(String message) {
+            return new Verdict(13, "Internal Error", null, null, null, message, 0, 0);
+        }
+    }
+
+    /**
+     * 제출마다 채점 결과를 정하는 스크립트.
+     */
+    @FunctionalInterface
+    public interface VerdictScript {
+
+        Verdict decide(SimulatedSubmission submission);
+
+        /**
+         * 예상 출력을 그대로 출력하는 정답.
+         */
+        static VerdictScript acceptAll() {
+            return submission -> Verdict.accepted(submission.expectedOutput());
+        }
+
+        /**
+         * 소스 코드에 {@code #WA}, {@code #TLE}, {@code #CE}, {@code #RE} 표시가 있으면 그 결과를, 없으면 정답을 낸다.
+         */
+        static VerdictScript markers() {
+            return submission -> {
+                String source = submission.sourceCode() != null ? submission.sourceCode() : "";
+                if (source.contains("#WA")) {
+                    return Verdict.wrongAnswer("wrong");
+                }
+                if (source.contains("#TLE")) {
+                    return Verdict.timeLimitExceeded();
+                }
+                if (source.contains("#CE")) {
+                    return Verdict.compilationError("error: expected ';'");
+                }
+                if (source.contains("#RE")) {
+                    return Verdict.runtimeError("Traceback (most recent call last)");
+                }
+                return Verdict.accepted(submission.expectedOutput());
+            };
+        }
+    }
+
+    /**
+     * 시뮬레이터 설정.
+     */
+    public static final class Builder {
+
+        private int port;
+        private Duration responseLatency = Duration.ZERO;
+        private Duration responseJitter = Duration.ZERO;
+        private int workers = 4;
+        private int maxQueueSize = 10_000;
+        private Duration executionTime = Duration.ofMillis(50);
+        private Duration executionJitter = Duration.ZERO;
+        private VerdictScript verdictScript = VerdictScript.acceptAll();
+
+        private Builder() {
+        }
+
+        /**
+         * 수신 포트 (기본값 0: 빈 포트)
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * 모든 HTTP 요청의 응답 지연
+         */
+        public Builder responseLatency(Duration latency, Duration jitter) {
+            this.responseLatency = latency;
+            this.responseJitter = jitter;
+            return this;
+        }
+
+        /**
+         * 동시에 실행하는 채점 워커 수
+         */
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * 대기 중인 제출 수 상한. 넘으면 제출을 503으로 거절한다.
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * 제출 하나의 실행 시간
+         */
+        public Builder executionTime(Duration executionTime) {
+            return executionTime(executionTime, Duration.ZERO);
+        }
+
+        public Builder executionTime(Duration executionTime, Duration jitter) {
+            this.executionTime = executionTime;
+            this.executionJitter = jitter;
+            return this;
+        }
+
+        public Builder verdictScript(VerdictScript verdictScript) {
+            this.verdictScript = verdictScript;
+            return this;
+        }
+
+        public Judge0Simulator start() {
+            try {
+                return new Judge0Simulator(this);
+            } catch (IOException e) {
+                throw new IllegalStateException("Judge0 시뮬레이터를 시작할 수 없습니다.", e);
+            }
+        }
+    }
+}